@@ -0,0 +1,186 @@
+package org.prebid.server.auction;
+
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.response.Bid;
+import com.iab.openrtb.response.BidResponse;
+import com.iab.openrtb.response.SeatBid;
+import io.vertx.core.Future;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.auction.categorymapping.CategoryMappingService;
+import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionParticipation;
+import org.prebid.server.auction.model.BidRequestCacheInfo;
+import org.prebid.server.auction.model.BidderResponse;
+import org.prebid.server.auction.model.CategoryMappingResult;
+import org.prebid.server.auction.model.TimeoutContext;
+import org.prebid.server.auction.model.debug.DebugContext;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.bidder.model.BidderBid;
+import org.prebid.server.bidder.model.BidderSeatBid;
+import org.prebid.server.cache.CoreCacheService;
+import org.prebid.server.cache.model.CacheTtl;
+import org.prebid.server.events.EventsService;
+import org.prebid.server.execution.timeout.TimeoutFactory;
+import org.prebid.server.hooks.execution.HookStageExecutor;
+import org.prebid.server.hooks.execution.model.HookStageExecutionResult;
+import org.prebid.server.hooks.execution.v1.bidder.AllProcessedBidResponsesPayloadImpl;
+import org.prebid.server.hooks.execution.v1.bidder.BidderResponsePayloadImpl;
+import org.prebid.server.identity.IdGenerator;
+import org.prebid.server.identity.IdGeneratorType;
+import org.prebid.server.proto.openrtb.ext.response.BidType;
+import org.prebid.server.settings.model.Account;
+import org.prebid.server.settings.model.VideoStoredDataResult;
+import org.prebid.server.spring.config.model.CacheDefaultTtlProperties;
+import org.prebid.server.vast.VastModifier;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Auction response creation from responses of two bidders: winning bids selection, targeting keywords
+ * and response extension. Cache, hooks and category mapping are stubbed to succeed immediately.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BidResponseCreatorBenchmark {
+
+    private static final Clock FIXED_CLOCK = Clock.fixed(Instant.ofEpochMilli(1000L), ZoneOffset.UTC);
+
+    private BidResponseCreator bidResponseCreator;
+
+    private BidRequest bidRequest;
+    private List<AuctionParticipation> auctionParticipations;
+    private BidderAliases aliases;
+
+    @Setup
+    public void setUp() {
+        final CoreCacheService coreCacheService = BenchmarkFixtures.stub(CoreCacheService.class);
+        BDDMockito.given(coreCacheService.getEndpointHost()).willReturn("prebid-cache.example.com");
+        BDDMockito.given(coreCacheService.getEndpointPath()).willReturn("/cache");
+        BDDMockito.given(coreCacheService.getCachedAssetURLTemplate()).willReturn("uuid=");
+
+        final StoredRequestProcessor storedRequestProcessor = BenchmarkFixtures.stub(StoredRequestProcessor.class);
+        BDDMockito.given(storedRequestProcessor.videoStoredDataResult(
+                        ArgumentMatchers.any(),
+                        ArgumentMatchers.anyList(),
+                        ArgumentMatchers.anyList(),
+                        ArgumentMatchers.any()))
+                .willReturn(Future.succeededFuture(VideoStoredDataResult.empty()));
+
+        final IdGenerator idGenerator = BenchmarkFixtures.stub(IdGenerator.class);
+        BDDMockito.given(idGenerator.getType()).willReturn(IdGeneratorType.none);
+
+        final HookStageExecutor hookStageExecutor = BenchmarkFixtures.stub(HookStageExecutor.class);
+        BDDMockito.given(hookStageExecutor.executeProcessedBidderResponseStage(
+                        ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .willAnswer(invocation -> Future.succeededFuture(HookStageExecutionResult.of(
+                        false,
+                        BidderResponsePayloadImpl.of(((BidderResponse) invocation.getArgument(0))
+                                .getSeatBid()
+                                .getBids()))));
+        BDDMockito.given(hookStageExecutor.executeAllProcessedBidResponsesStage(
+                        ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .willAnswer(invocation -> Future.succeededFuture(HookStageExecutionResult.of(
+                        false, AllProcessedBidResponsesPayloadImpl.of(invocation.getArgument(0)))));
+
+        final CategoryMappingService categoryMappingService = BenchmarkFixtures.stub(CategoryMappingService.class);
+        BDDMockito.given(categoryMappingService.createCategoryMapping(
+                        ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .willAnswer(invocation -> Future.succeededFuture(CategoryMappingResult.of(
+                        Collections.emptyMap(), Collections.emptyMap(), invocation.getArgument(0), null)));
+
+        final BidderCatalog bidderCatalog = BenchmarkFixtures.stub(BidderCatalog.class);
+
+        bidResponseCreator = new BidResponseCreator(
+                0,
+                coreCacheService,
+                bidderCatalog,
+                BenchmarkFixtures.stub(VastModifier.class),
+                BenchmarkFixtures.stub(EventsService.class),
+                storedRequestProcessor,
+                new WinningBidComparatorFactory(),
+                idGenerator,
+                hookStageExecutor,
+                categoryMappingService,
+                0,
+                Clock.systemUTC(),
+                BenchmarkFixtures.MAPPER,
+                BenchmarkFixtures.metrics(),
+                BenchmarkFixtures.stub(CacheTtl.class),
+                BenchmarkFixtures.stub(CacheDefaultTtlProperties.class));
+
+        bidRequest = BenchmarkFixtures.read(BenchmarkFixtures.BID_REQUEST, BidRequest.class);
+
+        final List<Bid> bids = BenchmarkFixtures.read(BenchmarkFixtures.BID_RESPONSE, BidResponse.class)
+                .getSeatbid().stream()
+                .map(SeatBid::getBid)
+                .flatMap(List::stream)
+                .toList();
+        auctionParticipations = List.of(
+                givenAuctionParticipation("appnexus", bids, BigDecimal.ONE),
+                givenAuctionParticipation("openx", bids, new BigDecimal("0.9")));
+
+        aliases = BidderAliases.of(Collections.emptyMap(), Collections.emptyMap(), bidderCatalog);
+    }
+
+    @Benchmark
+    public BidResponse create() {
+        final AuctionContext auctionContext = AuctionContext.builder()
+                .account(Account.empty("accountId"))
+                .bidRequest(bidRequest)
+                .timeoutContext(TimeoutContext.of(0, new TimeoutFactory(FIXED_CLOCK).create(500), 0))
+                .debugContext(DebugContext.empty())
+                .debugHttpCalls(new HashMap<>())
+                .debugWarnings(new ArrayList<>())
+                .auctionParticipations(auctionParticipations)
+                .bidRejectionTrackers(new HashMap<>())
+                .prebidErrors(new ArrayList<>())
+                .build();
+
+        return bidResponseCreator.create(
+                        auctionContext, BidRequestCacheInfo.noCache(), aliases, Collections.emptyMap())
+                .result();
+    }
+
+    private static AuctionParticipation givenAuctionParticipation(String bidder,
+                                                                  List<Bid> bids,
+                                                                  BigDecimal priceFactor) {
+
+        final List<BidderBid> bidderBids = bids.stream()
+                .map(bid -> bid.toBuilder()
+                        .id(bidder + "-" + bid.getId())
+                        .price(bid.getPrice().multiply(priceFactor))
+                        .build())
+                .map(bid -> BidderBid.of(bid, BidType.fromString(bid.getExt().at("/prebid/type").asText()), "USD"))
+                .toList();
+
+        return AuctionParticipation.builder()
+                .bidder(bidder)
+                .bidderResponse(BidderResponse.of(bidder, BidderSeatBid.of(bidderBids), 100))
+                .build();
+    }
+}
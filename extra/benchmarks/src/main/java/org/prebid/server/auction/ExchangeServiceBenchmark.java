@@ -0,0 +1,265 @@
+package org.prebid.server.auction;
+
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.User;
+import com.iab.openrtb.response.BidResponse;
+import io.vertx.core.Future;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.activity.infrastructure.ActivityInfrastructure;
+import org.prebid.server.auction.mediatypeprocessor.MediaTypeProcessingResult;
+import org.prebid.server.auction.mediatypeprocessor.MediaTypeProcessor;
+import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.BidderPrivacyResult;
+import org.prebid.server.auction.model.BidderRequest;
+import org.prebid.server.auction.model.StoredResponseResult;
+import org.prebid.server.auction.model.TimeoutContext;
+import org.prebid.server.auction.model.debug.DebugContext;
+import org.prebid.server.auction.privacy.enforcement.PrivacyEnforcementService;
+import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConversionManager;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.bidder.BidderInfo;
+import org.prebid.server.bidder.HttpBidderRequester;
+import org.prebid.server.bidder.Usersyncer;
+import org.prebid.server.bidder.model.BidderSeatBid;
+import org.prebid.server.cookie.UidsCookie;
+import org.prebid.server.execution.timeout.TimeoutFactory;
+import org.prebid.server.floors.PriceFloorAdjuster;
+import org.prebid.server.floors.PriceFloorProcessor;
+import org.prebid.server.hooks.execution.HookStageExecutor;
+import org.prebid.server.hooks.execution.model.HookExecutionContext;
+import org.prebid.server.hooks.execution.model.HookStageExecutionResult;
+import org.prebid.server.hooks.execution.v1.auction.AuctionResponsePayloadImpl;
+import org.prebid.server.hooks.execution.v1.bidder.BidderRequestPayloadImpl;
+import org.prebid.server.log.CriteriaLogManager;
+import org.prebid.server.log.HttpInteractionLogger;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.model.CaseInsensitiveMultiMap;
+import org.prebid.server.model.Endpoint;
+import org.prebid.server.model.HttpRequestContext;
+import org.prebid.server.model.UpdateResult;
+import org.prebid.server.settings.model.Account;
+import org.prebid.server.spring.config.bidder.model.CompressionType;
+import org.prebid.server.spring.config.bidder.model.Ortb;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Auction of a request with 4 imps and 5 bidders, where requesting bidders and creating response are stubbed,
+ * so the measured part is preparation of bidder requests: splitting imps, resolving user, FPD, schain,
+ * floors and privacy results per bidder.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ExchangeServiceBenchmark {
+
+    private ExchangeService exchangeService;
+    private TimeoutFactory timeoutFactory;
+
+    private BidRequest bidRequest;
+    private UidsCookie uidsCookie;
+    private ActivityInfrastructure activityInfrastructure;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        final BidderCatalog bidderCatalog = BenchmarkFixtures.stub(BidderCatalog.class);
+        BDDMockito.given(bidderCatalog.isValidName(ArgumentMatchers.anyString())).willReturn(true);
+        BDDMockito.given(bidderCatalog.isActive(ArgumentMatchers.anyString())).willReturn(true);
+        BDDMockito.given(bidderCatalog.usersyncerByName(ArgumentMatchers.anyString()))
+                .willReturn(Optional.of(Usersyncer.of("cookieFamily", null, null)));
+        BDDMockito.given(bidderCatalog.bidderInfoByName(ArgumentMatchers.anyString())).willReturn(BidderInfo.create(
+                true,
+                null,
+                false,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                0,
+                null,
+                false,
+                false,
+                CompressionType.NONE,
+                null,
+                Ortb.of(false),
+                0L));
+        Mockito.doReturn(BenchmarkFixtures.stub(Bidder.class))
+                .when(bidderCatalog).bidderByName(ArgumentMatchers.anyString());
+
+        final StoredResponseProcessor storedResponseProcessor = BenchmarkFixtures.stub(StoredResponseProcessor.class);
+        BDDMockito.given(storedResponseProcessor.getStoredResponseResult(
+                        ArgumentMatchers.anyList(), ArgumentMatchers.any()))
+                .willAnswer(invocation -> Future.succeededFuture(StoredResponseResult.of(
+                        invocation.getArgument(0), Collections.emptyList(), Collections.emptyMap())));
+        BDDMockito.given(storedResponseProcessor.mergeWithBidderResponses(
+                        ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        BDDMockito.given(storedResponseProcessor.updateStoredBidResponse(ArgumentMatchers.any()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        final PrivacyEnforcementService privacyEnforcementService =
+                BenchmarkFixtures.stub(PrivacyEnforcementService.class);
+        BDDMockito.given(privacyEnforcementService.mask(
+                        ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .willAnswer(invocation -> Future.succeededFuture(
+                        ((Map<String, User>) invocation.getArgument(1)).entrySet().stream()
+                                .map(bidderAndUser -> BidderPrivacyResult.builder()
+                                        .requestBidder(bidderAndUser.getKey())
+                                        .user(bidderAndUser.getValue())
+                                        .build())
+                                .toList()));
+
+        final FpdResolver fpdResolver = BenchmarkFixtures.stub(FpdResolver.class);
+        BDDMockito.given(fpdResolver.resolveUser(ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        BDDMockito.given(fpdResolver.resolveSite(ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        BDDMockito.given(fpdResolver.resolveDooh(ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        BDDMockito.given(fpdResolver.resolveApp(ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        BDDMockito.given(fpdResolver.resolveImpExt(ArgumentMatchers.any(), ArgumentMatchers.anyBoolean()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        final ImpAdjuster impAdjuster = BenchmarkFixtures.stub(ImpAdjuster.class);
+        BDDMockito.given(impAdjuster.adjust(
+                        ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        final MediaTypeProcessor mediaTypeProcessor = BenchmarkFixtures.stub(MediaTypeProcessor.class);
+        BDDMockito.given(mediaTypeProcessor.process(
+                        ArgumentMatchers.any(),
+                        ArgumentMatchers.anyString(),
+                        ArgumentMatchers.any(),
+                        ArgumentMatchers.any()))
+                .willAnswer(invocation -> MediaTypeProcessingResult.succeeded(
+                        invocation.getArgument(0), Collections.emptyList()));
+
+        final UidUpdater uidUpdater = BenchmarkFixtures.stub(UidUpdater.class);
+        BDDMockito.given(uidUpdater.updateUid(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .willReturn(UpdateResult.unaltered(null));
+
+        final BidRequestOrtbVersionConversionManager ortbVersionConversionManager =
+                BenchmarkFixtures.stub(BidRequestOrtbVersionConversionManager.class);
+        BDDMockito.given(ortbVersionConversionManager.convertFromAuctionSupportedVersion(
+                        ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        final HttpBidderRequester httpBidderRequester = BenchmarkFixtures.stub(HttpBidderRequester.class);
+        BDDMockito.given(httpBidderRequester.requestBids(
+                        ArgumentMatchers.any(),
+                        ArgumentMatchers.any(),
+                        ArgumentMatchers.any(),
+                        ArgumentMatchers.any(),
+                        ArgumentMatchers.any(),
+                        ArgumentMatchers.any(),
+                        ArgumentMatchers.anyBoolean()))
+                .willReturn(Future.succeededFuture(BidderSeatBid.empty()));
+
+        final BidResponseCreator bidResponseCreator = BenchmarkFixtures.stub(BidResponseCreator.class);
+        BDDMockito.given(bidResponseCreator.create(
+                        ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .willReturn(Future.succeededFuture(BidResponse.builder().id("id").build()));
+
+        final HookStageExecutor hookStageExecutor = BenchmarkFixtures.stub(HookStageExecutor.class);
+        BDDMockito.given(hookStageExecutor.executeBidderRequestStage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .willAnswer(invocation -> Future.succeededFuture(HookStageExecutionResult.of(
+                        false,
+                        BidderRequestPayloadImpl.of(invocation.<BidderRequest>getArgument(0).getBidRequest()))));
+        BDDMockito.given(hookStageExecutor.executeAuctionResponseStage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .willAnswer(invocation -> Future.succeededFuture(HookStageExecutionResult.of(
+                        false, AuctionResponsePayloadImpl.of(invocation.getArgument(0)))));
+
+        final BidsAdjuster bidsAdjuster = BenchmarkFixtures.stub(BidsAdjuster.class);
+        BDDMockito.given(bidsAdjuster.validateAndAdjustBids(
+                        ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        timeoutFactory = new TimeoutFactory(Clock.systemUTC());
+
+        exchangeService = new ExchangeService(
+                0,
+                bidderCatalog,
+                storedResponseProcessor,
+                privacyEnforcementService,
+                fpdResolver,
+                impAdjuster,
+                SupplyChainResolver.create(null, BenchmarkFixtures.MAPPER),
+                BenchmarkFixtures.stub(DebugResolver.class),
+                mediaTypeProcessor,
+                uidUpdater,
+                new TimeoutResolver(50L, 5000L, 30L),
+                timeoutFactory,
+                null,
+                ortbVersionConversionManager,
+                httpBidderRequester,
+                bidResponseCreator,
+                BidResponsePostProcessor.noOp(),
+                hookStageExecutor,
+                BenchmarkFixtures.stub(HttpInteractionLogger.class),
+                PriceFloorAdjuster.noOp(),
+                PriceFloorProcessor.noOp(),
+                bidsAdjuster,
+                BenchmarkFixtures.metrics(),
+                Clock.systemUTC(),
+                BenchmarkFixtures.MAPPER,
+                new CriteriaLogManager(BenchmarkFixtures.MAPPER),
+                false);
+
+        bidRequest = BenchmarkFixtures.read(BenchmarkFixtures.BID_REQUEST, BidRequest.class);
+
+        uidsCookie = BenchmarkFixtures.stub(UidsCookie.class);
+
+        activityInfrastructure = BenchmarkFixtures.stub(ActivityInfrastructure.class);
+        BDDMockito.given(activityInfrastructure.isAllowed(ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .willReturn(true);
+    }
+
+    @Benchmark
+    public AuctionContext holdAuction() {
+        final AuctionContext auctionContext = AuctionContext.builder()
+                .httpRequest(HttpRequestContext.builder().headers(CaseInsensitiveMultiMap.empty()).build())
+                .uidsCookie(uidsCookie)
+                .bidRequest(bidRequest)
+                .debugWarnings(new ArrayList<>())
+                .prebidErrors(new ArrayList<>())
+                .account(Account.empty("accountId"))
+                .requestTypeMetric(MetricName.openrtb2web)
+                .timeoutContext(TimeoutContext.of(System.currentTimeMillis(), timeoutFactory.create(1000L), 90))
+                .hookExecutionContext(HookExecutionContext.of(Endpoint.openrtb2_auction))
+                .debugContext(DebugContext.empty())
+                .bidRejectionTrackers(new HashMap<>())
+                .activityInfrastructure(activityInfrastructure)
+                .build();
+
+        return exchangeService.holdAuction(auctionContext).result();
+    }
+}
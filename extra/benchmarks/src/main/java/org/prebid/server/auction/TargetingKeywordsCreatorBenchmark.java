@@ -0,0 +1,74 @@
+package org.prebid.server.auction;
+
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.response.Bid;
+import com.iab.openrtb.response.BidResponse;
+import com.iab.openrtb.response.SeatBid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+import org.prebid.server.proto.openrtb.ext.request.ExtGranularityRange;
+import org.prebid.server.proto.openrtb.ext.request.ExtPriceGranularity;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Targeting keywords creation for every bid of the response, the way it is done for winning bids.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TargetingKeywordsCreatorBenchmark {
+
+    private TargetingKeywordsCreator targetingKeywordsCreator;
+
+    private List<Bid> bids;
+
+    @Setup
+    public void setUp() {
+        final BidRequest bidRequest = BenchmarkFixtures.read(BenchmarkFixtures.BID_REQUEST, BidRequest.class);
+        final BidResponse bidResponse = BenchmarkFixtures.read(BenchmarkFixtures.BID_RESPONSE, BidResponse.class);
+
+        targetingKeywordsCreator = TargetingKeywordsCreator.create(
+                ExtPriceGranularity.of(2, List.of(
+                        ExtGranularityRange.of(BigDecimal.valueOf(5), BigDecimal.valueOf(0.05)),
+                        ExtGranularityRange.of(BigDecimal.valueOf(20), BigDecimal.valueOf(0.5)))),
+                true,
+                true,
+                false,
+                true,
+                null,
+                20,
+                "prebid-cache.example.com",
+                "/cache",
+                TargetingKeywordsResolver.create(bidRequest, BenchmarkFixtures.MAPPER),
+                "hb");
+
+        bids = bidResponse.getSeatbid().stream()
+                .map(SeatBid::getBid)
+                .flatMap(List::stream)
+                .toList();
+    }
+
+    @Benchmark
+    public void makeForAllBids(Blackhole blackhole) {
+        for (Bid bid : bids) {
+            blackhole.consume(targetingKeywordsCreator.makeFor(
+                    bid, "appnexus", true, "cache-id", "banner", null, null));
+        }
+    }
+}
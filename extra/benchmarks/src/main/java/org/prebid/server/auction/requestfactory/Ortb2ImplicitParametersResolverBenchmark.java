@@ -0,0 +1,115 @@
+package org.prebid.server.auction.requestfactory;
+
+import com.iab.openrtb.request.BidRequest;
+import de.malkusch.whoisServerList.publicSuffixList.PublicSuffixList;
+import de.malkusch.whoisServerList.publicSuffixList.PublicSuffixListFactory;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.auction.ImplicitParametersExtractor;
+import org.prebid.server.auction.IpAddressHelper;
+import org.prebid.server.auction.SecBrowsingTopicsResolver;
+import org.prebid.server.auction.TimeoutResolver;
+import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.debug.DebugContext;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.identity.UUIDIdGenerator;
+import org.prebid.server.json.JsonMerger;
+import org.prebid.server.model.CaseInsensitiveMultiMap;
+import org.prebid.server.model.Endpoint;
+import org.prebid.server.model.HttpRequestContext;
+import org.prebid.server.settings.model.Account;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolving of implicit request parameters (device, site, imps, request extension) from HTTP headers,
+ * as done for every incoming auction request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class Ortb2ImplicitParametersResolverBenchmark {
+
+    private Ortb2ImplicitParametersResolver resolver;
+
+    private BidRequest bidRequest;
+    private HttpRequestContext httpRequest;
+
+    @Setup
+    public void setUp() throws IOException, ClassNotFoundException {
+        final BidderCatalog bidderCatalog = BenchmarkFixtures.stub(BidderCatalog.class);
+        BDDMockito.given(bidderCatalog.isValidName(ArgumentMatchers.anyString())).willReturn(true);
+
+        resolver = new Ortb2ImplicitParametersResolver(
+                false,
+                false,
+                "USD",
+                List.of("bad_app"),
+                "https://prebid-server.example.com",
+                0,
+                "datacenter-region",
+                bidderCatalog,
+                new ImplicitParametersExtractor(publicSuffixList()),
+                new TimeoutResolver(50L, 5000L, 30L),
+                new IpAddressHelper(64, 56, List.of("::1/128", "2001:db8::/32", "fc00::/7", "fe80::/10", "ff00::/8")),
+                new UUIDIdGenerator(),
+                new SecBrowsingTopicsResolver(null),
+                new JsonMerger(BenchmarkFixtures.MAPPER),
+                BenchmarkFixtures.MAPPER);
+
+        bidRequest = BenchmarkFixtures.read(BenchmarkFixtures.BID_REQUEST, BidRequest.class);
+
+        httpRequest = HttpRequestContext.builder()
+                .absoluteUri("https://prebid-server.example.com/openrtb2/auction")
+                .queryParams(CaseInsensitiveMultiMap.empty())
+                .headers(CaseInsensitiveMultiMap.builder()
+                        .add("User-Agent", "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/605.1.15 "
+                                + "(KHTML, like Gecko) Version/17.1 Safari/605.1.15")
+                        .add("Referer", "https://www.news.example.co.uk/articles/sports/latest.html?ref=home")
+                        .add("X-Forwarded-For", "203.0.113.17, 198.51.100.4")
+                        .add("Sec-Browsing-Topics", "(1 2 3);v=chrome.1:1:2, ();p=P0000000")
+                        .add("DNT", "1")
+                        .build())
+                .remoteHost("198.51.100.4")
+                .build();
+    }
+
+    @Benchmark
+    public BidRequest resolve() {
+        final AuctionContext auctionContext = AuctionContext.builder()
+                .httpRequest(httpRequest)
+                .account(Account.empty("accountId"))
+                .debugContext(DebugContext.empty())
+                .debugWarnings(new ArrayList<>())
+                .build();
+
+        return resolver.resolve(bidRequest, auctionContext, Endpoint.openrtb2_auction.value(), false);
+    }
+
+    private static PublicSuffixList publicSuffixList() throws IOException, ClassNotFoundException {
+        final PublicSuffixListFactory factory = new PublicSuffixListFactory();
+
+        final Properties properties = factory.getDefaults();
+        properties.setProperty(PublicSuffixListFactory.PROPERTY_LIST_FILE, "/effective_tld_names.dat");
+        return factory.build(properties);
+    }
+}
@@ -0,0 +1,71 @@
+package org.prebid.server.benchmark;
+
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.mockito.Mockito;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.ObjectMapperProvider;
+import org.prebid.server.metric.AccountMetricsVerbosityResolver;
+import org.prebid.server.metric.CounterType;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+/**
+ * Realistic data shared between benchmarks.
+ * <p>
+ * Fixtures are read from classpath, so benchmark results stay comparable across commits
+ * as long as fixture files are not changed.
+ */
+public class BenchmarkFixtures {
+
+    public static final JacksonMapper MAPPER = new JacksonMapper(ObjectMapperProvider.mapper());
+
+    public static final String BID_REQUEST = "/fixtures/bid-request.json";
+    public static final String BID_RESPONSE = "/fixtures/bid-response.json";
+    public static final String STORED_REQUEST = "/fixtures/stored-request.json";
+    public static final String FLOOR_RULES = "/fixtures/floor-rules.json";
+
+    private BenchmarkFixtures() {
+    }
+
+    public static String readString(String resource) {
+        try (InputStream inputStream = BenchmarkFixtures.class.getResourceAsStream(resource)) {
+            if (inputStream == null) {
+                throw new IllegalArgumentException("Fixture not found: " + resource);
+            }
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static JsonNode readTree(String resource) {
+        return MAPPER.decodeValue(readString(resource), JsonNode.class);
+    }
+
+    public static <T> T read(String resource, Class<T> clazz) {
+        return MAPPER.decodeValue(readString(resource), clazz);
+    }
+
+    public static Metrics metrics() {
+        return new Metrics(
+                new MetricRegistry(),
+                CounterType.counter,
+                new AccountMetricsVerbosityResolver(
+                        AccountMetricsVerbosityLevel.basic, Collections.emptyList(), Collections.emptyList()));
+    }
+
+    /**
+     * Creates mock of the collaborator which doesn't record its invocations, otherwise they are kept for the whole
+     * run and make every next iteration slower.
+     */
+    public static <T> T stub(Class<T> clazz) {
+        return Mockito.mock(clazz, Mockito.withSettings().stubOnly());
+    }
+}
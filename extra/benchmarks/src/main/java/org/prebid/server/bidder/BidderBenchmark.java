@@ -0,0 +1,114 @@
+package org.prebid.server.bidder;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+import org.prebid.server.bidder.appnexus.AppnexusBidder;
+import org.prebid.server.bidder.ix.IxBidder;
+import org.prebid.server.bidder.model.BidderCall;
+import org.prebid.server.bidder.model.CompositeBidderResponse;
+import org.prebid.server.bidder.model.HttpRequest;
+import org.prebid.server.bidder.model.HttpResponse;
+import org.prebid.server.bidder.model.Result;
+import org.prebid.server.bidder.openx.OpenxBidder;
+import org.prebid.server.bidder.pubmatic.PubmaticBidder;
+import org.prebid.server.version.PrebidVersionProvider;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building of HTTP requests and parsing of bids for a representative set of bidders.
+ * <p>
+ * Imps are prepared the way {@link org.prebid.server.auction.ExchangeService} does it before calling bidder:
+ * bidder params are moved from {@code imp.ext.prebid.bidder.<name>} to {@code imp.ext.bidder}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BidderBenchmark {
+
+    @Param({"generic", "openx", "pubmatic", "appnexus", "ix"})
+    private String bidderName;
+
+    private Bidder<BidRequest> bidder;
+
+    private BidRequest bidRequest;
+    private HttpRequest<BidRequest> httpRequest;
+    private byte[] responseBody;
+
+    @Setup
+    public void setUp() {
+        bidder = createBidder(bidderName);
+
+        final BidRequest originalBidRequest = BenchmarkFixtures.read(
+                BenchmarkFixtures.BID_REQUEST, BidRequest.class);
+        bidRequest = originalBidRequest.toBuilder()
+                .imp(originalBidRequest.getImp().stream().map(this::prepareImp).toList())
+                .build();
+
+        final Result<List<HttpRequest<BidRequest>>> result = bidder.makeHttpRequests(bidRequest);
+        if (!result.getErrors().isEmpty()) {
+            throw new IllegalStateException("Bidder %s failed to make requests: %s"
+                    .formatted(bidderName, result.getErrors()));
+        }
+        httpRequest = result.getValue().getFirst();
+
+        responseBody = BenchmarkFixtures.readString(BenchmarkFixtures.BID_RESPONSE)
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Result<List<HttpRequest<BidRequest>>> makeHttpRequests() {
+        return bidder.makeHttpRequests(bidRequest);
+    }
+
+    @Benchmark
+    public CompositeBidderResponse makeBidderResponse() {
+        final HttpResponse httpResponse = HttpResponse.ofBuffer(
+                200, MultiMap.caseInsensitiveMultiMap(), Buffer.buffer(responseBody));
+
+        return bidder.makeBidderResponse(BidderCall.succeededHttp(httpRequest, httpResponse, null), bidRequest);
+    }
+
+    private static Bidder<BidRequest> createBidder(String bidderName) {
+        final String endpoint = "https://%s.example.com/openrtb2".formatted(bidderName);
+        return switch (bidderName) {
+            case "generic" -> new GenericBidder(endpoint, BenchmarkFixtures.MAPPER);
+            case "openx" -> new OpenxBidder(endpoint, BenchmarkFixtures.MAPPER);
+            case "pubmatic" -> new PubmaticBidder(endpoint, BenchmarkFixtures.MAPPER);
+            case "appnexus" -> new AppnexusBidder(endpoint, null, Collections.emptyMap(), BenchmarkFixtures.MAPPER);
+            case "ix" -> new IxBidder(endpoint, new PrebidVersionProvider("3.0.0"), BenchmarkFixtures.MAPPER);
+            default -> throw new IllegalArgumentException("Unknown bidder: " + bidderName);
+        };
+    }
+
+    private Imp prepareImp(Imp imp) {
+        final ObjectNode ext = imp.getExt().deepCopy();
+        final ObjectNode prebid = (ObjectNode) ext.get("prebid");
+
+        ext.set("bidder", prebid.get("bidder").get(bidderName));
+        prebid.remove("bidder");
+
+        return imp.toBuilder().ext(ext).build();
+    }
+}
@@ -0,0 +1,63 @@
+package org.prebid.server.floors;
+
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+import org.prebid.server.currency.CurrencyConversionService;
+import org.prebid.server.floors.model.PriceFloorRules;
+import org.prebid.server.geolocation.CountryCodeMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Floor resolving for every imp of the request against a realistic rules set
+ * (4 schema fields with wildcards, a few hundreds of rules).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BasicPriceFloorResolverBenchmark {
+
+    private BasicPriceFloorResolver priceFloorResolver;
+
+    private BidRequest bidRequest;
+    private PriceFloorRules floorRules;
+
+    @Setup
+    public void setUp() {
+        priceFloorResolver = new BasicPriceFloorResolver(
+                new CurrencyConversionService(null),
+                new CountryCodeMapper(
+                        BenchmarkFixtures.readString("/country-codes.csv"),
+                        BenchmarkFixtures.readString("/mcc-country-codes.csv")),
+                BenchmarkFixtures.metrics(),
+                BenchmarkFixtures.MAPPER);
+
+        bidRequest = BenchmarkFixtures.read(BenchmarkFixtures.BID_REQUEST, BidRequest.class);
+        floorRules = BenchmarkFixtures.read(BenchmarkFixtures.FLOOR_RULES, PriceFloorRules.class);
+    }
+
+    @Benchmark
+    public void resolveForAllImps(Blackhole blackhole) {
+        final List<String> warnings = new ArrayList<>();
+        for (Imp imp : bidRequest.getImp()) {
+            blackhole.consume(priceFloorResolver.resolve(bidRequest, floorRules, imp, null, null, "openx", warnings));
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jsonpatch.JsonPatchException;
+import com.github.fge.jsonpatch.mergepatch.JsonMergePatch;
+import com.iab.openrtb.request.BidRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Merging of incoming request with stored request, as done by {@link org.prebid.server.auction.StoredRequestProcessor}.
+ * <p>
+ * Besides {@link JsonMerger} itself, compares applying JSON merge patch directly on Jackson trees
+ * ({@link JsonMergePatcher}) with the previously used json-patch library implementation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JsonMergerBenchmark {
+
+    private JsonMerger jsonMerger;
+    private JsonMerger cachingJsonMerger;
+
+    private BidRequest incomingRequest;
+    private String storedRequest;
+
+    private JsonNode incomingRequestNode;
+    private JsonNode storedRequestNode;
+
+    @Setup
+    public void setUp() {
+        jsonMerger = new JsonMerger(BenchmarkFixtures.MAPPER);
+        cachingJsonMerger = new JsonMerger(BenchmarkFixtures.MAPPER, new ParsedJsonCache(BenchmarkFixtures.MAPPER));
+
+        incomingRequest = BenchmarkFixtures.read(BenchmarkFixtures.BID_REQUEST, BidRequest.class);
+        storedRequest = BenchmarkFixtures.readString(BenchmarkFixtures.STORED_REQUEST);
+
+        incomingRequestNode = BenchmarkFixtures.readTree(BenchmarkFixtures.BID_REQUEST);
+        storedRequestNode = BenchmarkFixtures.readTree(BenchmarkFixtures.STORED_REQUEST);
+    }
+
+    @Benchmark
+    public BidRequest mergeWithStoredRequest() {
+        return jsonMerger.merge(incomingRequest, storedRequest, "stored-request", BidRequest.class);
+    }
+
+    @Benchmark
+    public BidRequest mergeWithCachedStoredRequest() {
+        return cachingJsonMerger.merge(incomingRequest, storedRequest, "stored-request", BidRequest.class);
+    }
+
+    @Benchmark
+    public JsonNode applyMergePatch() {
+        return JsonMergePatcher.apply(incomingRequestNode, storedRequestNode);
+    }
+
+    @Benchmark
+    public JsonNode applyJsonPatchLibraryMergePatch() throws JsonPatchException {
+        return JsonMergePatch.fromJson(incomingRequestNode).apply(storedRequestNode);
+    }
+}
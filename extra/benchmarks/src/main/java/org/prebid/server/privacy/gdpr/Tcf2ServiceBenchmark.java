@@ -0,0 +1,188 @@
+package org.prebid.server.privacy.gdpr;
+
+import com.iabtcf.decoder.TCString;
+import com.iabtcf.encoder.PublisherRestrictionEntry;
+import com.iabtcf.encoder.TCStringEncoder;
+import com.iabtcf.utils.BitSetIntIterable;
+import com.iabtcf.v2.RestrictionType;
+import io.vertx.core.Future;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.privacy.gdpr.model.VendorPermission;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose01Strategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose02Strategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose03Strategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose04Strategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose05Strategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose06Strategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose07Strategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose08Strategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose09Strategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose10Strategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.PurposeStrategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.typestrategies.BasicEnforcePurposeStrategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.typestrategies.FullEnforcePurposeStrategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.typestrategies.NoEnforcePurposeStrategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.typestrategies.PurposeTwoBasicEnforcePurposeStrategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.specialfeature.SpecialFeaturesOneStrategy;
+import org.prebid.server.privacy.gdpr.vendorlist.VersionedVendorListService;
+import org.prebid.server.privacy.gdpr.vendorlist.proto.PurposeCode;
+import org.prebid.server.privacy.gdpr.vendorlist.proto.SpecialFeature;
+import org.prebid.server.privacy.gdpr.vendorlist.proto.Vendor;
+import org.prebid.server.settings.model.EnforcePurpose;
+import org.prebid.server.settings.model.GdprConfig;
+import org.prebid.server.settings.model.Purpose;
+import org.prebid.server.settings.model.PurposeOneTreatmentInterpretation;
+import org.prebid.server.settings.model.Purposes;
+import org.prebid.server.settings.model.SpecialFeatures;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * TCF enforcement for 40 bidders of an EU auction against a vendor list of 1000 vendors and a consent string
+ * with publisher restrictions covering the whole vendors range.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class Tcf2ServiceBenchmark {
+
+    private static final int VENDORS_COUNT = 1000;
+    private static final int BIDDERS_COUNT = 40;
+
+    private Tcf2Service tcf2Service;
+
+    private Set<String> bidderNames;
+    private VendorIdResolver vendorIdResolver;
+    private TCString tcString;
+
+    @Setup
+    public void setUp() {
+        final VersionedVendorListService vendorListService = BenchmarkFixtures.stub(VersionedVendorListService.class);
+        BDDMockito.given(vendorListService.forConsent(ArgumentMatchers.any()))
+                .willReturn(Future.succeededFuture(vendorList()));
+
+        tcf2Service = new Tcf2Service(
+                gdprConfig(),
+                purposeStrategies(),
+                List.of(new SpecialFeaturesOneStrategy()),
+                vendorListService,
+                BenchmarkFixtures.stub(BidderCatalog.class));
+
+        bidderNames = new LinkedHashSet<>();
+        IntStream.rangeClosed(1, BIDDERS_COUNT).forEach(i -> bidderNames.add("bidder" + i * 20));
+
+        vendorIdResolver = BenchmarkFixtures.stub(VendorIdResolver.class);
+        BDDMockito.given(vendorIdResolver.resolve(ArgumentMatchers.anyString()))
+                .willAnswer(invocation -> Integer.parseInt(invocation.<String>getArgument(0).substring(6)));
+
+        tcString = TCString.decode(consentString());
+    }
+
+    @Benchmark
+    public Collection<VendorPermission> permissionsFor() {
+        return tcf2Service.permissionsFor(bidderNames, vendorIdResolver, tcString, null).result();
+    }
+
+    private static GdprConfig gdprConfig() {
+        final Purpose purpose = Purpose.of(EnforcePurpose.full, true, null, null);
+        return GdprConfig.builder()
+                .purposes(Purposes.builder()
+                        .p1(purpose).p2(purpose).p3(purpose).p4(purpose).p5(purpose)
+                        .p6(purpose).p7(purpose).p8(purpose).p9(purpose).p10(purpose)
+                        .build())
+                .specialFeatures(SpecialFeatures.builder()
+                        .sf1(org.prebid.server.settings.model.SpecialFeature.of(true, null))
+                        .sf2(org.prebid.server.settings.model.SpecialFeature.of(true, null))
+                        .build())
+                .purposeOneTreatmentInterpretation(PurposeOneTreatmentInterpretation.ignore)
+                .build();
+    }
+
+    private static List<PurposeStrategy> purposeStrategies() {
+        final FullEnforcePurposeStrategy full = new FullEnforcePurposeStrategy();
+        final BasicEnforcePurposeStrategy basic = new BasicEnforcePurposeStrategy();
+        final NoEnforcePurposeStrategy no = new NoEnforcePurposeStrategy();
+
+        return List.of(
+                new Purpose01Strategy(full, basic, no),
+                new Purpose02Strategy(full, new PurposeTwoBasicEnforcePurposeStrategy(), no),
+                new Purpose03Strategy(full, basic, no),
+                new Purpose04Strategy(full, basic, no),
+                new Purpose05Strategy(full, basic, no),
+                new Purpose06Strategy(full, basic, no),
+                new Purpose07Strategy(full, basic, no),
+                new Purpose08Strategy(full, basic, no),
+                new Purpose09Strategy(full, basic, no),
+                new Purpose10Strategy(full, basic, no));
+    }
+
+    private static Map<Integer, Vendor> vendorList() {
+        final Map<Integer, Vendor> vendors = new HashMap<>();
+        for (int id = 1; id <= VENDORS_COUNT; id++) {
+            vendors.put(id, Vendor.builder()
+                    .id(id)
+                    .purposes(EnumSet.of(PurposeCode.ONE, PurposeCode.THREE, PurposeCode.FOUR))
+                    .legIntPurposes(EnumSet.of(PurposeCode.TWO, PurposeCode.SEVEN, PurposeCode.NINE, PurposeCode.TEN))
+                    .flexiblePurposes(id % 2 == 0 ? EnumSet.of(PurposeCode.TWO) : EnumSet.noneOf(PurposeCode.class))
+                    .specialFeatures(EnumSet.of(SpecialFeature.ONE))
+                    .build());
+        }
+        return vendors;
+    }
+
+    private static String consentString() {
+        final BitSetIntIterable allVendors = BitSetIntIterable.from(IntStream.rangeClosed(1, VENDORS_COUNT).toArray());
+        final BitSetIntIterable allPurposes = BitSetIntIterable.from(IntStream.rangeClosed(1, 10).toArray());
+
+        return TCStringEncoder.newBuilder()
+                .version(2)
+                .tcfPolicyVersion(4)
+                .vendorListVersion(100)
+                .addPurposesConsent(allPurposes)
+                .addPurposesLITransparency(allPurposes)
+                .addVendorConsent(allVendors)
+                .addVendorLegitimateInterest(allVendors)
+                .addSpecialFeatureOptIns(BitSetIntIterable.from(1))
+                .addPublisherRestrictionEntry(
+                        restriction(2, RestrictionType.REQUIRE_CONSENT, allVendors),
+                        restriction(3, RestrictionType.REQUIRE_CONSENT, allVendors),
+                        restriction(4, RestrictionType.NOT_ALLOWED, BitSetIntIterable.from(100, 200, 300)),
+                        restriction(7, RestrictionType.REQUIRE_LEGITIMATE_INTEREST, allVendors))
+                .encode();
+    }
+
+    private static PublisherRestrictionEntry restriction(int purposeId,
+                                                         RestrictionType restrictionType,
+                                                         BitSetIntIterable vendorIds) {
+
+        return PublisherRestrictionEntry.newBuilder()
+                .purposeId(purposeId)
+                .restrictionType(restrictionType)
+                .addVendor(vendorIds)
+                .build();
+    }
+}
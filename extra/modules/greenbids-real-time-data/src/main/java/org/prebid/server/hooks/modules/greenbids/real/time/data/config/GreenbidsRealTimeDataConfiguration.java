@@ -5,24 +5,30 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageOptions;
 import io.vertx.core.Vertx;
+import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.geolocation.CountryCodeMapper;
-import org.prebid.server.hooks.modules.greenbids.real.time.data.model.filter.ThrottlingThresholds;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.ThrottlingThresholdsFactory;
+import org.prebid.server.hooks.modules.greenbids.real.time.data.core.ArtefactCache;
+import org.prebid.server.hooks.modules.greenbids.real.time.data.core.ArtefactStorage;
+import org.prebid.server.hooks.modules.greenbids.real.time.data.core.BatchingInferenceExecutor;
+import org.prebid.server.hooks.modules.greenbids.real.time.data.core.GcsArtefactStorage;
+import org.prebid.server.hooks.modules.greenbids.real.time.data.core.LocalArtefactStorage;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.GreenbidsInferenceDataService;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.FilterService;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.ModelCache;
-import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxModelRunner;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxModelRunnerFactory;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxModelRunnerWithThresholds;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.ThresholdCache;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.GreenbidsInvocationService;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.v1.GreenbidsRealTimeDataProcessedAuctionRequestHook;
 import org.prebid.server.json.ObjectMapperProvider;
+import org.prebid.server.metric.Metrics;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Clock;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
@@ -31,6 +37,8 @@ import java.util.concurrent.TimeUnit;
 @EnableConfigurationProperties(GreenbidsRealTimeDataProperties.class)
 public class GreenbidsRealTimeDataConfiguration {
 
+    private static final String INFERENCE_WORKER_POOL_NAME = "greenbids-inference";
+
     @Bean
     DatabaseReaderFactory databaseReaderFactory(GreenbidsRealTimeDataProperties properties, Vertx vertx) {
         return new DatabaseReaderFactory(properties, vertx);
@@ -61,19 +69,40 @@ public class GreenbidsRealTimeDataConfiguration {
     }
 
     @Bean
-    FilterService filterService() {
-        return new FilterService();
+    BatchingInferenceExecutor batchingInferenceExecutor(GreenbidsRealTimeDataProperties properties,
+                                                        Vertx vertx,
+                                                        Metrics metrics) {
+
+        final GreenbidsRealTimeDataProperties.Inference inference = properties.getInference();
+        return new BatchingInferenceExecutor(
+                inference.getBatchWindowMs(),
+                inference.getMaxBatchRows(),
+                vertx.createSharedWorkerExecutor(INFERENCE_WORKER_POOL_NAME, inference.getWorkerPoolSize()),
+                vertx,
+                metrics);
+    }
+
+    @Bean
+    FilterService filterService(BatchingInferenceExecutor batchingInferenceExecutor) {
+        return new FilterService(batchingInferenceExecutor);
     }
 
     @Bean
-    Storage storage(GreenbidsRealTimeDataProperties properties) {
-        return StorageOptions.newBuilder()
+    ArtefactStorage artefactStorage(GreenbidsRealTimeDataProperties properties) {
+        final String localStoragePath = properties.getLocalStoragePath();
+        if (StringUtils.isNotBlank(localStoragePath)) {
+            return new LocalArtefactStorage(localStoragePath);
+        }
+
+        final Storage storage = StorageOptions.newBuilder()
                 .setProjectId(properties.getGoogleCloudGreenbidsProject()).build().getService();
+        return new GcsArtefactStorage(storage, properties.getGcsBucketName());
     }
 
     @Bean
-    OnnxModelRunnerFactory onnxModelRunnerFactory() {
-        return new OnnxModelRunnerFactory();
+    OnnxModelRunnerFactory onnxModelRunnerFactory(GreenbidsRealTimeDataProperties properties) {
+        final GreenbidsRealTimeDataProperties.Inference inference = properties.getInference();
+        return new OnnxModelRunnerFactory(inference.getIntraOpThreads(), inference.getOptimizationLevel());
     }
 
     @Bean
@@ -85,19 +114,18 @@ public class GreenbidsRealTimeDataConfiguration {
     ModelCache modelCache(
             GreenbidsRealTimeDataProperties properties,
             Vertx vertx,
-            Storage storage,
+            Clock clock,
+            ArtefactStorage artefactStorage,
             OnnxModelRunnerFactory onnxModelRunnerFactory) {
 
-        final Cache<String, OnnxModelRunner> modelCacheWithExpiration = Caffeine.newBuilder()
-                .expireAfterWrite(properties.getCacheExpirationMinutes(), TimeUnit.MINUTES)
-                .build();
-
         return new ModelCache(
-                storage,
-                properties.getGcsBucketName(),
-                modelCacheWithExpiration,
+                artefactStorage,
+                diskCache(properties),
+                cacheOfUsedArtefacts(properties),
                 properties.getOnnxModelCacheKeyPrefix(),
+                TimeUnit.MINUTES.toMillis(properties.getCacheExpirationMinutes()),
                 vertx,
+                clock,
                 onnxModelRunnerFactory);
     }
 
@@ -105,20 +133,19 @@ public class GreenbidsRealTimeDataConfiguration {
     ThresholdCache thresholdCache(
             GreenbidsRealTimeDataProperties properties,
             Vertx vertx,
-            Storage storage,
+            Clock clock,
+            ArtefactStorage artefactStorage,
             ThrottlingThresholdsFactory throttlingThresholdsFactory) {
 
-        final Cache<String, ThrottlingThresholds> thresholdsCacheWithExpiration = Caffeine.newBuilder()
-                .expireAfterWrite(properties.getCacheExpirationMinutes(), TimeUnit.MINUTES)
-                .build();
-
         return new ThresholdCache(
-                storage,
-                properties.getGcsBucketName(),
+                artefactStorage,
+                diskCache(properties),
                 ObjectMapperProvider.mapper(),
-                thresholdsCacheWithExpiration,
+                cacheOfUsedArtefacts(properties),
                 properties.getThresholdsCacheKeyPrefix(),
+                TimeUnit.MINUTES.toMillis(properties.getCacheExpirationMinutes()),
                 vertx,
+                clock,
                 throttlingThresholdsFactory);
     }
 
@@ -134,4 +161,21 @@ public class GreenbidsRealTimeDataConfiguration {
     GreenbidsInvocationService greenbidsInvocationService() {
         return new GreenbidsInvocationService();
     }
+
+    /**
+     * Artefact older than the expiration period is refreshed in background while still being served, so it's
+     * dropped from the cache only when partner has no requests during the whole period.
+     */
+    private static <T> Cache<String, ArtefactCache.CachedArtefact<T>> cacheOfUsedArtefacts(
+            GreenbidsRealTimeDataProperties properties) {
+
+        return Caffeine.newBuilder()
+                .expireAfterAccess(properties.getCacheExpirationMinutes(), TimeUnit.MINUTES)
+                .build();
+    }
+
+    private static LocalArtefactStorage diskCache(GreenbidsRealTimeDataProperties properties) {
+        final String diskCachePath = properties.getDiskCachePath();
+        return StringUtils.isNotBlank(diskCachePath) ? new LocalArtefactStorage(diskCachePath) : null;
+    }
 }
@@ -1,5 +1,6 @@
 package org.prebid.server.hooks.modules.greenbids.real.time.data.config;
 
+import ai.onnxruntime.OrtSession;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -17,6 +18,17 @@ public class GreenbidsRealTimeDataProperties {
 
     Integer cacheExpirationMinutes;
 
+    /**
+     * Directory to fetch models and thresholds from instead of the GCS bucket, not set to use the bucket.
+     */
+    String localStoragePath;
+
+    /**
+     * Directory to keep the last loaded models and thresholds in, so they are served right after restart,
+     * not set to disable.
+     */
+    String diskCachePath;
+
     String onnxModelCacheKeyPrefix;
 
     String thresholdsCacheKeyPrefix;
@@ -24,4 +36,26 @@ public class GreenbidsRealTimeDataProperties {
     Long timeoutMs;
 
     Integer maxRedirects;
+
+    Inference inference = new Inference();
+
+    @Data
+    public static class Inference {
+
+        /**
+         * Time to collect throttling rows of concurrent auctions into a single model run, not positive to disable.
+         */
+        long batchWindowMs = 2L;
+
+        int maxBatchRows = 512;
+
+        int workerPoolSize = 2;
+
+        /**
+         * Number of threads used by a single model run, not positive to let the runtime choose it.
+         */
+        int intraOpThreads = 1;
+
+        OrtSession.SessionOptions.OptLevel optimizationLevel = OrtSession.SessionOptions.OptLevel.ALL_OPT;
+    }
 }
@@ -0,0 +1,159 @@
+package org.prebid.server.hooks.modules.greenbids.real.time.data.core;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import lombok.Value;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Keeps artefacts loaded from the {@link ArtefactStorage} per partner.
+ * <p>
+ * Artefact of each partner is loaded at most once at a time, concurrent requests for it wait for the same load
+ * instead of failing. Cached artefact older than the refresh interval is still served while it is refreshed in
+ * background, and is kept when refresh fails, so the last known good artefact is served until storage recovers.
+ * <p>
+ * Loaded artefacts are also written to the disk cache, if configured, so after restart the partner is served
+ * right away from the disk, while the artefact is refreshed from the storage on the next request.
+ */
+public abstract class ArtefactCache<T> {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArtefactCache.class);
+
+    private final String artefactName;
+
+    private final ArtefactStorage storage;
+
+    private final LocalArtefactStorage diskCache;
+
+    private final Cache<String, CachedArtefact<T>> cache;
+
+    private final String cacheKeyPrefix;
+
+    private final long refreshIntervalMs;
+
+    private final Vertx vertx;
+
+    private final Clock clock;
+
+    private final Map<String, Future<T>> inProgressLoads = new ConcurrentHashMap<>();
+
+    protected ArtefactCache(String artefactName,
+                            ArtefactStorage storage,
+                            LocalArtefactStorage diskCache,
+                            Cache<String, CachedArtefact<T>> cache,
+                            String cacheKeyPrefix,
+                            long refreshIntervalMs,
+                            Vertx vertx,
+                            Clock clock) {
+
+        this.artefactName = Objects.requireNonNull(artefactName);
+        this.storage = Objects.requireNonNull(storage);
+        this.diskCache = diskCache;
+        this.cache = Objects.requireNonNull(cache);
+        this.cacheKeyPrefix = Objects.requireNonNull(cacheKeyPrefix);
+        this.refreshIntervalMs = refreshIntervalMs;
+        this.vertx = Objects.requireNonNull(vertx);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    public Future<T> get(String path, String pbuid) {
+        final String cacheKey = cacheKeyPrefix + pbuid;
+        final CachedArtefact<T> cachedArtefact = cache.getIfPresent(cacheKey);
+
+        if (cachedArtefact == null) {
+            return loadOnce(cacheKey, () -> load(path, cacheKey));
+        }
+
+        if (cachedArtefact.getRefreshAtMillis() <= clock.millis()) {
+            loadOnce(cacheKey, () -> refresh(path, cacheKey, cachedArtefact));
+        }
+        return Future.succeededFuture(cachedArtefact.getValue());
+    }
+
+    /**
+     * Converts fetched content to the artefact, throws {@link org.prebid.server.exception.PreBidException}
+     * if content is invalid.
+     */
+    protected abstract T parse(byte[] content);
+
+    private Future<T> loadOnce(String cacheKey, Supplier<Future<T>> loadAction) {
+        final Promise<T> promise = Promise.promise();
+        final Future<T> inProgressLoad = inProgressLoads.putIfAbsent(cacheKey, promise.future());
+        if (inProgressLoad != null) {
+            return inProgressLoad;
+        }
+
+        loadAction.get().onComplete(result -> {
+            inProgressLoads.remove(cacheKey);
+            promise.handle(result);
+        });
+
+        return promise.future();
+    }
+
+    private Future<T> load(String path, String cacheKey) {
+        if (diskCache == null) {
+            return loadFromStorage(path, cacheKey);
+        }
+
+        // artefact from the disk is due for refresh right away, as it could have been stored long ago
+        return executeBlocking(() -> parse(diskCache.fetch(path)))
+                .onSuccess(artefact -> cache.put(cacheKey, CachedArtefact.of(artefact, clock.millis())))
+                .recover(ignored -> loadFromStorage(path, cacheKey));
+    }
+
+    private Future<T> refresh(String path, String cacheKey, CachedArtefact<T> staleArtefact) {
+        return loadFromStorage(path, cacheKey)
+                .onFailure(ignored -> cache.put(cacheKey, CachedArtefact.of(staleArtefact.getValue(), nextRefresh())));
+    }
+
+    private Future<T> loadFromStorage(String path, String cacheKey) {
+        return executeBlocking(() -> fetchAndStore(path))
+                .onSuccess(artefact -> cache.put(cacheKey, CachedArtefact.of(artefact, nextRefresh())))
+                .onFailure(error -> logger.error("Failed to fetch %s %s".formatted(artefactName, path), error));
+    }
+
+    private T fetchAndStore(String path) {
+        final byte[] content = storage.fetch(path);
+        final T artefact = parse(content);
+
+        if (diskCache != null) {
+            try {
+                diskCache.store(path, content);
+            } catch (RuntimeException e) {
+                logger.warn("Failed to store %s %s to disk cache".formatted(artefactName, path), e);
+            }
+        }
+
+        return artefact;
+    }
+
+    /**
+     * Artefacts of different partners are loaded concurrently, not one after another.
+     */
+    private Future<T> executeBlocking(Callable<T> blockingCode) {
+        return vertx.executeBlocking(blockingCode, false);
+    }
+
+    private long nextRefresh() {
+        return clock.millis() + refreshIntervalMs;
+    }
+
+    @Value(staticConstructor = "of")
+    public static class CachedArtefact<T> {
+
+        T value;
+
+        long refreshAtMillis;
+    }
+}
@@ -0,0 +1,13 @@
+package org.prebid.server.hooks.modules.greenbids.real.time.data.core;
+
+/**
+ * Source of models and thresholds files, fetching is blocking and must be called from worker thread.
+ */
+public interface ArtefactStorage {
+
+    /**
+     * Returns content of artefact with the given path, throws {@link org.prebid.server.exception.PreBidException}
+     * if it can't be fetched.
+     */
+    byte[] fetch(String path);
+}
@@ -0,0 +1,221 @@
+package org.prebid.server.hooks.modules.greenbids.real.time.data.core;
+
+import ai.onnxruntime.OnnxTensor;
+import ai.onnxruntime.OnnxValue;
+import ai.onnxruntime.OrtException;
+import ai.onnxruntime.OrtSession;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.hooks.modules.greenbids.real.time.data.config.GreenbidsRealTimeDataModule;
+import org.prebid.server.metric.Metrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Runs model inference on the dedicated worker pool instead of the calling event loop thread.
+ * <p>
+ * Throttling rows of concurrent auctions scored by the same model within the batch window are coalesced into
+ * a single tensor, so the model runs once per window instead of once per auction. Batch runs right away when
+ * the window is not positive or when it has collected the max number of rows.
+ * <p>
+ * Each caller receives the probabilities of its own rows on the context it has submitted them from.
+ */
+public class BatchingInferenceExecutor {
+
+    private static final String PROBABILITIES_OUTPUT = "probabilities";
+
+    private final long batchWindowMs;
+    private final int maxBatchRows;
+    private final WorkerExecutor workerExecutor;
+    private final Vertx vertx;
+    private final Metrics metrics;
+
+    private final Map<OnnxModelRunner, Batch> pendingBatches = new HashMap<>();
+
+    public BatchingInferenceExecutor(long batchWindowMs,
+                                     int maxBatchRows,
+                                     WorkerExecutor workerExecutor,
+                                     Vertx vertx,
+                                     Metrics metrics) {
+
+        this.batchWindowMs = batchWindowMs;
+        this.maxBatchRows = maxBatchRows;
+        this.workerExecutor = Objects.requireNonNull(workerExecutor);
+        this.vertx = Objects.requireNonNull(vertx);
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    /**
+     * Returns probabilities predicted by the model for each of the given rows, in the same order.
+     */
+    public Future<float[][]> predictProbabilities(OnnxModelRunner onnxModelRunner, String[][] rows) {
+        final InferenceRequest request = new InferenceRequest(rows);
+
+        final Batch batch;
+        final boolean newBatch;
+        final boolean runNow;
+        synchronized (pendingBatches) {
+            final Batch pendingBatch = pendingBatches.get(onnxModelRunner);
+            newBatch = pendingBatch == null;
+            batch = newBatch ? new Batch(onnxModelRunner) : pendingBatch;
+            batch.add(request);
+
+            runNow = batchWindowMs <= 0 || batch.rowsCount() >= maxBatchRows;
+            if (runNow && !newBatch) {
+                pendingBatches.remove(onnxModelRunner);
+            } else if (!runNow && newBatch) {
+                pendingBatches.put(onnxModelRunner, batch);
+            }
+        }
+
+        if (runNow) {
+            run(batch);
+        } else if (newBatch) {
+            vertx.setTimer(batchWindowMs, ignored -> runIfPending(batch));
+        }
+
+        return request.promise.future();
+    }
+
+    private void runIfPending(Batch batch) {
+        final boolean pending;
+        synchronized (pendingBatches) {
+            pending = pendingBatches.remove(batch.onnxModelRunner, batch);
+        }
+
+        // otherwise the batch has already been run after reaching the max number of rows
+        if (pending) {
+            run(batch);
+        }
+    }
+
+    private void run(Batch batch) {
+        workerExecutor.executeBlocking(() -> infer(batch), false)
+                .onComplete(batch::complete);
+    }
+
+    private float[][] infer(Batch batch) throws OrtException {
+        final long startNanos = System.nanoTime();
+        final String[][] rows = batch.rows();
+
+        try (OrtSession.Result results = batch.onnxModelRunner.runModel(rows)) {
+            final float[][] probabilities = extractProbabilities(results, rows.length);
+
+            final long endNanos = System.nanoTime();
+            metrics.updateModuleInferenceMetrics(
+                    GreenbidsRealTimeDataModule.CODE,
+                    rows.length,
+                    startNanos - batch.createdNanos,
+                    endNanos - startNanos);
+
+            return probabilities;
+        }
+    }
+
+    private static float[][] extractProbabilities(OrtSession.Result results, int expectedSize) throws OrtException {
+        for (Map.Entry<String, OnnxValue> onnxItem : results) {
+            validateOnnxTensor(onnxItem);
+            if (Objects.equals(onnxItem.getKey(), PROBABILITIES_OUTPUT)) {
+                final OnnxTensor tensor = (OnnxTensor) onnxItem.getValue();
+                validateTensorSize(tensor, expectedSize);
+                return (float[][]) tensor.getValue();
+            }
+        }
+
+        throw new PreBidException("Model output doesn't contain 'probabilities'");
+    }
+
+    private static void validateOnnxTensor(Map.Entry<String, OnnxValue> onnxItem) {
+        if (!(onnxItem.getValue() instanceof OnnxTensor)) {
+            throw new PreBidException("Expected OnnxTensor for 'probabilities', but found: "
+                    + onnxItem.getValue().getClass().getName());
+        }
+    }
+
+    private static void validateTensorSize(OnnxTensor tensor, int expectedSize) {
+        final long[] tensorShape = tensor.getInfo().getShape();
+        if (tensorShape.length == 0 || tensorShape[0] != expectedSize) {
+            throw new PreBidException("Mismatch between tensor size and throttlingMessages size");
+        }
+    }
+
+    private static class Batch {
+
+        private final OnnxModelRunner onnxModelRunner;
+        private final long createdNanos = System.nanoTime();
+        private final List<InferenceRequest> requests = new ArrayList<>();
+        private int rowsCount;
+
+        Batch(OnnxModelRunner onnxModelRunner) {
+            this.onnxModelRunner = onnxModelRunner;
+        }
+
+        void add(InferenceRequest request) {
+            requests.add(request);
+            rowsCount += request.rows.length;
+        }
+
+        int rowsCount() {
+            return rowsCount;
+        }
+
+        String[][] rows() {
+            if (requests.size() == 1) {
+                return requests.getFirst().rows;
+            }
+
+            final String[][] rows = new String[rowsCount][];
+            int offset = 0;
+            for (InferenceRequest request : requests) {
+                System.arraycopy(request.rows, 0, rows, offset, request.rows.length);
+                offset += request.rows.length;
+            }
+            return rows;
+        }
+
+        void complete(AsyncResult<float[][]> result) {
+            if (result.failed()) {
+                requests.forEach(request -> request.complete(Future.failedFuture(result.cause())));
+                return;
+            }
+
+            final float[][] probabilities = result.result();
+            int offset = 0;
+            for (InferenceRequest request : requests) {
+                final int end = offset + request.rows.length;
+                request.complete(Future.succeededFuture(Arrays.copyOfRange(probabilities, offset, end)));
+                offset = end;
+            }
+        }
+    }
+
+    private static class InferenceRequest {
+
+        private final String[][] rows;
+        private final Promise<float[][]> promise = Promise.promise();
+        // caller continues on its own event loop, not on the worker thread that has run the batch
+        private final Context context = Vertx.currentContext();
+
+        InferenceRequest(String[][] rows) {
+            this.rows = rows;
+        }
+
+        void complete(AsyncResult<float[][]> result) {
+            if (context != null) {
+                context.runOnContext(ignored -> promise.handle(result));
+            } else {
+                promise.handle(result);
+            }
+        }
+    }
+}
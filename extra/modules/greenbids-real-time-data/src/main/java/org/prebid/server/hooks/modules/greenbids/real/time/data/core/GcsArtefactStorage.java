@@ -0,0 +1,34 @@
+package org.prebid.server.hooks.modules.greenbids.real.time.data.core;
+
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageException;
+import org.prebid.server.exception.PreBidException;
+
+import java.util.Objects;
+import java.util.Optional;
+
+public class GcsArtefactStorage implements ArtefactStorage {
+
+    private final Storage storage;
+
+    private final String gcsBucketName;
+
+    public GcsArtefactStorage(Storage storage, String gcsBucketName) {
+        this.storage = Objects.requireNonNull(storage);
+        this.gcsBucketName = Objects.requireNonNull(gcsBucketName);
+    }
+
+    @Override
+    public byte[] fetch(String path) {
+        try {
+            final Blob blob = Optional.ofNullable(storage.get(gcsBucketName))
+                    .map(bucket -> bucket.get(path))
+                    .orElseThrow(() -> new PreBidException("Bucket not found: " + gcsBucketName));
+
+            return blob.getContent();
+        } catch (StorageException e) {
+            throw new PreBidException("Error accessing GCS artefact " + path + ": ", e);
+        }
+    }
+}
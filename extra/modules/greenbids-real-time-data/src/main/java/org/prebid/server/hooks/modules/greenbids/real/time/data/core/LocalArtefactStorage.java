@@ -0,0 +1,60 @@
+package org.prebid.server.hooks.modules.greenbids.real.time.data.core;
+
+import org.prebid.server.exception.PreBidException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Keeps artefacts as files of the local directory, serves as a stand-in for the remote storage and as a disk cache
+ * of the last successfully loaded artefacts.
+ */
+public class LocalArtefactStorage implements ArtefactStorage {
+
+    private static final String TMP_FILE_SUFFIX = ".tmp";
+
+    private final Path directory;
+
+    public LocalArtefactStorage(String directory) {
+        this.directory = Path.of(directory).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public byte[] fetch(String path) {
+        try {
+            return Files.readAllBytes(resolve(path));
+        } catch (IOException e) {
+            throw new PreBidException("Error reading local artefact " + path + ": ", e);
+        }
+    }
+
+    /**
+     * Artefact file is replaced atomically, so concurrent reader never sees it partially written.
+     */
+    public void store(String path, byte[] content) {
+        final Path artefactPath = resolve(path);
+        final Path tmpArtefactPath = artefactPath.resolveSibling(artefactPath.getFileName() + TMP_FILE_SUFFIX);
+
+        try {
+            Files.createDirectories(artefactPath.getParent());
+            Files.write(tmpArtefactPath, content);
+            Files.move(tmpArtefactPath, artefactPath,
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new PreBidException("Error writing local artefact " + path + ": ", e);
+        }
+    }
+
+    /**
+     * Artefact path is built from the request data, so it is not allowed to point outside the directory.
+     */
+    private Path resolve(String path) {
+        final Path artefactPath = directory.resolve(path).normalize();
+        if (!artefactPath.startsWith(directory) || artefactPath.equals(directory)) {
+            throw new PreBidException("Invalid artefact path: " + path);
+        }
+        return artefactPath;
+    }
+}
@@ -2,92 +2,33 @@ package org.prebid.server.hooks.modules.greenbids.real.time.data.core;
 
 import ai.onnxruntime.OrtException;
 import com.github.benmanes.caffeine.cache.Cache;
-import com.google.cloud.storage.Blob;
-import com.google.cloud.storage.Storage;
-import com.google.cloud.storage.StorageException;
-import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import org.prebid.server.exception.PreBidException;
-import org.prebid.server.log.Logger;
-import org.prebid.server.log.LoggerFactory;
 
+import java.time.Clock;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.concurrent.atomic.AtomicBoolean;
 
-public class ModelCache {
-
-    private static final Logger logger = LoggerFactory.getLogger(ModelCache.class);
-
-    private final String gcsBucketName;
-
-    private final Cache<String, OnnxModelRunner> cache;
-
-    private final Storage storage;
-
-    private final String onnxModelCacheKeyPrefix;
-
-    private final AtomicBoolean isFetching;
-
-    private final Vertx vertx;
+public class ModelCache extends ArtefactCache<OnnxModelRunner> {
 
     private final OnnxModelRunnerFactory onnxModelRunnerFactory;
 
     public ModelCache(
-            Storage storage,
-            String gcsBucketName,
-            Cache<String, OnnxModelRunner> cache,
+            ArtefactStorage storage,
+            LocalArtefactStorage diskCache,
+            Cache<String, CachedArtefact<OnnxModelRunner>> cache,
             String onnxModelCacheKeyPrefix,
+            long refreshIntervalMs,
             Vertx vertx,
+            Clock clock,
             OnnxModelRunnerFactory onnxModelRunnerFactory) {
-        this.gcsBucketName = Objects.requireNonNull(gcsBucketName);
-        this.cache = Objects.requireNonNull(cache);
-        this.storage = Objects.requireNonNull(storage);
-        this.onnxModelCacheKeyPrefix = Objects.requireNonNull(onnxModelCacheKeyPrefix);
-        this.isFetching = new AtomicBoolean(false);
-        this.vertx = Objects.requireNonNull(vertx);
-        this.onnxModelRunnerFactory = Objects.requireNonNull(onnxModelRunnerFactory);
-    }
 
-    public Future<OnnxModelRunner> get(String onnxModelPath, String pbuid) {
-        final String cacheKey = onnxModelCacheKeyPrefix + pbuid;
-        final OnnxModelRunner cachedOnnxModelRunner = cache.getIfPresent(cacheKey);
-
-        if (cachedOnnxModelRunner != null) {
-            return Future.succeededFuture(cachedOnnxModelRunner);
-        }
-
-        if (isFetching.compareAndSet(false, true)) {
-            try {
-                return fetchAndCacheModelRunner(onnxModelPath, cacheKey);
-            } finally {
-                isFetching.set(false);
-            }
-        }
-
-        return Future.failedFuture("ModelRunner fetching in progress. Skip current request");
-    }
-
-    private Future<OnnxModelRunner> fetchAndCacheModelRunner(String onnxModelPath, String cacheKey) {
-        return vertx.executeBlocking(() -> getBlob(onnxModelPath))
-                .map(this::loadModelRunner)
-                .onSuccess(onnxModelRunner -> cache.put(cacheKey, onnxModelRunner))
-                .onFailure(error -> logger.error("Failed to fetch ONNX model"));
-    }
-
-    private Blob getBlob(String onnxModelPath) {
-        try {
-            return Optional.ofNullable(storage.get(gcsBucketName))
-                    .map(bucket -> bucket.get(onnxModelPath))
-                    .orElseThrow(() -> new PreBidException("Bucket not found: " + gcsBucketName));
-        } catch (StorageException e) {
-            throw new PreBidException("Error accessing GCS artefact for model: ", e);
-        }
+        super("ONNX model", storage, diskCache, cache, onnxModelCacheKeyPrefix, refreshIntervalMs, vertx, clock);
+        this.onnxModelRunnerFactory = Objects.requireNonNull(onnxModelRunnerFactory);
     }
 
-    private OnnxModelRunner loadModelRunner(Blob blob) {
+    @Override
+    protected OnnxModelRunner parse(byte[] onnxModelBytes) {
         try {
-            final byte[] onnxModelBytes = blob.getContent();
             return onnxModelRunnerFactory.create(onnxModelBytes);
         } catch (OrtException e) {
             throw new PreBidException("Failed to convert blob to ONNX model", e);
@@ -13,12 +13,13 @@ public class OnnxModelRunner {
 
     private final OrtSession session;
 
-    public OnnxModelRunner(byte[] onnxModelBytes) throws OrtException {
-        session = ENVIRONMENT.createSession(onnxModelBytes, new OrtSession.SessionOptions());
+    public OnnxModelRunner(byte[] onnxModelBytes, OrtSession.SessionOptions sessionOptions) throws OrtException {
+        session = ENVIRONMENT.createSession(onnxModelBytes, sessionOptions);
     }
 
     public OrtSession.Result runModel(String[][] throttlingInferenceRow) throws OrtException {
-        final OnnxTensor inputTensor = OnnxTensor.createTensor(ENVIRONMENT, throttlingInferenceRow);
-        return session.run(Collections.singletonMap("input", inputTensor));
+        try (OnnxTensor inputTensor = OnnxTensor.createTensor(ENVIRONMENT, throttlingInferenceRow)) {
+            return session.run(Collections.singletonMap("input", inputTensor));
+        }
     }
 }
@@ -1,10 +1,30 @@
 package org.prebid.server.hooks.modules.greenbids.real.time.data.core;
 
 import ai.onnxruntime.OrtException;
+import ai.onnxruntime.OrtSession;
+
+import java.util.Objects;
 
 public class OnnxModelRunnerFactory {
 
+    private final int intraOpNumThreads;
+    private final OrtSession.SessionOptions.OptLevel optimizationLevel;
+
+    public OnnxModelRunnerFactory(int intraOpNumThreads, OrtSession.SessionOptions.OptLevel optimizationLevel) {
+        this.intraOpNumThreads = intraOpNumThreads;
+        this.optimizationLevel = Objects.requireNonNull(optimizationLevel);
+    }
+
     public OnnxModelRunner create(byte[] bytes) throws OrtException {
-        return new OnnxModelRunner(bytes);
+        // session keeps its own copy of the options, so they are released right after the session is created
+        try (OrtSession.SessionOptions sessionOptions = new OrtSession.SessionOptions()) {
+            // non-positive number of threads lets the runtime choose it by the number of cores
+            if (intraOpNumThreads > 0) {
+                sessionOptions.setIntraOpNumThreads(intraOpNumThreads);
+            }
+            sessionOptions.setOptimizationLevel(optimizationLevel);
+
+            return new OnnxModelRunner(bytes, sessionOptions);
+        }
     }
 }
@@ -24,7 +24,6 @@ import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxModelRu
 import org.prebid.server.hooks.modules.greenbids.real.time.data.model.data.GreenbidsConfig;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.model.data.ThrottlingMessage;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.model.result.AnalyticsResult;
-import org.prebid.server.hooks.modules.greenbids.real.time.data.model.result.GreenbidsInvocationResult;
 import org.prebid.server.hooks.v1.InvocationAction;
 import org.prebid.server.hooks.v1.InvocationResult;
 import org.prebid.server.hooks.v1.InvocationStatus;
@@ -127,27 +126,21 @@ public class GreenbidsRealTimeDataProcessedAuctionRequestHook implements Process
             OnnxModelRunner onnxModelRunner,
             Double threshold) {
 
-        final Map<String, Map<String, Boolean>> impsBiddersFilterMap;
+        final List<ThrottlingMessage> throttlingMessages;
         try {
-            final List<ThrottlingMessage> throttlingMessages = greenbidsInferenceDataService
-                    .extractThrottlingMessagesFromBidRequest(bidRequest);
-
-            impsBiddersFilterMap = filterService.filterBidders(
-                    onnxModelRunner,
-                    throttlingMessages,
-                    threshold);
+            throttlingMessages = greenbidsInferenceDataService.extractThrottlingMessagesFromBidRequest(bidRequest);
         } catch (PreBidException e) {
             return Future.succeededFuture(toInvocationResult(
                     bidRequest, null, InvocationAction.no_action));
         }
 
-        final GreenbidsInvocationResult greenbidsInvocationResult = greenbidsInvocationService
-                .createGreenbidsInvocationResult(greenbidsConfig, bidRequest, impsBiddersFilterMap);
-
-        return Future.succeededFuture(toInvocationResult(
-                greenbidsInvocationResult.getUpdatedBidRequest(),
-                greenbidsInvocationResult.getAnalyticsResult(),
-                greenbidsInvocationResult.getInvocationAction()));
+        return filterService.filterBidders(onnxModelRunner, throttlingMessages, threshold)
+                .map(impsBiddersFilterMap -> greenbidsInvocationService
+                        .createGreenbidsInvocationResult(greenbidsConfig, bidRequest, impsBiddersFilterMap))
+                .map(greenbidsInvocationResult -> toInvocationResult(
+                        greenbidsInvocationResult.getUpdatedBidRequest(),
+                        greenbidsInvocationResult.getAnalyticsResult(),
+                        greenbidsInvocationResult.getInvocationAction()));
     }
 
     private InvocationResult<AuctionRequestPayload> toInvocationResult(
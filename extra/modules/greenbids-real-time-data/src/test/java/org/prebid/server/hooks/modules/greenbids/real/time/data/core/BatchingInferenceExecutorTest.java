@@ -0,0 +1,212 @@
+package org.prebid.server.hooks.modules.greenbids.real.time.data.core;
+
+import ai.onnxruntime.OnnxTensor;
+import ai.onnxruntime.OnnxValue;
+import ai.onnxruntime.OrtException;
+import ai.onnxruntime.OrtSession;
+import ai.onnxruntime.TensorInfo;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.metric.Metrics;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class BatchingInferenceExecutorTest {
+
+    @Mock(strictness = LENIENT)
+    private WorkerExecutor workerExecutor;
+
+    @Mock
+    private Vertx vertx;
+
+    @Mock
+    private Metrics metrics;
+
+    @Mock
+    private OnnxModelRunner onnxModelRunner;
+
+    @Mock
+    private OrtSession.Result results;
+
+    @Mock
+    private OnnxTensor onnxTensor;
+
+    @Mock
+    private TensorInfo tensorInfo;
+
+    @Mock
+    private OnnxValue onnxValue;
+
+    @BeforeEach
+    public void setUp() {
+        given(workerExecutor.executeBlocking(any(Callable.class), anyBoolean()))
+                .willAnswer(BatchingInferenceExecutorTest::executeBlocking);
+    }
+
+    @Test
+    public void predictProbabilitiesShouldRunRowsOfConcurrentRequestsAsSingleBatch() throws OrtException {
+        // given
+        final BatchingInferenceExecutor target = givenTarget(10L, 100);
+        givenProbabilities(new float[][]{{0.1f, 0.9f}, {0.2f, 0.8f}, {0.3f, 0.7f}});
+
+        // when
+        final Future<float[][]> first = target.predictProbabilities(onnxModelRunner, givenRows("a", "b"));
+        final Future<float[][]> second = target.predictProbabilities(onnxModelRunner, givenRows("c"));
+        fireBatchWindowTimer();
+
+        // then
+        assertThat(first.result()).isEqualTo(new float[][]{{0.1f, 0.9f}, {0.2f, 0.8f}});
+        assertThat(second.result()).isEqualTo(new float[][]{{0.3f, 0.7f}});
+
+        final ArgumentCaptor<String[][]> rowsCaptor = ArgumentCaptor.forClass(String[][].class);
+        verify(onnxModelRunner).runModel(rowsCaptor.capture());
+        assertThat(rowsCaptor.getValue()).isEqualTo(givenRows("a", "b", "c"));
+
+        verify(metrics).updateModuleInferenceMetrics(eq("greenbids-real-time-data"), eq(3), anyLong(), anyLong());
+    }
+
+    @Test
+    public void predictProbabilitiesShouldRunBatchRightAwayWhenMaxBatchRowsReached() throws OrtException {
+        // given
+        final BatchingInferenceExecutor target = givenTarget(10L, 2);
+        givenProbabilities(new float[][]{{0.1f, 0.9f}, {0.2f, 0.8f}});
+
+        // when
+        final Future<float[][]> first = target.predictProbabilities(onnxModelRunner, givenRows("a"));
+        final Future<float[][]> second = target.predictProbabilities(onnxModelRunner, givenRows("b"));
+
+        // then
+        assertThat(first.result()).isEqualTo(new float[][]{{0.1f, 0.9f}});
+        assertThat(second.result()).isEqualTo(new float[][]{{0.2f, 0.8f}});
+
+        fireBatchWindowTimer();
+        verify(onnxModelRunner).runModel(any());
+    }
+
+    @Test
+    public void predictProbabilitiesShouldRunRightAwayWhenBatchWindowIsNotPositive() throws OrtException {
+        // given
+        final BatchingInferenceExecutor target = givenTarget(0L, 100);
+        givenProbabilities(new float[][]{{0.1f, 0.9f}});
+
+        // when
+        final Future<float[][]> result = target.predictProbabilities(onnxModelRunner, givenRows("a"));
+
+        // then
+        assertThat(result.result()).isEqualTo(new float[][]{{0.1f, 0.9f}});
+        verifyNoInteractions(vertx);
+    }
+
+    @Test
+    public void predictProbabilitiesShouldFailAllRequestsOfBatchWhenModelRunFails() throws OrtException {
+        // given
+        final BatchingInferenceExecutor target = givenTarget(10L, 100);
+        given(onnxModelRunner.runModel(any())).willThrow(new OrtException("Exception during runModel"));
+
+        // when
+        final Future<float[][]> first = target.predictProbabilities(onnxModelRunner, givenRows("a"));
+        final Future<float[][]> second = target.predictProbabilities(onnxModelRunner, givenRows("b"));
+        fireBatchWindowTimer();
+
+        // then
+        assertThat(first.cause()).isInstanceOf(OrtException.class).hasMessage("Exception during runModel");
+        assertThat(second.cause()).isInstanceOf(OrtException.class).hasMessage("Exception during runModel");
+        verify(metrics, never()).updateModuleInferenceMetrics(any(), anyInt(), anyLong(), anyLong());
+    }
+
+    @Test
+    public void predictProbabilitiesShouldFailWhenModelOutputIsNotTensor() throws OrtException {
+        // given
+        final BatchingInferenceExecutor target = givenTarget(0L, 100);
+        given(onnxModelRunner.runModel(any())).willReturn(results);
+        given(results.iterator()).willReturn(List.of(Map.entry("probabilities", onnxValue)).iterator());
+
+        // when
+        final Future<float[][]> result = target.predictProbabilities(onnxModelRunner, givenRows("a"));
+
+        // then
+        assertThat(result.cause())
+                .isInstanceOf(PreBidException.class)
+                .hasMessageContaining("Expected OnnxTensor for 'probabilities', but found");
+    }
+
+    @Test
+    public void predictProbabilitiesShouldFailWhenTensorSizeMismatchesRowsCount() throws OrtException {
+        // given
+        final BatchingInferenceExecutor target = givenTarget(0L, 100);
+        given(onnxModelRunner.runModel(any())).willReturn(results);
+        given(results.iterator()).willReturn(List.<Map.Entry<String, OnnxValue>>of(
+                Map.entry("probabilities", onnxTensor)).iterator());
+        given(onnxTensor.getInfo()).willReturn(tensorInfo);
+        given(tensorInfo.getShape()).willReturn(new long[]{0});
+
+        // when
+        final Future<float[][]> result = target.predictProbabilities(onnxModelRunner, givenRows("a"));
+
+        // then
+        assertThat(result.cause())
+                .isInstanceOf(PreBidException.class)
+                .hasMessage("Mismatch between tensor size and throttlingMessages size");
+    }
+
+    private BatchingInferenceExecutor givenTarget(long batchWindowMs, int maxBatchRows) {
+        return new BatchingInferenceExecutor(batchWindowMs, maxBatchRows, workerExecutor, vertx, metrics);
+    }
+
+    private void givenProbabilities(float[][] probabilities) throws OrtException {
+        given(onnxModelRunner.runModel(any())).willReturn(results);
+        given(results.iterator()).willReturn(List.<Map.Entry<String, OnnxValue>>of(
+                Map.entry("label", onnxTensor),
+                Map.entry("probabilities", onnxTensor)).iterator());
+        given(onnxTensor.getInfo()).willReturn(tensorInfo);
+        given(tensorInfo.getShape()).willReturn(new long[]{probabilities.length, 2});
+        given(onnxTensor.getValue()).willReturn(probabilities);
+    }
+
+    private void fireBatchWindowTimer() {
+        final ArgumentCaptor<Handler<Long>> timerHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setTimer(eq(10L), timerHandlerCaptor.capture());
+        timerHandlerCaptor.getValue().handle(1L);
+    }
+
+    private static String[][] givenRows(String... bidders) {
+        final String[][] rows = new String[bidders.length][];
+        for (int i = 0; i < bidders.length; i++) {
+            rows[i] = new String[]{"Chrome", bidders[i], "adUnit", "US", "localhost", "PC", "10", "1"};
+        }
+        return rows;
+    }
+
+    private static Future<?> executeBlocking(InvocationOnMock invocation) {
+        try {
+            return Future.succeededFuture(invocation.<Callable<?>>getArgument(0).call());
+        } catch (Exception e) {
+            return Future.failedFuture(e);
+        }
+    }
+}
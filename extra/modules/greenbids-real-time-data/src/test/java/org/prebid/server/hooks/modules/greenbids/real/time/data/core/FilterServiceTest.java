@@ -1,10 +1,7 @@
 package org.prebid.server.hooks.modules.greenbids.real.time.data.core;
 
-import ai.onnxruntime.OnnxTensor;
-import ai.onnxruntime.OnnxValue;
-import ai.onnxruntime.OrtException;
-import ai.onnxruntime.OrtSession;
-import ai.onnxruntime.TensorInfo;
+import io.vertx.core.Future;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -12,122 +9,102 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.model.data.ThrottlingMessage;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Paths;
-import java.util.AbstractMap;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 public class FilterServiceTest {
 
     @Mock
-    private OnnxModelRunner onnxModelRunnerMock;
+    private BatchingInferenceExecutor inferenceExecutor;
 
     @Mock
-    private OrtSession.Result results;
+    private OnnxModelRunner onnxModelRunner;
 
-    @Mock
-    private OnnxTensor onnxTensor;
-
-    @Mock
-    private TensorInfo tensorInfo;
-
-    @Mock
-    private OnnxValue onnxValue;
+    private FilterService target;
 
-    private final FilterService target = new FilterService();
+    @BeforeEach
+    public void setUp() {
+        target = new FilterService(inferenceExecutor);
+    }
 
     @Test
-    public void filterBiddersShouldReturnFilteredBiddersWhenValidThrottlingMessagesProvided()
-            throws OrtException, IOException {
+    public void filterBiddersShouldReturnFilteredBiddersWhenValidThrottlingMessagesProvided() {
         // given
         final List<ThrottlingMessage> throttlingMessages = createThrottlingMessages();
-        final Double threshold = 0.5;
-        final OnnxModelRunner onnxModelRunner = givenOnnxModelRunner();
+        given(inferenceExecutor.predictProbabilities(
+                same(onnxModelRunner),
+                argThat(rows -> rows.length == 3 && rows[0][1].equals("bidder1") && rows[2][2].equals("adUnit3"))))
+                .willReturn(Future.succeededFuture(new float[][]{{0.2f, 0.8f}, {0.6f, 0.4f}, {0.9f, 0.1f}}));
 
         // when
-        final Map<String, Map<String, Boolean>> impsBiddersFilterMap = target.filterBidders(
-                onnxModelRunner, throttlingMessages, threshold);
+        final Future<Map<String, Map<String, Boolean>>> result = target.filterBidders(
+                onnxModelRunner, throttlingMessages, 0.5);
 
         // then
-        assertThat(impsBiddersFilterMap).isNotNull();
-        assertThat(impsBiddersFilterMap.get("adUnit1").get("bidder1")).isTrue();
-        assertThat(impsBiddersFilterMap.get("adUnit2").get("bidder2")).isFalse();
-        assertThat(impsBiddersFilterMap.get("adUnit3").get("bidder3")).isFalse();
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.result()).containsOnly(
+                Map.entry("adUnit1", Map.of("bidder1", true)),
+                Map.entry("adUnit2", Map.of("bidder2", false)),
+                Map.entry("adUnit3", Map.of("bidder3", false)));
     }
 
     @Test
-    public void validateOnnxTensorShouldThrowPreBidExceptionWhenOnnxValueIsNotTensor() throws OrtException {
+    public void filterBiddersShouldFailWithPreBidExceptionWhenInferenceFails() {
         // given
-        final List<ThrottlingMessage> throttlingMessages = createThrottlingMessages();
-        final Double threshold = 0.5;
+        given(inferenceExecutor.predictProbabilities(any(), any()))
+                .willReturn(Future.failedFuture(new IllegalStateException("Exception during runModel")));
 
-        when(onnxModelRunnerMock.runModel(any(String[][].class))).thenReturn(results);
-        when(results.spliterator()).thenReturn(Arrays.asList(createInvalidOnnxItem()).spliterator());
+        // when
+        final Future<Map<String, Map<String, Boolean>>> result = target.filterBidders(
+                onnxModelRunner, createThrottlingMessages(), 0.5);
 
-        // when & then
-        assertThatThrownBy(() -> target.filterBidders(onnxModelRunnerMock, throttlingMessages, threshold))
+        // then
+        assertThat(result.failed()).isTrue();
+        assertThat(result.cause())
                 .isInstanceOf(PreBidException.class)
-                .hasMessageContaining("Expected OnnxTensor for 'probabilities', but found");
+                .hasMessageContaining("Exception during model inference");
     }
 
     @Test
-    public void filterBiddersShouldThrowPreBidExceptionWhenOrtExceptionOccurs() throws OrtException {
+    public void filterBiddersShouldPassPreBidExceptionOfInferenceAsIs() {
         // given
-        final List<ThrottlingMessage> throttlingMessages = createThrottlingMessages();
-        final Double threshold = 0.5;
+        given(inferenceExecutor.predictProbabilities(any(), any()))
+                .willReturn(Future.failedFuture(
+                        new PreBidException("Mismatch between tensor size and throttlingMessages size")));
 
-        when(onnxModelRunnerMock.runModel(any(String[][].class)))
-                .thenThrow(new OrtException("Exception during runModel"));
+        // when
+        final Future<Map<String, Map<String, Boolean>>> result = target.filterBidders(
+                onnxModelRunner, createThrottlingMessages(), 0.5);
 
-        // when & then
-        assertThatThrownBy(() -> target.filterBidders(onnxModelRunnerMock, throttlingMessages, threshold))
+        // then
+        assertThat(result.failed()).isTrue();
+        assertThat(result.cause())
                 .isInstanceOf(PreBidException.class)
-                .hasMessageContaining("Exception during model inference");
+                .hasMessage("Mismatch between tensor size and throttlingMessages size");
     }
 
     @Test
-    public void filterBiddersShouldThrowPreBidExceptionWhenThrottlingMessagesIsEmpty() {
-        // given
-        final List<ThrottlingMessage> throttlingMessages = Collections.emptyList();
-        final Double threshold = 0.5;
+    public void filterBiddersShouldFailWithPreBidExceptionWhenThrottlingMessagesIsEmpty() {
+        // when
+        final Future<Map<String, Map<String, Boolean>>> result = target.filterBidders(
+                onnxModelRunner, Collections.emptyList(), 0.5);
 
-        // when & then
-        assertThatThrownBy(() -> target.filterBidders(onnxModelRunnerMock, throttlingMessages, threshold))
+        // then
+        assertThat(result.failed()).isTrue();
+        assertThat(result.cause())
                 .isInstanceOf(PreBidException.class)
                 .hasMessageContaining("throttlingMessages cannot be null or empty");
-    }
-
-    @Test
-    public void filterBiddersShouldThrowPreBidExceptionWhenTensorSizeMismatchOccurs() throws OrtException {
-        // given
-        final List<ThrottlingMessage> throttlingMessages = createThrottlingMessages();
-        final Double threshold = 0.5;
-
-        when(onnxModelRunnerMock.runModel(any(String[][].class))).thenReturn(results);
-        when(results.spliterator()).thenReturn(Arrays.asList(createOnnxItem()).spliterator());
-        when(onnxTensor.getInfo()).thenReturn(tensorInfo);
-        when(tensorInfo.getShape()).thenReturn(new long[]{0});
-
-        // when & then
-        assertThatThrownBy(() -> target.filterBidders(onnxModelRunnerMock, throttlingMessages, threshold))
-                .isInstanceOf(PreBidException.class)
-                .hasMessageContaining("Mismatch between tensor size and throttlingMessages size");
-    }
-
-    private OnnxModelRunner givenOnnxModelRunner() throws OrtException, IOException {
-        final byte[] onnxModelBytes = Files.readAllBytes(Paths.get(
-                "src/test/resources/models_pbuid=test-pbuid.onnx"));
-        return new OnnxModelRunner(onnxModelBytes);
+        verifyNoInteractions(inferenceExecutor);
     }
 
     private List<ThrottlingMessage> createThrottlingMessages() {
@@ -166,12 +143,4 @@ public class FilterServiceTest {
 
         return Arrays.asList(throttlingMessage1, throttlingMessage2, throttlingMessage3);
     }
-
-    private Map.Entry<String, OnnxValue> createOnnxItem() {
-        return new AbstractMap.SimpleEntry<>("probabilities", onnxTensor);
-    }
-
-    private Map.Entry<String, OnnxValue> createInvalidOnnxItem() {
-        return new AbstractMap.SimpleEntry<>("probabilities", onnxValue);
-    }
 }
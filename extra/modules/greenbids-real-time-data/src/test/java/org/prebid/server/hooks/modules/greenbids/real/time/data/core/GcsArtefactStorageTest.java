@@ -0,0 +1,69 @@
+package org.prebid.server.hooks.modules.greenbids.real.time.data.core;
+
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.Bucket;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.exception.PreBidException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class GcsArtefactStorageTest {
+
+    private static final String GCS_BUCKET_NAME = "test_bucket";
+    private static final String ONNX_MODEL_PATH = "model.onnx";
+
+    @Mock
+    private Storage storage;
+
+    @Mock
+    private Bucket bucket;
+
+    @Mock
+    private Blob blob;
+
+    private GcsArtefactStorage target;
+
+    @BeforeEach
+    public void setUp() {
+        target = new GcsArtefactStorage(storage, GCS_BUCKET_NAME);
+    }
+
+    @Test
+    public void fetchShouldReturnBlobContent() {
+        // given
+        given(storage.get(GCS_BUCKET_NAME)).willReturn(bucket);
+        given(bucket.get(ONNX_MODEL_PATH)).willReturn(blob);
+        given(blob.getContent()).willReturn(new byte[]{1, 2, 3});
+
+        // when and then
+        assertThat(target.fetch(ONNX_MODEL_PATH)).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    public void fetchShouldFailWhenBucketNotFound() {
+        // when and then
+        assertThatThrownBy(() -> target.fetch(ONNX_MODEL_PATH))
+                .isInstanceOf(PreBidException.class)
+                .hasMessage("Bucket not found: test_bucket");
+    }
+
+    @Test
+    public void fetchShouldFailWhenStorageFails() {
+        // given
+        given(storage.get(GCS_BUCKET_NAME)).willThrow(new StorageException(500, "Storage Error"));
+
+        // when and then
+        assertThatThrownBy(() -> target.fetch(ONNX_MODEL_PATH))
+                .isInstanceOf(PreBidException.class)
+                .hasMessageStartingWith("Error accessing GCS artefact model.onnx");
+    }
+}
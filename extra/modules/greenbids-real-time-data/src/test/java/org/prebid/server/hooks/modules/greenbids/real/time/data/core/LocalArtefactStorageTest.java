@@ -0,0 +1,67 @@
+package org.prebid.server.hooks.modules.greenbids.real.time.data.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.prebid.server.exception.PreBidException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class LocalArtefactStorageTest {
+
+    @TempDir
+    private Path directory;
+
+    private LocalArtefactStorage target;
+
+    @BeforeEach
+    public void setUp() {
+        target = new LocalArtefactStorage(directory.toString());
+    }
+
+    @Test
+    public void fetchShouldReturnContentOfArtefactFile() throws IOException {
+        // given
+        Files.write(directory.resolve("model.onnx"), new byte[]{1, 2, 3});
+
+        // when and then
+        assertThat(target.fetch("model.onnx")).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    public void fetchShouldFailWhenArtefactFileIsAbsent() {
+        // when and then
+        assertThatThrownBy(() -> target.fetch("model.onnx"))
+                .isInstanceOf(PreBidException.class)
+                .hasMessageStartingWith("Error reading local artefact model.onnx");
+    }
+
+    @Test
+    public void storeShouldReplaceArtefactFile() throws IOException {
+        // given
+        Files.write(directory.resolve("model.onnx"), new byte[]{1, 2, 3});
+
+        // when
+        target.store("model.onnx", new byte[]{4, 5});
+
+        // then
+        assertThat(target.fetch("model.onnx")).containsExactly(4, 5);
+        assertThat(directory.resolve("model.onnx.tmp")).doesNotExist();
+    }
+
+    @Test
+    public void fetchAndStoreShouldRejectPathOutsideOfDirectory() {
+        // when and then
+        assertThatThrownBy(() -> target.fetch("../model.onnx"))
+                .isInstanceOf(PreBidException.class)
+                .hasMessage("Invalid artefact path: ../model.onnx");
+        assertThatThrownBy(() -> target.store("models/../../model.onnx", new byte[]{1}))
+                .isInstanceOf(PreBidException.class)
+                .hasMessage("Invalid artefact path: models/../../model.onnx");
+    }
+}
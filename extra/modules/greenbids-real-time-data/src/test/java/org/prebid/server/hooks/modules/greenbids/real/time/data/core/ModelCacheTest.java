@@ -2,190 +2,272 @@ package org.prebid.server.hooks.modules.greenbids.real.time.data.core;
 
 import ai.onnxruntime.OrtException;
 import com.github.benmanes.caffeine.cache.Cache;
-import com.google.cloud.storage.Bucket;
-import com.google.cloud.storage.Storage;
-import com.google.cloud.storage.StorageException;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
-import com.google.cloud.storage.Blob;
 import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.hooks.modules.greenbids.real.time.data.core.ArtefactCache.CachedArtefact;
 
-import java.lang.reflect.Field;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 public class ModelCacheTest {
 
-    private static final String GCS_BUCKET_NAME = "test_bucket";
     private static final String MODEL_CACHE_KEY_PREFIX = "onnxModelRunner_";
     private static final String PBUUID = "test-pbuid";
     private static final String ONNX_MODEL_PATH = "model.onnx";
+    private static final long REFRESH_INTERVAL_MS = 60000L;
+    private static final Instant NOW = Instant.parse("2024-10-01T10:00:00Z");
 
     @Mock
-    private Cache<String, OnnxModelRunner> cache;
-
-    @Mock(strictness = LENIENT)
-    private Storage storage;
+    private ArtefactStorage storage;
 
-    @Mock(strictness = LENIENT)
-    private Bucket bucket;
+    @Mock
+    private LocalArtefactStorage diskCache;
 
     @Mock(strictness = LENIENT)
-    private Blob blob;
+    private Vertx vertx;
 
     @Mock
     private OnnxModelRunner onnxModelRunner;
 
-    @Mock(strictness = LENIENT)
-    private OnnxModelRunnerFactory onnxModelRunnerFactory;
+    @Mock
+    private OnnxModelRunner staleOnnxModelRunner;
 
     @Mock
-    private ModelCache target;
+    private OnnxModelRunnerFactory onnxModelRunnerFactory;
 
-    private Vertx vertx;
+    private final List<Runnable> pendingBlockingCalls = new ArrayList<>();
+
+    private Cache<String, CachedArtefact<OnnxModelRunner>> cache;
+
+    private Clock clock;
+
+    private ModelCache target;
 
     @BeforeEach
     public void setUp() {
-        vertx = Vertx.vertx();
-        target = new ModelCache(
-                storage, GCS_BUCKET_NAME, cache, MODEL_CACHE_KEY_PREFIX, vertx, onnxModelRunnerFactory);
+        given(vertx.executeBlocking(any(Callable.class), anyBoolean())).willAnswer(invocation -> {
+            final Promise<Object> promise = Promise.promise();
+            final Callable<?> blockingCode = invocation.getArgument(0);
+            pendingBlockingCalls.add(() -> {
+                try {
+                    promise.complete(blockingCode.call());
+                } catch (Exception e) {
+                    promise.fail(e);
+                }
+            });
+            return promise.future();
+        });
+
+        cache = Caffeine.newBuilder().build();
+        clock = Clock.fixed(NOW, ZoneOffset.UTC);
+        target = givenTarget(null);
     }
 
     @Test
     public void getShouldReturnModelFromCacheWhenPresent() {
         // given
-        final String cacheKey = MODEL_CACHE_KEY_PREFIX + PBUUID;
-        when(cache.getIfPresent(eq(cacheKey))).thenReturn(onnxModelRunner);
+        cache.put(MODEL_CACHE_KEY_PREFIX + PBUUID, CachedArtefact.of(onnxModelRunner, NOW.toEpochMilli() + 1));
 
         // when
         final Future<OnnxModelRunner> future = target.get(ONNX_MODEL_PATH, PBUUID);
 
         // then
-        assertThat(future.succeeded()).isTrue();
-        assertThat(future.result()).isEqualTo(onnxModelRunner);
-        verify(cache).getIfPresent(eq(cacheKey));
+        assertThat(future.result()).isSameAs(onnxModelRunner);
+        verifyNoInteractions(vertx, storage);
     }
 
     @Test
-    public void getShouldSkipFetchingWhenFetchingInProgress() throws NoSuchFieldException, IllegalAccessException {
+    public void getShouldFetchModelAndCacheItWhenNotInCache() throws OrtException {
         // given
-        final String cacheKey = MODEL_CACHE_KEY_PREFIX + PBUUID;
+        final byte[] bytes = new byte[]{1, 2, 3};
+        given(storage.fetch(ONNX_MODEL_PATH)).willReturn(bytes);
+        given(onnxModelRunnerFactory.create(bytes)).willReturn(onnxModelRunner);
+
+        // when
+        final Future<OnnxModelRunner> future = target.get(ONNX_MODEL_PATH, PBUUID);
+        completeBlockingCalls();
+
+        // then
+        assertThat(future.result()).isSameAs(onnxModelRunner);
+        assertThat(cache.getIfPresent(MODEL_CACHE_KEY_PREFIX + PBUUID))
+                .isEqualTo(CachedArtefact.of(onnxModelRunner, NOW.toEpochMilli() + REFRESH_INTERVAL_MS));
+    }
+
+    @Test
+    public void getShouldFetchModelOnceForConcurrentRequestsOfTheSamePartner() throws OrtException {
+        // given
+        final byte[] bytes = new byte[]{1, 2, 3};
+        given(storage.fetch(ONNX_MODEL_PATH)).willReturn(bytes);
+        given(onnxModelRunnerFactory.create(bytes)).willReturn(onnxModelRunner);
 
-        final ModelCache spyModelCache = spy(target);
-        final AtomicBoolean mockFetchingState = mock(AtomicBoolean.class);
+        // when
+        final Future<OnnxModelRunner> first = target.get(ONNX_MODEL_PATH, PBUUID);
+        final Future<OnnxModelRunner> second = target.get(ONNX_MODEL_PATH, PBUUID);
+        completeBlockingCalls();
 
-        when(cache.getIfPresent(eq(cacheKey))).thenReturn(null);
-        when(mockFetchingState.compareAndSet(false, true)).thenReturn(false);
-        final Field isFetchingField = ModelCache.class.getDeclaredField("isFetching");
-        isFetchingField.setAccessible(true);
-        isFetchingField.set(spyModelCache, mockFetchingState);
+        // then
+        assertThat(first.result()).isSameAs(onnxModelRunner);
+        assertThat(second.result()).isSameAs(onnxModelRunner);
+        verify(storage).fetch(ONNX_MODEL_PATH);
+    }
 
+    @Test
+    public void getShouldNotWaitForModelOfAnotherPartnerBeingFetched() {
         // when
-        final Future<OnnxModelRunner> result = spyModelCache.get(ONNX_MODEL_PATH, PBUUID);
+        final Future<OnnxModelRunner> first = target.get(ONNX_MODEL_PATH, PBUUID);
+        final Future<OnnxModelRunner> second = target.get("another-model.onnx", "another-pbuid");
 
         // then
-        assertThat(result.failed()).isTrue();
-        assertThat(result.cause().getMessage()).isEqualTo(
-                "ModelRunner fetching in progress. Skip current request");
+        assertThat(first).isNotSameAs(second);
+        verify(vertx, times(2)).executeBlocking(any(Callable.class), anyBoolean());
     }
 
     @Test
-    public void getShouldFetchModelWhenNotInCache() throws OrtException {
+    public void getShouldReturnStaleModelAndRefreshItInBackgroundWhenRefreshIsDue() throws OrtException {
         // given
-        final String cacheKey = MODEL_CACHE_KEY_PREFIX + PBUUID;
+        cache.put(MODEL_CACHE_KEY_PREFIX + PBUUID, CachedArtefact.of(staleOnnxModelRunner, NOW.toEpochMilli()));
+
         final byte[] bytes = new byte[]{1, 2, 3};
+        given(storage.fetch(ONNX_MODEL_PATH)).willReturn(bytes);
+        given(onnxModelRunnerFactory.create(bytes)).willReturn(onnxModelRunner);
 
-        when(cache.getIfPresent(eq(cacheKey))).thenReturn(null);
-        when(storage.get(GCS_BUCKET_NAME)).thenReturn(bucket);
-        when(bucket.get(ONNX_MODEL_PATH)).thenReturn(blob);
-        when(blob.getContent()).thenReturn(bytes);
-        when(onnxModelRunnerFactory.create(bytes)).thenReturn(onnxModelRunner);
+        // when
+        final Future<OnnxModelRunner> first = target.get(ONNX_MODEL_PATH, PBUUID);
+        final Future<OnnxModelRunner> second = target.get(ONNX_MODEL_PATH, PBUUID);
+        completeBlockingCalls();
+
+        // then
+        assertThat(first.result()).isSameAs(staleOnnxModelRunner);
+        assertThat(second.result()).isSameAs(staleOnnxModelRunner);
+        assertThat(target.get(ONNX_MODEL_PATH, PBUUID).result()).isSameAs(onnxModelRunner);
+        verify(storage).fetch(ONNX_MODEL_PATH);
+    }
+
+    @Test
+    public void getShouldKeepStaleModelUntilNextRefreshWhenRefreshFails() {
+        // given
+        cache.put(MODEL_CACHE_KEY_PREFIX + PBUUID, CachedArtefact.of(staleOnnxModelRunner, NOW.toEpochMilli()));
+        given(storage.fetch(ONNX_MODEL_PATH)).willThrow(new PreBidException("Bucket not found"));
 
         // when
         final Future<OnnxModelRunner> future = target.get(ONNX_MODEL_PATH, PBUUID);
+        completeBlockingCalls();
 
         // then
-        future.onComplete(ar -> {
-            assertThat(ar.succeeded()).isTrue();
-            assertThat(ar.result()).isEqualTo(onnxModelRunner);
-            verify(cache).put(eq(cacheKey), eq(onnxModelRunner));
-        });
+        assertThat(future.result()).isSameAs(staleOnnxModelRunner);
+        assertThat(cache.getIfPresent(MODEL_CACHE_KEY_PREFIX + PBUUID))
+                .isEqualTo(CachedArtefact.of(staleOnnxModelRunner, NOW.toEpochMilli() + REFRESH_INTERVAL_MS));
     }
 
     @Test
-    public void getShouldThrowExceptionWhenStorageFails() {
+    public void getShouldLoadModelFromDiskCacheAndRefreshItOnNextRequest() throws OrtException {
         // given
-        final String cacheKey = MODEL_CACHE_KEY_PREFIX + PBUUID;
+        target = givenTarget(diskCache);
 
-        when(cache.getIfPresent(eq(cacheKey))).thenReturn(null);
-        when(storage.get(GCS_BUCKET_NAME)).thenThrow(new StorageException(500, "Storage Error"));
+        final byte[] diskBytes = new byte[]{1};
+        given(diskCache.fetch(ONNX_MODEL_PATH)).willReturn(diskBytes);
+        given(onnxModelRunnerFactory.create(diskBytes)).willReturn(staleOnnxModelRunner);
 
         // when
         final Future<OnnxModelRunner> future = target.get(ONNX_MODEL_PATH, PBUUID);
+        completeBlockingCalls();
 
         // then
-        future.onComplete(ar -> {
-            assertThat(ar.cause()).isInstanceOf(PreBidException.class);
-            assertThat(ar.cause().getMessage()).contains("Error accessing GCS artefact for model");
-        });
+        assertThat(future.result()).isSameAs(staleOnnxModelRunner);
+        assertThat(cache.getIfPresent(MODEL_CACHE_KEY_PREFIX + PBUUID))
+                .isEqualTo(CachedArtefact.of(staleOnnxModelRunner, NOW.toEpochMilli()));
+        verifyNoInteractions(storage);
     }
 
     @Test
-    public void getShouldThrowExceptionWhenOnnxModelFails() throws OrtException {
+    public void getShouldFetchModelAndStoreItToDiskCacheWhenDiskCacheMisses() throws OrtException {
         // given
-        final String cacheKey = MODEL_CACHE_KEY_PREFIX + PBUUID;
-        final byte[] bytes = new byte[]{1, 2, 3};
+        target = givenTarget(diskCache);
 
-        when(cache.getIfPresent(eq(cacheKey))).thenReturn(null);
-        when(storage.get(GCS_BUCKET_NAME)).thenReturn(bucket);
-        when(bucket.get(ONNX_MODEL_PATH)).thenReturn(blob);
-        when(blob.getContent()).thenReturn(bytes);
-        when(onnxModelRunnerFactory.create(bytes)).thenThrow(
-                new OrtException("Failed to convert blob to ONNX model"));
+        final byte[] bytes = new byte[]{1, 2, 3};
+        given(diskCache.fetch(ONNX_MODEL_PATH)).willThrow(new PreBidException("Error reading local artefact"));
+        given(storage.fetch(ONNX_MODEL_PATH)).willReturn(bytes);
+        given(onnxModelRunnerFactory.create(bytes)).willReturn(onnxModelRunner);
 
         // when
         final Future<OnnxModelRunner> future = target.get(ONNX_MODEL_PATH, PBUUID);
+        completeBlockingCalls();
 
         // then
-        future.onComplete(ar -> {
-            assertThat(ar.failed()).isTrue();
-            assertThat(ar.cause()).isInstanceOf(PreBidException.class);
-            assertThat(ar.cause().getMessage()).contains("Failed to convert blob to ONNX model");
-        });
+        assertThat(future.result()).isSameAs(onnxModelRunner);
+        verify(diskCache).store(ONNX_MODEL_PATH, bytes);
     }
 
     @Test
-    public void getShouldThrowExceptionWhenBucketNotFound() {
+    public void getShouldFailWhenStorageFails() {
         // given
-        final String cacheKey = MODEL_CACHE_KEY_PREFIX + PBUUID;
+        given(storage.fetch(ONNX_MODEL_PATH)).willThrow(new PreBidException("Error accessing GCS artefact"));
+
+        // when
+        final Future<OnnxModelRunner> future = target.get(ONNX_MODEL_PATH, PBUUID);
+        completeBlockingCalls();
 
-        when(cache.getIfPresent(eq(cacheKey))).thenReturn(null);
-        when(storage.get(GCS_BUCKET_NAME)).thenReturn(bucket);
-        when(bucket.get(ONNX_MODEL_PATH)).thenReturn(blob);
-        when(blob.getContent()).thenThrow(new PreBidException("Bucket not found"));
+        // then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause()).isInstanceOf(PreBidException.class).hasMessage("Error accessing GCS artefact");
+        assertThat(cache.getIfPresent(MODEL_CACHE_KEY_PREFIX + PBUUID)).isNull();
+    }
+
+    @Test
+    public void getShouldFailWhenOnnxModelFails() throws OrtException {
+        // given
+        final byte[] bytes = new byte[]{1, 2, 3};
+        given(storage.fetch(ONNX_MODEL_PATH)).willReturn(bytes);
+        given(onnxModelRunnerFactory.create(bytes)).willThrow(new OrtException("Invalid model"));
 
         // when
         final Future<OnnxModelRunner> future = target.get(ONNX_MODEL_PATH, PBUUID);
+        completeBlockingCalls();
 
         // then
-        future.onComplete(ar -> {
-            assertThat(ar.failed()).isTrue();
-            assertThat(ar.cause()).isInstanceOf(PreBidException.class);
-            assertThat(ar.cause().getMessage()).contains("Bucket not found");
-        });
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause())
+                .isInstanceOf(PreBidException.class)
+                .hasMessage("Failed to convert blob to ONNX model");
     }
 
+    private ModelCache givenTarget(LocalArtefactStorage diskCache) {
+        return new ModelCache(
+                storage,
+                diskCache,
+                cache,
+                MODEL_CACHE_KEY_PREFIX,
+                REFRESH_INTERVAL_MS,
+                vertx,
+                clock,
+                onnxModelRunnerFactory);
+    }
+
+    private void completeBlockingCalls() {
+        while (!pendingBlockingCalls.isEmpty()) {
+            pendingBlockingCalls.removeFirst().run();
+        }
+    }
 }
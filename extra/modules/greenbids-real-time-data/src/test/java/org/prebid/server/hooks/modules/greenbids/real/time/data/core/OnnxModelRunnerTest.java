@@ -68,6 +68,6 @@ public class OnnxModelRunnerTest {
     private OnnxModelRunner givenOnnxModelRunner() throws OrtException, IOException {
         final byte[] onnxModelBytes = Files.readAllBytes(Paths.get(
                 "src/test/resources/models_pbuid=test-pbuid.onnx"));
-        return new OnnxModelRunner(onnxModelBytes);
+        return new OnnxModelRunner(onnxModelBytes, new OrtSession.SessionOptions());
     }
 }
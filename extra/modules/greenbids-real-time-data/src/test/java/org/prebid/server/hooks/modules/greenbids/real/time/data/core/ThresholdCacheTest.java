@@ -1,10 +1,7 @@
 package org.prebid.server.hooks.modules.greenbids.real.time.data.core;
 
 import com.github.benmanes.caffeine.cache.Cache;
-import com.google.cloud.storage.Blob;
-import com.google.cloud.storage.Bucket;
-import com.google.cloud.storage.Storage;
-import com.google.cloud.storage.StorageException;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,186 +10,132 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.hooks.modules.greenbids.real.time.data.core.ArtefactCache.CachedArtefact;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.model.filter.ThrottlingThresholds;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.util.TestBidRequestProvider;
 
 import java.io.IOException;
-import java.lang.reflect.Field;
 import java.nio.charset.StandardCharsets;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.Callable;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.spy;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 public class ThresholdCacheTest {
 
-    private static final String GCS_BUCKET_NAME = "test_bucket";
-    private static final String THRESHOLD_CACHE_KEY_PREFIX = "onnxModelRunner_";
+    private static final String THRESHOLD_CACHE_KEY_PREFIX = "throttlingThresholds_";
     private static final String PBUUID = "test-pbuid";
     private static final String THRESHOLDS_PATH = "thresholds.json";
+    private static final long REFRESH_INTERVAL_MS = 60000L;
+    private static final Instant NOW = Instant.parse("2024-10-01T10:00:00Z");
 
     @Mock
-    private Cache<String, ThrottlingThresholds> cache;
+    private ArtefactStorage storage;
 
     @Mock(strictness = LENIENT)
-    private Storage storage;
-
-    @Mock(strictness = LENIENT)
-    private Bucket bucket;
-
-    @Mock(strictness = LENIENT)
-    private Blob blob;
+    private Vertx vertx;
 
     @Mock
     private ThrottlingThresholds throttlingThresholds;
 
-    @Mock(strictness = LENIENT)
+    @Mock
     private ThrottlingThresholdsFactory throttlingThresholdsFactory;
 
-    private Vertx vertx;
+    private Cache<String, CachedArtefact<ThrottlingThresholds>> cache;
 
     private ThresholdCache target;
 
     @BeforeEach
     public void setUp() {
-        vertx = Vertx.vertx();
+        given(vertx.executeBlocking(any(Callable.class), anyBoolean())).willAnswer(invocation -> {
+            try {
+                return Future.succeededFuture(invocation.<Callable<?>>getArgument(0).call());
+            } catch (Exception e) {
+                return Future.failedFuture(e);
+            }
+        });
+
+        cache = Caffeine.newBuilder().build();
         target = new ThresholdCache(
                 storage,
-                GCS_BUCKET_NAME,
+                null,
                 TestBidRequestProvider.MAPPER,
                 cache,
                 THRESHOLD_CACHE_KEY_PREFIX,
+                REFRESH_INTERVAL_MS,
                 vertx,
+                Clock.fixed(NOW, ZoneOffset.UTC),
                 throttlingThresholdsFactory);
     }
 
     @Test
     public void getShouldReturnThresholdsFromCacheWhenPresent() {
         // given
-        final String cacheKey = THRESHOLD_CACHE_KEY_PREFIX + PBUUID;
-        when(cache.getIfPresent(eq(cacheKey))).thenReturn(throttlingThresholds);
+        cache.put(
+                THRESHOLD_CACHE_KEY_PREFIX + PBUUID,
+                CachedArtefact.of(throttlingThresholds, NOW.toEpochMilli() + 1));
 
         // when
         final Future<ThrottlingThresholds> future = target.get(THRESHOLDS_PATH, PBUUID);
 
         // then
-        assertThat(future.succeeded()).isTrue();
-        assertThat(future.result()).isEqualTo(throttlingThresholds);
-        verify(cache).getIfPresent(eq(cacheKey));
+        assertThat(future.result()).isSameAs(throttlingThresholds);
+        verifyNoInteractions(vertx, storage);
     }
 
     @Test
-    public void getShouldSkipFetchingWhenFetchingInProgress() throws NoSuchFieldException, IllegalAccessException {
+    public void getShouldFetchThresholdsAndCacheThemWhenNotInCache() throws IOException {
         // given
-        final String cacheKey = THRESHOLD_CACHE_KEY_PREFIX + PBUUID;
-
-        final ThresholdCache spyThresholdCache = spy(target);
-        final AtomicBoolean mockFetchingState = mock(AtomicBoolean.class);
-
-        when(cache.getIfPresent(eq(cacheKey))).thenReturn(null);
-        when(mockFetchingState.compareAndSet(false, true)).thenReturn(false);
-
-        final Field isFetchingField = ThresholdCache.class.getDeclaredField("isFetching");
-        isFetchingField.setAccessible(true);
-        isFetchingField.set(spyThresholdCache, mockFetchingState);
-
-        // when
-        final Future<ThrottlingThresholds> result = spyThresholdCache.get(THRESHOLDS_PATH, PBUUID);
-
-        // then
-        assertThat(result.failed()).isTrue();
-        assertThat(result.cause().getMessage()).isEqualTo(
-                "ThrottlingThresholds fetching in progress. Skip current request");
-    }
-
-    @Test
-    public void getShouldFetchThresholdsWhenNotInCache() throws IOException {
-        // given
-        final String cacheKey = THRESHOLD_CACHE_KEY_PREFIX + PBUUID;
-        final String jsonContent = "test_json_content";
-        final byte[] bytes = jsonContent.getBytes(StandardCharsets.UTF_8);
-
-        when(cache.getIfPresent(eq(cacheKey))).thenReturn(null);
-        when(storage.get(GCS_BUCKET_NAME)).thenReturn(bucket);
-        when(bucket.get(THRESHOLDS_PATH)).thenReturn(blob);
-        when(blob.getContent()).thenReturn(bytes);
-        when(throttlingThresholdsFactory.create(bytes, TestBidRequestProvider.MAPPER))
-                .thenReturn(throttlingThresholds);
+        final byte[] bytes = "test_json_content".getBytes(StandardCharsets.UTF_8);
+        given(storage.fetch(THRESHOLDS_PATH)).willReturn(bytes);
+        given(throttlingThresholdsFactory.create(bytes, TestBidRequestProvider.MAPPER))
+                .willReturn(throttlingThresholds);
 
         // when
         final Future<ThrottlingThresholds> future = target.get(THRESHOLDS_PATH, PBUUID);
 
         // then
-        future.onComplete(ar -> {
-            assertThat(ar.succeeded()).isTrue();
-            assertThat(ar.result()).isEqualTo(throttlingThresholds);
-            verify(cache).put(eq(cacheKey), eq(throttlingThresholds));
-        });
+        assertThat(future.result()).isSameAs(throttlingThresholds);
+        assertThat(cache.getIfPresent(THRESHOLD_CACHE_KEY_PREFIX + PBUUID))
+                .isEqualTo(CachedArtefact.of(throttlingThresholds, NOW.toEpochMilli() + REFRESH_INTERVAL_MS));
     }
 
     @Test
-    public void getShouldThrowExceptionWhenStorageFails() {
+    public void getShouldFailWhenStorageFails() {
         // given
-        final String cacheKey = THRESHOLD_CACHE_KEY_PREFIX + PBUUID;
-        when(cache.getIfPresent(eq(cacheKey))).thenReturn(null);
-        when(storage.get(GCS_BUCKET_NAME)).thenThrow(new StorageException(500, "Storage Error"));
+        given(storage.fetch(THRESHOLDS_PATH)).willThrow(new PreBidException("Error accessing GCS artefact"));
 
         // when
         final Future<ThrottlingThresholds> future = target.get(THRESHOLDS_PATH, PBUUID);
 
         // then
-        future.onComplete(ar -> {
-            assertThat(ar.cause()).isInstanceOf(PreBidException.class);
-            assertThat(ar.cause().getMessage()).contains("Error accessing GCS artefact for threshold");
-        });
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause()).isInstanceOf(PreBidException.class).hasMessage("Error accessing GCS artefact");
     }
 
     @Test
-    public void getShouldThrowExceptionWhenLoadingJsonFails() throws IOException {
+    public void getShouldFailWhenLoadingJsonFails() throws IOException {
         // given
-        final String cacheKey = THRESHOLD_CACHE_KEY_PREFIX + PBUUID;
-        final String jsonContent = "test_json_content";
-        final byte[] bytes = jsonContent.getBytes(StandardCharsets.UTF_8);
-        when(cache.getIfPresent(eq(cacheKey))).thenReturn(null);
-        when(storage.get(GCS_BUCKET_NAME)).thenReturn(bucket);
-        when(bucket.get(THRESHOLDS_PATH)).thenReturn(blob);
-        when(blob.getContent()).thenReturn(bytes);
-        when(throttlingThresholdsFactory.create(bytes, TestBidRequestProvider.MAPPER)).thenThrow(
-                new IOException("Failed to load throttling thresholds json"));
+        final byte[] bytes = "test_json_content".getBytes(StandardCharsets.UTF_8);
+        given(storage.fetch(THRESHOLDS_PATH)).willReturn(bytes);
+        given(throttlingThresholdsFactory.create(bytes, TestBidRequestProvider.MAPPER))
+                .willThrow(new IOException("Invalid json"));
 
         // when
         final Future<ThrottlingThresholds> future = target.get(THRESHOLDS_PATH, PBUUID);
 
         // then
-        future.onComplete(ar -> {
-            assertThat(ar.cause()).isInstanceOf(PreBidException.class);
-            assertThat(ar.cause().getMessage()).contains("Failed to load throttling thresholds json");
-        });
-    }
-
-    @Test
-    public void getShouldThrowExceptionWhenBucketNotFound() {
-        // given
-        final String cacheKey = THRESHOLD_CACHE_KEY_PREFIX + PBUUID;
-        when(cache.getIfPresent(eq(cacheKey))).thenReturn(null);
-        when(storage.get(GCS_BUCKET_NAME)).thenReturn(bucket);
-        when(bucket.get(THRESHOLDS_PATH)).thenReturn(blob);
-        when(blob.getContent()).thenThrow(new PreBidException("Bucket not found"));
-
-        // when
-        final Future<ThrottlingThresholds> future = target.get(THRESHOLDS_PATH, PBUUID);
-
-        // then
-        future.onComplete(ar -> {
-            assertThat(ar.failed()).isTrue();
-            assertThat(ar.cause()).isInstanceOf(PreBidException.class);
-            assertThat(ar.cause().getMessage()).contains("Bucket not found");
-        });
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause())
+                .isInstanceOf(PreBidException.class)
+                .hasMessage("Failed to load throttling thresholds json");
     }
 }
@@ -1,12 +1,11 @@
 package org.prebid.server.hooks.modules.greenbids.real.time.data.v1;
 
 import ai.onnxruntime.OrtException;
+import ai.onnxruntime.OrtSession;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import com.github.benmanes.caffeine.cache.Cache;
-import com.google.cloud.storage.Storage;
-import com.google.cloud.storage.StorageOptions;
 import com.iab.openrtb.request.Banner;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Device;
@@ -17,6 +16,7 @@ import com.maxmind.geoip2.model.CountryResponse;
 import com.maxmind.geoip2.record.Country;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -32,6 +32,9 @@ import org.prebid.server.hooks.execution.v1.analytics.ResultImpl;
 import org.prebid.server.hooks.execution.v1.analytics.TagsImpl;
 import org.prebid.server.hooks.execution.v1.auction.AuctionRequestPayloadImpl;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.config.DatabaseReaderFactory;
+import org.prebid.server.hooks.modules.greenbids.real.time.data.core.ArtefactCache.CachedArtefact;
+import org.prebid.server.hooks.modules.greenbids.real.time.data.core.ArtefactStorage;
+import org.prebid.server.hooks.modules.greenbids.real.time.data.core.BatchingInferenceExecutor;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.FilterService;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.GreenbidsInferenceDataService;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.GreenbidsInvocationService;
@@ -51,6 +54,7 @@ import org.prebid.server.hooks.v1.analytics.Result;
 import org.prebid.server.hooks.v1.analytics.Tags;
 import org.prebid.server.hooks.v1.auction.AuctionInvocationContext;
 import org.prebid.server.hooks.v1.auction.AuctionRequestPayload;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.HttpRequestContext;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.AccountHooksConfiguration;
@@ -59,14 +63,17 @@ import java.io.IOException;
 import java.net.InetAddress;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.time.Clock;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 import java.util.function.UnaryOperator;
 
 import static java.util.function.UnaryOperator.identity;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mock.Strictness.LENIENT;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -83,10 +90,13 @@ import static org.prebid.server.hooks.modules.greenbids.real.time.data.util.Test
 public class GreenbidsRealTimeDataProcessedAuctionRequestHookTest {
 
     @Mock
-    private Cache<String, OnnxModelRunner> modelCacheWithExpiration;
+    private Cache<String, CachedArtefact<OnnxModelRunner>> modelCacheWithExpiration;
 
     @Mock
-    private Cache<String, ThrottlingThresholds> thresholdsCacheWithExpiration;
+    private Cache<String, CachedArtefact<ThrottlingThresholds>> thresholdsCacheWithExpiration;
+
+    @Mock
+    private ArtefactStorage artefactStorage;
 
     @Mock(strictness = LENIENT)
     private DatabaseReaderFactory databaseReaderFactory;
@@ -103,35 +113,47 @@ public class GreenbidsRealTimeDataProcessedAuctionRequestHookTest {
     @Mock
     private CountryCodeMapper countryCodeMapper;
 
+    @Mock(strictness = LENIENT)
+    private WorkerExecutor workerExecutor;
+
+    @Mock
+    private Metrics metrics;
+
     private GreenbidsRealTimeDataProcessedAuctionRequestHook target;
 
     @BeforeEach
     public void setUp() throws IOException, GeoIp2Exception {
-        final Storage storage = StorageOptions.newBuilder()
-                .setProjectId("test_project").build().getService();
-
         when(country.getName()).thenReturn("United States");
         when(countryResponse.getCountry()).thenReturn(country);
         when(databaseReader.country(any(InetAddress.class))).thenReturn(countryResponse);
         when(databaseReaderFactory.getDatabaseReader()).thenReturn(databaseReader);
 
-        final FilterService filterService = new FilterService();
-        final OnnxModelRunnerFactory onnxModelRunnerFactory = new OnnxModelRunnerFactory();
+        when(workerExecutor.executeBlocking(any(Callable.class), anyBoolean())).thenAnswer(invocation ->
+                Future.succeededFuture(invocation.<Callable<?>>getArgument(0).call()));
+
+        final FilterService filterService = new FilterService(
+                new BatchingInferenceExecutor(0L, 512, workerExecutor, Vertx.vertx(), metrics));
+        final OnnxModelRunnerFactory onnxModelRunnerFactory = new OnnxModelRunnerFactory(
+                1, OrtSession.SessionOptions.OptLevel.ALL_OPT);
         final ThrottlingThresholdsFactory throttlingThresholdsFactory = new ThrottlingThresholdsFactory();
         final ModelCache modelCache = new ModelCache(
-                storage,
-                "test_bucket",
+                artefactStorage,
+                null,
                 modelCacheWithExpiration,
                 "onnxModelRunner_",
+                60000L,
                 Vertx.vertx(),
+                Clock.systemUTC(),
                 onnxModelRunnerFactory);
         final ThresholdCache thresholdCache = new ThresholdCache(
-                storage,
-                "test_bucket",
+                artefactStorage,
+                null,
                 TestBidRequestProvider.MAPPER,
                 thresholdsCacheWithExpiration,
                 "throttlingThresholds_",
+                60000L,
                 Vertx.vertx(),
+                Clock.systemUTC(),
                 throttlingThresholdsFactory);
         final OnnxModelRunnerWithThresholds onnxModelRunnerWithThresholds = new OnnxModelRunnerWithThresholds(
                 modelCache,
@@ -172,9 +194,9 @@ public class GreenbidsRealTimeDataProcessedAuctionRequestHookTest {
                 auctionContext, explorationRate);
         when(invocationContext.auctionContext()).thenReturn(auctionContext);
         when(modelCacheWithExpiration.getIfPresent("onnxModelRunner_test-pbuid"))
-                .thenReturn(givenOnnxModelRunner());
+                .thenReturn(CachedArtefact.of(givenOnnxModelRunner(), Long.MAX_VALUE));
         when(thresholdsCacheWithExpiration.getIfPresent("throttlingThresholds_test-pbuid"))
-                .thenReturn(givenThrottlingThresholds());
+                .thenReturn(CachedArtefact.of(givenThrottlingThresholds(), Long.MAX_VALUE));
 
         final BidRequest expectedBidRequest = expectedUpdatedBidRequest(
                 request -> request, device, true);
@@ -234,9 +256,9 @@ public class GreenbidsRealTimeDataProcessedAuctionRequestHookTest {
                 auctionContext, explorationRate);
         when(invocationContext.auctionContext()).thenReturn(auctionContext);
         when(modelCacheWithExpiration.getIfPresent("onnxModelRunner_test-pbuid"))
-                .thenReturn(givenOnnxModelRunner());
+                .thenReturn(CachedArtefact.of(givenOnnxModelRunner(), Long.MAX_VALUE));
         when(thresholdsCacheWithExpiration.getIfPresent("throttlingThresholds_test-pbuid"))
-                .thenReturn(givenThrottlingThresholds());
+                .thenReturn(CachedArtefact.of(givenThrottlingThresholds(), Long.MAX_VALUE));
 
         final AnalyticsResult expectedAnalyticsResult = expectedAnalyticsResult(true, true);
 
@@ -288,9 +310,9 @@ public class GreenbidsRealTimeDataProcessedAuctionRequestHookTest {
                 auctionContext, explorationRate);
         when(invocationContext.auctionContext()).thenReturn(auctionContext);
         when(modelCacheWithExpiration.getIfPresent("onnxModelRunner_test-pbuid"))
-                .thenReturn(givenOnnxModelRunner());
+                .thenReturn(CachedArtefact.of(givenOnnxModelRunner(), Long.MAX_VALUE));
         when(thresholdsCacheWithExpiration.getIfPresent("throttlingThresholds_test-pbuid"))
-                .thenReturn(givenThrottlingThresholds());
+                .thenReturn(CachedArtefact.of(givenThrottlingThresholds(), Long.MAX_VALUE));
 
         final BidRequest expectedBidRequest = expectedUpdatedBidRequest(
                 request -> request, device, false);
@@ -349,9 +371,9 @@ public class GreenbidsRealTimeDataProcessedAuctionRequestHookTest {
                 auctionContext, explorationRate);
         when(invocationContext.auctionContext()).thenReturn(auctionContext);
         when(modelCacheWithExpiration.getIfPresent("onnxModelRunner_test-pbuid"))
-                .thenReturn(givenOnnxModelRunner());
+                .thenReturn(CachedArtefact.of(givenOnnxModelRunner(), Long.MAX_VALUE));
         when(thresholdsCacheWithExpiration.getIfPresent("throttlingThresholds_test-pbuid"))
-                .thenReturn(givenThrottlingThresholds());
+                .thenReturn(CachedArtefact.of(givenThrottlingThresholds(), Long.MAX_VALUE));
 
         final BidRequest expectedBidRequest = expectedUpdatedBidRequest(
                 request -> request, device, false);
@@ -423,7 +445,7 @@ public class GreenbidsRealTimeDataProcessedAuctionRequestHookTest {
     private OnnxModelRunner givenOnnxModelRunner() throws OrtException, IOException {
         final byte[] onnxModelBytes = Files.readAllBytes(Paths.get(
                 "src/test/resources/models_pbuid=test-pbuid.onnx"));
-        return new OnnxModelRunner(onnxModelBytes);
+        return new OnnxModelRunner(onnxModelBytes, new OrtSession.SessionOptions());
     }
 
     private ThrottlingThresholds givenThrottlingThresholds() throws IOException {
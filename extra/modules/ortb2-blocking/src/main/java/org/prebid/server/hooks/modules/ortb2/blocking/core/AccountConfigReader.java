@@ -1,87 +1,73 @@
 package org.prebid.server.hooks.modules.ortb2.blocking.core;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
 import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.collections4.IterableUtils;
 import org.apache.commons.collections4.SetUtils;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.versionconverter.OrtbVersion;
 import org.prebid.server.bidder.model.BidderBid;
-import org.prebid.server.hooks.modules.ortb2.blocking.core.exception.InvalidAccountConfigurationException;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.CompiledAccountConfig.AttributeConfig;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.CompiledAccountConfig.BidderConditions;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.CompiledAccountConfig.ConditionalField;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.CompiledAccountConfig.DealField;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.CompiledAccountConfig.Field;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.CompiledAccountConfig.Parsed;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.CompiledAccountConfig.Rule;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.model.BidAttributeBlockingConfig;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.model.BlockedAttributes;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.model.ResponseBlockingConfig;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.model.Result;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.util.MergeUtils;
+import org.prebid.server.proto.openrtb.ext.response.BidType;
 import org.prebid.server.spring.config.bidder.model.MediaType;
 import org.prebid.server.util.ObjectUtil;
-import org.prebid.server.util.StreamUtil;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class AccountConfigReader {
 
-    private static final String ATTRIBUTES_FIELD = "attributes";
     private static final String BADV_FIELD = "badv";
     private static final String BCAT_FIELD = "bcat";
     private static final String BAPP_FIELD = "bapp";
     private static final String BTYPE_FIELD = "btype";
     private static final String BATTR_FIELD = "battr";
-    private static final String ENFORCE_BLOCKS_FIELD = "enforce-blocks";
-    private static final String BLOCK_UNKNOWN_ADOMAIN_FIELD = "block-unknown-adomain";
-    private static final String BLOCKED_ADOMAIN_FIELD = "blocked-adomain";
-    private static final String ALLOWED_ADOMAIN_FOR_DEALS_FIELD = "allowed-adomain-for-deals";
-    private static final String BLOCKED_ADV_CAT_FIELD = "blocked-adv-cat";
-    private static final String CATEGORY_TAXONOMY_FIELD = "category-taxonomy";
-    private static final String BLOCK_UNKNOWN_ADV_CAT_FIELD = "block-unknown-adv-cat";
-    private static final String ALLOWED_ADV_CAT_FOR_DEALS_FIELD = "allowed-adv-cat-for-deals";
-    private static final String BLOCKED_APP_FIELD = "blocked-app";
-    private static final String ALLOWED_APP_FOR_DEALS_FIELD = "allowed-app-for-deals";
-    private static final String BLOCKED_BANNER_TYPE_FIELD = "blocked-banner-type";
-    private static final String BLOCKED_BANNER_ATTR_FIELD = "blocked-banner-attr";
-    private static final String BLOCKED_VIDEO_ATTR_FIELD = "blocked-video-attr";
-    private static final String BLOCKED_AUDIO_ATTR_FIELD = "blocked-audio-attr";
-    private static final String ALLOWED_BANNER_ATTR_FOR_DEALS = "allowed-banner-attr-for-deals";
-    private static final String ALLOWED_VIDEO_ATTR_FOR_DEALS = "allowed-video-attr-for-deals";
-    private static final String ALLOWED_AUDIO_ATTR_FOR_DEALS = "allowed-audio-attr-for-deals";
-    private static final String ACTION_OVERRIDES_FIELD = "action-overrides";
-    private static final String OVERRIDE_FIELD = "override";
-    private static final String CONDITIONS_FIELD = "conditions";
-    private static final String BIDDERS_FIELD = "bidders";
-    private static final String MEDIA_TYPE_FIELD = "media-type";
-    private static final String DEALIDS_FIELD = "deal-ids";
 
     private static final String AUDIO_MEDIA_TYPE = "audio";
     private static final String VIDEO_MEDIA_TYPE = "video";
     private static final String BANNER_MEDIA_TYPE = "banner";
     private static final String NATIVE_MEDIA_TYPE = "native";
 
-    private final ObjectNode config;
+    private final CompiledAccountConfig config;
     private final String bidder;
     private final OrtbVersion ortbVersion;
     private final boolean debugEnabled;
 
-    private AccountConfigReader(ObjectNode config, String bidder, OrtbVersion ortbVersion, boolean debugEnabled) {
+    // bids without deal of the same type share the blocking config
+    private final Map<BidType, Result<ResponseBlockingConfig>> responseBlockingConfigs = new EnumMap<>(BidType.class);
+
+    private AccountConfigReader(CompiledAccountConfig config,
+                                String bidder,
+                                OrtbVersion ortbVersion,
+                                boolean debugEnabled) {
+
         this.config = config;
         this.bidder = bidder;
         this.ortbVersion = ortbVersion;
         this.debugEnabled = debugEnabled;
     }
 
-    public static AccountConfigReader create(ObjectNode config,
+    public static AccountConfigReader create(CompiledAccountConfig config,
                                              String bidder,
                                              OrtbVersion ortbVersion,
                                              boolean debugEnabled) {
@@ -90,27 +76,27 @@ public class AccountConfigReader {
     }
 
     public Result<BlockedAttributes> blockedAttributesFor(BidRequest bidRequest) {
-        if (attributes() == null) {
+        if (!config.hasAttributes()) {
             return Result.empty();
         }
 
         final Set<String> requestMediaTypes = mediaTypesFrom(bidRequest);
 
         final Result<List<String>> badv =
-                blockedAttribute(BADV_FIELD, String.class, BLOCKED_ADOMAIN_FIELD, requestMediaTypes);
+                blockedAttribute(BADV_FIELD, CompiledAccountConfig.BLOCKED_ADOMAIN, requestMediaTypes);
         final Result<List<String>> bcat =
-                blockedAttribute(BCAT_FIELD, String.class, BLOCKED_ADV_CAT_FIELD, requestMediaTypes);
+                blockedAttribute(BCAT_FIELD, CompiledAccountConfig.BLOCKED_ADV_CAT, requestMediaTypes);
         final Result<Integer> cattaxComplement = blockedCattaxComplement(bidRequest);
         final Result<List<String>> bapp =
-                blockedAttribute(BAPP_FIELD, String.class, BLOCKED_APP_FIELD, requestMediaTypes);
-        final Result<Map<String, List<Integer>>> btype =
-                blockedAttributesForImps(BTYPE_FIELD, Integer.class, BLOCKED_BANNER_TYPE_FIELD, BANNER_MEDIA_TYPE, bidRequest);
-        final Result<Map<String, List<Integer>>> bannerBattr =
-                blockedAttributesForImps(BATTR_FIELD, Integer.class, BLOCKED_BANNER_ATTR_FIELD, BANNER_MEDIA_TYPE, bidRequest);
-        final Result<Map<String, List<Integer>>> videoBattr =
-                blockedAttributesForImps(BATTR_FIELD, Integer.class, BLOCKED_VIDEO_ATTR_FIELD, VIDEO_MEDIA_TYPE, bidRequest);
-        final Result<Map<String, List<Integer>>> audioBattr =
-                blockedAttributesForImps(BATTR_FIELD, Integer.class, BLOCKED_AUDIO_ATTR_FIELD, AUDIO_MEDIA_TYPE, bidRequest);
+                blockedAttribute(BAPP_FIELD, CompiledAccountConfig.BLOCKED_APP, requestMediaTypes);
+        final Result<Map<String, List<Integer>>> btype = blockedAttributesForImps(
+                BTYPE_FIELD, CompiledAccountConfig.BLOCKED_BANNER_TYPE, BANNER_MEDIA_TYPE, bidRequest);
+        final Result<Map<String, List<Integer>>> bannerBattr = blockedAttributesForImps(
+                BATTR_FIELD, CompiledAccountConfig.BLOCKED_BANNER_ATTR, BANNER_MEDIA_TYPE, bidRequest);
+        final Result<Map<String, List<Integer>>> videoBattr = blockedAttributesForImps(
+                BATTR_FIELD, CompiledAccountConfig.BLOCKED_VIDEO_ATTR, VIDEO_MEDIA_TYPE, bidRequest);
+        final Result<Map<String, List<Integer>>> audioBattr = blockedAttributesForImps(
+                BATTR_FIELD, CompiledAccountConfig.BLOCKED_AUDIO_ATTR, AUDIO_MEDIA_TYPE, bidRequest);
         final Result<Map<MediaType, Map<String, List<Integer>>>> battr =
                 mergeBlockedAttributes(bannerBattr, videoBattr, audioBattr);
 
@@ -120,46 +106,48 @@ public class AccountConfigReader {
     }
 
     public Result<ResponseBlockingConfig> responseBlockingConfigFor(BidderBid bidderBid) {
-        final Set<String> bidMediaTypes = mediaTypesFrom(bidderBid);
         final String dealid = bidderBid.getBid().getDealid();
 
+        return StringUtils.isNotBlank(dealid)
+                ? responseBlockingConfigFor(bidderBid, dealid)
+                : responseBlockingConfigs.computeIfAbsent(
+                bidderBid.getType(), ignored -> responseBlockingConfigFor(bidderBid, dealid));
+    }
+
+    private Result<ResponseBlockingConfig> responseBlockingConfigFor(BidderBid bidderBid, String dealid) {
+        final Set<String> bidMediaTypes = mediaTypesFrom(bidderBid);
+
         final Result<BidAttributeBlockingConfig<String>> badv = blockingConfigForAttribute(
                 BADV_FIELD,
-                String.class,
-                BLOCK_UNKNOWN_ADOMAIN_FIELD,
-                ALLOWED_ADOMAIN_FOR_DEALS_FIELD,
+                CompiledAccountConfig.BLOCK_UNKNOWN_ADOMAIN,
+                CompiledAccountConfig.ALLOWED_ADOMAIN_FOR_DEALS,
                 bidMediaTypes,
                 dealid);
         final Result<BidAttributeBlockingConfig<String>> bcat = blockingConfigForAttribute(
                 BCAT_FIELD,
-                String.class,
-                BLOCK_UNKNOWN_ADV_CAT_FIELD,
-                ALLOWED_ADV_CAT_FOR_DEALS_FIELD,
+                CompiledAccountConfig.BLOCK_UNKNOWN_ADV_CAT,
+                CompiledAccountConfig.ALLOWED_ADV_CAT_FOR_DEALS,
                 bidMediaTypes,
                 dealid);
         final Result<BidAttributeBlockingConfig<Integer>> cattax = blockingConfigForCattax(bcat.getValue());
         final Result<BidAttributeBlockingConfig<String>> bapp = blockingConfigForAttribute(
                 BAPP_FIELD,
-                String.class,
-                ALLOWED_APP_FOR_DEALS_FIELD,
+                CompiledAccountConfig.ALLOWED_APP_FOR_DEALS,
                 bidMediaTypes,
                 dealid);
         final Result<BidAttributeBlockingConfig<Integer>> bannerBattr = blockingConfigForAttribute(
                 BATTR_FIELD,
-                Integer.class,
-                ALLOWED_BANNER_ATTR_FOR_DEALS,
+                CompiledAccountConfig.ALLOWED_BANNER_ATTR_FOR_DEALS,
                 bidMediaTypes,
                 dealid);
         final Result<BidAttributeBlockingConfig<Integer>> videoBattr = blockingConfigForAttribute(
                 BATTR_FIELD,
-                Integer.class,
-                ALLOWED_VIDEO_ATTR_FOR_DEALS,
+                CompiledAccountConfig.ALLOWED_VIDEO_ATTR_FOR_DEALS,
                 bidMediaTypes,
                 dealid);
         final Result<BidAttributeBlockingConfig<Integer>> audioBattr = blockingConfigForAttribute(
                 BATTR_FIELD,
-                Integer.class,
-                ALLOWED_AUDIO_ATTR_FOR_DEALS,
+                CompiledAccountConfig.ALLOWED_AUDIO_ATTR_FOR_DEALS,
                 bidMediaTypes,
                 dealid);
         final Map<MediaType, BidAttributeBlockingConfig<Integer>> battr = new HashMap<>();
@@ -182,18 +170,18 @@ public class AccountConfigReader {
     }
 
     private <T> Result<List<T>> blockedAttribute(String attribute,
-                                                 Class<T> attributeType,
-                                                 String fieldName,
+                                                 Field<List<T>> field,
                                                  Set<String> actualMediaTypes) {
 
-        final JsonNode attributeConfig = attributeConfig(attribute);
+        final AttributeConfig attributeConfig = config.attributeConfig(attribute);
         if (attributeConfig == null) {
             return Result.empty();
         }
 
-        final Result<JsonNode> override = overrideFor(attributeConfig, actualMediaTypes, fieldName);
+        final ConditionalField<List<T>> conditionalField = attributeConfig.conditionalField(field);
+        final Result<Rule<BidderConditions, List<T>>> override = overrideFor(conditionalField, actualMediaTypes);
 
-        final List<T> result = overrideArrayAttribute(attributeConfig, override.getValue(), attributeType, fieldName);
+        final List<T> result = overrideValue(conditionalField, override.getValue());
 
         return Result.of(result, override.getMessages());
     }
@@ -210,22 +198,13 @@ public class AccountConfigReader {
     }
 
     private Integer blockedCattaxComplementFromConfig() {
-        final JsonNode config = attributeConfig(BCAT_FIELD);
-        if (config == null) {
-            return null;
-        }
+        final AttributeConfig attributeConfig = config.attributeConfig(BCAT_FIELD);
 
-        final JsonNode blockedCattaxComplementNode = config.get(CATEGORY_TAXONOMY_FIELD);
-        if (blockedCattaxComplementNode == null) {
-            return null;
-        }
-
-        return typedAs(blockedCattaxComplementNode, Integer.class, CATEGORY_TAXONOMY_FIELD);
+        return attributeConfig != null ? attributeConfig.getCategoryTaxonomy().get() : null;
     }
 
     private <T> Result<Map<String, List<T>>> blockedAttributesForImps(String attribute,
-                                                                      Class<T> attributeType,
-                                                                      String fieldName,
+                                                                      Field<List<T>> field,
                                                                       String attributeMediaType,
                                                                       BidRequest bidRequest) {
 
@@ -235,8 +214,7 @@ public class AccountConfigReader {
         for (final Imp imp : bidRequest.getImp()) {
             final Set<String> actualMediaTypes = mediaTypesFrom(imp);
             if (actualMediaTypes.contains(attributeMediaType)) {
-                final Result<List<T>> attributeForImp = blockedAttribute(
-                        attribute, attributeType, fieldName, actualMediaTypes);
+                final Result<List<T>> attributeForImp = blockedAttribute(attribute, field, actualMediaTypes);
 
                 if (attributeForImp.hasValue()) {
                     attributeValues.put(imp.getId(), attributeForImp.getValue());
@@ -273,35 +251,35 @@ public class AccountConfigReader {
     }
 
     private <T> Result<BidAttributeBlockingConfig<T>> blockingConfigForAttribute(String attribute,
-                                                                                 Class<T> attributeType,
-                                                                                 String blockUnknownField,
-                                                                                 String allowedForDealsField,
+                                                                                 Field<Boolean> blockUnknownField,
+                                                                                 Field<List<T>> allowedForDealsField,
                                                                                  Set<String> bidMediaTypes,
                                                                                  String dealid) {
 
-        final JsonNode attributeConfig = attributeConfig(attribute);
+        final AttributeConfig attributeConfig = config.attributeConfig(attribute);
         if (attributeConfig == null) {
             return Result.empty();
         }
 
-        final Result<JsonNode> enforceBlocksOverrideResult = overrideFor(
-                attributeConfig, bidMediaTypes, ENFORCE_BLOCKS_FIELD);
-        final boolean enforceBlocks = mergeBoolean(
-                attributeConfig, enforceBlocksOverrideResult.getValue(), ENFORCE_BLOCKS_FIELD);
+        final ConditionalField<Boolean> enforceBlocksField =
+                attributeConfig.conditionalField(CompiledAccountConfig.ENFORCE_BLOCKS);
+        final Result<Rule<BidderConditions, Boolean>> enforceBlocksOverrideResult = overrideFor(
+                enforceBlocksField, bidMediaTypes);
+        final boolean enforceBlocks = mergeBoolean(enforceBlocksField, enforceBlocksOverrideResult.getValue());
 
         // for attributes that don't support blocking bids with unknown values
-        final Result<JsonNode> blockUnknownOverrideResult = blockUnknownField != null
-                ? overrideFor(attributeConfig, bidMediaTypes, blockUnknownField)
+        final ConditionalField<Boolean> blockUnknownConditionalField = blockUnknownField != null
+                ? attributeConfig.conditionalField(blockUnknownField)
+                : null;
+        final Result<Rule<BidderConditions, Boolean>> blockUnknownOverrideResult = blockUnknownField != null
+                ? overrideFor(blockUnknownConditionalField, bidMediaTypes)
                 : Result.empty();
         final boolean blockUnknown = blockUnknownField != null
-                && mergeBoolean(attributeConfig, blockUnknownOverrideResult.getValue(), blockUnknownField);
+                && mergeBoolean(blockUnknownConditionalField, blockUnknownOverrideResult.getValue());
 
+        final DealField<List<T>> dealField = attributeConfig.dealField(allowedForDealsField);
         final Set<T> dealExceptions = StringUtils.isNotBlank(dealid)
-                ? mergeDealExceptions(
-                attributeConfig,
-                dealExceptionsFor(attributeConfig, dealid, allowedForDealsField),
-                attributeType,
-                allowedForDealsField)
+                ? mergeDealExceptions(dealField, dealExceptionsFor(dealField, dealid))
                 : Collections.emptySet();
 
         final BidAttributeBlockingConfig<T> blockingConfig = BidAttributeBlockingConfig.of(
@@ -312,12 +290,11 @@ public class AccountConfigReader {
     }
 
     private <T> Result<BidAttributeBlockingConfig<T>> blockingConfigForAttribute(String attribute,
-                                                                                 Class<T> type,
-                                                                                 String allowedForDealsField,
+                                                                                 Field<List<T>> allowedForDealsField,
                                                                                  Set<String> bidMediaTypes,
                                                                                  String dealid) {
 
-        return blockingConfigForAttribute(attribute, type, null, allowedForDealsField, bidMediaTypes, dealid);
+        return blockingConfigForAttribute(attribute, null, allowedForDealsField, bidMediaTypes, dealid);
     }
 
     private static Result<BidAttributeBlockingConfig<Integer>> blockingConfigForCattax(
@@ -331,17 +308,6 @@ public class AccountConfigReader {
                 : Result.empty();
     }
 
-    private JsonNode attributes() {
-        return config != null ? objectNodeFrom(config, ATTRIBUTES_FIELD) : null;
-    }
-
-    private JsonNode attributeConfig(String attribute) {
-        final JsonNode attributes = attributes();
-
-        return attributes != null ? objectNodeFrom(attributes, attribute) : null;
-
-    }
-
     private static Set<String> mediaTypesFrom(BidRequest bidRequest) {
         return bidRequest.getImp().stream()
                 .flatMap(imp -> mediaTypesFrom(imp).stream())
@@ -371,49 +337,38 @@ public class AccountConfigReader {
         return Collections.singleton(bidderBid.getType().getName());
     }
 
-    private Result<JsonNode> overrideFor(JsonNode parent, Set<String> actualMediaTypes, String field) {
-        final JsonNode actionOverrides = objectNodeFrom(parent, ACTION_OVERRIDES_FIELD);
-        final JsonNode overridesForField = actionOverrides != null ? objectArrayFrom(actionOverrides, field) : null;
-        if (overridesForField == null) {
+    private <T> Result<Rule<BidderConditions, T>> overrideFor(ConditionalField<T> field,
+                                                             Set<String> actualMediaTypes) {
+
+        final List<Rule<BidderConditions, T>> rules = field.getRules().get();
+        if (rules == null) {
             return Result.empty();
         }
 
-        final List<JsonNode> specificBidderResults = new ArrayList<>();
-        final List<JsonNode> catchAllBidderResults = new ArrayList<>();
-
-        for (final JsonNode override : overridesForField) {
-            final JsonNode conditions = requireNonNull(objectNodeFrom(override, CONDITIONS_FIELD), CONDITIONS_FIELD);
-            final List<String> bidders = typedArrayFrom(conditions, String.class, BIDDERS_FIELD);
-            final List<String> mediaTypes = typedArrayFrom(conditions, String.class, MEDIA_TYPE_FIELD);
-
-            if (bidders == null && mediaTypes == null) {
-                throw new InvalidAccountConfigurationException(
-                        "%s field in account configuration must contain at least one of %s or %s".formatted(
-                                CONDITIONS_FIELD,
-                                BIDDERS_FIELD,
-                                MEDIA_TYPE_FIELD));
-            }
+        final List<Rule<BidderConditions, T>> specificBidderResults = new ArrayList<>();
+        final List<Rule<BidderConditions, T>> catchAllBidderResults = new ArrayList<>();
 
-            final boolean catchAllBidders = bidders == null;
-            final boolean matchesBidder = catchAllBidders || bidders.contains(bidder);
-            final boolean matchesMediaTypes = mediaTypes == null || !Collections.disjoint(mediaTypes, actualMediaTypes);
+        for (final Rule<BidderConditions, T> rule : rules) {
+            final BidderConditions conditions = rule.getConditions().get();
 
-            if (matchesBidder && matchesMediaTypes) {
-                final JsonNode actions = requireNonNull(override.get(OVERRIDE_FIELD), OVERRIDE_FIELD);
+            if (conditions.matches(bidder, actualMediaTypes)) {
+                rule.getOverride().get();
 
-                final List<JsonNode> results = catchAllBidders ? catchAllBidderResults : specificBidderResults;
-                results.add(actions);
+                final List<Rule<BidderConditions, T>> results = conditions.isCatchAllBidders()
+                        ? catchAllBidderResults
+                        : specificBidderResults;
+                results.add(rule);
             }
         }
 
         return toResult(specificBidderResults, catchAllBidderResults, actualMediaTypes);
     }
 
-    private Result<JsonNode> toResult(List<JsonNode> specificBidderResults,
-                                      List<JsonNode> catchAllBidderResults,
-                                      Set<String> actualMediaTypes) {
+    private <T> Result<Rule<BidderConditions, T>> toResult(List<Rule<BidderConditions, T>> specificBidderResults,
+                                                          List<Rule<BidderConditions, T>> catchAllBidderResults,
+                                                          Set<String> actualMediaTypes) {
 
-        final JsonNode value = ObjectUtils.firstNonNull(
+        final Rule<BidderConditions, T> value = ObjectUtils.firstNonNull(
                 !specificBidderResults.isEmpty() ? specificBidderResults.getFirst() : null,
                 !catchAllBidderResults.isEmpty() ? catchAllBidderResults.getFirst() : null);
         final List<String> warnings = debugEnabled && specificBidderResults.size() + catchAllBidderResults.size() > 1
@@ -451,153 +406,45 @@ public class AccountConfigReader {
                 : null;
     }
 
-    private static List<JsonNode> dealExceptionsFor(JsonNode parent, String dealid, String field) {
-        final JsonNode actionOverrides = objectNodeFrom(parent, ACTION_OVERRIDES_FIELD);
-        final JsonNode overridesForField = actionOverrides != null ? objectArrayFrom(actionOverrides, field) : null;
-        if (overridesForField == null) {
+    private static <T> List<Parsed<T>> dealExceptionsFor(DealField<T> field, String dealid) {
+        final List<Rule<Set<String>, T>> rules = field.getRules().get();
+        if (rules == null) {
             return Collections.emptyList();
         }
 
-        final List<JsonNode> results = new ArrayList<>();
-        for (final JsonNode override : overridesForField) {
-            final JsonNode conditions = requireNonNull(objectNodeFrom(override, CONDITIONS_FIELD), CONDITIONS_FIELD);
-            final List<String> dealIds = typedArrayFrom(conditions, String.class, DEALIDS_FIELD);
-
-            if (dealIds == null) {
-                throw new InvalidAccountConfigurationException(
-                        "%s field in account configuration must contain %s".formatted(CONDITIONS_FIELD, DEALIDS_FIELD));
-            }
-
-            if (dealIds.contains(dealid)) {
-                results.add(requireNonNull(override.get(OVERRIDE_FIELD), OVERRIDE_FIELD));
+        final List<Parsed<T>> results = new ArrayList<>();
+        for (final Rule<Set<String>, T> rule : rules) {
+            if (rule.getConditions().get().contains(dealid)) {
+                results.add(rule.getOverride().get());
             }
         }
 
         return results;
     }
 
-    private static <T> List<T> overrideArrayAttribute(JsonNode parent, JsonNode override, Class<T> type, String field) {
+    private static <T> T overrideValue(ConditionalField<T> field, Rule<BidderConditions, T> override) {
         return override != null
-                ? asTypedArray(override, type, OVERRIDE_FIELD)
-                : typedArrayFrom(parent, type, field);
+                ? override.getOverride().get().get()
+                : field.getDefaultValue().get();
     }
 
-    private static boolean mergeBoolean(JsonNode parent, JsonNode override, String field) {
+    private static boolean mergeBoolean(ConditionalField<Boolean> field, Rule<BidderConditions, Boolean> override) {
         return BooleanUtils.toBooleanDefaultIfNull(
-                override != null ? typedAs(override, Boolean.class, OVERRIDE_FIELD) : null,
-                BooleanUtils.toBooleanDefaultIfNull(typedFieldFrom(parent, Boolean.class, field), false));
+                override != null ? override.getOverride().get().get() : null,
+                BooleanUtils.toBooleanDefaultIfNull(field.getDefaultValue().get(), false));
     }
 
-    private static <T> Set<T> mergeDealExceptions(JsonNode parent,
-                                                  List<JsonNode> overrides,
-                                                  Class<T> type,
-                                                  String field) {
-
-        final List<T> defaultValue = typedArrayFrom(parent, type, field);
+    private static <T> Set<T> mergeDealExceptions(DealField<List<T>> field, List<Parsed<List<T>>> overrides) {
+        final List<T> defaultValue = field.getDefaultValue().get();
         if (defaultValue == null && CollectionUtils.isEmpty(overrides)) {
             return Collections.emptySet();
         }
 
         final Set<T> results = new HashSet<>(CollectionUtils.emptyIfNull(defaultValue));
-        for (final JsonNode override : IterableUtils.emptyIfNull(overrides)) {
-            results.addAll(asTypedArray(override, type, field));
+        for (final Parsed<List<T>> override : overrides) {
+            results.addAll(override.get());
         }
 
         return results;
     }
-
-    private static <T> List<T> typedArrayFrom(JsonNode parent, Class<T> type, String field) {
-        final JsonNode child = parent.get(field);
-        if (child == null) {
-            return null;
-        }
-
-        return asTypedArray(child, type, field);
-    }
-
-    private static <T> List<T> asTypedArray(JsonNode node, Class<T> type, String field) {
-        if (node == null) {
-            return null;
-        }
-
-        if (!node.isArray()) {
-            throw new InvalidAccountConfigurationException(field + " field in account configuration is not an array");
-        }
-
-        return StreamUtil.asStream(node.elements())
-                .map(element -> typedAs(element, type, field))
-                .toList();
-    }
-
-    private static <T> T typedFieldFrom(JsonNode parent, Class<T> type, String field) {
-        final JsonNode child = parent.get(field);
-        if (child == null) {
-            return null;
-        }
-
-        return typedAs(child, type, field);
-    }
-
-    @SuppressWarnings("unchecked")
-    private static <T> T typedAs(JsonNode node, Class<T> type, String field) {
-        final Function<JsonNode, Boolean> checker;
-        final Function<JsonNode, ?> converter;
-
-        if (type.isAssignableFrom(String.class)) {
-            checker = JsonNode::isTextual;
-            converter = JsonNode::textValue;
-        } else if (type.isAssignableFrom(Integer.class)) {
-            checker = JsonNode::isInt;
-            converter = JsonNode::intValue;
-        } else if (type.isAssignableFrom(Boolean.class)) {
-            checker = JsonNode::isBoolean;
-            converter = JsonNode::booleanValue;
-        } else {
-            throw new IllegalArgumentException("Unsupported type: " + type);
-        }
-
-        final Boolean hasDesiredType = checker.apply(node);
-        if (!hasDesiredType) {
-            throw new InvalidAccountConfigurationException(
-                    "%s field in account configuration has unexpected type. Expected %s".formatted(field, type));
-        }
-
-        return (T) converter.apply(node);
-    }
-
-    private static JsonNode objectNodeFrom(JsonNode parent, String field) {
-        final JsonNode child = parent.get(field);
-        if (child == null) {
-            return null;
-        }
-
-        if (!child.isObject()) {
-            throw new InvalidAccountConfigurationException(field + " field in account configuration is not an object");
-        }
-
-        return child;
-    }
-
-    private static JsonNode objectArrayFrom(JsonNode parent, String field) {
-        final JsonNode child = parent.get(field);
-        if (child == null) {
-            return null;
-        }
-
-        if (!child.isArray() || !StreamUtil.asStream(child.elements()).allMatch(JsonNode::isObject)) {
-            throw new InvalidAccountConfigurationException(
-                    field + " field in account configuration is not an array of objects");
-        }
-
-        return child;
-    }
-
-    private static <T> T requireNonNull(T object, String field) {
-        if (object == null) {
-            throw new InvalidAccountConfigurationException(
-                    field + " field in account configuration is missing");
-        }
-
-        return object;
-    }
 }
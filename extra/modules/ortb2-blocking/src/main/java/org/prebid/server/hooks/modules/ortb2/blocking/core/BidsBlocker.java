@@ -1,6 +1,5 @@
 package org.prebid.server.hooks.modules.ortb2.blocking.core;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.Value;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.ObjectUtils;
@@ -24,6 +23,7 @@ import org.prebid.server.spring.config.bidder.model.MediaType;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -47,15 +47,20 @@ public class BidsBlocker {
     private final List<BidderBid> bids;
     private final String bidder;
     private final OrtbVersion ortbVersion;
-    private final ObjectNode accountConfig;
+    private final CompiledAccountConfig accountConfig;
     private final BlockedAttributes blockedAttributes;
     private final BidRejectionTracker bidRejectionTracker;
     private final boolean debugEnabled;
 
+    private final Set<String> blockedBadv;
+    private final Set<String> blockedBcat;
+    private final Set<String> blockedBapp;
+    private final Map<MediaType, Map<String, Set<Integer>>> blockedBattr;
+
     private BidsBlocker(List<BidderBid> bids,
                         String bidder,
                         OrtbVersion ortbVersion,
-                        ObjectNode accountConfig,
+                        CompiledAccountConfig accountConfig,
                         BlockedAttributes blockedAttributes,
                         BidRejectionTracker bidRejectionTracker,
                         boolean debugEnabled) {
@@ -67,12 +72,17 @@ public class BidsBlocker {
         this.blockedAttributes = blockedAttributes;
         this.bidRejectionTracker = bidRejectionTracker;
         this.debugEnabled = debugEnabled;
+
+        blockedBadv = toSet(blockedAttributeValues(BlockedAttributes::getBadv));
+        blockedBcat = toSet(blockedAttributeValues(BlockedAttributes::getBcat));
+        blockedBapp = toSet(blockedAttributeValues(BlockedAttributes::getBapp));
+        blockedBattr = toSetsPerMediaType(blockedAttributeValues(BlockedAttributes::getBattr));
     }
 
     public static BidsBlocker create(List<BidderBid> bids,
                                      String bidder,
                                      OrtbVersion ortbVersion,
-                                     ObjectNode accountConfig,
+                                     CompiledAccountConfig accountConfig,
                                      BlockedAttributes blockedAttributes,
                                      BidRejectionTracker bidRejectionTracker,
                                      boolean debugEnabled) {
@@ -81,7 +91,7 @@ public class BidsBlocker {
                 Objects.requireNonNull(bids),
                 Objects.requireNonNull(bidder),
                 Objects.requireNonNull(ortbVersion),
-                accountConfig,
+                Objects.requireNonNull(accountConfig),
                 blockedAttributes,
                 bidRejectionTracker,
                 debugEnabled);
@@ -140,14 +150,14 @@ public class BidsBlocker {
         return checkAttribute(
                 bidderBid.getBid().getAdomain(),
                 blockingConfig.getBadv(),
-                blockedAttributeValues(BlockedAttributes::getBadv));
+                blockedBadv);
     }
 
     private AttributeCheckResult<String> checkBcat(BidderBid bidderBid, ResponseBlockingConfig blockingConfig) {
         return checkAttribute(
                 bidderBid.getBid().getCat(),
                 blockingConfig.getBcat(),
-                blockedAttributeValues(BlockedAttributes::getBcat));
+                blockedBcat);
     }
 
     private AttributeCheckResult<Integer> checkCattax(BidderBid bidderBid, ResponseBlockingConfig blockingConfig) {
@@ -168,7 +178,7 @@ public class BidsBlocker {
         return checkAttribute(
                 bidderBid.getBid().getBundle(),
                 blockingConfig.getBapp(),
-                blockedAttributeValues(BlockedAttributes::getBapp));
+                blockedBapp);
     }
 
     private AttributeCheckResult<Integer> checkBattr(BidderBid bidderBid, ResponseBlockingConfig blockingConfig) {
@@ -176,9 +186,7 @@ public class BidsBlocker {
         return checkAttribute(
                 bidderBid.getBid().getAttr(),
                 blockingConfig.getBattr().get(mediaType),
-                blockedAttributeValues(
-                        blockedAttributes -> extractBattrForMediaType(blockedAttributes, mediaType),
-                        bidderBid.getBid().getImpid()));
+                blockedBattrFor(mediaType, bidderBid.getBid().getImpid()));
     }
 
     private static MediaType mapBidTypeToMediaType(BidType bidType) {
@@ -191,16 +199,14 @@ public class BidsBlocker {
         };
     }
 
-    private static Map<String, List<Integer>> extractBattrForMediaType(BlockedAttributes blockedAttributes,
-                                                                       MediaType mediaType) {
-
-        final Map<MediaType, Map<String, List<Integer>>> battr = blockedAttributes.getBattr();
-        return battr != null ? battr.get(mediaType) : null;
+    private Set<Integer> blockedBattrFor(MediaType mediaType, String impId) {
+        final Map<String, Set<Integer>> battrForMediaType = blockedBattr != null ? blockedBattr.get(mediaType) : null;
+        return battrForMediaType != null ? battrForMediaType.get(impId) : null;
     }
 
     private <T> AttributeCheckResult<T> checkAttribute(List<T> attribute,
                                                        BidAttributeBlockingConfig<T> blockingConfig,
-                                                       List<T> blockedAttributeValues) {
+                                                       Set<T> blockedAttributeValues) {
 
         if (blockingConfig == null || !blockingConfig.isEnforceBlocks()) {
             return AttributeCheckResult.succeeded();
@@ -228,7 +234,7 @@ public class BidsBlocker {
 
     private AttributeCheckResult<String> checkAttribute(String attribute,
                                                         BidAttributeBlockingConfig<String> blockingConfig,
-                                                        List<String> blockedAttributeValues) {
+                                                        Set<String> blockedAttributeValues) {
 
         if (blockingConfig == null
                 || !blockingConfig.isEnforceBlocks()
@@ -265,10 +271,30 @@ public class BidsBlocker {
         return blockedAttributes != null ? getter.apply(blockedAttributes) : null;
     }
 
-    private <T> T blockedAttributeValues(Function<BlockedAttributes, Map<String, T>> getter, String impId) {
-        final Map<String, T> blockedAttributeValues = blockedAttributeValues(getter);
+    private static <T> Set<T> toSet(List<T> values) {
+        return values != null ? new HashSet<>(values) : null;
+    }
+
+    private static Map<MediaType, Map<String, Set<Integer>>> toSetsPerMediaType(
+            Map<MediaType, Map<String, List<Integer>>> battr) {
+
+        if (battr == null) {
+            return null;
+        }
+
+        final Map<MediaType, Map<String, Set<Integer>>> result = new HashMap<>();
+        battr.forEach((mediaType, battrPerImp) -> result.put(mediaType, toSetsPerImp(battrPerImp)));
+        return result;
+    }
+
+    private static Map<String, Set<Integer>> toSetsPerImp(Map<String, List<Integer>> battrPerImp) {
+        if (battrPerImp == null) {
+            return null;
+        }
 
-        return blockedAttributeValues != null ? blockedAttributeValues.get(impId) : null;
+        final Map<String, Set<Integer>> result = new HashMap<>();
+        battrPerImp.forEach((impId, values) -> result.put(impId, toSet(values)));
+        return result;
     }
 
     private List<String> debugMessages(Set<Integer> blockedBidIndexes, List<Result<BlockingResult>> blockedBidResults) {
@@ -0,0 +1,442 @@
+package org.prebid.server.hooks.modules.ortb2.blocking.core;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.Value;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.exception.InvalidAccountConfigurationException;
+import org.prebid.server.util.StreamUtil;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Account blocking configuration compiled once from its json, so the blocking rules are resolved per bidder
+ * request and response with set lookups instead of walking the json.
+ * <p>
+ * Invalid parts of the configuration don't fail the compilation, the error is raised when the invalid part
+ * is used, the same way as if the json was read directly.
+ */
+public class CompiledAccountConfig {
+
+    private static final String ATTRIBUTES_FIELD = "attributes";
+    private static final String CATEGORY_TAXONOMY_FIELD = "category-taxonomy";
+    private static final String ACTION_OVERRIDES_FIELD = "action-overrides";
+    private static final String OVERRIDE_FIELD = "override";
+    private static final String CONDITIONS_FIELD = "conditions";
+    private static final String BIDDERS_FIELD = "bidders";
+    private static final String MEDIA_TYPE_FIELD = "media-type";
+    private static final String DEALIDS_FIELD = "deal-ids";
+
+    public static final Field<List<String>> BLOCKED_ADOMAIN = Field.stringArray("blocked-adomain");
+    public static final Field<List<String>> BLOCKED_ADV_CAT = Field.stringArray("blocked-adv-cat");
+    public static final Field<List<String>> BLOCKED_APP = Field.stringArray("blocked-app");
+    public static final Field<List<Integer>> BLOCKED_BANNER_TYPE = Field.integerArray("blocked-banner-type");
+    public static final Field<List<Integer>> BLOCKED_BANNER_ATTR = Field.integerArray("blocked-banner-attr");
+    public static final Field<List<Integer>> BLOCKED_VIDEO_ATTR = Field.integerArray("blocked-video-attr");
+    public static final Field<List<Integer>> BLOCKED_AUDIO_ATTR = Field.integerArray("blocked-audio-attr");
+    public static final Field<Boolean> ENFORCE_BLOCKS = Field.bool("enforce-blocks");
+    public static final Field<Boolean> BLOCK_UNKNOWN_ADOMAIN = Field.bool("block-unknown-adomain");
+    public static final Field<Boolean> BLOCK_UNKNOWN_ADV_CAT = Field.bool("block-unknown-adv-cat");
+
+    public static final Field<List<String>> ALLOWED_ADOMAIN_FOR_DEALS = Field.stringArray("allowed-adomain-for-deals");
+    public static final Field<List<String>> ALLOWED_ADV_CAT_FOR_DEALS = Field.stringArray("allowed-adv-cat-for-deals");
+    public static final Field<List<String>> ALLOWED_APP_FOR_DEALS = Field.stringArray("allowed-app-for-deals");
+    public static final Field<List<Integer>> ALLOWED_BANNER_ATTR_FOR_DEALS =
+            Field.integerArray("allowed-banner-attr-for-deals");
+    public static final Field<List<Integer>> ALLOWED_VIDEO_ATTR_FOR_DEALS =
+            Field.integerArray("allowed-video-attr-for-deals");
+    public static final Field<List<Integer>> ALLOWED_AUDIO_ATTR_FOR_DEALS =
+            Field.integerArray("allowed-audio-attr-for-deals");
+
+    private static final List<Field<?>> CONDITIONAL_FIELDS = List.of(
+            BLOCKED_ADOMAIN,
+            BLOCKED_ADV_CAT,
+            BLOCKED_APP,
+            BLOCKED_BANNER_TYPE,
+            BLOCKED_BANNER_ATTR,
+            BLOCKED_VIDEO_ATTR,
+            BLOCKED_AUDIO_ATTR,
+            ENFORCE_BLOCKS,
+            BLOCK_UNKNOWN_ADOMAIN,
+            BLOCK_UNKNOWN_ADV_CAT);
+
+    private static final List<Field<?>> DEAL_FIELDS = List.of(
+            ALLOWED_ADOMAIN_FOR_DEALS,
+            ALLOWED_ADV_CAT_FOR_DEALS,
+            ALLOWED_APP_FOR_DEALS,
+            ALLOWED_BANNER_ATTR_FOR_DEALS,
+            ALLOWED_VIDEO_ATTR_FOR_DEALS,
+            ALLOWED_AUDIO_ATTR_FOR_DEALS);
+
+    private static final CompiledAccountConfig EMPTY = new CompiledAccountConfig(Parsed.of(() -> null));
+
+    private final Parsed<Map<String, Parsed<AttributeConfig>>> attributes;
+
+    private CompiledAccountConfig(Parsed<Map<String, Parsed<AttributeConfig>>> attributes) {
+        this.attributes = attributes;
+    }
+
+    public static CompiledAccountConfig compile(ObjectNode config) {
+        if (config == null) {
+            return EMPTY;
+        }
+
+        return new CompiledAccountConfig(Parsed.of(() -> compileAttributes(objectNodeFrom(config, ATTRIBUTES_FIELD))));
+    }
+
+    boolean hasAttributes() {
+        return attributes.get() != null;
+    }
+
+    /**
+     * Returns configuration of the given attribute or null if it is not configured.
+     */
+    AttributeConfig attributeConfig(String attribute) {
+        final Map<String, Parsed<AttributeConfig>> attributeConfigs = attributes.get();
+        final Parsed<AttributeConfig> attributeConfig = attributeConfigs != null
+                ? attributeConfigs.get(attribute)
+                : null;
+
+        return attributeConfig != null ? attributeConfig.get() : null;
+    }
+
+    private static Map<String, Parsed<AttributeConfig>> compileAttributes(JsonNode attributes) {
+        if (attributes == null) {
+            return null;
+        }
+
+        final Map<String, Parsed<AttributeConfig>> attributeConfigs = new HashMap<>();
+        attributes.fieldNames().forEachRemaining(attribute -> attributeConfigs.put(
+                attribute,
+                Parsed.of(() -> compileAttribute(objectNodeFrom(attributes, attribute)))));
+
+        return Collections.unmodifiableMap(attributeConfigs);
+    }
+
+    private static AttributeConfig compileAttribute(JsonNode attributeConfig) {
+        final Map<Field<?>, ConditionalField<?>> conditionalFields = new HashMap<>();
+        for (Field<?> field : CONDITIONAL_FIELDS) {
+            conditionalFields.put(field, compileConditionalField(attributeConfig, field));
+        }
+
+        final Map<Field<?>, DealField<?>> dealFields = new HashMap<>();
+        for (Field<?> field : DEAL_FIELDS) {
+            dealFields.put(field, compileDealField(attributeConfig, field));
+        }
+
+        return new AttributeConfig(
+                Collections.unmodifiableMap(conditionalFields),
+                Collections.unmodifiableMap(dealFields),
+                Parsed.of(() -> typedFieldFrom(attributeConfig, Integer.class, CATEGORY_TAXONOMY_FIELD)));
+    }
+
+    private static <T> ConditionalField<T> compileConditionalField(JsonNode attributeConfig, Field<T> field) {
+        return ConditionalField.of(
+                Parsed.of(() -> field.valueFrom(attributeConfig)),
+                Parsed.of(() -> compileRules(
+                        attributeConfig,
+                        field.getName(),
+                        CompiledAccountConfig::bidderConditionsFrom,
+                        override -> field.parse(override, OVERRIDE_FIELD))));
+    }
+
+    private static <T> DealField<T> compileDealField(JsonNode attributeConfig, Field<T> field) {
+        return DealField.of(
+                Parsed.of(() -> field.valueFrom(attributeConfig)),
+                Parsed.of(() -> compileRules(
+                        attributeConfig,
+                        field.getName(),
+                        CompiledAccountConfig::dealIdsFrom,
+                        override -> field.parse(override, field.getName()))));
+    }
+
+    private static <C, T> List<Rule<C, T>> compileRules(JsonNode attributeConfig,
+                                                        String field,
+                                                        Function<JsonNode, C> conditionsParser,
+                                                        Function<JsonNode, T> overrideParser) {
+
+        final JsonNode actionOverrides = objectNodeFrom(attributeConfig, ACTION_OVERRIDES_FIELD);
+        final JsonNode overridesForField = actionOverrides != null
+                ? objectArrayFrom(actionOverrides, field)
+                : null;
+        if (overridesForField == null) {
+            return null;
+        }
+
+        return StreamUtil.asStream(overridesForField.elements())
+                .map(override -> Rule.of(
+                        Parsed.of(() -> conditionsParser.apply(override)),
+                        Parsed.of(() -> compileOverride(override, overrideParser))))
+                .toList();
+    }
+
+    private static <T> Parsed<T> compileOverride(JsonNode override, Function<JsonNode, T> overrideParser) {
+        final JsonNode value = requireNonNull(override.get(OVERRIDE_FIELD), OVERRIDE_FIELD);
+        return Parsed.of(() -> overrideParser.apply(value));
+    }
+
+    private static BidderConditions bidderConditionsFrom(JsonNode override) {
+        final JsonNode conditions = requireNonNull(objectNodeFrom(override, CONDITIONS_FIELD), CONDITIONS_FIELD);
+        final List<String> bidders = typedArrayFrom(conditions, String.class, BIDDERS_FIELD);
+        final List<String> mediaTypes = typedArrayFrom(conditions, String.class, MEDIA_TYPE_FIELD);
+
+        if (bidders == null && mediaTypes == null) {
+            throw new InvalidAccountConfigurationException(
+                    "%s field in account configuration must contain at least one of %s or %s".formatted(
+                            CONDITIONS_FIELD,
+                            BIDDERS_FIELD,
+                            MEDIA_TYPE_FIELD));
+        }
+
+        return BidderConditions.of(toSet(bidders), toSet(mediaTypes));
+    }
+
+    private static Set<String> dealIdsFrom(JsonNode override) {
+        final JsonNode conditions = requireNonNull(objectNodeFrom(override, CONDITIONS_FIELD), CONDITIONS_FIELD);
+        final List<String> dealIds = typedArrayFrom(conditions, String.class, DEALIDS_FIELD);
+
+        if (dealIds == null) {
+            throw new InvalidAccountConfigurationException(
+                    "%s field in account configuration must contain %s".formatted(CONDITIONS_FIELD, DEALIDS_FIELD));
+        }
+
+        return toSet(dealIds);
+    }
+
+    private static <T> Set<T> toSet(List<T> values) {
+        return values != null ? Collections.unmodifiableSet(new HashSet<>(values)) : null;
+    }
+
+    private static <T> List<T> typedArrayFrom(JsonNode parent, Class<T> type, String field) {
+        final JsonNode child = parent.get(field);
+        if (child == null) {
+            return null;
+        }
+
+        return asTypedArray(child, type, field);
+    }
+
+    private static <T> List<T> asTypedArray(JsonNode node, Class<T> type, String field) {
+        if (!node.isArray()) {
+            throw new InvalidAccountConfigurationException(field + " field in account configuration is not an array");
+        }
+
+        return StreamUtil.asStream(node.elements())
+                .map(element -> typedAs(element, type, field))
+                .toList();
+    }
+
+    private static <T> T typedFieldFrom(JsonNode parent, Class<T> type, String field) {
+        final JsonNode child = parent.get(field);
+        if (child == null) {
+            return null;
+        }
+
+        return typedAs(child, type, field);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T typedAs(JsonNode node, Class<T> type, String field) {
+        final Function<JsonNode, Boolean> checker;
+        final Function<JsonNode, ?> converter;
+
+        if (type.isAssignableFrom(String.class)) {
+            checker = JsonNode::isTextual;
+            converter = JsonNode::textValue;
+        } else if (type.isAssignableFrom(Integer.class)) {
+            checker = JsonNode::isInt;
+            converter = JsonNode::intValue;
+        } else if (type.isAssignableFrom(Boolean.class)) {
+            checker = JsonNode::isBoolean;
+            converter = JsonNode::booleanValue;
+        } else {
+            throw new IllegalArgumentException("Unsupported type: " + type);
+        }
+
+        final Boolean hasDesiredType = checker.apply(node);
+        if (!hasDesiredType) {
+            throw new InvalidAccountConfigurationException(
+                    "%s field in account configuration has unexpected type. Expected %s".formatted(field, type));
+        }
+
+        return (T) converter.apply(node);
+    }
+
+    private static JsonNode objectNodeFrom(JsonNode parent, String field) {
+        final JsonNode child = parent.get(field);
+        if (child == null) {
+            return null;
+        }
+
+        if (!child.isObject()) {
+            throw new InvalidAccountConfigurationException(field + " field in account configuration is not an object");
+        }
+
+        return child;
+    }
+
+    private static JsonNode objectArrayFrom(JsonNode parent, String field) {
+        final JsonNode child = parent.get(field);
+        if (child == null) {
+            return null;
+        }
+
+        if (!child.isArray() || !StreamUtil.asStream(child.elements()).allMatch(JsonNode::isObject)) {
+            throw new InvalidAccountConfigurationException(
+                    field + " field in account configuration is not an array of objects");
+        }
+
+        return child;
+    }
+
+    private static <T> T requireNonNull(T object, String field) {
+        if (object == null) {
+            throw new InvalidAccountConfigurationException(
+                    field + " field in account configuration is missing");
+        }
+
+        return object;
+    }
+
+    public static final class Field<T> {
+
+        private final String name;
+
+        private final BiFunction<JsonNode, String, T> parser;
+
+        private Field(String name, BiFunction<JsonNode, String, T> parser) {
+            this.name = name;
+            this.parser = parser;
+        }
+
+        private static Field<List<String>> stringArray(String name) {
+            return new Field<>(name, (node, field) -> asTypedArray(node, String.class, field));
+        }
+
+        private static Field<List<Integer>> integerArray(String name) {
+            return new Field<>(name, (node, field) -> asTypedArray(node, Integer.class, field));
+        }
+
+        private static Field<Boolean> bool(String name) {
+            return new Field<>(name, (node, field) -> typedAs(node, Boolean.class, field));
+        }
+
+        String getName() {
+            return name;
+        }
+
+        private T valueFrom(JsonNode parent) {
+            final JsonNode child = parent.get(name);
+            return child != null ? parse(child, name) : null;
+        }
+
+        private T parse(JsonNode node, String field) {
+            return parser.apply(node, field);
+        }
+    }
+
+    @Value
+    static class AttributeConfig {
+
+        Map<Field<?>, ConditionalField<?>> conditionalFields;
+
+        Map<Field<?>, DealField<?>> dealFields;
+
+        Parsed<Integer> categoryTaxonomy;
+
+        @SuppressWarnings("unchecked")
+        <T> ConditionalField<T> conditionalField(Field<T> field) {
+            return (ConditionalField<T>) conditionalFields.get(field);
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> DealField<T> dealField(Field<T> field) {
+            return (DealField<T>) dealFields.get(field);
+        }
+    }
+
+    /**
+     * Field with the value overridden for the bidders and media types matching conditions.
+     */
+    @Value(staticConstructor = "of")
+    static class ConditionalField<T> {
+
+        Parsed<T> defaultValue;
+
+        Parsed<List<Rule<BidderConditions, T>>> rules;
+    }
+
+    /**
+     * Field with the values extended for the deals matching conditions, overrides are in the field format.
+     */
+    @Value(staticConstructor = "of")
+    static class DealField<T> {
+
+        Parsed<T> defaultValue;
+
+        Parsed<List<Rule<Set<String>, T>>> rules;
+    }
+
+    @Value(staticConstructor = "of")
+    static class Rule<C, T> {
+
+        Parsed<C> conditions;
+
+        Parsed<Parsed<T>> override;
+    }
+
+    @Value(staticConstructor = "of")
+    static class BidderConditions {
+
+        Set<String> bidders;
+
+        Set<String> mediaTypes;
+
+        boolean isCatchAllBidders() {
+            return bidders == null;
+        }
+
+        boolean matches(String bidder, Set<String> actualMediaTypes) {
+            return (bidders == null || bidders.contains(bidder))
+                    && (mediaTypes == null || !Collections.disjoint(mediaTypes, actualMediaTypes));
+        }
+    }
+
+    /**
+     * Result of parsing part of the configuration, which raises the parsing error on access.
+     */
+    static final class Parsed<T> {
+
+        private final T value;
+
+        private final InvalidAccountConfigurationException error;
+
+        private Parsed(T value, InvalidAccountConfigurationException error) {
+            this.value = value;
+            this.error = error;
+        }
+
+        static <T> Parsed<T> of(Supplier<T> parser) {
+            try {
+                return new Parsed<>(parser.get(), null);
+            } catch (InvalidAccountConfigurationException e) {
+                return new Parsed<>(null, e);
+            }
+        }
+
+        T get() {
+            if (error != null) {
+                throw error;
+            }
+
+            return value;
+        }
+    }
+}
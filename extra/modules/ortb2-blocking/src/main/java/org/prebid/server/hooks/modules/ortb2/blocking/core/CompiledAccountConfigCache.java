@@ -0,0 +1,51 @@
+package org.prebid.server.hooks.modules.ortb2.blocking.core;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Keeps account blocking configurations compiled once per configuration, so the same configuration is not
+ * compiled again for each bidder of each request, and the changed configuration is compiled on its first use.
+ * <p>
+ * Configurations are looked up by instance first, which costs no json traversal while the same account
+ * configuration object is reused. Only a configuration instance that was not seen before is looked up by content,
+ * so an equal configuration built anew for the request is not compiled again. Configuration instances are expected
+ * not to be modified after they were passed here.
+ */
+public class CompiledAccountConfigCache {
+
+    private final Cache<ObjectNode, CompiledAccountConfig> instanceCache;
+    private final Cache<ObjectNode, CompiledAccountConfig> contentCache;
+
+    public CompiledAccountConfigCache(int maxSize) {
+        // weak keys are compared by identity and don't keep account configurations from being collected
+        instanceCache = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(maxSize)
+                .build();
+        contentCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    public CompiledAccountConfig get(ObjectNode accountConfig) {
+        if (accountConfig == null) {
+            return CompiledAccountConfig.compile(null);
+        }
+
+        return instanceCache.get(accountConfig, this::getByContent);
+    }
+
+    private CompiledAccountConfig getByContent(ObjectNode accountConfig) {
+        final CompiledAccountConfig cachedConfig = contentCache.getIfPresent(accountConfig);
+        if (cachedConfig != null) {
+            return cachedConfig;
+        }
+
+        // account configuration could be changed later, while the key must stay the same
+        final CompiledAccountConfig compiledConfig = CompiledAccountConfig.compile(accountConfig);
+        contentCache.put(accountConfig.deepCopy(), compiledConfig);
+        return compiledConfig;
+    }
+}
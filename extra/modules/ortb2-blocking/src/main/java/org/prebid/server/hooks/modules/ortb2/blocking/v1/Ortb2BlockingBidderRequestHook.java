@@ -8,6 +8,7 @@ import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.hooks.execution.v1.InvocationResultImpl;
 import org.prebid.server.hooks.execution.v1.bidder.BidderRequestPayloadImpl;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.BlockedAttributesResolver;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.CompiledAccountConfigCache;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.RequestUpdater;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.model.BlockedAttributes;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.model.ExecutionResult;
@@ -29,9 +30,13 @@ public class Ortb2BlockingBidderRequestHook implements BidderRequestHook {
     private static final String CODE = "ortb2-blocking-bidder-request";
 
     private final BidderCatalog bidderCatalog;
+    private final CompiledAccountConfigCache compiledAccountConfigCache;
+
+    public Ortb2BlockingBidderRequestHook(BidderCatalog bidderCatalog,
+                                          CompiledAccountConfigCache compiledAccountConfigCache) {
 
-    public Ortb2BlockingBidderRequestHook(BidderCatalog bidderCatalog) {
         this.bidderCatalog = Objects.requireNonNull(bidderCatalog);
+        this.compiledAccountConfigCache = Objects.requireNonNull(compiledAccountConfigCache);
     }
 
     @Override
@@ -50,7 +55,7 @@ public class Ortb2BlockingBidderRequestHook implements BidderRequestHook {
                         bidRequest,
                         bidder,
                         moduleContext.ortbVersionOf(bidder),
-                        invocationContext.accountConfig(),
+                        compiledAccountConfigCache.get(invocationContext.accountConfig()),
                         invocationContext.debugEnabled())
                 .resolve();
 
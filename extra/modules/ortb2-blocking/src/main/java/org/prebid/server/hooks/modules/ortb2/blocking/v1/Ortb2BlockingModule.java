@@ -2,6 +2,7 @@ package org.prebid.server.hooks.modules.ortb2.blocking.v1;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.CompiledAccountConfigCache;
 import org.prebid.server.hooks.v1.Hook;
 import org.prebid.server.hooks.v1.InvocationContext;
 import org.prebid.server.hooks.v1.Module;
@@ -16,13 +17,17 @@ public class Ortb2BlockingModule implements Module {
 
     private final List<? extends Hook<?, ? extends InvocationContext>> hooks;
 
-    public Ortb2BlockingModule(BidderCatalog bidderCatalog, ObjectMapper mapper) {
+    public Ortb2BlockingModule(BidderCatalog bidderCatalog,
+                               ObjectMapper mapper,
+                               CompiledAccountConfigCache compiledAccountConfigCache) {
+
         Objects.requireNonNull(bidderCatalog);
         Objects.requireNonNull(mapper);
+        Objects.requireNonNull(compiledAccountConfigCache);
 
         hooks = List.of(
-                new Ortb2BlockingBidderRequestHook(bidderCatalog),
-                new Ortb2BlockingRawBidderResponseHook(mapper));
+                new Ortb2BlockingBidderRequestHook(bidderCatalog, compiledAccountConfigCache),
+                new Ortb2BlockingRawBidderResponseHook(mapper, compiledAccountConfigCache));
     }
 
     @Override
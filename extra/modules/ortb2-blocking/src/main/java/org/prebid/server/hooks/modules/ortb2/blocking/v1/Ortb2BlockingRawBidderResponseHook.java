@@ -13,6 +13,7 @@ import org.prebid.server.hooks.execution.v1.analytics.ResultImpl;
 import org.prebid.server.hooks.execution.v1.analytics.TagsImpl;
 import org.prebid.server.hooks.execution.v1.bidder.BidderResponsePayloadImpl;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.BidsBlocker;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.CompiledAccountConfigCache;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.ResponseUpdater;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.model.AnalyticsResult;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.model.BlockedBids;
@@ -40,9 +41,13 @@ public class Ortb2BlockingRawBidderResponseHook implements RawBidderResponseHook
     private static final String SUCCESS_STATUS = "success";
 
     private final ObjectMapper mapper;
+    private final CompiledAccountConfigCache compiledAccountConfigCache;
+
+    public Ortb2BlockingRawBidderResponseHook(ObjectMapper mapper,
+                                              CompiledAccountConfigCache compiledAccountConfigCache) {
 
-    public Ortb2BlockingRawBidderResponseHook(ObjectMapper mapper) {
         this.mapper = Objects.requireNonNull(mapper);
+        this.compiledAccountConfigCache = Objects.requireNonNull(compiledAccountConfigCache);
     }
 
     @Override
@@ -57,7 +62,7 @@ public class Ortb2BlockingRawBidderResponseHook implements RawBidderResponseHook
                         bidderResponsePayload.bids(),
                         bidder,
                         ObjectUtils.defaultIfNull(moduleContext.ortbVersionOf(bidder), OrtbVersion.ORTB_2_5),
-                        invocationContext.accountConfig(),
+                        compiledAccountConfigCache.get(invocationContext.accountConfig()),
                         moduleContext.blockedAttributesFor(bidder),
                         invocationContext.auctionContext().getBidRejectionTrackers().get(bidder),
                         invocationContext.debugEnabled())
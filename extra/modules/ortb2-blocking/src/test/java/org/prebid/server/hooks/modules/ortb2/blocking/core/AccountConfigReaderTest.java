@@ -57,7 +57,7 @@ public class AccountConfigReaderTest {
     @Test
     public void blockedAttributesForShouldReturnEmptyResultWhenNoAccountConfig() {
         // given
-        final AccountConfigReader reader = AccountConfigReader.create(null, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(null);
 
         // when and then
         assertThat(reader.blockedAttributesFor(emptyRequest())).isEqualTo(Result.empty());
@@ -67,7 +67,7 @@ public class AccountConfigReaderTest {
     public void blockedAttributesForShouldReturnEmptyResultWhenNoAttributesField() {
         // given
         final ObjectNode accountConfig = toObjectNode(ModuleConfig.of(null));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThat(reader.blockedAttributesFor(emptyRequest())).isEqualTo(Result.empty());
@@ -77,7 +77,7 @@ public class AccountConfigReaderTest {
     public void blockedAttributesForShouldReturnEmptyResultWhenNoBlockedAttributes() {
         // given
         final ObjectNode accountConfig = toObjectNode(ModuleConfig.of(Attributes.builder().build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThat(reader.blockedAttributesFor(emptyRequest())).isEqualTo(Result.empty());
@@ -89,7 +89,7 @@ public class AccountConfigReaderTest {
         final ObjectNode accountConfig = toObjectNode(ModuleConfig.of(Attributes.builder()
                 .badv(Attribute.badvBuilder().build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThat(reader.blockedAttributesFor(emptyRequest())).isEqualTo(Result.empty());
@@ -99,7 +99,7 @@ public class AccountConfigReaderTest {
     public void blockedAttributesForShouldReturnErrorWhenAttributesIsNotObject() {
         // given
         final ObjectNode accountConfig = mapper.createObjectNode().put("attributes", 1);
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThatThrownBy(() -> reader.blockedAttributesFor(emptyRequest()))
@@ -113,7 +113,7 @@ public class AccountConfigReaderTest {
         final ObjectNode accountConfig = mapper.createObjectNode()
                 .set("attributes", mapper.createObjectNode()
                         .put("badv", 1));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThatThrownBy(() -> reader.blockedAttributesFor(emptyRequest()))
@@ -128,7 +128,7 @@ public class AccountConfigReaderTest {
                 .set("attributes", mapper.createObjectNode()
                         .set("badv", mapper.createObjectNode()
                                 .put("blocked-adomain", 1)));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThatThrownBy(() -> reader.blockedAttributesFor(emptyRequest()))
@@ -145,7 +145,7 @@ public class AccountConfigReaderTest {
                                 .set("blocked-adomain", mapper.createArrayNode()
                                         .add(1)
                                         .add("domain2.com"))));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThatThrownBy(() -> reader.blockedAttributesFor(emptyRequest()))
@@ -161,7 +161,7 @@ public class AccountConfigReaderTest {
                 .set("attributes", mapper.createObjectNode()
                         .set("badv", mapper.createObjectNode()
                                 .put("action-overrides", 1)));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThatThrownBy(() -> reader.blockedAttributesFor(emptyRequest()))
@@ -179,7 +179,7 @@ public class AccountConfigReaderTest {
                                         .set("blocked-adomain", mapper.createArrayNode()
                                                 .add(1)
                                                 .add(mapper.createObjectNode())))));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThatThrownBy(() -> reader.blockedAttributesFor(emptyRequest()))
@@ -196,7 +196,7 @@ public class AccountConfigReaderTest {
                                 .set("action-overrides", mapper.createObjectNode()
                                         .set("blocked-adomain", mapper.createArrayNode()
                                                 .add(mapper.createObjectNode())))));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThatThrownBy(() -> reader.blockedAttributesFor(emptyRequest()))
@@ -214,7 +214,7 @@ public class AccountConfigReaderTest {
                                         .set("blocked-adomain", mapper.createArrayNode()
                                                 .add(mapper.createObjectNode()
                                                         .put("conditions", 1))))));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThatThrownBy(() -> reader.blockedAttributesFor(emptyRequest()))
@@ -232,7 +232,7 @@ public class AccountConfigReaderTest {
                                         .set("blocked-adomain", mapper.createArrayNode()
                                                 .add(mapper.createObjectNode()
                                                         .set("conditions", mapper.createObjectNode()))))));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThatThrownBy(() -> reader.blockedAttributesFor(emptyRequest()))
@@ -252,7 +252,7 @@ public class AccountConfigReaderTest {
                                                 .add(mapper.createObjectNode()
                                                         .set("conditions", mapper.createObjectNode()
                                                                 .put("bidders", 1)))))));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThatThrownBy(() -> reader.blockedAttributesFor(emptyRequest()))
@@ -273,7 +273,7 @@ public class AccountConfigReaderTest {
                                                                 .set("bidders", mapper.createArrayNode()
                                                                         .add(1)
                                                                         .add("abc"))))))));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThatThrownBy(() -> reader.blockedAttributesFor(emptyRequest()))
@@ -293,7 +293,7 @@ public class AccountConfigReaderTest {
                                                 .add(mapper.createObjectNode()
                                                         .set("conditions", mapper.createObjectNode()
                                                                 .put("media-type", 1)))))));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThatThrownBy(() -> reader.blockedAttributesFor(emptyRequest()))
@@ -314,7 +314,7 @@ public class AccountConfigReaderTest {
                                                                 .set("media-type", mapper.createArrayNode()
                                                                         .add(1)
                                                                         .add("abc"))))))));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThatThrownBy(() -> reader.blockedAttributesFor(emptyRequest()))
@@ -335,7 +335,7 @@ public class AccountConfigReaderTest {
                                                         .<ObjectNode>set("conditions", mapper.createObjectNode()
                                                                 .set("bidders", mapper.createArrayNode()
                                                                         .add("bidder1"))))))));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThatThrownBy(() -> reader.blockedAttributesFor(emptyRequest()))
@@ -356,7 +356,7 @@ public class AccountConfigReaderTest {
                                                                 .set("bidders", mapper.createArrayNode()
                                                                         .add("bidder1")))
                                                         .put("override", 1))))));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThatThrownBy(() -> reader.blockedAttributesFor(emptyRequest()))
@@ -379,7 +379,7 @@ public class AccountConfigReaderTest {
                                                         .set("override", mapper.createArrayNode()
                                                                 .add(1)
                                                                 .add("abc")))))));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThatThrownBy(() -> reader.blockedAttributesFor(emptyRequest()))
@@ -397,7 +397,7 @@ public class AccountConfigReaderTest {
                                 .set("blocked-banner-type", mapper.createArrayNode()
                                         .add(1)
                                         .add("type2"))));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThatThrownBy(() -> reader.blockedAttributesFor(request(imp -> imp.banner(Banner.builder().build()))))
@@ -414,7 +414,7 @@ public class AccountConfigReaderTest {
                         .blocked(asList("domain1.com", "domain2.com"))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThat(reader.blockedAttributesFor(emptyRequest())).isEqualTo(
@@ -434,7 +434,7 @@ public class AccountConfigReaderTest {
                                                 singletonList("domain3.com")))))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThat(reader.blockedAttributesFor(emptyRequest())).isEqualTo(
@@ -454,7 +454,7 @@ public class AccountConfigReaderTest {
                                                 singletonList("domain3.com")))))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThat(reader.blockedAttributesFor(emptyRequest())).isEqualTo(
@@ -474,7 +474,7 @@ public class AccountConfigReaderTest {
                                                 singletonList("domain3.com")))))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThat(reader.blockedAttributesFor(emptyRequest())).isEqualTo(
@@ -493,7 +493,7 @@ public class AccountConfigReaderTest {
                                                 singletonList("domain3.com")))))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         final BidRequest request = BidRequest.builder()
                 .imp(asList(
@@ -518,7 +518,7 @@ public class AccountConfigReaderTest {
                                                 singletonList("domain3.com")))))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThat(reader.blockedAttributesFor(emptyRequest())).isEqualTo(
@@ -537,7 +537,7 @@ public class AccountConfigReaderTest {
                                                 singletonList("domain3.com")))))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThat(reader.blockedAttributesFor(request(imp -> imp.video(Video.builder().build())))).isEqualTo(
@@ -561,19 +561,19 @@ public class AccountConfigReaderTest {
 
         // when and then
         assertThat(AccountConfigReader
-                .create(accountConfig, "bidder1", ORTB_VERSION, true)
+                .create(CompiledAccountConfig.compile(accountConfig), "bidder1", ORTB_VERSION, true)
                 .blockedAttributesFor(request(imp -> imp.audio(Audio.builder().build()))))
                 .isEqualTo(Result.withValue(attributesWithBadv(singletonList("domain3.com"))));
         assertThat(AccountConfigReader
-                .create(accountConfig, "bidder1", ORTB_VERSION, true)
+                .create(CompiledAccountConfig.compile(accountConfig), "bidder1", ORTB_VERSION, true)
                 .blockedAttributesFor(request(imp -> imp.video(Video.builder().build()))))
                 .isEqualTo(Result.withValue(attributesWithBadv(singletonList("domain3.com"))));
         assertThat(AccountConfigReader
-                .create(accountConfig, "bidder1", ORTB_VERSION, true)
+                .create(CompiledAccountConfig.compile(accountConfig), "bidder1", ORTB_VERSION, true)
                 .blockedAttributesFor(request(imp -> imp.banner(Banner.builder().build()))))
                 .isEqualTo(Result.withValue(attributesWithBadv(singletonList("domain3.com"))));
         assertThat(AccountConfigReader
-                .create(accountConfig, "bidder1", ORTB_VERSION, true)
+                .create(CompiledAccountConfig.compile(accountConfig), "bidder1", ORTB_VERSION, true)
                 .blockedAttributesFor(request(imp -> imp.xNative(Native.builder().build()))))
                 .isEqualTo(Result.withValue(attributesWithBadv(singletonList("domain3.com"))));
     }
@@ -593,7 +593,7 @@ public class AccountConfigReaderTest {
                                                 singletonList("domain4.com")))))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThat(reader
@@ -621,7 +621,8 @@ public class AccountConfigReaderTest {
                                                 singletonList("domain4.com")))))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, false);
+        final AccountConfigReader reader = AccountConfigReader.create(
+                CompiledAccountConfig.compile(accountConfig), "bidder1", ORTB_VERSION, false);
 
         // when and then
         assertThat(reader
@@ -652,7 +653,7 @@ public class AccountConfigReaderTest {
                                                 singletonList("domain6.com")))))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThat(reader
@@ -680,7 +681,7 @@ public class AccountConfigReaderTest {
                                                 singletonList("domain6.com")))))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThat(reader
@@ -719,7 +720,7 @@ public class AccountConfigReaderTest {
                                         singletonList(6)))))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         final Map<String, List<Integer>> expectedBtype = new HashMap<>();
@@ -777,7 +778,7 @@ public class AccountConfigReaderTest {
                                         singletonList(3)))))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThat(reader.blockedAttributesFor(request(imp -> imp.id("impId1").banner(Banner.builder().build()))))
@@ -831,7 +832,7 @@ public class AccountConfigReaderTest {
                                         singletonList(3)))))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThat(reader.blockedAttributesFor(request(imp -> imp.id("impId1").video(Video.builder().build()))))
@@ -884,7 +885,7 @@ public class AccountConfigReaderTest {
                                         singletonList(3)))))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThat(reader.blockedAttributesFor(request(imp -> imp.id("impId1").audio(Audio.builder().build()))))
@@ -910,7 +911,7 @@ public class AccountConfigReaderTest {
                   }
                 }
                 """);
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThat(reader.blockedAttributesFor(request(imp -> imp.id("impId1")))).isEqualTo(Result.empty());
@@ -931,7 +932,7 @@ public class AccountConfigReaderTest {
                 }
                 """);
         final AccountConfigReader reader = AccountConfigReader.create(
-                accountConfig, "bidder1", OrtbVersion.ORTB_2_6, true);
+                CompiledAccountConfig.compile(accountConfig), "bidder1", OrtbVersion.ORTB_2_6, true);
 
         // when and then
         assertThat(reader.blockedAttributesFor(request(imp -> imp.id("impId1"), request -> request.cattax(2))))
@@ -953,7 +954,7 @@ public class AccountConfigReaderTest {
                 }
                 """);
         final AccountConfigReader reader = AccountConfigReader.create(
-                accountConfig, "bidder1", OrtbVersion.ORTB_2_6, true);
+                CompiledAccountConfig.compile(accountConfig), "bidder1", OrtbVersion.ORTB_2_6, true);
 
         // when and then
         assertThat(reader.blockedAttributesFor(request(imp -> imp.id("impId1"))))
@@ -967,7 +968,7 @@ public class AccountConfigReaderTest {
                 .set("attributes", mapper.createObjectNode()
                         .set("badv", mapper.createObjectNode()
                                 .put("enforce-blocks", 1)));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThatThrownBy(() -> reader.responseBlockingConfigFor(bid()))
@@ -983,7 +984,7 @@ public class AccountConfigReaderTest {
                 .set("attributes", mapper.createObjectNode()
                         .set("badv", mapper.createObjectNode()
                                 .put("allowed-adomain-for-deals", 1)));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThatThrownBy(() -> reader.responseBlockingConfigFor(bid()))
@@ -1000,7 +1001,7 @@ public class AccountConfigReaderTest {
                                 .set("allowed-adomain-for-deals", mapper.createArrayNode()
                                         .add(1)
                                         .add("domain1.com"))));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThatThrownBy(() -> reader.responseBlockingConfigFor(bid()))
@@ -1018,7 +1019,7 @@ public class AccountConfigReaderTest {
                                 .set("allowed-banner-attr-for-deals", mapper.createArrayNode()
                                         .add(1)
                                         .add("domain1.com"))));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThatThrownBy(() -> reader.responseBlockingConfigFor(bid()))
@@ -1037,7 +1038,7 @@ public class AccountConfigReaderTest {
                                         .set("allowed-adomain-for-deals", mapper.createArrayNode()
                                                 .add(mapper.createObjectNode()
                                                         .set("conditions", mapper.createObjectNode()))))));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThatThrownBy(() -> reader.responseBlockingConfigFor(bid()))
@@ -1051,7 +1052,7 @@ public class AccountConfigReaderTest {
         final ObjectNode accountConfig = toObjectNode(ModuleConfig.of(Attributes.builder()
                 .badv(Attribute.badvBuilder().build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThat(reader.responseBlockingConfigFor(bid())).satisfies(result -> {
@@ -1069,7 +1070,7 @@ public class AccountConfigReaderTest {
                         .allowedForDeals(asList("domain1.com", "domain2.com"))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         final BidderBid bid = BidderBid.of(Bid.builder().build(), BidType.banner, "USD");
 
@@ -1091,7 +1092,7 @@ public class AccountConfigReaderTest {
                         .allowedForDeals(asList("domain1.com", "domain2.com"))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThat(reader.responseBlockingConfigFor(bid())).satisfies(result -> {
@@ -1122,7 +1123,7 @@ public class AccountConfigReaderTest {
                                         singletonList("domain3.com")))))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThat(reader.responseBlockingConfigFor(bid())).satisfies(result -> {
@@ -1153,7 +1154,7 @@ public class AccountConfigReaderTest {
                                         singletonList("domain3.com")))))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThat(reader.responseBlockingConfigFor(bid())).satisfies(result -> {
@@ -1181,7 +1182,7 @@ public class AccountConfigReaderTest {
                                         singletonList("domain3.com")))))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThat(reader.responseBlockingConfigFor(bid())).satisfies(result -> {
@@ -1214,7 +1215,7 @@ public class AccountConfigReaderTest {
                                                 true))))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThat(reader.responseBlockingConfigFor(bid())).satisfies(result -> {
@@ -1240,7 +1241,7 @@ public class AccountConfigReaderTest {
                                                 singletonList("domain4.com")))))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThat(reader.responseBlockingConfigFor(bid())).satisfies(result -> {
@@ -1310,7 +1311,7 @@ public class AccountConfigReaderTest {
                                         singletonList(3)))))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThat(reader.responseBlockingConfigFor(bid())).satisfies(result -> {
@@ -1388,7 +1389,7 @@ public class AccountConfigReaderTest {
                                         singletonList(3)))))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThat(reader.responseBlockingConfigFor(bid())).satisfies(result -> {
@@ -1466,7 +1467,7 @@ public class AccountConfigReaderTest {
                                         singletonList(3)))))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         assertThat(reader.responseBlockingConfigFor(bid())).satisfies(result -> {
@@ -1505,7 +1506,7 @@ public class AccountConfigReaderTest {
                                         singletonList("cat3")))))
                         .build())
                 .build()));
-        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+        final AccountConfigReader reader = reader(accountConfig);
 
         // when and then
         final Map<MediaType, BidAttributeBlockingConfig<Integer>> expectedBattr = new HashMap<>();
@@ -1556,4 +1557,8 @@ public class AccountConfigReaderTest {
     private static ObjectNode toObjectNode(ModuleConfig config) {
         return mapper.valueToTree(config);
     }
+
+    private static AccountConfigReader reader(ObjectNode accountConfig) {
+        return AccountConfigReader.create(CompiledAccountConfig.compile(accountConfig), "bidder1", ORTB_VERSION, true);
+    }
 }
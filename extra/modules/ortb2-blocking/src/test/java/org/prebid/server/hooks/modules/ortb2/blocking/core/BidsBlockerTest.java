@@ -56,7 +56,7 @@ public class BidsBlockerTest {
     public void shouldReturnEmptyResultWhenNoBlockingResponseConfig() {
         // given
         final List<BidderBid> bids = singletonList(bid());
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, null, null, bidRejectionTracker, true);
+        final BidsBlocker blocker = blocker(bids, null, null, true);
 
         // when and then
         assertThat(blocker.block()).satisfies(BidsBlockerTest::isEmpty);
@@ -70,7 +70,7 @@ public class BidsBlockerTest {
                 .put("attributes", 1);
 
         final List<BidderBid> bids = singletonList(bid());
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, null, bidRejectionTracker, true);
+        final BidsBlocker blocker = blocker(bids, accountConfig, null, true);
 
         // when and then
         assertThat(blocker.block()).isEqualTo(ExecutionResult.builder()
@@ -86,7 +86,7 @@ public class BidsBlockerTest {
                 .put("attributes", 1);
 
         final List<BidderBid> bids = singletonList(bid());
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, null, bidRejectionTracker, false);
+        final BidsBlocker blocker = blocker(bids, accountConfig, null, false);
 
         // when and then
         assertThat(blocker.block()).isEqualTo(ExecutionResult.empty());
@@ -105,7 +105,7 @@ public class BidsBlockerTest {
 
         // when
         final List<BidderBid> bids = singletonList(bid());
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, null, bidRejectionTracker, true);
+        final BidsBlocker blocker = blocker(bids, accountConfig, null, true);
 
         // when and then
         assertThat(blocker.block()).satisfies(BidsBlockerTest::isEmpty);
@@ -124,7 +124,7 @@ public class BidsBlockerTest {
 
         // when
         final List<BidderBid> bids = singletonList(bid());
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, null, bidRejectionTracker, true);
+        final BidsBlocker blocker = blocker(bids, accountConfig, null, true);
 
         // when and then
         assertThat(blocker.block()).satisfies(BidsBlockerTest::isEmpty);
@@ -143,7 +143,7 @@ public class BidsBlockerTest {
 
         // when
         final List<BidderBid> bids = singletonList(bid());
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, null, bidRejectionTracker, false);
+        final BidsBlocker blocker = blocker(bids, accountConfig, null, false);
 
         // when and then
         assertThat(blocker.block()).satisfies(result -> hasValue(result, 0));
@@ -161,7 +161,7 @@ public class BidsBlockerTest {
         // when
         final List<BidderBid> bids = singletonList(bid(bid -> bid.adomain(singletonList("domain1.com"))));
         final BlockedAttributes blockedAttributes = attributesWithBadv(singletonList("domain1.com"));
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, blockedAttributes, bidRejectionTracker, true);
+        final BidsBlocker blocker = blocker(bids, accountConfig, blockedAttributes, true);
 
         // when and then
         assertThat(blocker.block()).satisfies(BidsBlockerTest::isEmpty);
@@ -180,7 +180,7 @@ public class BidsBlockerTest {
         // when
         final List<BidderBid> bids = singletonList(bid(bid -> bid.adomain(singletonList("domain1.com"))));
         final BlockedAttributes blockedAttributes = attributesWithBadv(singletonList("domain2.com"));
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, blockedAttributes, bidRejectionTracker, true);
+        final BidsBlocker blocker = blocker(bids, accountConfig, blockedAttributes, true);
 
         // when and then
         assertThat(blocker.block()).satisfies(BidsBlockerTest::isEmpty);
@@ -199,7 +199,7 @@ public class BidsBlockerTest {
         // when
         final BidderBid bid = bid(bidBuilder -> bidBuilder.adomain(singletonList("domain1.com")));
         final BlockedAttributes blockedAttributes = attributesWithBadv(singletonList("domain1.com"));
-        final BidsBlocker blocker = BidsBlocker.create(singletonList(bid), "bidder1", ORTB_VERSION, accountConfig, blockedAttributes, bidRejectionTracker, false);
+        final BidsBlocker blocker = blocker(singletonList(bid), accountConfig, blockedAttributes, false);
 
         // when and then
         assertThat(blocker.block()).satisfies(result -> hasValue(result, 0));
@@ -217,7 +217,7 @@ public class BidsBlockerTest {
 
         // when
         final List<BidderBid> bids = singletonList(bid(bid -> bid.adomain(singletonList("domain1.com"))));
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, null, bidRejectionTracker, true);
+        final BidsBlocker blocker = blocker(bids, accountConfig, null, true);
 
         // when and then
         assertThat(blocker.block()).satisfies(BidsBlockerTest::isEmpty);
@@ -240,7 +240,7 @@ public class BidsBlockerTest {
         final BlockedAttributes blockedAttributes = BlockedAttributes.builder()
                 .battr(singletonMap(MediaType.BANNER, singletonMap("impId1", asList(1, 2))))
                 .build();
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, blockedAttributes, bidRejectionTracker, true);
+        final BidsBlocker blocker = blocker(bids, accountConfig, blockedAttributes, true);
 
         // when and then
         assertThat(blocker.block()).satisfies(BidsBlockerTest::isEmpty);
@@ -263,7 +263,7 @@ public class BidsBlockerTest {
         final BlockedAttributes blockedAttributes = BlockedAttributes.builder()
                 .battr(singletonMap(MediaType.VIDEO, singletonMap("impId1", asList(1, 2))))
                 .build();
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, blockedAttributes, bidRejectionTracker, true);
+        final BidsBlocker blocker = blocker(bids, accountConfig, blockedAttributes, true);
 
         // when and then
         assertThat(blocker.block()).satisfies(BidsBlockerTest::isEmpty);
@@ -286,7 +286,7 @@ public class BidsBlockerTest {
         final BlockedAttributes blockedAttributes = BlockedAttributes.builder()
                 .battr(singletonMap(MediaType.AUDIO, singletonMap("impId1", asList(1, 2))))
                 .build();
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, blockedAttributes, bidRejectionTracker, true);
+        final BidsBlocker blocker = blocker(bids, accountConfig, blockedAttributes, true);
 
         // when and then
         assertThat(blocker.block()).satisfies(BidsBlockerTest::isEmpty);
@@ -306,7 +306,7 @@ public class BidsBlockerTest {
         // when
         final BidderBid bid = bid(bidBuilder -> bidBuilder.adomain(singletonList("domain1.com")));
         final BlockedAttributes blockedAttributes = attributesWithBadv(singletonList("domain1.com"));
-        final BidsBlocker blocker = BidsBlocker.create(singletonList(bid), "bidder1", ORTB_VERSION, accountConfig, blockedAttributes, bidRejectionTracker, true);
+        final BidsBlocker blocker = blocker(singletonList(bid), accountConfig, blockedAttributes, true);
 
         // when and then
         assertThat(blocker.block()).satisfies(BidsBlockerTest::isEmpty);
@@ -326,7 +326,7 @@ public class BidsBlockerTest {
         // when
         final BidderBid bid = bid(bidBuilder -> bidBuilder.adomain(singletonList("domain1.com")));
         final BlockedAttributes blockedAttributes = attributesWithBadv(singletonList("domain1.com"));
-        final BidsBlocker blocker = BidsBlocker.create(singletonList(bid), "bidder1", ORTB_VERSION, accountConfig, blockedAttributes, bidRejectionTracker, false);
+        final BidsBlocker blocker = blocker(singletonList(bid), accountConfig, blockedAttributes, false);
 
         // when and then
         assertThat(blocker.block()).satisfies(result -> hasValue(result, 0));
@@ -345,7 +345,7 @@ public class BidsBlockerTest {
 
         // when
         final BidderBid bid = bid();
-        final BidsBlocker blocker = BidsBlocker.create(singletonList(bid), "bidder1", ORTB_VERSION, accountConfig, null, bidRejectionTracker, true);
+        final BidsBlocker blocker = blocker(singletonList(bid), accountConfig, null, true);
 
         // when and then
         assertThat(blocker.block()).satisfies(result -> {
@@ -368,7 +368,7 @@ public class BidsBlockerTest {
 
         // when
         final BidderBid bid = bid();
-        final BidsBlocker blocker = BidsBlocker.create(singletonList(bid), "bidder1", ORTB_VERSION, accountConfig, null, bidRejectionTracker, false);
+        final BidsBlocker blocker = blocker(singletonList(bid), accountConfig, null, false);
 
         // when and then
         assertThat(blocker.block()).satisfies(result -> hasValue(result, 0));
@@ -416,7 +416,7 @@ public class BidsBlockerTest {
                 .bapp(asList("app1", "app2", "app3"))
                 .battr(singletonMap(MediaType.BANNER, singletonMap("impId2", asList(1, 2, 3))))
                 .build();
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, blockedAttributes, bidRejectionTracker, true);
+        final BidsBlocker blocker = blocker(bids, accountConfig, blockedAttributes, true);
 
         // when and then
         assertThat(blocker.block()).satisfies(result -> {
@@ -498,7 +498,7 @@ public class BidsBlockerTest {
                 .bapp(asList("app1", "app2"))
                 .battr(singletonMap(MediaType.BANNER, singletonMap("impId1", asList(1, 2))))
                 .build();
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, blockedAttributes, bidRejectionTracker, true);
+        final BidsBlocker blocker = blocker(bids, accountConfig, blockedAttributes, true);
 
         // when and then
         assertThat(blocker.block()).satisfies(result -> {
@@ -539,7 +539,7 @@ public class BidsBlockerTest {
                 bid(bid -> bid.cattax(3)),
                 bid());
         final BlockedAttributes blockedAttributes = BlockedAttributes.builder().build();
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, blockedAttributes, bidRejectionTracker, true);
+        final BidsBlocker blocker = blocker(bids, accountConfig, blockedAttributes, true);
 
         // when and then
         assertThat(blocker.block())
@@ -563,7 +563,13 @@ public class BidsBlockerTest {
         final List<BidderBid> bids = singletonList(bid());
         final BlockedAttributes blockedAttributes = BlockedAttributes.builder().build();
         final BidsBlocker blocker = BidsBlocker.create(
-                bids, "bidder1", OrtbVersion.ORTB_2_6, accountConfig, blockedAttributes, bidRejectionTracker, true);
+                bids,
+                "bidder1",
+                OrtbVersion.ORTB_2_6,
+                CompiledAccountConfig.compile(accountConfig),
+                blockedAttributes,
+                bidRejectionTracker,
+                true);
 
         // when and then
         assertThat(blocker.block())
@@ -589,7 +595,13 @@ public class BidsBlockerTest {
                 bid(bid -> bid.cattax(2)));
         final BlockedAttributes blockedAttributes = BlockedAttributes.builder().cattaxComplement(2).build();
         final BidsBlocker blocker = BidsBlocker.create(
-                bids, "bidder1", OrtbVersion.ORTB_2_6, accountConfig, blockedAttributes, bidRejectionTracker, true);
+                bids,
+                "bidder1",
+                OrtbVersion.ORTB_2_6,
+                CompiledAccountConfig.compile(accountConfig),
+                blockedAttributes,
+                bidRejectionTracker,
+                true);
 
         // when and then
         assertThat(blocker.block()).satisfies(result -> {
@@ -617,7 +629,13 @@ public class BidsBlockerTest {
                 bid(bid -> bid.cattax(2)));
         final BlockedAttributes blockedAttributes = BlockedAttributes.builder().build();
         final BidsBlocker blocker = BidsBlocker.create(
-                bids, "bidder1", OrtbVersion.ORTB_2_6, accountConfig, blockedAttributes, bidRejectionTracker, true);
+                bids,
+                "bidder1",
+                OrtbVersion.ORTB_2_6,
+                CompiledAccountConfig.compile(accountConfig),
+                blockedAttributes,
+                bidRejectionTracker,
+                true);
 
         // when and then
         assertThat(blocker.block()).satisfies(result -> {
@@ -629,6 +647,21 @@ public class BidsBlockerTest {
         verifyNoInteractions(bidRejectionTracker);
     }
 
+    private BidsBlocker blocker(List<BidderBid> bids,
+                                ObjectNode accountConfig,
+                                BlockedAttributes blockedAttributes,
+                                boolean debugEnabled) {
+
+        return BidsBlocker.create(
+                bids,
+                "bidder1",
+                ORTB_VERSION,
+                CompiledAccountConfig.compile(accountConfig),
+                blockedAttributes,
+                bidRejectionTracker,
+                debugEnabled);
+    }
+
     private static BidderBid bid() {
         return bid(identity());
     }
@@ -0,0 +1,68 @@
+package org.prebid.server.hooks.modules.ortb2.blocking.core;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompiledAccountConfigCacheTest {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final CompiledAccountConfigCache target = new CompiledAccountConfigCache(100);
+
+    @Test
+    public void getShouldReturnSameCompiledConfigForConfigsWithSameContent() {
+        // given
+        final ObjectNode accountConfig = givenAccountConfig();
+
+        // when
+        final CompiledAccountConfig first = target.get(accountConfig);
+        final CompiledAccountConfig second = target.get(givenAccountConfig());
+
+        // then
+        assertThat(first).isSameAs(second);
+    }
+
+    @Test
+    public void getShouldReturnSameCompiledConfigForSameConfigInstance() {
+        // given
+        final ObjectNode accountConfig = givenAccountConfig();
+
+        // when
+        final CompiledAccountConfig first = target.get(accountConfig);
+        final CompiledAccountConfig second = target.get(accountConfig);
+
+        // then
+        assertThat(first).isSameAs(second);
+    }
+
+    @Test
+    public void getShouldCompileConfigAgainWhenItsContentChanged() {
+        // given
+        final ObjectNode accountConfig = givenAccountConfig();
+        final CompiledAccountConfig first = target.get(accountConfig);
+
+        // when
+        final ObjectNode changedAccountConfig = accountConfig.deepCopy();
+        ((ObjectNode) changedAccountConfig.at("/attributes/badv")).put("enforce-blocks", false);
+        final CompiledAccountConfig second = target.get(changedAccountConfig);
+
+        // then
+        assertThat(second).isNotSameAs(first);
+        assertThat(target.get(givenAccountConfig())).isSameAs(first);
+    }
+
+    @Test
+    public void getShouldReturnEmptyCompiledConfigWhenConfigIsMissing() {
+        // when and then
+        assertThat(target.get(null).hasAttributes()).isFalse();
+    }
+
+    private static ObjectNode givenAccountConfig() {
+        final ObjectNode accountConfig = mapper.createObjectNode();
+        accountConfig.putObject("attributes").putObject("badv").put("enforce-blocks", true);
+        return accountConfig;
+    }
+}
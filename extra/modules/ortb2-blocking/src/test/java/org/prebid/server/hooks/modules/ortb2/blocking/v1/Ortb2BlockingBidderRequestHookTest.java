@@ -20,6 +20,7 @@ import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.bidder.BidderInfo;
 import org.prebid.server.hooks.execution.v1.InvocationResultImpl;
 import org.prebid.server.hooks.execution.v1.bidder.BidderRequestPayloadImpl;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.CompiledAccountConfigCache;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.config.ArrayOverride;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.config.Attribute;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.config.AttributeActionOverrides;
@@ -66,7 +67,7 @@ public class Ortb2BlockingBidderRequestHookTest {
         given(bidderCatalog.bidderInfoByName(anyString()))
                 .willReturn(bidderInfo(OrtbVersion.ORTB_2_5));
 
-        hook = new Ortb2BlockingBidderRequestHook(bidderCatalog);
+        hook = new Ortb2BlockingBidderRequestHook(bidderCatalog, new CompiledAccountConfigCache(100));
     }
 
     @Test
@@ -276,6 +277,7 @@ public class Ortb2BlockingBidderRequestHookTest {
                 false,
                 false,
                 null,
+                null,
                 Ortb.of(false),
                 0L);
     }
@@ -19,6 +19,7 @@ import org.prebid.server.hooks.execution.v1.analytics.AppliedToImpl;
 import org.prebid.server.hooks.execution.v1.analytics.ResultImpl;
 import org.prebid.server.hooks.execution.v1.analytics.TagsImpl;
 import org.prebid.server.hooks.execution.v1.bidder.BidderResponsePayloadImpl;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.CompiledAccountConfigCache;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.config.Attribute;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.config.AttributeActionOverrides;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.config.Attributes;
@@ -53,7 +54,7 @@ public class Ortb2BlockingRawBidderResponseHookTest {
             .setSerializationInclusion(JsonInclude.Include.NON_NULL);
 
     private final Ortb2BlockingRawBidderResponseHook hook = new Ortb2BlockingRawBidderResponseHook(
-            ObjectMapperProvider.mapper());
+            ObjectMapperProvider.mapper(), new CompiledAccountConfigCache(100));
 
     @Mock
     private BidRejectionTracker bidRejectionTracker;
@@ -0,0 +1,13 @@
+package org.prebid.server.analytics.pipeline;
+
+import io.vertx.core.Future;
+
+/**
+ * Sends batch of serialized (and possibly compressed) analytics events, the returned future should fail
+ * if the batch wasn't accepted, so it can be retried by {@link AnalyticsEventPipeline}.
+ */
+@FunctionalInterface
+public interface AnalyticsBatchSender {
+
+    Future<Void> send(byte[] batch);
+}
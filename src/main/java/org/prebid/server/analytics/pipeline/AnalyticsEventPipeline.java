@@ -0,0 +1,200 @@
+package org.prebid.server.analytics.pipeline;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Vertx;
+import org.prebid.server.compression.GzipCompressor;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Delivers analytics events of a reporter to its endpoint without doing any heavy work on the event loop.
+ * <p>
+ * Event loop only puts event to the bounded lock-free {@link EventBuffer} (dropping events according to
+ * {@link DropPolicy} when it's full). Events are serialized on a worker thread straight into the reusable batch
+ * buffer and compressed if needed. Batch is flushed when the max number of events is queued or by timer, whichever
+ * happens first, and is limited by both events number and size in bytes. Batches failed to be sent are retried.
+ * <p>
+ * Number of sent and lost events is reported with analytics.&lt;name&gt;.events.(flushed|dropped) metrics.
+ */
+public class AnalyticsEventPipeline<T> {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalyticsEventPipeline.class);
+
+    private final String name;
+    private final int maxBatchEvents;
+    private final int maxBatchBytes;
+    private final long maxBatchDelayMs;
+    private final int maxRetries;
+    private final long retryDelayMs;
+    private final boolean gzip;
+    private final byte[] batchPrefix;
+    private final byte[] batchDelimiter;
+    private final byte[] batchSuffix;
+    private final AnalyticsEventSerializer<T> serializer;
+    private final AnalyticsBatchSender sender;
+    private final GzipCompressor gzipCompressor;
+    private final Vertx vertx;
+    private final Metrics metrics;
+
+    private final EventBuffer<T> events;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    // only one thread drains events at a time, so the same buffer is reused for all the batches
+    private final BatchBuffer buffer = new BatchBuffer();
+
+    public AnalyticsEventPipeline(String name,
+                                  AnalyticsPipelineProperties properties,
+                                  AnalyticsEventSerializer<T> serializer,
+                                  AnalyticsBatchSender sender,
+                                  GzipCompressor gzipCompressor,
+                                  Vertx vertx,
+                                  Metrics metrics) {
+
+        this.name = Objects.requireNonNull(name);
+        this.maxBatchEvents = Math.max(properties.getMaxBatchEvents(), 1);
+        this.maxBatchBytes = properties.getMaxBatchBytes();
+        this.maxBatchDelayMs = properties.getMaxBatchDelayMs();
+        this.maxRetries = properties.getMaxRetries();
+        this.retryDelayMs = properties.getRetryDelayMs();
+        this.gzip = properties.isGzip();
+        this.batchPrefix = properties.getBatchPrefix().getBytes(StandardCharsets.UTF_8);
+        this.batchDelimiter = properties.getBatchDelimiter().getBytes(StandardCharsets.UTF_8);
+        this.batchSuffix = properties.getBatchSuffix().getBytes(StandardCharsets.UTF_8);
+        this.serializer = Objects.requireNonNull(serializer);
+        this.sender = Objects.requireNonNull(sender);
+        this.gzipCompressor = Objects.requireNonNull(gzipCompressor);
+        this.vertx = Objects.requireNonNull(vertx);
+        this.metrics = Objects.requireNonNull(metrics);
+
+        this.events = new EventBuffer<>(properties.getQueueCapacity(), properties.getDropPolicy());
+    }
+
+    /**
+     * Starts periodic flushing of the queued events.
+     */
+    public void start() {
+        vertx.setPeriodic(maxBatchDelayMs, ignored -> flush());
+    }
+
+    /**
+     * Queues event to be sent, never blocks.
+     */
+    public void offer(T event) {
+        if (!events.put(event)) {
+            updateEventsMetric(MetricName.dropped, 1);
+        }
+
+        if (events.size() >= maxBatchEvents) {
+            drain(false);
+        }
+    }
+
+    /**
+     * Sends all queued events regardless of the batch limits.
+     */
+    public void flush() {
+        drain(true);
+    }
+
+    private void drain(boolean all) {
+        // events are already being drained, so the ones queued meanwhile will be taken by the next drain
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+
+        vertx.executeBlocking(() -> makeBatches(all), false)
+                .onComplete(this::handleBatches);
+    }
+
+    private List<Batch> makeBatches(boolean all) {
+        final List<Batch> batches = new ArrayList<>();
+        while (all ? events.size() > 0 : events.size() >= maxBatchEvents) {
+            final Batch batch = makeBatch();
+            if (batch == null) {
+                break;
+            }
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    private Batch makeBatch() {
+        buffer.reset();
+        buffer.writeBytes(batchPrefix);
+
+        int batchEvents = 0;
+        T event;
+        while (batchEvents < maxBatchEvents && buffer.size() < maxBatchBytes && (event = events.poll()) != null) {
+            final int size = buffer.size();
+            try {
+                if (batchEvents > 0) {
+                    buffer.writeBytes(batchDelimiter);
+                }
+                serializer.serialize(event, buffer);
+                batchEvents++;
+            } catch (IOException | RuntimeException e) {
+                logger.warn("[{}] Failed to serialize event: {}", name, e.getMessage());
+                buffer.truncate(size);
+                updateEventsMetric(MetricName.dropped, 1);
+            }
+        }
+
+        if (batchEvents == 0) {
+            return null;
+        }
+
+        buffer.writeBytes(batchSuffix);
+        final byte[] body = buffer.toByteArray();
+        return new Batch(
+                gzip ? gzipCompressor.compress(body, GzipCompressor.DEFAULT_LEVEL, MetricName.analytics_request) : body,
+                batchEvents);
+    }
+
+    private void handleBatches(AsyncResult<List<Batch>> result) {
+        draining.set(false);
+
+        if (result.failed()) {
+            logger.error("[{}] Failed to prepare events batch: {}", name, result.cause().getMessage());
+            return;
+        }
+
+        result.result().forEach(batch -> send(batch, 0));
+    }
+
+    private void send(Batch batch, int retry) {
+        sender.send(batch.body()).onComplete(result -> {
+            if (result.succeeded()) {
+                updateEventsMetric(MetricName.flushed, batch.eventsCount());
+            } else if (retry < maxRetries) {
+                vertx.setTimer(retryDelayMs, ignored -> send(batch, retry + 1));
+            } else {
+                logger.error("[{}] Failed to send {} events with a reason: {}",
+                        name, batch.eventsCount(), result.cause().getMessage());
+                updateEventsMetric(MetricName.dropped, batch.eventsCount());
+            }
+        });
+    }
+
+    private void updateEventsMetric(MetricName result, int count) {
+        metrics.updateAnalyticEventsBufferMetric(name, result, count);
+    }
+
+    private record Batch(byte[] body, int eventsCount) {
+    }
+
+    private static class BatchBuffer extends ByteArrayOutputStream {
+
+        void truncate(int size) {
+            count = size;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package org.prebid.server.analytics.pipeline;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes analytics event to the batch being built by {@link AnalyticsEventPipeline}.
+ */
+@FunctionalInterface
+public interface AnalyticsEventSerializer<T> {
+
+    void serialize(T event, OutputStream output) throws IOException;
+}
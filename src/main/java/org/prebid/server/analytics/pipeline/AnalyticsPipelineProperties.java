@@ -0,0 +1,34 @@
+package org.prebid.server.analytics.pipeline;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Builder
+@Value
+public class AnalyticsPipelineProperties {
+
+    int queueCapacity;
+
+    DropPolicy dropPolicy;
+
+    int maxBatchEvents;
+
+    int maxBatchBytes;
+
+    long maxBatchDelayMs;
+
+    int maxRetries;
+
+    long retryDelayMs;
+
+    boolean gzip;
+
+    @Builder.Default
+    String batchPrefix = "";
+
+    @Builder.Default
+    String batchDelimiter = "";
+
+    @Builder.Default
+    String batchSuffix = "";
+}
@@ -0,0 +1,9 @@
+package org.prebid.server.analytics.pipeline;
+
+/**
+ * Defines which event is dropped when the {@link EventBuffer} of {@link AnalyticsEventPipeline} is full.
+ */
+public enum DropPolicy {
+
+    dropNewest, dropOldest
+}
@@ -0,0 +1,62 @@
+package org.prebid.server.analytics.pipeline;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lock-free bounded buffer of events: any number of threads put events without blocking each other,
+ * while only one thread at a time polls them to flush.
+ */
+public class EventBuffer<T> {
+
+    private final Queue<T> events = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger eventsCount = new AtomicInteger();
+
+    private final int capacity;
+
+    private final DropPolicy dropPolicy;
+
+    public EventBuffer(int capacity, DropPolicy dropPolicy) {
+        this.capacity = capacity;
+        this.dropPolicy = Objects.requireNonNull(dropPolicy);
+    }
+
+    /**
+     * Puts event to the buffer, never blocks. Returns false if the buffer is full,
+     * so either the given or the oldest event was dropped according to {@link DropPolicy}.
+     */
+    public boolean put(T event) {
+        if (eventsCount.incrementAndGet() <= capacity) {
+            events.offer(event);
+            return true;
+        }
+
+        eventsCount.decrementAndGet();
+
+        // with drop oldest policy the oldest event is replaced with the given one
+        if (dropPolicy == DropPolicy.dropOldest && events.poll() != null) {
+            events.offer(event);
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the oldest event removing it from the buffer, or null if the buffer is empty.
+     */
+    public T poll() {
+        final T event = events.poll();
+        if (event != null) {
+            eventsCount.decrementAndGet();
+        }
+
+        return event;
+    }
+
+    public int size() {
+        return eventsCount.get();
+    }
+}
@@ -43,6 +43,7 @@ import org.prebid.server.settings.model.AccountAnalyticsConfig;
 import org.prebid.server.util.StreamUtil;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -57,6 +58,9 @@ public class AnalyticsReporterDelegator {
     private static final Logger logger = LoggerFactory.getLogger(AnalyticsReporterDelegator.class);
     private static final ConditionalLogger UNKNOWN_ADAPTERS_LOGGER = new ConditionalLogger(logger);
     private static final Set<String> ADAPTERS_PERMITTED_FOR_FULL_DATA = Collections.singleton("logAnalytics");
+    private static final int DISALLOW_TRANSMIT_UFPD = 1;
+    private static final int DISALLOW_TRANSMIT_EIDS = 1 << 1;
+    private static final int DISALLOW_TRANSMIT_GEO = 1 << 2;
 
     private final Vertx vertx;
     private final List<AnalyticsReporter> delegates;
@@ -65,6 +69,7 @@ public class AnalyticsReporterDelegator {
     private final Metrics metrics;
     private final double logSamplingRate;
     private final Set<String> globalEnabledAdapters;
+    private final boolean shareMaskedViews;
     private final JacksonMapper mapper;
 
     private final Set<Integer> reporterVendorIds;
@@ -77,6 +82,7 @@ public class AnalyticsReporterDelegator {
                                       Metrics metrics,
                                       double logSamplingRate,
                                       Set<String> globalEnabledAdapters,
+                                      boolean shareMaskedViews,
                                       JacksonMapper mapper) {
 
         this.vertx = Objects.requireNonNull(vertx);
@@ -88,6 +94,7 @@ public class AnalyticsReporterDelegator {
         this.globalEnabledAdapters = CollectionUtils.isEmpty(globalEnabledAdapters)
                 ? Collections.emptySet()
                 : globalEnabledAdapters;
+        this.shareMaskedViews = shareMaskedViews;
         this.mapper = Objects.requireNonNull(mapper);
 
         reporterVendorIds = delegates.stream().map(AnalyticsReporter::vendorId).collect(Collectors.toSet());
@@ -117,13 +124,14 @@ public class AnalyticsReporterDelegator {
             final Map<Integer, PrivacyEnforcementAction> privacyEnforcementActionMap =
                     privacyEnforcementMapResult.result();
             checkUnknownAdaptersForAuctionEvent(event);
+            final MaskedViews maskedViews = shareMaskedViews ? new MaskedViews() : null;
             for (AnalyticsReporter analyticsReporter : delegates) {
                 final String name = analyticsReporter.name();
                 if (!isAllowedAdapter(event, name)) {
                     continue;
                 }
 
-                final T updatedEvent = updateEvent(event, name);
+                final T updatedEvent = updateEvent(event, name, maskedViews);
                 final int reporterVendorId = analyticsReporter.vendorId();
                 // resultForVendorIds is guaranteed returning for each provided value except null,
                 // but to be sure lets use getOrDefault
@@ -254,10 +262,10 @@ public class AnalyticsReporterDelegator {
         return ActivityInvocationPayloadImpl.of(ComponentType.ANALYTICS, adapterName);
     }
 
-    private <T> T updateEvent(T event, String adapter) {
+    private <T> T updateEvent(T event, String adapter, MaskedViews maskedViews) {
         if (!ADAPTERS_PERMITTED_FOR_FULL_DATA.contains(adapter) && event instanceof AuctionEvent auctionEvent) {
             final AuctionContext updatedAuctionContext =
-                    updateAuctionContextAdapter(auctionEvent.getAuctionContext(), adapter);
+                    updateAuctionContextAdapter(auctionEvent.getAuctionContext(), adapter, maskedViews);
             return updatedAuctionContext != null
                     ? (T) auctionEvent.toBuilder().auctionContext(updatedAuctionContext).build()
                     : event;
@@ -266,14 +274,40 @@ public class AnalyticsReporterDelegator {
         return event;
     }
 
-    private AuctionContext updateAuctionContextAdapter(AuctionContext context, String adapter) {
+    private AuctionContext updateAuctionContextAdapter(AuctionContext context,
+                                                       String adapter,
+                                                       MaskedViews maskedViews) {
+
         if (context == null) {
             return null;
         }
 
         final BidRequest bidRequest = context.getBidRequest();
-        final ActivityInfrastructure activityInfrastructure = context.getActivityInfrastructure();
-        final BidRequest updatedBidRequest = updateBidRequest(bidRequest, adapter, activityInfrastructure);
+        final int restrictions = resolveRestrictions(bidRequest, adapter, context.getActivityInfrastructure());
+        final ExtRequest requestExt = bidRequest != null ? bidRequest.getExt() : null;
+        final ExtRequest updatedExtRequest = updateExtRequest(requestExt, adapter);
+
+        // adapters with the same restrictions and without adapter specific data receive the same view
+        if (maskedViews != null && updatedExtRequest == null) {
+            if (maskedViews.contexts.containsKey(restrictions)) {
+                return maskedViews.contexts.get(restrictions);
+            }
+
+            final AuctionContext updatedContext = maskAuctionContext(context, restrictions, null, maskedViews);
+            maskedViews.contexts.put(restrictions, updatedContext);
+            return updatedContext;
+        }
+
+        return maskAuctionContext(context, restrictions, updatedExtRequest, maskedViews);
+    }
+
+    private AuctionContext maskAuctionContext(AuctionContext context,
+                                              int restrictions,
+                                              ExtRequest updatedExtRequest,
+                                              MaskedViews maskedViews) {
+
+        final BidRequest updatedBidRequest = updateBidRequest(
+                context.getBidRequest(), restrictions, updatedExtRequest, maskedViews);
 
         return updatedBidRequest != null
                 ? context.toBuilder()
@@ -282,36 +316,64 @@ public class AnalyticsReporterDelegator {
                 : null;
     }
 
-    private BidRequest updateBidRequest(BidRequest bidRequest,
-                                        String adapter,
-                                        ActivityInfrastructure infrastructure) {
-
+    private int resolveRestrictions(BidRequest bidRequest, String adapter, ActivityInfrastructure infrastructure) {
         final ActivityInvocationPayload payload = BidRequestActivityInvocationPayload.of(
                 activityInvocationPayload(adapter),
                 bidRequest);
 
-        final boolean disallowTransmitUfpd = !isAllowedActivity(infrastructure, Activity.TRANSMIT_UFPD, payload);
-        final boolean disallowTransmitEids = !isAllowedActivity(infrastructure, Activity.TRANSMIT_EIDS, payload);
-        final boolean disallowTransmitGeo = !isAllowedActivity(infrastructure, Activity.TRANSMIT_GEO, payload);
-
-        final User user = bidRequest != null ? bidRequest.getUser() : null;
-        final User resolvedUser = mask.maskUser(user, disallowTransmitUfpd, disallowTransmitEids);
+        int restrictions = 0;
+        if (!isAllowedActivity(infrastructure, Activity.TRANSMIT_UFPD, payload)) {
+            restrictions |= DISALLOW_TRANSMIT_UFPD;
+        }
+        if (!isAllowedActivity(infrastructure, Activity.TRANSMIT_EIDS, payload)) {
+            restrictions |= DISALLOW_TRANSMIT_EIDS;
+        }
+        if (!isAllowedActivity(infrastructure, Activity.TRANSMIT_GEO, payload)) {
+            restrictions |= DISALLOW_TRANSMIT_GEO;
+        }
+        return restrictions;
+    }
 
-        final Device device = bidRequest != null ? bidRequest.getDevice() : null;
-        final Device resolvedDevice = mask.maskDevice(device, disallowTransmitUfpd, disallowTransmitGeo);
+    private BidRequest updateBidRequest(BidRequest bidRequest,
+                                        int restrictions,
+                                        ExtRequest updatedExtRequest,
+                                        MaskedViews maskedViews) {
+
+        final MaskedFpd maskedFpd;
+        if (maskedViews == null) {
+            maskedFpd = maskFpd(bidRequest, restrictions);
+        } else if (maskedViews.fpds.containsKey(restrictions)) {
+            maskedFpd = maskedViews.fpds.get(restrictions);
+        } else {
+            maskedFpd = maskFpd(bidRequest, restrictions);
+            maskedViews.fpds.put(restrictions, maskedFpd);
+        }
 
-        final ExtRequest requestExt = bidRequest != null ? bidRequest.getExt() : null;
-        final ExtRequest updatedExtRequest = updateExtRequest(requestExt, adapter);
+        final User resolvedUser = maskedFpd.user();
+        final Device resolvedDevice = maskedFpd.device();
 
         return resolvedUser != null || resolvedDevice != null || updatedExtRequest != null
                 ? bidRequest.toBuilder()
-                .user(resolvedUser != null ? resolvedUser : user)
-                .device(resolvedDevice != null ? resolvedDevice : device)
-                .ext(updatedExtRequest != null ? updatedExtRequest : requestExt)
+                .user(resolvedUser != null ? resolvedUser : bidRequest.getUser())
+                .device(resolvedDevice != null ? resolvedDevice : bidRequest.getDevice())
+                .ext(updatedExtRequest != null ? updatedExtRequest : bidRequest.getExt())
                 .build()
                 : null;
     }
 
+    private MaskedFpd maskFpd(BidRequest bidRequest, int restrictions) {
+        final boolean disallowTransmitUfpd = (restrictions & DISALLOW_TRANSMIT_UFPD) != 0;
+        final boolean disallowTransmitEids = (restrictions & DISALLOW_TRANSMIT_EIDS) != 0;
+        final boolean disallowTransmitGeo = (restrictions & DISALLOW_TRANSMIT_GEO) != 0;
+
+        final User user = bidRequest != null ? bidRequest.getUser() : null;
+        final Device device = bidRequest != null ? bidRequest.getDevice() : null;
+
+        return new MaskedFpd(
+                mask.maskUser(user, disallowTransmitUfpd, disallowTransmitEids),
+                mask.maskDevice(device, disallowTransmitUfpd, disallowTransmitGeo));
+    }
+
     private static boolean isAllowedActivity(ActivityInfrastructure activityInfrastructure,
                                              Activity activity,
                                              ActivityInvocationPayload activityInvocationPayload) {
@@ -474,4 +536,18 @@ public class AnalyticsReporterDelegator {
 
         return false;
     }
+
+    /**
+     * Views of the event data computed for one of the analytics adapters, shared by the other adapters with
+     * the same activity restrictions, so masking and copying of the data is done once per distinct outcome.
+     */
+    private static class MaskedViews {
+
+        private final Map<Integer, MaskedFpd> fpds = new HashMap<>();
+
+        private final Map<Integer, AuctionContext> contexts = new HashMap<>();
+    }
+
+    private record MaskedFpd(User user, Device device) {
+    }
 }
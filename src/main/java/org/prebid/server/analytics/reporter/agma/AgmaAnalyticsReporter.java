@@ -9,7 +9,6 @@ import com.iabtcf.decoder.TCString;
 import com.iabtcf.utils.IntIterable;
 import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpResponseStatus;
-import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
@@ -22,14 +21,18 @@ import org.prebid.server.analytics.AnalyticsReporter;
 import org.prebid.server.analytics.model.AmpEvent;
 import org.prebid.server.analytics.model.AuctionEvent;
 import org.prebid.server.analytics.model.VideoEvent;
+import org.prebid.server.analytics.pipeline.AnalyticsBatchSender;
+import org.prebid.server.analytics.pipeline.AnalyticsEventPipeline;
+import org.prebid.server.analytics.pipeline.AnalyticsEventSerializer;
+import org.prebid.server.analytics.pipeline.AnalyticsPipelineProperties;
 import org.prebid.server.analytics.reporter.agma.model.AgmaAnalyticsProperties;
 import org.prebid.server.analytics.reporter.agma.model.AgmaEvent;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.TimeoutContext;
+import org.prebid.server.compression.GzipCompressor;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.json.JacksonMapper;
-import org.prebid.server.log.Logger;
-import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.privacy.gdpr.model.TcfContext;
 import org.prebid.server.privacy.gdpr.vendorlist.proto.PurposeCode;
 import org.prebid.server.privacy.model.PrivacyContext;
@@ -40,65 +43,66 @@ import org.prebid.server.vertx.Initializable;
 import org.prebid.server.vertx.httpclient.HttpClient;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZonedDateTime;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.zip.GZIPOutputStream;
 
 public class AgmaAnalyticsReporter implements AnalyticsReporter, Initializable {
 
-    private static final Logger logger = LoggerFactory.getLogger(AgmaAnalyticsReporter.class);
-
-    private final String url;
-    private final boolean compressToGzip;
-    private final long bufferTimeoutMs;
-    private final long httpTimeoutMs;
-
-    private final EventBuffer<String> buffer;
+    private static final String NAME = "agmaAnalytics";
 
     private final Map<String, String> accounts;
 
-    private final Vertx vertx;
-    private final JacksonMapper jacksonMapper;
-    private final HttpClient httpClient;
     private final Clock clock;
-    private final MultiMap headers;
+
+    private final AnalyticsEventPipeline<AgmaEvent> pipeline;
 
     public AgmaAnalyticsReporter(AgmaAnalyticsProperties agmaAnalyticsProperties,
                                  PrebidVersionProvider prebidVersionProvider,
                                  JacksonMapper jacksonMapper,
                                  Clock clock,
                                  HttpClient httpClient,
+                                 GzipCompressor gzipCompressor,
+                                 Metrics metrics,
                                  Vertx vertx) {
 
         this.accounts = agmaAnalyticsProperties.getAccounts();
-
-        this.url = HttpUtil.validateUrl(agmaAnalyticsProperties.getUrl());
-        this.bufferTimeoutMs = agmaAnalyticsProperties.getBufferTimeoutMs();
-        this.httpTimeoutMs = agmaAnalyticsProperties.getHttpTimeoutMs();
-        this.compressToGzip = agmaAnalyticsProperties.isGzip();
-
-        this.buffer = new EventBuffer<>(
-                agmaAnalyticsProperties.getMaxEventsCount(),
-                agmaAnalyticsProperties.getBufferSize());
-
-        this.jacksonMapper = Objects.requireNonNull(jacksonMapper);
-        this.httpClient = Objects.requireNonNull(httpClient);
-        this.vertx = Objects.requireNonNull(vertx);
         this.clock = Objects.requireNonNull(clock);
-        this.headers = makeHeaders(Objects.requireNonNull(prebidVersionProvider));
+
+        final String url = HttpUtil.validateUrl(agmaAnalyticsProperties.getUrl());
+        final long httpTimeoutMs = agmaAnalyticsProperties.getHttpTimeoutMs();
+        final boolean compressToGzip = agmaAnalyticsProperties.isGzip();
+        final MultiMap headers = makeHeaders(Objects.requireNonNull(prebidVersionProvider), compressToGzip);
+
+        // serializer and sender don't refer to this reporter, so it is not exposed before being constructed
+        this.pipeline = new AnalyticsEventPipeline<>(
+                NAME,
+                AnalyticsPipelineProperties.builder()
+                        .queueCapacity(agmaAnalyticsProperties.getQueueCapacity())
+                        .dropPolicy(agmaAnalyticsProperties.getDropPolicy())
+                        .maxBatchEvents(agmaAnalyticsProperties.getMaxEventsCount())
+                        .maxBatchBytes(agmaAnalyticsProperties.getBufferSize())
+                        .maxBatchDelayMs(agmaAnalyticsProperties.getBufferTimeoutMs())
+                        .maxRetries(agmaAnalyticsProperties.getMaxRetries())
+                        .retryDelayMs(agmaAnalyticsProperties.getRetryDelayMs())
+                        .gzip(compressToGzip)
+                        .batchPrefix("[")
+                        .batchDelimiter(",")
+                        .batchSuffix("]")
+                        .build(),
+                eventSerializer(Objects.requireNonNull(jacksonMapper)),
+                batchSender(Objects.requireNonNull(httpClient), url, headers, httpTimeoutMs),
+                gzipCompressor,
+                vertx,
+                metrics);
     }
 
     @Override
     public void initialize(Promise<Void> initializePromise) {
-        vertx.setPeriodic(bufferTimeoutMs, ignored -> sendEvents(buffer.pollAll()));
+        pipeline.start();
         initializePromise.complete();
     }
 
@@ -150,9 +154,7 @@ public class AgmaAnalyticsReporter implements AnalyticsReporter, Initializable {
                         Instant.ofEpochMilli(timeoutContext.getStartTime()), clock.getZone()))
                 .build();
 
-        final String eventString = jacksonMapper.encodeToString(agmaEvent);
-        buffer.put(eventString, eventString.length());
-        sendEvents(buffer.pollToFlush());
+        pipeline.offer(agmaEvent);
         return Future.succeededFuture();
     }
 
@@ -207,49 +209,28 @@ public class AgmaAnalyticsReporter implements AnalyticsReporter, Initializable {
                 : publisherId;
     }
 
-    private void sendEvents(List<String> events) {
-        if (events.isEmpty()) {
-            return;
-        }
-        final String payload = preparePayload(events);
-        final Future<HttpClientResponse> responseFuture = compressToGzip
-                ? httpClient.request(HttpMethod.POST, url, headers, gzip(payload), httpTimeoutMs)
-                : httpClient.request(HttpMethod.POST, url, headers, payload, httpTimeoutMs);
-
-        responseFuture.onComplete(this::handleReportResponse);
-    }
-
-    private static String preparePayload(List<String> events) {
-        return "[" + String.join(",", events) + "]";
+    private static AnalyticsEventSerializer<AgmaEvent> eventSerializer(JacksonMapper jacksonMapper) {
+        return (event, output) -> jacksonMapper.mapper().writeValue(output, event);
     }
 
-    private static byte[] gzip(String value) {
-        try (ByteArrayOutputStream obj = new ByteArrayOutputStream();
-                GZIPOutputStream gzip = new GZIPOutputStream(obj)) {
+    private static AnalyticsBatchSender batchSender(HttpClient httpClient,
+                                                    String url,
+                                                    MultiMap headers,
+                                                    long httpTimeoutMs) {
 
-            gzip.write(value.getBytes(StandardCharsets.UTF_8));
-            gzip.finish();
-
-            return obj.toByteArray();
-        } catch (IOException e) {
-            throw new PreBidException("[agmaAnalytics] failed to compress, skip the events : " + e.getMessage());
-        }
+        return payload -> httpClient.request(HttpMethod.POST, url, headers, payload, httpTimeoutMs)
+                .compose(AgmaAnalyticsReporter::processResponse);
     }
 
-    private void handleReportResponse(AsyncResult<HttpClientResponse> result) {
-        if (result.failed()) {
-            logger.error("[agmaAnalytics] Failed to send events to endpoint {} with a reason: {}",
-                    url, result.cause().getMessage());
-        } else {
-            final HttpClientResponse httpClientResponse = result.result();
-            final int statusCode = httpClientResponse.getStatusCode();
-            if (statusCode != HttpResponseStatus.OK.code()) {
-                logger.error("[agmaAnalytics] Wrong code received {} instead of 200", statusCode);
-            }
-        }
+    private static Future<Void> processResponse(HttpClientResponse response) {
+        final int statusCode = response.getStatusCode();
+        return statusCode == HttpResponseStatus.OK.code()
+                ? Future.succeededFuture()
+                : Future.failedFuture(new PreBidException(
+                        "Wrong code received %d instead of 200".formatted(statusCode)));
     }
 
-    private MultiMap makeHeaders(PrebidVersionProvider versionProvider) {
+    private static MultiMap makeHeaders(PrebidVersionProvider versionProvider, boolean compressToGzip) {
         final MultiMap headers = MultiMap.caseInsensitiveMultiMap()
                 .add(HttpHeaders.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON)
                 .add(HttpUtil.X_PREBID_HEADER, versionProvider.getNameVersionRecord());
@@ -268,6 +249,6 @@ public class AgmaAnalyticsReporter implements AnalyticsReporter, Initializable {
 
     @Override
     public String name() {
-        return "agmaAnalytics";
+        return NAME;
     }
 }
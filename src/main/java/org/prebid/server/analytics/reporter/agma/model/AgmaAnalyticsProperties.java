@@ -2,6 +2,7 @@ package org.prebid.server.analytics.reporter.agma.model;
 
 import lombok.Builder;
 import lombok.Value;
+import org.prebid.server.analytics.pipeline.DropPolicy;
 
 import java.util.Map;
 
@@ -21,6 +22,14 @@ public class AgmaAnalyticsProperties {
 
     Long httpTimeoutMs;
 
+    Integer queueCapacity;
+
+    DropPolicy dropPolicy;
+
+    Integer maxRetries;
+
+    Long retryDelayMs;
+
     Map<String, String> accounts;
 
 }
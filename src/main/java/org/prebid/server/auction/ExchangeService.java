@@ -28,6 +28,7 @@ import org.prebid.server.activity.infrastructure.ActivityInfrastructure;
 import org.prebid.server.activity.infrastructure.payload.ActivityInvocationPayload;
 import org.prebid.server.activity.infrastructure.payload.impl.ActivityInvocationPayloadImpl;
 import org.prebid.server.activity.infrastructure.payload.impl.BidRequestActivityInvocationPayload;
+import org.prebid.server.auction.latency.BidderLatencyTracker;
 import org.prebid.server.auction.mediatypeprocessor.MediaTypeProcessingResult;
 import org.prebid.server.auction.mediatypeprocessor.MediaTypeProcessor;
 import org.prebid.server.auction.model.AuctionContext;
@@ -137,6 +138,7 @@ public class ExchangeService {
     private final UidUpdater uidUpdater;
     private final TimeoutResolver timeoutResolver;
     private final TimeoutFactory timeoutFactory;
+    private final BidderLatencyTracker bidderLatencyTracker;
     private final BidRequestOrtbVersionConversionManager ortbVersionConversionManager;
     private final HttpBidderRequester httpBidderRequester;
     private final BidResponseCreator bidResponseCreator;
@@ -164,6 +166,7 @@ public class ExchangeService {
                            UidUpdater uidUpdater,
                            TimeoutResolver timeoutResolver,
                            TimeoutFactory timeoutFactory,
+                           BidderLatencyTracker bidderLatencyTracker,
                            BidRequestOrtbVersionConversionManager ortbVersionConversionManager,
                            HttpBidderRequester httpBidderRequester,
                            BidResponseCreator bidResponseCreator,
@@ -191,6 +194,7 @@ public class ExchangeService {
         this.uidUpdater = Objects.requireNonNull(uidUpdater);
         this.timeoutResolver = Objects.requireNonNull(timeoutResolver);
         this.timeoutFactory = Objects.requireNonNull(timeoutFactory);
+        this.bidderLatencyTracker = bidderLatencyTracker;
         this.ortbVersionConversionManager = Objects.requireNonNull(ortbVersionConversionManager);
         this.httpBidderRequester = Objects.requireNonNull(httpBidderRequester);
         this.bidResponseCreator = Objects.requireNonNull(bidResponseCreator);
@@ -1211,6 +1215,15 @@ public class ExchangeService {
         final int adjustmentFactor = timeoutContext.getAdjustmentFactor();
         final long bidderRequestStartTime = clock.millis();
 
+        final Timeout bidderTimeout = adjustTimeout(timeout, auctionStartTime, bidderRequestStartTime);
+        final long exceedingLatency = bidderLatencyTracker != null
+                ? bidderLatencyTracker.exceedingLatency(resolvedBidderName, bidderTimeout.remaining())
+                : -1;
+        if (exceedingLatency > 0) {
+            return Future.succeededFuture(skipSlowBidder(
+                    bidderName, resolvedBidderName, exceedingLatency, bidderTimeout, bidRejectionTracker));
+        }
+
         return Future.succeededFuture(bidderRequest.getBidRequest())
                 .map(bidRequest -> adjustTmax(
                         bidRequest, auctionStartTime, adjustmentFactor, bidderRequestStartTime, bidderTmaxDeductionMs))
@@ -1221,11 +1234,55 @@ public class ExchangeService {
                         bidder,
                         convertedBidderRequest,
                         bidRejectionTracker,
-                        adjustTimeout(timeout, auctionStartTime, bidderRequestStartTime),
+                        limitTimeout(resolvedBidderName, bidderTimeout, bidderRequestStartTime),
                         requestHeaders,
                         aliases,
                         debugResolver.resolveDebugForBidder(auctionContext, resolvedBidderName)))
-                .map(seatBid -> BidderResponse.of(bidderName, seatBid, responseTime(bidderRequestStartTime)));
+                .map(seatBid -> toBidderResponse(bidderName, resolvedBidderName, seatBid, bidderRequestStartTime));
+    }
+
+    private BidderResponse skipSlowBidder(String bidderName,
+                                          String resolvedBidderName,
+                                          long latency,
+                                          Timeout timeout,
+                                          BidRejectionTracker bidRejectionTracker) {
+
+        metrics.updateAdapterRequestErrorMetric(resolvedBidderName, MetricName.latency_exceeded);
+        bidRejectionTracker.rejectAllImps(BidRejectionReason.ERROR_TIMED_OUT);
+
+        final BidderError error = BidderError.timeout(
+                "Bidder is skipped: its latency %dms exceeds remaining time %dms"
+                        .formatted(latency, timeout.remaining()));
+        return BidderResponse.skipped(bidderName, BidderSeatBid.builder().errors(List.of(error)).build());
+    }
+
+    private Timeout limitTimeout(String resolvedBidderName, Timeout timeout, long currentTime) {
+        if (bidderLatencyTracker == null) {
+            return timeout;
+        }
+
+        final long remaining = timeout.remaining();
+        final long limitedTimeout = bidderLatencyTracker.limitTimeout(resolvedBidderName, remaining);
+        return limitedTimeout < remaining ? timeoutFactory.create(currentTime, limitedTimeout) : timeout;
+    }
+
+    private BidderResponse toBidderResponse(String bidderName,
+                                            String resolvedBidderName,
+                                            BidderSeatBid seatBid,
+                                            long bidderRequestStartTime) {
+
+        final int responseTime = responseTime(bidderRequestStartTime);
+        if (bidderLatencyTracker != null && hasTimeoutError(seatBid)) {
+            bidderLatencyTracker.recordExceeded(resolvedBidderName);
+        } else if (bidderLatencyTracker != null) {
+            bidderLatencyTracker.record(resolvedBidderName, responseTime);
+        }
+
+        return BidderResponse.of(bidderName, seatBid, responseTime);
+    }
+
+    private static boolean hasTimeoutError(BidderSeatBid seatBid) {
+        return seatBid.getErrors().stream().anyMatch(error -> error.getType() == BidderError.Type.timeout);
     }
 
     private BidRequest adjustTmax(BidRequest bidRequest,
@@ -1310,9 +1367,11 @@ public class ExchangeService {
                                                               Account account,
                                                               BidderAliases aliases) {
 
+        // skipped bidders are tracked only by latency_exceeded metric, since they have neither response time nor bids
         final List<BidderResponse> bidderResponses = auctionParticipations.stream()
                 .filter(auctionParticipation -> !auctionParticipation.isRequestBlocked())
                 .map(AuctionParticipation::getBidderResponse)
+                .filter(bidderResponse -> !bidderResponse.isSkipped())
                 .toList();
 
         for (BidderResponse bidderResponse : bidderResponses) {
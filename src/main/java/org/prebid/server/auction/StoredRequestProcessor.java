@@ -1,6 +1,7 @@
 package org.prebid.server.auction;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.request.Video;
@@ -47,7 +48,7 @@ public class StoredRequestProcessor {
     private static final String OVERRIDE_BID_REQUEST_ID_TEMPLATE = "{{UUID}}";
 
     private final long defaultTimeout;
-    private final BidRequest defaultBidRequest;
+    private final JsonNode defaultBidRequestNode;
     private final boolean generateBidRequestId;
     private final ApplicationSettings applicationSettings;
     private final IdGenerator idGenerator;
@@ -68,7 +69,7 @@ public class StoredRequestProcessor {
                                   JsonMerger jsonMerger) {
 
         this.defaultTimeout = defaultTimeout;
-        this.defaultBidRequest = readBidRequest(
+        this.defaultBidRequestNode = readBidRequestNode(
                 defaultBidRequestPath, Objects.requireNonNull(fileSystem), Objects.requireNonNull(mapper));
         this.generateBidRequestId = generateBidRequestId;
         this.applicationSettings = Objects.requireNonNull(applicationSettings);
@@ -183,12 +184,16 @@ public class StoredRequestProcessor {
                 id -> metrics.updateStoredImpsMetric(storedDataResult.getStoredIdToImp().containsKey(id)));
     }
 
-    private static BidRequest readBidRequest(String defaultBidRequestPath,
-                                             FileSystem fileSystem,
-                                             JacksonMapper mapper) {
+    /**
+     * Default request is merged into every incoming one, so its tree is prepared once.
+     */
+    private static JsonNode readBidRequestNode(String defaultBidRequestPath,
+                                               FileSystem fileSystem,
+                                               JacksonMapper mapper) {
 
         return StringUtils.isNotBlank(defaultBidRequestPath)
-                ? mapper.decodeValue(fileSystem.readFileBlocking(defaultBidRequestPath), BidRequest.class)
+                ? mapper.mapper().valueToTree(
+                mapper.decodeValue(fileSystem.readFileBlocking(defaultBidRequestPath), BidRequest.class))
                 : null;
     }
 
@@ -263,7 +268,9 @@ public class StoredRequestProcessor {
     }
 
     private BidRequest mergeDefaultRequest(BidRequest bidRequest) {
-        return jsonMerger.merge(bidRequest, defaultBidRequest, BidRequest.class);
+        return defaultBidRequestNode != null
+                ? jsonMerger.mergeWithNode(bidRequest, defaultBidRequestNode, BidRequest.class)
+                : bidRequest;
     }
 
     /**
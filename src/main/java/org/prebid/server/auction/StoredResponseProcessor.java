@@ -400,9 +400,7 @@ public class StoredResponseProcessor {
             final BidderSeatBid updatedSeatBid = storedSeatBid == null
                     ? bidderSeatBid
                     : makeBidderSeatBid(bidderSeatBid, storedSeatBid, impIdToBidType);
-            final BidderResponse updatedBidderResponse = BidderResponse.of(bidderResponse.getBidder(),
-                    updatedSeatBid, bidderResponse.getResponseTime());
-            return auctionParticipation.with(updatedBidderResponse);
+            return auctionParticipation.with(bidderResponse.with(updatedSeatBid));
         } else {
             final String bidder = storedSeatBid != null ? storedSeatBid.getSeat() : null;
             final BidderSeatBid updatedSeatBid = makeBidderSeatBid(null, storedSeatBid, impIdToBidType);
@@ -659,16 +659,13 @@ public class BasicCategoryMappingService implements CategoryMappingService {
      * Remove rejected bids from {@link BidderResponse}.
      */
     private static BidderResponse removeRejectedBids(BidderResponse bidderResponse, List<String> rejectedBidIds) {
-        final String bidder = bidderResponse.getBidder();
         final BidderSeatBid bidderSeatBid = bidderResponse.getSeatBid();
 
         final List<BidderBid> survivedBidderBids = bidderSeatBid.getBids().stream()
                 .filter(bidderBid -> !rejectedBidIds.contains(bidderBid.getBid().getId()))
                 .toList();
 
-        return BidderResponse.of(bidder,
-                bidderSeatBid.with(survivedBidderBids),
-                bidderResponse.getResponseTime());
+        return bidderResponse.with(bidderSeatBid.with(survivedBidderBids));
     }
 
     /**
@@ -0,0 +1,107 @@
+package org.prebid.server.auction.latency;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps track of bidders response times to budget bidder timeouts based on observed latency.
+ * <p>
+ * Bidder is considered too slow when its skip percentile latency doesn't fit the time remaining for it.
+ * Otherwise, bidder timeout is limited to its deadline percentile latency, so the auction doesn't wait
+ * for the rare slowest responses of the bidder till the end of the whole budget.
+ * <p>
+ * Timed out requests are recorded as exceeding any latency instead of their elapsed time, otherwise the timeouts
+ * limited to the deadline percentile would pull this percentile down with every request. So the bidder which
+ * times out more often than the skip percentile allows is skipped.
+ * <p>
+ * Decisions are made only after min samples number is collected for the bidder. Since the samples expire,
+ * bidder which has been skipped for a while is requested again to learn its actual latency.
+ */
+public class BidderLatencyTracker {
+
+    private static final long BUCKET_WIDTH_MS = 10L;
+
+    private final Clock clock;
+    private final long maxLatencyMs;
+    private final long windowMs;
+    private final long minSamples;
+    private final double skipPercentile;
+    private final double deadlinePercentile;
+
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    public BidderLatencyTracker(Clock clock,
+                                long maxLatencyMs,
+                                long windowMs,
+                                long minSamples,
+                                double skipPercentile,
+                                double deadlinePercentile) {
+
+        validatePercentile(skipPercentile);
+        validatePercentile(deadlinePercentile);
+        if (maxLatencyMs <= 0 || windowMs <= 0) {
+            throw new IllegalArgumentException(
+                    "Both max latency and window should be greater than 0: max latency=%d, window=%d"
+                            .formatted(maxLatencyMs, windowMs));
+        }
+
+        this.clock = Objects.requireNonNull(clock);
+        this.maxLatencyMs = maxLatencyMs;
+        this.windowMs = windowMs;
+        this.minSamples = minSamples;
+        this.skipPercentile = skipPercentile;
+        this.deadlinePercentile = deadlinePercentile;
+    }
+
+    private static void validatePercentile(double percentile) {
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile should be in range (0, 100]: " + percentile);
+        }
+    }
+
+    public void record(String bidder, long latencyMs) {
+        final long now = clock.millis();
+        histogram(bidder, now).record(latencyMs, now);
+    }
+
+    /**
+     * Records request to the bidder which didn't complete in time.
+     */
+    public void recordExceeded(String bidder) {
+        final long now = clock.millis();
+        histogram(bidder, now).recordExceeded(now);
+    }
+
+    private LatencyHistogram histogram(String bidder, long now) {
+        return histograms.computeIfAbsent(
+                bidder, key -> new LatencyHistogram(BUCKET_WIDTH_MS, maxLatencyMs, windowMs, now));
+    }
+
+    /**
+     * Returns skip percentile latency of the bidder if it doesn't fit the given remaining time, or -1 otherwise.
+     */
+    public long exceedingLatency(String bidder, long remainingMs) {
+        final long latency = latency(bidder, skipPercentile);
+        return latency > remainingMs ? latency : -1;
+    }
+
+    /**
+     * Returns the given remaining time limited to the deadline percentile latency of the bidder.
+     */
+    public long limitTimeout(String bidder, long remainingMs) {
+        final long latency = latency(bidder, deadlinePercentile);
+        return latency > 0 ? Math.min(latency, remainingMs) : remainingMs;
+    }
+
+    private long latency(String bidder, double percentile) {
+        final LatencyHistogram histogram = histograms.get(bidder);
+        if (histogram == null) {
+            return -1;
+        }
+
+        final long now = clock.millis();
+        return histogram.count(now) >= minSamples ? histogram.percentile(percentile, now) : -1;
+    }
+}
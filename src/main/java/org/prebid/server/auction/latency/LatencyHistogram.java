@@ -0,0 +1,52 @@
+package org.prebid.server.auction.latency;
+
+import org.prebid.server.metric.WindowedBucketCounts;
+
+/**
+ * Streaming histogram of latencies observed within the last one or two windows.
+ * <p>
+ * Latencies are counted in buckets of fixed width up to the max latency (bigger ones fall into the last bucket),
+ * so recording is a single increment and memory footprint doesn't depend on the number of samples.
+ * Samples of the window before the previous one are discarded, so the histogram follows latency changes.
+ * <p>
+ * Requests which didn't complete in time are counted separately as exceeding any latency, since their elapsed time
+ * is just the timeout they were given, not their latency.
+ */
+class LatencyHistogram {
+
+    private final long bucketWidthMs;
+    private final int bucketsCount;
+    private final WindowedBucketCounts counts;
+
+    LatencyHistogram(long bucketWidthMs, long maxLatencyMs, long windowMs, long now) {
+        this.bucketWidthMs = bucketWidthMs;
+        this.bucketsCount = Math.toIntExact(maxLatencyMs / bucketWidthMs + 1);
+        // the extra bucket after the last latency one counts exceeding requests
+        this.counts = new WindowedBucketCounts(bucketsCount + 1, windowMs, now);
+    }
+
+    void record(long latencyMs, long now) {
+        final int bucket = (int) Math.min(Math.max(latencyMs, 0) / bucketWidthMs, bucketsCount - 1);
+        counts.increment(bucket, now);
+    }
+
+    /**
+     * Records request which didn't complete in time, so its latency is unknown.
+     */
+    void recordExceeded(long now) {
+        counts.increment(bucketsCount, now);
+    }
+
+    long count(long now) {
+        return counts.count(now);
+    }
+
+    /**
+     * Returns the upper bound of the bucket the given percentile falls into, or -1 if there are no samples.
+     * Percentile falling into exceeding requests is reported as the upper bound of the last bucket.
+     */
+    long percentile(double percentile, long now) {
+        final int bucket = counts.quantileBucket(percentile / 100, now);
+        return bucket == -1 ? -1 : Math.min(bucket + 1, bucketsCount) * bucketWidthMs;
+    }
+}
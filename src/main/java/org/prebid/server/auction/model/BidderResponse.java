@@ -1,5 +1,6 @@
 package org.prebid.server.auction.model;
 
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Value;
 import org.prebid.server.bidder.model.BidderSeatBid;
@@ -7,7 +8,7 @@ import org.prebid.server.bidder.model.BidderSeatBid;
 /**
  * Structure to pass {@link BidderSeatBid} along with bidder name and extra tracking data generated during bidding
  */
-@AllArgsConstructor(staticName = "of")
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Value
 public class BidderResponse {
 
@@ -17,7 +18,21 @@ public class BidderResponse {
 
     int responseTime;
 
+    /**
+     * Bidder wasn't requested because its observed latency doesn't fit the time remaining for it,
+     * so there is no response time to track.
+     */
+    boolean skipped;
+
+    public static BidderResponse of(String bidder, BidderSeatBid seatBid, int responseTime) {
+        return new BidderResponse(bidder, seatBid, responseTime, false);
+    }
+
+    public static BidderResponse skipped(String bidder, BidderSeatBid seatBid) {
+        return new BidderResponse(bidder, seatBid, 0, true);
+    }
+
     public BidderResponse with(BidderSeatBid seatBid) {
-        return BidderResponse.of(this.bidder, seatBid, this.responseTime);
+        return new BidderResponse(this.bidder, seatBid, this.responseTime, this.skipped);
     }
 }
@@ -4,7 +4,10 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Regs;
+import io.netty.buffer.ByteBufInputStream;
 import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.web.RequestBody;
 import io.vertx.ext.web.RoutingContext;
 import org.prebid.server.auction.DebugResolver;
 import org.prebid.server.auction.GeoLocationServiceWrapper;
@@ -28,6 +31,7 @@ import org.prebid.server.proto.openrtb.ext.request.ExtRegs;
 import org.prebid.server.settings.model.Account;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -92,7 +96,7 @@ public class AuctionRequestFactory {
      * Creates {@link AuctionContext} and parses BidRequest based on {@link RoutingContext}.
      */
     public Future<AuctionContext> parseRequest(RoutingContext routingContext, long startTime) {
-        final String body;
+        final RequestBody body;
         try {
             body = extractAndValidateBody(routingContext);
         } catch (InvalidRequestException e) {
@@ -102,8 +106,17 @@ public class AuctionRequestFactory {
         final AuctionContext initialAuctionContext = ortb2RequestFactory.createAuctionContext(
                 Endpoint.openrtb2_auction, MetricName.openrtb2web);
 
-        return ortb2RequestFactory.executeEntrypointHooks(routingContext, body, initialAuctionContext)
-                .compose(httpRequest -> parseBidRequest(httpRequest, initialAuctionContext.getPrebidErrors())
+        // the body is decoded to a string only for entrypoint hooks, otherwise it is parsed from raw bytes
+        // and decoded only if somebody reads it from the http request later
+        final boolean hasEntrypointHooks = ortb2RequestFactory.hasEntrypointHooks(initialAuctionContext);
+        final String bodyAsString = hasEntrypointHooks ? body.asString() : null;
+
+        return ortb2RequestFactory.executeEntrypointHooks(routingContext, bodyAsString, initialAuctionContext)
+                .map(httpRequest -> hasEntrypointHooks ? httpRequest : httpRequest.withLazyBody(body::asString))
+                .compose(httpRequest -> parseBidRequest(
+                        httpRequest,
+                        ortb2RequestFactory.isEntrypointPayloadUpdated(initialAuctionContext) ? null : body.buffer(),
+                        initialAuctionContext.getPrebidErrors())
                         .map(bidRequest -> ortb2RequestFactory
                                 .enrichAuctionContext(initialAuctionContext, httpRequest, bidRequest, startTime)
                                 .with(requestTypeMetric(bidRequest))))
@@ -156,22 +169,28 @@ public class AuctionRequestFactory {
                 .recover(ortb2RequestFactory::restoreResultFromRejection);
     }
 
-    private String extractAndValidateBody(RoutingContext routingContext) {
-        final String body = routingContext.getBodyAsString();
-        if (body == null) {
+    private RequestBody extractAndValidateBody(RoutingContext routingContext) {
+        final RequestBody body = routingContext.body();
+        final Buffer bodyBuffer = body != null ? body.buffer() : null;
+        if (bodyBuffer == null) {
             throw new InvalidRequestException("Incoming request has no body");
         }
 
-        if (body.length() > maxRequestSize) {
+        if (bodyBuffer.length() > maxRequestSize) {
             throw new InvalidRequestException("Request size exceeded max size of %d bytes.".formatted(maxRequestSize));
         }
 
         return body;
     }
 
-    private Future<BidRequest> parseBidRequest(HttpRequestContext httpRequest, List<String> errors) {
+    private Future<BidRequest> parseBidRequest(HttpRequestContext httpRequest,
+                                               Buffer originalBody,
+                                               List<String> errors) {
+
         try {
-            final JsonNode bidRequestNode = bodyAsJsonNode(httpRequest.getBody());
+            final JsonNode bidRequestNode = originalBody != null
+                    ? bodyAsJsonNode(originalBody)
+                    : bodyAsJsonNode(httpRequest.getBody());
 
             final String referer = paramsExtractor.refererFrom(httpRequest);
             ortbTypesResolver.normalizeBidRequest(bidRequestNode, errors, referer);
@@ -191,6 +210,14 @@ public class AuctionRequestFactory {
         }
     }
 
+    private JsonNode bodyAsJsonNode(Buffer body) {
+        try {
+            return mapper.mapper().readTree((InputStream) new ByteBufInputStream(body.getByteBuf()));
+        } catch (IOException e) {
+            throw new InvalidRequestException("Error decoding bidRequest: " + e.getMessage());
+        }
+    }
+
     private BidRequest jsonNodeAsBidRequest(JsonNode bidRequestNode) {
         try {
             return mapper.mapper().treeToValue(bidRequestNode, BidRequest.class);
@@ -38,8 +38,12 @@ import org.prebid.server.execution.timeout.TimeoutFactory;
 import org.prebid.server.geolocation.CountryCodeMapper;
 import org.prebid.server.geolocation.model.GeoInfo;
 import org.prebid.server.hooks.execution.HookStageExecutor;
+import org.prebid.server.hooks.execution.model.ExecutionAction;
+import org.prebid.server.hooks.execution.model.GroupExecutionOutcome;
 import org.prebid.server.hooks.execution.model.HookExecutionContext;
 import org.prebid.server.hooks.execution.model.HookStageExecutionResult;
+import org.prebid.server.hooks.execution.model.Stage;
+import org.prebid.server.hooks.execution.model.StageExecutionOutcome;
 import org.prebid.server.hooks.v1.auction.AuctionRequestPayload;
 import org.prebid.server.hooks.v1.entrypoint.EntrypointPayload;
 import org.prebid.server.log.ConditionalLogger;
@@ -346,6 +350,29 @@ public class Ortb2RequestFactory {
                 enrichedRegsExtDsa);
     }
 
+    /**
+     * Tells whether any entrypoint hook is configured for the endpoint of the given {@link AuctionContext}.
+     */
+    public boolean hasEntrypointHooks(AuctionContext auctionContext) {
+        return hookStageExecutor.hasEntrypointHooks(auctionContext.getHookExecutionContext());
+    }
+
+    /**
+     * Tells whether any entrypoint hook has successfully applied an update to the incoming http request.
+     */
+    public boolean isEntrypointPayloadUpdated(AuctionContext auctionContext) {
+        final List<StageExecutionOutcome> stageOutcomes = auctionContext.getHookExecutionContext()
+                .getStageOutcomes()
+                .get(Stage.entrypoint);
+
+        return CollectionUtils.emptyIfNull(stageOutcomes).stream()
+                .map(StageExecutionOutcome::getGroups)
+                .flatMap(Collection::stream)
+                .map(GroupExecutionOutcome::getHooks)
+                .flatMap(Collection::stream)
+                .anyMatch(hookOutcome -> hookOutcome.getAction() == ExecutionAction.update);
+    }
+
     public Future<HttpRequestContext> executeEntrypointHooks(RoutingContext routingContext,
                                                              String body,
                                                              AuctionContext auctionContext) {
@@ -38,6 +38,8 @@ public class BidderInfo {
 
     CompressionType compressionType;
 
+    Integer compressionLevel;
+
     Ortb ortb;
 
     long tmaxDeductionMs;
@@ -57,6 +59,7 @@ public class BidderInfo {
                                     boolean ccpaEnforced,
                                     boolean modifyingVastXmlAllowed,
                                     CompressionType compressionType,
+                                    Integer compressionLevel,
                                     org.prebid.server.spring.config.bidder.model.Ortb ortb,
                                     long tmaxDeductionMs) {
 
@@ -77,6 +80,7 @@ public class BidderInfo {
                 ccpaEnforced,
                 modifyingVastXmlAllowed,
                 compressionType,
+                compressionLevel,
                 Ortb.of(ortb.getMultiFormatSupported()),
                 tmaxDeductionMs);
     }
@@ -58,6 +58,14 @@ public class HttpBidderRequestEnricher {
         return bidderRequestHeadersCopy;
     }
 
+    /**
+     * Returns compression level configured for the bidder, or null if default level should be used.
+     */
+    Integer resolveCompressionLevel(String bidderName, BidderAliases aliases) {
+        final BidderInfo bidderInfo = bidderCatalog.bidderInfoByName(aliases.resolveBidder(bidderName));
+        return bidderInfo != null ? bidderInfo.getCompressionLevel() : null;
+    }
+
     private static MultiMap copyMultiMap(MultiMap source) {
         final MultiMap copiedMultiMap = MultiMap.caseInsensitiveMultiMap();
         if (source != null && !source.isEmpty()) {
@@ -7,7 +7,9 @@ import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.BidderAliases;
 import org.prebid.server.auction.ExchangeService;
@@ -23,12 +25,15 @@ import org.prebid.server.bidder.model.CompositeBidderResponse;
 import org.prebid.server.bidder.model.HttpRequest;
 import org.prebid.server.bidder.model.HttpResponse;
 import org.prebid.server.bidder.model.Result;
-import org.prebid.server.exception.PreBidException;
+import org.prebid.server.compression.GzipCompressor;
+import org.prebid.server.exception.ResponseSizeExceededException;
 import org.prebid.server.execution.timeout.Timeout;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.ConditionalLogger;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.proto.openrtb.ext.response.ExtHttpCall;
 import org.prebid.server.proto.openrtb.ext.response.ExtIgi;
@@ -37,8 +42,6 @@ import org.prebid.server.util.HttpUtil;
 import org.prebid.server.vertx.httpclient.HttpClient;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -50,7 +53,6 @@ import java.util.Set;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
 import java.util.stream.Stream;
-import java.util.zip.GZIPOutputStream;
 
 /**
  * Implements HTTP communication functionality common for {@link Bidder}'s.
@@ -70,21 +72,30 @@ public class HttpBidderRequester {
     private final BidderRequestCompletionTrackerFactory completionTrackerFactory;
     private final BidderErrorNotifier bidderErrorNotifier;
     private final HttpBidderRequestEnricher requestEnricher;
+    private final GzipCompressor gzipCompressor;
     private final JacksonMapper mapper;
+    private final Metrics metrics;
+    private final long maxResponseSize;
     private final double logSamplingRate;
 
     public HttpBidderRequester(HttpClient httpClient,
                                BidderRequestCompletionTrackerFactory completionTrackerFactory,
                                BidderErrorNotifier bidderErrorNotifier,
                                HttpBidderRequestEnricher requestEnricher,
+                               GzipCompressor gzipCompressor,
                                JacksonMapper mapper,
+                               Metrics metrics,
+                               long maxResponseSize,
                                double logSamplingRate) {
 
         this.httpClient = Objects.requireNonNull(httpClient);
         this.completionTrackerFactory = completionTrackerFactoryOrFallback(completionTrackerFactory);
         this.bidderErrorNotifier = Objects.requireNonNull(bidderErrorNotifier);
         this.requestEnricher = Objects.requireNonNull(requestEnricher);
+        this.gzipCompressor = Objects.requireNonNull(gzipCompressor);
         this.mapper = Objects.requireNonNull(mapper);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.maxResponseSize = maxResponseSize > 0 ? maxResponseSize : Long.MAX_VALUE;
         this.logSamplingRate = logSamplingRate;
     }
 
@@ -114,11 +125,14 @@ public class HttpBidderRequester {
         }
 
         final String storedResponse = bidderRequest.getStoredResponse();
+        final int compressionLevel = ObjectUtils.defaultIfNull(
+                requestEnricher.resolveCompressionLevel(bidderName, aliases), GzipCompressor.DEFAULT_LEVEL);
 
         // stored response available only for single request interaction for the moment.
         final Stream<Future<BidderCall<T>>> httpCalls = isStoredResponse(httpRequests, storedResponse, bidderName)
                 ? Stream.of(makeStoredHttpCall(httpRequests.getFirst(), storedResponse))
-                : httpRequests.stream().map(httpRequest -> doRequest(httpRequest, timeout));
+                : httpRequests.stream().map(httpRequest ->
+                        doRequest(bidderName, httpRequest, timeout, compressionLevel));
 
         // httpCalls contains recovered and mapped to succeeded Future<BidderHttpCall> with error inside
         final BidderRequestCompletionTracker completionTracker = completionTrackerFactory.create(bidRequest);
@@ -200,54 +214,58 @@ public class HttpBidderRequester {
     /**
      * Makes an HTTP request and returns {@link Future} that will be eventually completed with success or error result.
      */
-    private <T> Future<BidderCall<T>> doRequest(HttpRequest<T> httpRequest, Timeout timeout) {
+    private <T> Future<BidderCall<T>> doRequest(String bidderName,
+                                                HttpRequest<T> httpRequest,
+                                                Timeout timeout,
+                                                int compressionLevel) {
+
         final long remainingTimeout = timeout.remaining();
         if (remainingTimeout <= 0) {
-            return failResponse(new TimeoutException("Timeout has been exceeded"), httpRequest);
+            return failResponse(bidderName, new TimeoutException("Timeout has been exceeded"), httpRequest);
         }
 
-        return createRequest(httpRequest, remainingTimeout)
+        return createRequest(httpRequest, remainingTimeout, compressionLevel)
                 .compose(response -> processResponse(response, httpRequest))
-                .recover(exception -> failResponse(exception, httpRequest));
+                .recover(exception -> failResponse(bidderName, exception, httpRequest));
     }
 
-    private <T> Future<HttpClientResponse> createRequest(HttpRequest<T> httpRequest, long remainingTimeout) {
+    private <T> Future<HttpClientResponse> createRequest(HttpRequest<T> httpRequest,
+                                                         long remainingTimeout,
+                                                         int compressionLevel) {
+
         final MultiMap requestHeaders = httpRequest.getHeaders();
-        final byte[] preparedBody = compressIfRequired(httpRequest.getBody(), requestHeaders);
+        final byte[] preparedBody = compressIfRequired(httpRequest.getBody(), requestHeaders, compressionLevel);
 
         return httpClient.request(
                 httpRequest.getMethod(),
                 httpRequest.getUri(),
                 requestHeaders,
                 preparedBody,
-                remainingTimeout);
-    }
-
-    private static byte[] compressIfRequired(byte[] body, MultiMap headers) {
-        final String contentEncodingHeader = headers.get(HttpUtil.CONTENT_ENCODING_HEADER);
-        return Objects.equals(contentEncodingHeader, HttpHeaderValues.GZIP.toString())
-                ? gzip(body)
-                : body;
+                remainingTimeout,
+                maxResponseSize);
     }
 
-    private static byte[] gzip(byte[] value) {
-        try (
-                ByteArrayOutputStream obj = new ByteArrayOutputStream();
-                GZIPOutputStream gzip = new GZIPOutputStream(obj)) {
-
-            gzip.write(value);
-            gzip.finish();
+    private byte[] compressIfRequired(byte[] body, MultiMap headers, int compressionLevel) {
 
-            return obj.toByteArray();
-        } catch (IOException e) {
-            throw new PreBidException("Failed to compress request : " + e.getMessage());
+        final String contentEncodingHeader = headers.get(HttpUtil.CONTENT_ENCODING_HEADER);
+        if (!Objects.equals(contentEncodingHeader, HttpHeaderValues.GZIP.toString())) {
+            return body;
         }
+
+        return gzipCompressor.compress(body, compressionLevel, MetricName.bidder_request);
     }
 
     /**
      * Produces {@link Future} with {@link BidderCall} containing request and error description.
      */
-    private <T> Future<BidderCall<T>> failResponse(Throwable exception, HttpRequest<T> httpRequest) {
+    private <T> Future<BidderCall<T>> failResponse(String bidderName,
+                                                   Throwable exception,
+                                                   HttpRequest<T> httpRequest) {
+
+        if (exception instanceof ResponseSizeExceededException) {
+            metrics.updateAdapterRequestErrorMetric(bidderName, MetricName.response_size_exceeded);
+        }
+
         conditionalLogger.warn("Error occurred while sending HTTP request to a bidder url: %s with message: %s"
                 .formatted(httpRequest.getUri(), exception.getMessage()), logSamplingRate);
         logger.debug("Error occurred while sending HTTP request to a bidder url: {}",
@@ -270,7 +288,10 @@ public class HttpBidderRequester {
                                                              HttpRequest<T> httpRequest) {
 
         final int statusCode = response.getStatusCode();
-        final HttpResponse httpResponse = HttpResponse.of(statusCode, response.getHeaders(), response.getBody());
+        final Buffer bodyBuffer = response.getBodyBuffer();
+        final HttpResponse httpResponse = bodyBuffer != null
+                ? HttpResponse.ofBuffer(statusCode, response.getHeaders(), bodyBuffer)
+                : HttpResponse.of(statusCode, response.getHeaders(), response.getBody());
         return Future.succeededFuture(BidderCall.succeededHttp(httpRequest, httpResponse, errorOrNull(statusCode)));
     }
 
@@ -50,7 +50,7 @@ public class AaxBidder implements Bidder<BidRequest> {
     public final Result<List<BidderBid>> makeBids(BidderCall<BidRequest> httpCall, BidRequest bidRequest) {
         final List<BidderError> errors = new ArrayList<>();
         try {
-            final BidResponse bidResponse = mapper.decodeValue(httpCall.getResponse().getBody(), BidResponse.class);
+            final BidResponse bidResponse = BidderUtil.decodeBody(httpCall.getResponse(), BidResponse.class, mapper);
             final List<BidderBid> bidderBids = extractBids(httpCall.getRequest().getPayload(), bidResponse, errors);
             return Result.of(bidderBids, errors);
         } catch (DecodeException e) {
@@ -23,6 +23,7 @@ import org.prebid.server.proto.openrtb.ext.request.aceex.ExtImpAceex;
 import org.prebid.server.proto.openrtb.ext.response.BidType;
 import org.prebid.server.util.HttpUtil;
 import org.prebid.server.util.ObjectUtil;
+import org.prebid.server.util.BidderUtil;
 
 import java.util.List;
 import java.util.Objects;
@@ -85,7 +86,7 @@ public class AceexBidder implements Bidder<BidRequest> {
     @Override
     public final Result<List<BidderBid>> makeBids(BidderCall<BidRequest> httpCall, BidRequest bidRequest) {
         try {
-            final BidResponse bidResponse = mapper.decodeValue(httpCall.getResponse().getBody(), BidResponse.class);
+            final BidResponse bidResponse = BidderUtil.decodeBody(httpCall.getResponse(), BidResponse.class, mapper);
             return Result.withValues(extractBids(httpCall.getRequest().getPayload(), bidResponse));
         } catch (DecodeException e) {
             return Result.withError(BidderError.badServerResponse("Bad Server Response"));
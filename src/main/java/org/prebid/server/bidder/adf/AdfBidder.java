@@ -108,7 +108,7 @@ public class AdfBidder implements Bidder<BidRequest> {
     @Override
     public Result<List<BidderBid>> makeBids(BidderCall<BidRequest> httpCall, BidRequest bidRequest) {
         try {
-            final BidResponse bidResponse = mapper.decodeValue(httpCall.getResponse().getBody(), BidResponse.class);
+            final BidResponse bidResponse = BidderUtil.decodeBody(httpCall.getResponse(), BidResponse.class, mapper);
             final List<BidderError> errors = new ArrayList<>();
             final List<BidderBid> bidderBids = extractBids(bidResponse, errors);
             return Result.of(bidderBids, errors);
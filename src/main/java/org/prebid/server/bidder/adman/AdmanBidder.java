@@ -86,7 +86,7 @@ public class AdmanBidder implements Bidder<BidRequest> {
     public Result<List<BidderBid>> makeBids(BidderCall<BidRequest> httpCall, BidRequest bidRequest) {
         final List<BidderError> errors = new ArrayList<>();
         try {
-            final BidResponse bidResponse = mapper.decodeValue(httpCall.getResponse().getBody(), BidResponse.class);
+            final BidResponse bidResponse = BidderUtil.decodeBody(httpCall.getResponse(), BidResponse.class, mapper);
             final List<Imp> imps = httpCall.getRequest().getPayload().getImp();
             final List<BidderBid> bidderBids = extractBids(bidResponse, errors, imps);
             return Result.of(bidderBids, errors);
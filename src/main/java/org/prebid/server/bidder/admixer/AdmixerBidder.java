@@ -134,7 +134,7 @@ public class AdmixerBidder implements Bidder<BidRequest> {
 
     private BidResponse decodeBodyToBidResponse(BidderCall<BidRequest> httpCall) {
         try {
-            return mapper.decodeValue(httpCall.getResponse().getBody(), BidResponse.class);
+            return BidderUtil.decodeBody(httpCall.getResponse(), BidResponse.class, mapper);
         } catch (DecodeException e) {
             throw new PreBidException(e.getMessage(), e);
         }
@@ -27,6 +27,7 @@ import org.prebid.server.proto.openrtb.ext.ExtPrebid;
 import org.prebid.server.proto.openrtb.ext.request.adoppler.ExtImpAdoppler;
 import org.prebid.server.proto.openrtb.ext.response.BidType;
 import org.prebid.server.util.HttpUtil;
+import org.prebid.server.util.BidderUtil;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -132,7 +133,7 @@ public class AdopplerBidder implements Bidder<BidRequest> {
 
     private BidResponse decodeBodyToBidResponse(BidderCall<BidRequest> httpCall) {
         try {
-            return mapper.decodeValue(httpCall.getResponse().getBody(), BidResponse.class);
+            return BidderUtil.decodeBody(httpCall.getResponse(), BidResponse.class, mapper);
         } catch (DecodeException e) {
             throw new PreBidException("invalid body: " + e.getMessage());
         }
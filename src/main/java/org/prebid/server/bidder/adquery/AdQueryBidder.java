@@ -32,6 +32,7 @@ import org.prebid.server.proto.openrtb.ext.request.adquery.ExtImpAdQuery;
 import org.prebid.server.proto.openrtb.ext.response.BidType;
 import org.prebid.server.util.HttpUtil;
 import org.prebid.server.util.ObjectUtil;
+import org.prebid.server.util.BidderUtil;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -161,8 +162,8 @@ public class AdQueryBidder implements Bidder<AdQueryRequest> {
     @Override
     public final Result<List<BidderBid>> makeBids(BidderCall<AdQueryRequest> httpCall, BidRequest bidRequest) {
         try {
-            final AdQueryResponse bidResponse = mapper.decodeValue(
-                    httpCall.getResponse().getBody(), AdQueryResponse.class);
+            final AdQueryResponse bidResponse = BidderUtil.decodeBody(
+                    httpCall.getResponse(), AdQueryResponse.class, mapper);
             return Result.withValues(extractBids(bidResponse, bidRequest.getId()));
         } catch (DecodeException | PreBidException e) {
             return Result.withError(BidderError.badServerResponse(e.getMessage()));
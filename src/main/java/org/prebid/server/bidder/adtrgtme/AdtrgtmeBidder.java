@@ -24,6 +24,7 @@ import org.prebid.server.proto.openrtb.ext.request.adtrgtme.ExtImpAdtrgtme;
 import org.prebid.server.proto.openrtb.ext.response.BidType;
 import org.prebid.server.util.HttpUtil;
 import org.prebid.server.util.ObjectUtil;
+import org.prebid.server.util.BidderUtil;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -112,7 +113,7 @@ public class AdtrgtmeBidder implements Bidder<BidRequest> {
     public Result<List<BidderBid>> makeBids(BidderCall<BidRequest> httpCall, BidRequest bidRequest) {
         final List<BidderError> errors = new ArrayList<>();
         try {
-            final BidResponse bidResponse = mapper.decodeValue(httpCall.getResponse().getBody(), BidResponse.class);
+            final BidResponse bidResponse = BidderUtil.decodeBody(httpCall.getResponse(), BidResponse.class, mapper);
             final List<Imp> imps = httpCall.getRequest().getPayload().getImp();
             final List<BidderBid> bidderBids = extractBids(bidResponse, errors, imps);
             return Result.of(bidderBids, errors);
@@ -108,7 +108,7 @@ public class AppushBidder implements Bidder<BidRequest> {
     @Override
     public Result<List<BidderBid>> makeBids(BidderCall<BidRequest> httpCall, BidRequest bidRequest) {
         try {
-            final BidResponse bidResponse = mapper.decodeValue(httpCall.getResponse().getBody(), BidResponse.class);
+            final BidResponse bidResponse = BidderUtil.decodeBody(httpCall.getResponse(), BidResponse.class, mapper);
             final List<BidderBid> bids = extractBids(httpCall.getRequest().getPayload(), bidResponse);
             return Result.withValues(bids);
         } catch (DecodeException | PreBidException e) {
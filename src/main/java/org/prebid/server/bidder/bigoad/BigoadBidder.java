@@ -105,7 +105,7 @@ public class BigoadBidder implements Bidder<BidRequest> {
 
     private BidResponse parseBidResponse(HttpResponse response) {
         try {
-            return mapper.decodeValue(response.getBody(), BidResponse.class);
+            return BidderUtil.decodeBody(response, BidResponse.class, mapper);
         } catch (DecodeException e) {
             throw new PreBidException("Bad server response: " + e.getMessage());
         }
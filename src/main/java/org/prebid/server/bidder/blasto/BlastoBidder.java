@@ -23,6 +23,7 @@ import org.prebid.server.proto.openrtb.ext.ExtPrebid;
 import org.prebid.server.proto.openrtb.ext.request.blasto.ExtImpBlasto;
 import org.prebid.server.proto.openrtb.ext.response.BidType;
 import org.prebid.server.util.HttpUtil;
+import org.prebid.server.util.BidderUtil;
 
 import java.util.Collections;
 import java.util.List;
@@ -118,7 +119,7 @@ public class BlastoBidder implements Bidder<BidRequest> {
 
     private BidResponse parseBidResponse(HttpResponse response) {
         try {
-            return mapper.decodeValue(response.getBody(), BidResponse.class);
+            return BidderUtil.decodeBody(response, BidResponse.class, mapper);
         } catch (DecodeException e) {
             throw new PreBidException("Bad server response.");
         }
@@ -108,7 +108,7 @@ public class ConcertBidder implements Bidder<BidRequest> {
 
     private BidResponse parseBidResponse(HttpResponse response) {
         try {
-            return mapper.decodeValue(response.getBody(), BidResponse.class);
+            return BidderUtil.decodeBody(response, BidResponse.class, mapper);
         } catch (DecodeException e) {
             throw new PreBidException(e.getMessage());
         }
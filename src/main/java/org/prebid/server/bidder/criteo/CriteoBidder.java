@@ -53,8 +53,8 @@ public class CriteoBidder implements Bidder<BidRequest> {
     @Override
     public CompositeBidderResponse makeBidderResponse(BidderCall<BidRequest> httpCall, BidRequest bidRequest) {
         try {
-            final CriteoBidResponse bidResponse = mapper.decodeValue(
-                    httpCall.getResponse().getBody(), CriteoBidResponse.class);
+            final CriteoBidResponse bidResponse = BidderUtil.decodeBody(
+                    httpCall.getResponse(), CriteoBidResponse.class, mapper);
 
             return CompositeBidderResponse.builder()
                     .bids(extractBids(bidResponse))
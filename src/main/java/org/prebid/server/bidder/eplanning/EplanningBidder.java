@@ -32,6 +32,7 @@ import org.prebid.server.proto.openrtb.ext.ExtPrebid;
 import org.prebid.server.proto.openrtb.ext.request.eplanning.ExtImpEplanning;
 import org.prebid.server.proto.openrtb.ext.response.BidType;
 import org.prebid.server.util.HttpUtil;
+import org.prebid.server.util.BidderUtil;
 
 import java.math.BigDecimal;
 import java.net.MalformedURLException;
@@ -287,7 +288,7 @@ public class EplanningBidder implements Bidder<Void> {
     @Override
     public Result<List<BidderBid>> makeBids(BidderCall<Void> httpCall, BidRequest bidRequest) {
         try {
-            final HbResponse hbResponse = mapper.decodeValue(httpCall.getResponse().getBody(), HbResponse.class);
+            final HbResponse hbResponse = BidderUtil.decodeBody(httpCall.getResponse(), HbResponse.class, mapper);
             return extractBids(hbResponse, bidRequest);
         } catch (DecodeException e) {
             return Result.withError(BidderError.badServerResponse(e.getMessage()));
@@ -46,6 +46,7 @@ import org.prebid.server.proto.openrtb.ext.request.flipp.ExtImpFlippOptions;
 import org.prebid.server.proto.openrtb.ext.response.BidType;
 import org.prebid.server.util.HttpUtil;
 import org.prebid.server.util.ObjectUtil;
+import org.prebid.server.util.BidderUtil;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -267,7 +268,7 @@ public class FlippBidder implements Bidder<CampaignRequestBody> {
     public final Result<List<BidderBid>> makeBids(BidderCall<CampaignRequestBody> httpCall, BidRequest bidRequest) {
         try {
             final CampaignResponseBody campaignResponseBody =
-                    mapper.decodeValue(httpCall.getResponse().getBody(), CampaignResponseBody.class);
+                    BidderUtil.decodeBody(httpCall.getResponse(), CampaignResponseBody.class, mapper);
             return Result.withValues(extractBids(campaignResponseBody, bidRequest));
         } catch (DecodeException e) {
             return Result.withError(BidderError.badServerResponse(e.getMessage()));
@@ -229,9 +229,9 @@ public class HuaweiAdsBidder implements Bidder<HuaweiAdsRequest> {
     @Override
     public Result<List<BidderBid>> makeBids(BidderCall<HuaweiAdsRequest> httpCall, BidRequest bidRequest) {
         try {
-            final HuaweiAdsResponse response = mapper.decodeValue(
-                    httpCall.getResponse().getBody(),
-                    HuaweiAdsResponse.class);
+            final HuaweiAdsResponse response = BidderUtil.decodeBody(
+                    httpCall.getResponse(),
+                    HuaweiAdsResponse.class, mapper);
             validateRetcode(response.getRetcode(), response.getReason());
             return Result.withValues(extractBids(response, bidRequest));
         } catch (DecodeException e) {
@@ -37,6 +37,7 @@ import org.prebid.server.proto.openrtb.ext.request.invibes.ExtImpInvibes;
 import org.prebid.server.proto.openrtb.ext.request.invibes.model.InvibesDebug;
 import org.prebid.server.proto.openrtb.ext.response.BidType;
 import org.prebid.server.util.HttpUtil;
+import org.prebid.server.util.BidderUtil;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -280,7 +281,7 @@ public class InvibesBidder implements Bidder<InvibesBidRequest> {
     public final Result<List<BidderBid>> makeBids(BidderCall<InvibesBidRequest> httpCall, BidRequest bidRequest) {
         try {
             final InvibesBidderResponse bidResponse =
-                    mapper.decodeValue(httpCall.getResponse().getBody(), InvibesBidderResponse.class);
+                    BidderUtil.decodeBody(httpCall.getResponse(), InvibesBidderResponse.class, mapper);
             if (bidResponse != null && StringUtils.isNotBlank(bidResponse.getError())) {
                 return Result.withError(
                         BidderError.badServerResponse("Server error: %s.".formatted(bidResponse.getError())));
@@ -233,7 +233,8 @@ public class IxBidder implements Bidder<BidRequest> {
     @Override
     public CompositeBidderResponse makeBidderResponse(BidderCall<BidRequest> httpCall, BidRequest bidRequest) {
         try {
-            final IxBidResponse bidResponse = mapper.decodeValue(httpCall.getResponse().getBody(), IxBidResponse.class);
+            final IxBidResponse bidResponse = BidderUtil.decodeBody(
+                    httpCall.getResponse(), IxBidResponse.class, mapper);
             final List<BidderError> errors = new ArrayList<>();
 
             return CompositeBidderResponse.builder()
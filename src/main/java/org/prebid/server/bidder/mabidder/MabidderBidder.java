@@ -40,9 +40,9 @@ public class MabidderBidder implements Bidder<BidRequest> {
     @Override
     public Result<List<BidderBid>> makeBids(BidderCall<BidRequest> httpCall, BidRequest bidRequest) {
         try {
-            final List<MabidderBidResponse> bidResponses = mapper.decodeValue(
-                            httpCall.getResponse().getBody(),
-                            MabidderResponse.class)
+            final List<MabidderBidResponse> bidResponses = BidderUtil.decodeBody(
+                            httpCall.getResponse(),
+                            MabidderResponse.class, mapper)
                     .getBidResponses();
             return Result.withValues(extractBids(bidResponses));
         } catch (DecodeException e) {
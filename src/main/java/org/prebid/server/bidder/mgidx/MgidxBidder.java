@@ -107,7 +107,7 @@ public class MgidxBidder implements Bidder<BidRequest> {
     @Override
     public Result<List<BidderBid>> makeBids(BidderCall<BidRequest> httpCall, BidRequest bidRequest) {
         try {
-            final BidResponse bidResponse = mapper.decodeValue(httpCall.getResponse().getBody(), BidResponse.class);
+            final BidResponse bidResponse = BidderUtil.decodeBody(httpCall.getResponse(), BidResponse.class, mapper);
             final List<BidderBid> bids = extractBids(httpCall.getRequest().getPayload(), bidResponse);
             return Result.withValues(bids);
         } catch (DecodeException | PreBidException e) {
@@ -26,6 +26,7 @@ import org.prebid.server.proto.openrtb.ext.request.ExtUser;
 import org.prebid.server.proto.openrtb.ext.request.missena.ExtImpMissena;
 import org.prebid.server.proto.openrtb.ext.response.BidType;
 import org.prebid.server.util.HttpUtil;
+import org.prebid.server.util.BidderUtil;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -134,9 +135,9 @@ public class MissenaBidder implements Bidder<MissenaAdRequest> {
     @Override
     public Result<List<BidderBid>> makeBids(BidderCall<MissenaAdRequest> httpCall, BidRequest bidRequest) {
         try {
-            final MissenaAdResponse bidResponse = mapper.decodeValue(
-                    httpCall.getResponse().getBody(),
-                    MissenaAdResponse.class);
+            final MissenaAdResponse bidResponse = BidderUtil.decodeBody(
+                    httpCall.getResponse(),
+                    MissenaAdResponse.class, mapper);
             return Result.withValues(Collections.singletonList(extractBid(bidRequest, bidResponse)));
         } catch (DecodeException e) {
             return Result.withError(BidderError.badServerResponse(e.getMessage()));
@@ -101,7 +101,7 @@ public class MobfoxpbBidder implements Bidder<BidRequest> {
     @Override
     public Result<List<BidderBid>> makeBids(BidderCall<BidRequest> httpCall, BidRequest bidRequest) {
         try {
-            final BidResponse bidResponse = mapper.decodeValue(httpCall.getResponse().getBody(), BidResponse.class);
+            final BidResponse bidResponse = BidderUtil.decodeBody(httpCall.getResponse(), BidResponse.class, mapper);
             final BidRequest payload = httpCall.getRequest().getPayload();
             return extractBids(bidResponse, payload.getImp());
         } catch (DecodeException e) {
@@ -1,19 +1,85 @@
 package org.prebid.server.bidder.model;
 
 import io.vertx.core.MultiMap;
-import lombok.AllArgsConstructor;
-import lombok.Value;
+import io.vertx.core.buffer.Buffer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
 
 /**
  * Packages together information from the server's http response.
+ * <p>
+ * Body can be held as raw {@link Buffer} received from the bidder: in this case it is decoded to {@link String}
+ * only on first {@link #getBody()} call (e.g. for debug output), while bidders decode the bytes directly
+ * with {@link org.prebid.server.util.BidderUtil#decodeBody}.
  */
-@AllArgsConstructor(staticName = "of")
-@Value
 public class HttpResponse {
 
-    int statusCode;
+    private final int statusCode;
+
+    private final MultiMap headers;
+
+    private final Buffer bodyBuffer;
+
+    private String body;
+
+    private HttpResponse(int statusCode, MultiMap headers, Buffer bodyBuffer, String body) {
+        this.statusCode = statusCode;
+        this.headers = headers;
+        this.bodyBuffer = bodyBuffer;
+        this.body = body;
+    }
+
+    public static HttpResponse of(int statusCode, MultiMap headers, String body) {
+        return new HttpResponse(statusCode, headers, null, body);
+    }
+
+    public static HttpResponse ofBuffer(int statusCode, MultiMap headers, Buffer bodyBuffer) {
+        return new HttpResponse(statusCode, headers, bodyBuffer, null);
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public MultiMap getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Returns raw response body or null if response was created from {@link String}.
+     */
+    public Buffer getBodyBuffer() {
+        return bodyBuffer;
+    }
+
+    public String getBody() {
+        if (body == null && bodyBuffer != null) {
+            body = bodyBuffer.toString(StandardCharsets.UTF_8);
+        }
+        return body;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof HttpResponse that)) {
+            return false;
+        }
+        return statusCode == that.statusCode
+                && Objects.equals(headers, that.headers)
+                && Objects.equals(getBody(), that.getBody());
+    }
 
-    MultiMap headers;
+    @Override
+    public int hashCode() {
+        return Objects.hash(statusCode, headers, getBody());
+    }
 
-    String body;
+    @Override
+    public String toString() {
+        return "HttpResponse(statusCode=%d, headers=%s, body=%s)".formatted(statusCode, headers, getBody());
+    }
 }
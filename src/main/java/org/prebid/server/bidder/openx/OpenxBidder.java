@@ -89,8 +89,8 @@ public class OpenxBidder implements Bidder<BidRequest> {
     @Override
     public CompositeBidderResponse makeBidderResponse(BidderCall<BidRequest> httpCall, BidRequest bidRequest) {
         try {
-            final OpenxBidResponse bidResponse = mapper.decodeValue(
-                    httpCall.getResponse().getBody(), OpenxBidResponse.class);
+            final OpenxBidResponse bidResponse = BidderUtil.decodeBody(
+                    httpCall.getResponse(), OpenxBidResponse.class, mapper);
 
             return CompositeBidderResponse.builder()
                     .bids(extractBids(bidRequest, bidResponse))
@@ -497,8 +497,8 @@ public class PubmaticBidder implements Bidder<BidRequest> {
     @Override
     public CompositeBidderResponse makeBidderResponse(BidderCall<BidRequest> httpCall, BidRequest bidRequest) {
         try {
-            final PubmaticBidResponse bidResponse = mapper.decodeValue(
-                    httpCall.getResponse().getBody(), PubmaticBidResponse.class);
+            final PubmaticBidResponse bidResponse = BidderUtil.decodeBody(
+                    httpCall.getResponse(), PubmaticBidResponse.class, mapper);
             final List<BidderError> errors = new ArrayList<>();
 
             return CompositeBidderResponse.builder()
@@ -326,7 +326,7 @@ public class SmaatoBidder implements Bidder<BidRequest> {
     @Override
     public Result<List<BidderBid>> makeBids(BidderCall<BidRequest> httpCall, BidRequest bidRequest) {
         try {
-            final BidResponse bidResponse = mapper.decodeValue(httpCall.getResponse().getBody(), BidResponse.class);
+            final BidResponse bidResponse = BidderUtil.decodeBody(httpCall.getResponse(), BidResponse.class, mapper);
             return extractBids(bidResponse, httpCall.getResponse().getHeaders());
         } catch (PreBidException | DecodeException e) {
             return Result.withError(BidderError.badInput(e.getMessage()));
@@ -162,7 +162,7 @@ public class SovrnBidder implements Bidder<BidRequest> {
     public Result<List<BidderBid>> makeBids(BidderCall<BidRequest> httpCall, BidRequest bidRequest) {
         try {
             final List<BidderError> bidderErrors = new ArrayList<>();
-            final BidResponse bidResponse = mapper.decodeValue(httpCall.getResponse().getBody(), BidResponse.class);
+            final BidResponse bidResponse = BidderUtil.decodeBody(httpCall.getResponse(), BidResponse.class, mapper);
             final BidRequest request = httpCall.getRequest().getPayload();
 
             return Result.of(extractBids(bidResponse, request, bidderErrors), bidderErrors);
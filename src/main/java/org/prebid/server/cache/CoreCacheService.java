@@ -4,8 +4,10 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import com.iab.openrtb.response.Bid;
+import io.netty.handler.codec.http.HttpHeaderValues;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpMethod;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.model.AuctionContext;
@@ -24,6 +26,7 @@ import org.prebid.server.cache.proto.request.bid.BidPutObject;
 import org.prebid.server.cache.proto.response.bid.BidCacheResponse;
 import org.prebid.server.cache.proto.response.bid.CacheObject;
 import org.prebid.server.cache.utils.CacheServiceUtil;
+import org.prebid.server.compression.GzipCompressor;
 import org.prebid.server.events.EventsContext;
 import org.prebid.server.events.EventsService;
 import org.prebid.server.exception.PreBidException;
@@ -45,6 +48,7 @@ import org.prebid.server.vertx.httpclient.HttpClient;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -74,8 +78,12 @@ public class CoreCacheService {
     private final Clock clock;
     private final UUIDIdGenerator idGenerator;
     private final JacksonMapper mapper;
+    private final GzipCompressor gzipCompressor;
+    private final boolean compressionEnabled;
+    private final int compressionLevel;
 
     private final MultiMap cacheHeaders;
+    private final MultiMap compressedCacheHeaders;
     private final Map<String, List<String>> debugHeaders;
 
     public CoreCacheService(
@@ -90,7 +98,10 @@ public class CoreCacheService {
             Metrics metrics,
             Clock clock,
             UUIDIdGenerator idGenerator,
-            JacksonMapper mapper) {
+            JacksonMapper mapper,
+            GzipCompressor gzipCompressor,
+            boolean compressionEnabled,
+            int compressionLevel) {
 
         this.httpClient = Objects.requireNonNull(httpClient);
         this.endpointUrl = Objects.requireNonNull(endpointUrl);
@@ -102,11 +113,17 @@ public class CoreCacheService {
         this.clock = Objects.requireNonNull(clock);
         this.idGenerator = Objects.requireNonNull(idGenerator);
         this.mapper = Objects.requireNonNull(mapper);
+        this.gzipCompressor = Objects.requireNonNull(gzipCompressor);
+        this.compressionEnabled = compressionEnabled;
+        this.compressionLevel = compressionLevel;
 
         cacheHeaders = isApiKeySecured
                 ? HttpUtil.headers().add(HttpUtil.X_PBC_API_KEY_HEADER, Objects.requireNonNull(apiKey))
                 : HttpUtil.headers();
-        debugHeaders = HttpUtil.toDebugHeaders(cacheHeaders);
+        compressedCacheHeaders = MultiMap.caseInsensitiveMultiMap()
+                .addAll(cacheHeaders)
+                .add(HttpUtil.CONTENT_ENCODING_HEADER, HttpHeaderValues.GZIP);
+        debugHeaders = HttpUtil.toDebugHeaders(compressionEnabled ? compressedCacheHeaders : cacheHeaders);
     }
 
     public String getEndpointHost() {
@@ -130,11 +147,7 @@ public class CoreCacheService {
         final List<CachedCreative> cachedCreatives = Collections.singletonList(
                 makeDebugCacheCreative(cachedDebugLog, cacheKey, videoCacheTtl));
         final BidCacheRequest bidCacheRequest = toBidCacheRequest(cachedCreatives);
-        httpClient.post(
-                endpointUrl.toString(),
-                cacheHeaders,
-                mapper.encodeToString(bidCacheRequest),
-                expectedCacheTimeMs);
+        post(endpointUrl.toString(), mapper.encodeToString(bidCacheRequest), expectedCacheTimeMs);
         return cacheKey;
     }
 
@@ -165,16 +178,22 @@ public class CoreCacheService {
         }
 
         final long startTime = clock.millis();
-        return httpClient.post(
-                        endpointUrl.toString(),
-                        cacheHeaders,
-                        mapper.encodeToString(bidCacheRequest),
-                        remainingTimeout)
+        return post(endpointUrl.toString(), mapper.encodeToString(bidCacheRequest), remainingTimeout)
                 .map(response -> toBidCacheResponse(
                         response.getStatusCode(), response.getBody(), bidCount, accountId, startTime))
                 .recover(exception -> failResponse(exception, accountId, startTime));
     }
 
+    private Future<HttpClientResponse> post(String url, String body, long timeout) {
+        if (!compressionEnabled) {
+            return httpClient.post(url, cacheHeaders, body, timeout);
+        }
+
+        final byte[] compressedBody = gzipCompressor.compress(
+                body.getBytes(StandardCharsets.UTF_8), compressionLevel, MetricName.cache_request);
+        return httpClient.request(HttpMethod.POST, url, compressedCacheHeaders, compressedBody, timeout);
+    }
+
     private Future<BidCacheResponse> failResponse(Throwable exception, String accountId, long startTime) {
         metrics.updateCacheRequestFailedTime(accountId, clock.millis() - startTime);
 
@@ -298,7 +317,7 @@ public class CoreCacheService {
         final CacheHttpRequest httpRequest = CacheHttpRequest.of(url, body);
 
         final long startTime = clock.millis();
-        return httpClient.post(url, cacheHeaders, body, remainingTimeout)
+        return post(url, body, remainingTimeout)
                 .map(response -> processResponseOpenrtb(response,
                         httpRequest,
                         cachedCreatives.size(),
@@ -0,0 +1,108 @@
+package org.prebid.server.compression;
+
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Compresses HTTP request bodies to gzip format (RFC 1952).
+ * <p>
+ * Unlike {@link java.util.zip.GZIPOutputStream}, which allocates a native {@link Deflater} per stream,
+ * every thread reuses its own {@link Deflater} (and {@link CRC32}), so the number of native deflaters is bounded
+ * by the number of threads (event loops and workers) and does not depend on the request rate.
+ * <p>
+ * Compressed body is written directly to the resulting array sized by the expected compressed size,
+ * without intermediate output streams.
+ */
+public class GzipCompressor {
+
+    public static final int DEFAULT_LEVEL = Deflater.DEFAULT_COMPRESSION;
+
+    private static final byte[] HEADER = {
+            0x1f, (byte) 0x8b,  // magic number
+            Deflater.DEFLATED,  // compression method
+            0,                  // flags
+            0, 0, 0, 0,         // modification time
+            0,                  // extra flags
+            (byte) 0xff         // operating system: unknown
+    };
+    private static final int TRAILER_SIZE = 8;
+    private static final int MIN_BUFFER_SIZE = 64;
+
+    private final ThreadLocal<Deflater> deflaters = ThreadLocal.withInitial(
+            () -> new Deflater(DEFAULT_LEVEL, true));
+    private final ThreadLocal<CRC32> checksums = ThreadLocal.withInitial(CRC32::new);
+
+    private final Metrics metrics;
+
+    public GzipCompressor(Metrics metrics) {
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    /**
+     * Compresses given body with given compression level (from 0 to 9 or {@link #DEFAULT_LEVEL}),
+     * reporting compression metrics under given type.
+     */
+    public byte[] compress(byte[] body, int level, MetricName type) {
+        if (body == null) {
+            return null;
+        }
+        if (level != DEFAULT_LEVEL && (level < Deflater.NO_COMPRESSION || level > Deflater.BEST_COMPRESSION)) {
+            throw new PreBidException("Invalid compression level: " + level);
+        }
+
+        final long startTime = System.nanoTime();
+        final byte[] compressed = deflate(body, level);
+        metrics.updateCompressionMetrics(type, body.length, compressed.length, System.nanoTime() - startTime);
+
+        return compressed;
+    }
+
+    private byte[] deflate(byte[] body, int level) {
+        final Deflater deflater = deflaters.get();
+        final CRC32 checksum = checksums.get();
+
+        byte[] output = new byte[HEADER.length + Math.max(body.length / 2, MIN_BUFFER_SIZE) + TRAILER_SIZE];
+        System.arraycopy(HEADER, 0, output, 0, HEADER.length);
+        int length = HEADER.length;
+
+        try {
+            deflater.setLevel(level);
+            deflater.setInput(body);
+            deflater.finish();
+            while (!deflater.finished()) {
+                if (length == output.length) {
+                    output = Arrays.copyOf(output, output.length * 2);
+                }
+                length += deflater.deflate(output, length, output.length - length);
+            }
+        } finally {
+            // also releases reference to the input
+            deflater.reset();
+        }
+
+        checksum.reset();
+        checksum.update(body);
+
+        if (length + TRAILER_SIZE > output.length) {
+            output = Arrays.copyOf(output, length + TRAILER_SIZE);
+        }
+        length = writeIntLittleEndian(output, length, (int) checksum.getValue());
+        length = writeIntLittleEndian(output, length, body.length);
+
+        return length == output.length ? output : Arrays.copyOf(output, length);
+    }
+
+    private static int writeIntLittleEndian(byte[] output, int offset, int value) {
+        output[offset] = (byte) value;
+        output[offset + 1] = (byte) (value >> 8);
+        output[offset + 2] = (byte) (value >> 16);
+        output[offset + 3] = (byte) (value >> 24);
+        return offset + 4;
+    }
+}
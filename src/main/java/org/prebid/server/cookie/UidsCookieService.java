@@ -1,6 +1,7 @@
 package org.prebid.server.cookie;
 
-import io.vertx.core.buffer.Buffer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.vertx.core.http.Cookie;
 import io.vertx.core.http.CookieSameSite;
 import io.vertx.ext.web.RoutingContext;
@@ -28,9 +29,14 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Contains logic for obtaining UIDs from the request and actualizing them.
+ * <p>
+ * If cache size is positive, UIDs decoded from the uids cookies and encoded values of the uids cookies are cached
+ * for the configured time, since the same cookies come in repeatedly while user is being synced. This way only
+ * the cookies with changed UIDs are decoded and encoded again.
  */
 public class UidsCookieService {
 
@@ -52,6 +58,9 @@ public class UidsCookieService {
     private final int maxCookieSizeBytes;
     private final int numberOfUidCookies;
 
+    private final Cache<String, Map<String, UidWithExpiry>> decodedUidsCache;
+    private final Cache<Uids, String> encodedUidsCache;
+
     private final PrioritizedCoopSyncProvider prioritizedCoopSyncProvider;
     private final Metrics metrics;
     private final JacksonMapper mapper;
@@ -64,6 +73,8 @@ public class UidsCookieService {
                              int ttlDays,
                              int maxCookieSizeBytes,
                              int numberOfUidCookies,
+                             int cacheSize,
+                             long cacheTtlSeconds,
                              PrioritizedCoopSyncProvider prioritizedCoopSyncProvider,
                              Metrics metrics,
                              JacksonMapper mapper) {
@@ -87,11 +98,20 @@ public class UidsCookieService {
         this.ttlSeconds = Duration.ofDays(ttlDays).getSeconds();
         this.maxCookieSizeBytes = maxCookieSizeBytes;
         this.numberOfUidCookies = numberOfUidCookies;
+        this.decodedUidsCache = cacheSize > 0 ? createCache(cacheSize, cacheTtlSeconds) : null;
+        this.encodedUidsCache = cacheSize > 0 ? createCache(cacheSize, cacheTtlSeconds) : null;
         this.prioritizedCoopSyncProvider = Objects.requireNonNull(prioritizedCoopSyncProvider);
         this.metrics = Objects.requireNonNull(metrics);
         this.mapper = Objects.requireNonNull(mapper);
     }
 
+    private static <K, V> Cache<K, V> createCache(int cacheSize, long cacheTtlSeconds) {
+        return Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(cacheTtlSeconds, TimeUnit.SECONDS)
+                .<K, V>build();
+    }
+
     /**
      * Retrieves UIDs cookie (base64 encoded) value from http request and transforms it into {@link UidsCookie}.
      * <p>
@@ -143,21 +163,42 @@ public class UidsCookieService {
                 continue;
             }
 
-            try {
-                final Uids parsedUids = mapper.decodeValue(
-                        Buffer.buffer(Base64.getUrlDecoder().decode(cookie.getValue())), Uids.class);
-                if (parsedUids != null && parsedUids.getUids() != null) {
-                    parsedUids.getUids().forEach((key, value) -> uids.merge(key, value, (newValue, oldValue) ->
-                            newValue.getExpires().compareTo(oldValue.getExpires()) > 0 ? newValue : oldValue));
-                }
-            } catch (IllegalArgumentException | DecodeException e) {
-                logger.debug("Could not decode or parse {} cookie value {}", e, COOKIE_NAME, cookie.getValue());
+            final Map<String, UidWithExpiry> parsedUids = decodeUids(cookie.getValue());
+            if (parsedUids != null) {
+                parsedUids.forEach((key, value) -> uids.merge(key, value, (newValue, oldValue) ->
+                        newValue.getExpires().compareTo(oldValue.getExpires()) > 0 ? newValue : oldValue));
             }
         }
 
         return Uids.builder().uids(uids).build();
     }
 
+    /**
+     * Returns UIDs of the single uids cookie value, parsed UIDs are never modified, so they can be shared
+     * between requests.
+     */
+    private Map<String, UidWithExpiry> decodeUids(String cookieValue) {
+        final Map<String, UidWithExpiry> cachedUids = decodedUidsCache != null
+                ? decodedUidsCache.getIfPresent(cookieValue)
+                : null;
+        if (cachedUids != null) {
+            return cachedUids;
+        }
+
+        try {
+            // decoded bytes are parsed directly, without intermediate string or buffer
+            final Uids parsedUids = mapper.decodeValue(Base64.getUrlDecoder().decode(cookieValue), Uids.class);
+            final Map<String, UidWithExpiry> uids = parsedUids != null ? parsedUids.getUids() : null;
+            if (uids != null && decodedUidsCache != null) {
+                decodedUidsCache.put(cookieValue, uids);
+            }
+            return uids;
+        } catch (IllegalArgumentException | DecodeException e) {
+            logger.debug("Could not decode or parse {} cookie value {}", e, COOKIE_NAME, cookieValue);
+            return null;
+        }
+    }
+
     /**
      * Creates a {@link Cookie} with 'uids' as a name and encoded JSON string representing supplied {@link UidsCookie}
      * as a value.
@@ -306,9 +347,8 @@ public class UidsCookieService {
             if (tempUids.isEmpty()) {
                 splitCookies.add(expiredCookie(uidsName));
             } else {
-                splitCookies.add(aliveCookie(
-                        uidsName,
-                        new UidsCookie(Uids.builder().uids(tempUids).optout(hasOptout).build(), mapper)));
+                final Uids cookieUidsPart = Uids.builder().uids(tempUids).optout(hasOptout).build();
+                splitCookies.add(makeCookie(uidsName, encodeUids(cookieUidsPart), ttlSeconds));
             }
         }
 
@@ -321,6 +361,22 @@ public class UidsCookieService {
         return splitCookies;
     }
 
+    /**
+     * Returns uids cookie value, cookie with the same UIDs as before is not encoded again.
+     */
+    private String encodeUids(Uids uids) {
+        final String cachedValue = encodedUidsCache != null ? encodedUidsCache.getIfPresent(uids) : null;
+        if (cachedValue != null) {
+            return cachedValue;
+        }
+
+        final String value = Base64.getUrlEncoder().encodeToString(mapper.encodeToBytes(uids));
+        if (encodedUidsCache != null) {
+            encodedUidsCache.put(uids, value);
+        }
+        return value;
+    }
+
     private Iterator<String> cookieFamilyNamesByDescPriorityAndExpiration(UidsCookie uidsCookie) {
         return uidsCookie.getCookieUids().getUids().entrySet().stream()
                 .sorted(this::compareCookieFamilyNames)
@@ -0,0 +1,8 @@
+package org.prebid.server.exception;
+
+public class ResponseSizeExceededException extends PreBidException {
+
+    public ResponseSizeExceededException(String message) {
+        super(message);
+    }
+}
@@ -4,6 +4,8 @@ import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iab.openrtb.request.App;
 import com.iab.openrtb.request.Banner;
 import com.iab.openrtb.request.BidRequest;
@@ -49,11 +51,10 @@ import org.prebid.server.util.ObjectUtil;
 import org.prebid.server.util.dsl.config.PrebidConfigMatchingStrategy;
 import org.prebid.server.util.dsl.config.PrebidConfigParameter;
 import org.prebid.server.util.dsl.config.PrebidConfigParameters;
-import org.prebid.server.util.dsl.config.PrebidConfigSource;
+import org.prebid.server.util.dsl.config.impl.IndexedSource;
 import org.prebid.server.util.dsl.config.impl.MostAccurateCombinationStrategy;
 import org.prebid.server.util.dsl.config.impl.SimpleDirectParameter;
 import org.prebid.server.util.dsl.config.impl.SimpleParameters;
-import org.prebid.server.util.dsl.config.impl.SimpleSource;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -95,6 +96,7 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
     private final JacksonMapper mapper;
 
     private final PrebidConfigMatchingStrategy matchingStrategy;
+    private final Cache<PriceFloorModelGroup, IndexedRules> indexedRulesCache;
 
     public BasicPriceFloorResolver(CurrencyConversionService currencyConversionService,
                                    CountryCodeMapper countryCodeMapper,
@@ -107,6 +109,8 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
         this.mapper = Objects.requireNonNull(mapper);
 
         matchingStrategy = new MostAccurateCombinationStrategy();
+        // model groups are compared by identity, so rules are indexed once per fetched (or passed) floors data
+        indexedRulesCache = Caffeine.newBuilder().weakKeys().build();
     }
 
     @Override
@@ -137,15 +141,11 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
             return null;
         }
 
-        final Map<String, BigDecimal> values = keysToLowerCase(modelGroup.getValues());
-        final PrebidConfigSource source = SimpleSource.of(
-                WILDCARD_CATCH_ALL,
-                ObjectUtils.defaultIfNull(schema.getDelimiter(), SCHEMA_DEFAULT_DELIMITER),
-                values.keySet());
+        final IndexedRules indexedRules = indexedRulesCache.get(modelGroup, BasicPriceFloorResolver::indexRules);
         final PrebidConfigParameters parameters = createParameters(schema, bidRequest, imp, mediaType, format, bidder);
 
-        final String rule = matchingStrategy.match(source, parameters);
-        final BigDecimal floorForRule = rule != null ? values.get(rule) : null;
+        final String rule = matchingStrategy.match(indexedRules.source(), parameters);
+        final BigDecimal floorForRule = rule != null ? indexedRules.values().get(rule) : null;
         final BigDecimal floor = floorForRule != null ? floorForRule : modelGroup.getDefaultFloor();
         final String modelGroupCurrency = modelGroup.getCurrency();
         final String floorCurrency = StringUtils.isNotEmpty(modelGroupCurrency)
@@ -188,6 +188,16 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
         return CollectionUtils.isNotEmpty(modelGroups) ? modelGroups.getFirst() : null;
     }
 
+    private static IndexedRules indexRules(PriceFloorModelGroup modelGroup) {
+        final Map<String, BigDecimal> values = keysToLowerCase(modelGroup.getValues());
+        final IndexedSource source = IndexedSource.of(
+                WILDCARD_CATCH_ALL,
+                ObjectUtils.defaultIfNull(modelGroup.getSchema().getDelimiter(), SCHEMA_DEFAULT_DELIMITER),
+                values.keySet());
+
+        return new IndexedRules(values, source);
+    }
+
     private static <V> Map<String, V> keysToLowerCase(Map<String, V> map) {
         return map.entrySet().stream()
                 .collect(
@@ -572,4 +582,7 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
     private static PrebidConfigParameter parameter(String value) {
         return SimpleDirectParameter.of(value.toLowerCase());
     }
+
+    private record IndexedRules(Map<String, BigDecimal> values, IndexedSource source) {
+    }
 }
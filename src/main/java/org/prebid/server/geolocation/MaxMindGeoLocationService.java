@@ -1,7 +1,12 @@
 package org.prebid.server.geolocation;
 
+import com.maxmind.db.CHMCache;
+import com.maxmind.db.NoCache;
+import com.maxmind.db.NodeCache;
 import com.maxmind.db.Reader;
+import com.maxmind.db.Metadata;
 import com.maxmind.geoip2.DatabaseReader;
+import com.maxmind.geoip2.exception.AddressNotFoundException;
 import com.maxmind.geoip2.exception.GeoIp2Exception;
 import com.maxmind.geoip2.model.CityResponse;
 import com.maxmind.geoip2.record.City;
@@ -14,27 +19,74 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.http.conn.util.InetAddressUtils;
 import org.prebid.server.execution.file.FileProcessor;
 import org.prebid.server.execution.timeout.Timeout;
 import org.prebid.server.geolocation.model.GeoInfo;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.Metrics;
 
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.util.Date;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.zip.GZIPInputStream;
 
 /**
  * Implementation of the {@link GeoLocationService}
  * backed by <a href="https://dev.maxmind.com/geoip/geoip2/geolite2/">MaxMind free database</a>
+ * <p>
+ * If database file path is configured, database is extracted from the archive to this file and memory-mapped,
+ * otherwise it is read into the heap. Decoded database nodes are cached if node cache size is positive.
+ * <p>
+ * Updated database is validated and warmed up with lookups of the sample IPs before it replaces the current one,
+ * so lookups never see a partially loaded database. Database which failed validation is discarded and the current
+ * one stays in use. Replaced database is closed as soon as the lookups still using it are finished.
  */
 public class MaxMindGeoLocationService implements GeoLocationService, FileProcessor {
 
+    private static final Logger logger = LoggerFactory.getLogger(MaxMindGeoLocationService.class);
+
     private static final String VENDOR = "maxmind";
 
     private static final String DATABASE_FILE_NAME = "GeoLite2-City.mmdb";
+    private static final String DATABASE_TYPE = "City";
+    private static final String TMP_FILE_SUFFIX = ".tmp";
+
+    private final String databaseFilePath;
+    private final int nodeCacheSize;
+    private final List<String> warmUpIps;
+    private final Clock clock;
+    private final Metrics metrics;
+
+    private final AtomicReference<Database> database = new AtomicReference<>();
+
+    public MaxMindGeoLocationService(String databaseFilePath,
+                                     int nodeCacheSize,
+                                     List<String> warmUpIps,
+                                     Clock clock,
+                                     Metrics metrics) {
 
-    private DatabaseReader databaseReader;
+        this.databaseFilePath = StringUtils.stripToNull(databaseFilePath);
+        this.nodeCacheSize = nodeCacheSize;
+        this.warmUpIps = Objects.requireNonNull(warmUpIps);
+        this.clock = Objects.requireNonNull(clock);
+        this.metrics = Objects.requireNonNull(metrics);
+
+        metrics.createGeoLocationDatabaseVersionGauge(this::databaseVersion);
+    }
 
     public Future<?> setDataPath(String dataFilePath) {
         try (TarArchiveInputStream tarInput = new TarArchiveInputStream(new GZIPInputStream(
@@ -53,23 +105,74 @@ public class MaxMindGeoLocationService implements GeoLocationService, FileProces
                         .formatted(DATABASE_FILE_NAME, dataFilePath));
             }
 
-            databaseReader = new DatabaseReader.Builder(tarInput).fileMode(Reader.FileMode.MEMORY).build();
-            return Future.succeededFuture();
+            final DatabaseReader.Builder databaseReaderBuilder = databaseFilePath != null
+                    ? new DatabaseReader.Builder(extractDatabaseFile(tarInput)).fileMode(Reader.FileMode.MEMORY_MAPPED)
+                    : new DatabaseReader.Builder(tarInput).fileMode(Reader.FileMode.MEMORY);
+
+            return swap(databaseReaderBuilder.withCache(nodeCache()).build());
         } catch (IOException e) {
             return Future.failedFuture(
                     "IO Exception occurred while trying to read an archive/db file: " + e.getMessage());
         }
     }
 
+    /**
+     * Makes the given database current if it is valid, otherwise closes it and keeps the current one.
+     */
+    Future<?> swap(DatabaseReader databaseReader) {
+        final long startTime = clock.millis();
+
+        try {
+            validate(databaseReader);
+        } catch (IOException | GeoIp2Exception | RuntimeException e) {
+            close(databaseReader);
+            metrics.updateGeoLocationDatabaseSwapMetric(false, clock.millis() - startTime);
+            return Future.failedFuture("Geo location database validation failed: " + e.getMessage());
+        }
+
+        final Database previousDatabase = database.getAndSet(new Database(databaseReader));
+        if (previousDatabase != null) {
+            previousDatabase.retire();
+        }
+
+        metrics.updateGeoLocationDatabaseSwapMetric(true, clock.millis() - startTime);
+        return Future.succeededFuture();
+    }
+
+    private void validate(DatabaseReader databaseReader) throws IOException, GeoIp2Exception {
+        final Metadata metadata = databaseReader.getMetadata();
+        final String databaseType = metadata != null ? metadata.getDatabaseType() : null;
+        if (!StringUtils.contains(databaseType, DATABASE_TYPE)) {
+            throw new IllegalArgumentException("unexpected database type " + databaseType);
+        }
+
+        // first lookups load database pages and fill the node cache before the database is shared
+        for (String ip : warmUpIps) {
+            try {
+                databaseReader.city(toInetAddress(ip));
+            } catch (AddressNotFoundException e) {
+                // sample IP is allowed to be missing in the database
+            }
+        }
+    }
+
+    private long databaseVersion() {
+        final Database currentDatabase = database.get();
+        final Metadata metadata = currentDatabase != null ? currentDatabase.reader.getMetadata() : null;
+        final Date buildDate = metadata != null ? metadata.getBuildDate() : null;
+        return buildDate != null ? buildDate.getTime() / 1000 : 0;
+    }
+
     @Override
     public Future<GeoInfo> lookup(String ip, Timeout timeout) {
-        if (databaseReader == null) {
+        final Database currentDatabase = acquireDatabase();
+        if (currentDatabase == null) {
             return Future.failedFuture("Geo location database file hasn't been downloaded yet, try again later");
         }
 
         try {
-            final InetAddress inetAddress = InetAddress.getByName(ip);
-            final CityResponse cityResponse = databaseReader.city(inetAddress);
+            final InetAddress inetAddress = toInetAddress(ip);
+            final CityResponse cityResponse = currentDatabase.reader.city(inetAddress);
             final Location location = cityResponse != null ? cityResponse.getLocation() : null;
 
             return Future.succeededFuture(GeoInfo.builder()
@@ -84,7 +187,51 @@ public class MaxMindGeoLocationService implements GeoLocationService, FileProces
                     .build());
         } catch (IOException | GeoIp2Exception e) {
             return Future.failedFuture(e);
+        } finally {
+            currentDatabase.release();
+        }
+    }
+
+    /**
+     * Returns current database protected from being closed until released, database replaced concurrently
+     * can be already closed, so the new current one is taken in that case.
+     */
+    private Database acquireDatabase() {
+        Database currentDatabase;
+        do {
+            currentDatabase = database.get();
+        } while (currentDatabase != null && !currentDatabase.tryAcquire());
+
+        return currentDatabase;
+    }
+
+    /**
+     * Database file is replaced atomically, so the file mapped by the previous reader stays intact.
+     */
+    private File extractDatabaseFile(InputStream databaseInput) throws IOException {
+        final Path databasePath = Path.of(databaseFilePath);
+        final Path tmpDatabasePath = Path.of(databaseFilePath + TMP_FILE_SUFFIX);
+
+        Files.createDirectories(databasePath.toAbsolutePath().getParent());
+        Files.copy(databaseInput, tmpDatabasePath, StandardCopyOption.REPLACE_EXISTING);
+        Files.move(tmpDatabasePath, databasePath,
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        return databasePath.toFile();
+    }
+
+    private NodeCache nodeCache() {
+        return nodeCacheSize > 0 ? new CHMCache(nodeCacheSize) : NoCache.getInstance();
+    }
+
+    /**
+     * Accepts IP literals only, so {@link InetAddress} never falls back to the host name resolving.
+     */
+    private static InetAddress toInetAddress(String ip) throws UnknownHostException {
+        if (ip == null || !(InetAddressUtils.isIPv4Address(ip) || InetAddressUtils.isIPv6Address(ip))) {
+            throw new UnknownHostException("Invalid IP address: " + ip);
         }
+        return InetAddress.getByName(ip);
     }
 
     private static String resolveContinent(CityResponse cityResponse) {
@@ -119,4 +266,57 @@ public class MaxMindGeoLocationService implements GeoLocationService, FileProces
         final Double longitude = location != null ? location.getLongitude() : null;
         return longitude != null ? longitude.floatValue() : null;
     }
+
+    private static void close(DatabaseReader databaseReader) {
+        try {
+            databaseReader.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close geo location database: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Counts lookups using the database, so that it is closed after the last of them when the database is retired.
+     */
+    private static class Database {
+
+        private static final int CLOSED = -1;
+
+        private final DatabaseReader reader;
+        private final AtomicInteger usages = new AtomicInteger();
+        private volatile boolean retired;
+
+        Database(DatabaseReader reader) {
+            this.reader = reader;
+        }
+
+        boolean tryAcquire() {
+            int currentUsages;
+            do {
+                currentUsages = usages.get();
+                if (currentUsages == CLOSED) {
+                    return false;
+                }
+            } while (!usages.compareAndSet(currentUsages, currentUsages + 1));
+
+            return true;
+        }
+
+        void release() {
+            if (usages.decrementAndGet() == 0 && retired) {
+                closeIfUnused();
+            }
+        }
+
+        void retire() {
+            retired = true;
+            closeIfUnused();
+        }
+
+        private void closeIfUnused() {
+            if (usages.compareAndSet(0, CLOSED)) {
+                close(reader);
+            }
+        }
+    }
 }
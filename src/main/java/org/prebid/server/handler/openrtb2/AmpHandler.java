@@ -13,6 +13,7 @@ import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
@@ -194,11 +195,20 @@ public class AmpHandler implements ApplicationResource {
 
         return prepareAmpResponse(auctionContext, routingContext)
                 .map(result -> addToEvent(result.getLeft().getTargeting(), ampEventBuilder::targeting, result))
-                .map(result -> RawResponseContext.builder()
-                        .responseBody(mapper.encodeToString(result.getLeft()))
-                        .responseHeaders(responseHeaders)
-                        .auctionContext(auctionContext)
-                        .build());
+                .map(result -> toRawResponseContext(result.getLeft(), responseHeaders, auctionContext));
+    }
+
+    private RawResponseContext toRawResponseContext(AmpResponse ampResponse,
+                                                    MultiMap responseHeaders,
+                                                    AuctionContext auctionContext) {
+
+        final RawResponseContext.RawResponseContextBuilder rawResponseContextBuilder = RawResponseContext.builder()
+                .responseHeaders(responseHeaders)
+                .auctionContext(auctionContext);
+
+        return hookStageExecutor.hasExitpointHooks(auctionContext)
+                ? rawResponseContextBuilder.responseBody(mapper.encodeToString(ampResponse)).build()
+                : rawResponseContextBuilder.encodedResponseBody(mapper.encodeToBuffer(ampResponse)).build();
     }
 
     private Future<RawResponseContext> invokeExitpointHooks(RawResponseContext rawResponseContext) {
@@ -216,6 +226,7 @@ public class AmpHandler implements ApplicationResource {
                                 .auctionContext(context)
                                 .responseHeaders(payload.responseHeaders())
                                 .responseBody(payload.responseBody())
+                                .encodedResponseBody(rawResponseContext.getEncodedResponseBody())
                                 .build()));
     }
 
@@ -336,7 +347,7 @@ public class AmpHandler implements ApplicationResource {
         final MetricName metricRequestStatus;
         final List<String> errorMessages;
         final HttpResponseStatus status;
-        final String body;
+        final Buffer body;
 
         final String origin = originFrom(routingContext);
         ampEventBuilder.origin(origin);
@@ -352,7 +363,7 @@ public class AmpHandler implements ApplicationResource {
             rawResponseContext.getResponseHeaders()
                     .forEach(header -> HttpUtil.addHeaderIfValueIsNotEmpty(
                             responseHeaders, header.getKey(), header.getValue()));
-            body = rawResponseContext.getResponseBody();
+            body = rawResponseContext.responseBodyAsBuffer();
         } else {
             getCommonResponseHeaders(routingContext, origin)
                     .forEach(header -> HttpUtil.addHeaderIfValueIsNotEmpty(
@@ -373,7 +384,7 @@ public class AmpHandler implements ApplicationResource {
                         100);
 
                 status = HttpResponseStatus.BAD_REQUEST;
-                body = message;
+                body = Buffer.buffer(message);
             } else if (exception instanceof UnauthorizedAccountException) {
                 metricRequestStatus = MetricName.badinput;
                 final String message = exception.getMessage();
@@ -382,7 +393,7 @@ public class AmpHandler implements ApplicationResource {
                 errorMessages = Collections.singletonList(message);
 
                 status = HttpResponseStatus.UNAUTHORIZED;
-                body = message;
+                body = Buffer.buffer(message);
             } else if (exception instanceof BlocklistedAppException
                     || exception instanceof BlocklistedAccountException) {
                 metricRequestStatus = exception instanceof BlocklistedAccountException
@@ -393,7 +404,7 @@ public class AmpHandler implements ApplicationResource {
 
                 errorMessages = Collections.singletonList(message);
                 status = HttpResponseStatus.FORBIDDEN;
-                body = message;
+                body = Buffer.buffer(message);
             } else if (exception instanceof InvalidAccountConfigException) {
                 metricRequestStatus = MetricName.bad_requests;
                 final String message = exception.getMessage();
@@ -401,7 +412,7 @@ public class AmpHandler implements ApplicationResource {
 
                 errorMessages = Collections.singletonList(message);
                 status = HttpResponseStatus.BAD_REQUEST;
-                body = "Invalid account configuration: " + message;
+                body = Buffer.buffer("Invalid account configuration: " + message);
             } else {
                 final String message = exception.getMessage();
 
@@ -410,7 +421,7 @@ public class AmpHandler implements ApplicationResource {
                 logger.error("Critical error while running the auction", exception);
 
                 status = HttpResponseStatus.INTERNAL_SERVER_ERROR;
-                body = "Critical error while running the auction: " + message;
+                body = Buffer.buffer("Critical error while running the auction: " + message);
             }
         }
 
@@ -440,7 +451,7 @@ public class AmpHandler implements ApplicationResource {
 
     private void respondWith(RoutingContext routingContext,
                              HttpResponseStatus status,
-                             String body,
+                             Buffer body,
                              long startTime,
                              MetricName metricRequestStatus,
                              AmpEvent event,
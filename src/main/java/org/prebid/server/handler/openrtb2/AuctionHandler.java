@@ -2,11 +2,13 @@ package org.prebid.server.handler.openrtb2;
 
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.response.BidResponse;
 import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
@@ -166,11 +168,18 @@ public class AuctionHandler implements ApplicationResource {
         final MultiMap responseHeaders = getCommonResponseHeaders(routingContext)
                 .add(HttpUtil.CONTENT_TYPE_HEADER, HttpHeaderValues.APPLICATION_JSON);
 
-        return RawResponseContext.builder()
-                .responseBody(mapper.encodeToString(auctionContext.getBidResponse()))
+        final RawResponseContext.RawResponseContextBuilder rawResponseContextBuilder = RawResponseContext.builder()
                 .responseHeaders(responseHeaders)
-                .auctionContext(auctionContext)
-                .build();
+                .auctionContext(auctionContext);
+
+        // exitpoint hooks are not invoked for the skipped auction
+        final boolean bodyForHooksNeeded = !auctionContext.isAuctionSkipped()
+                && hookStageExecutor.hasExitpointHooks(auctionContext);
+
+        final BidResponse bidResponse = auctionContext.getBidResponse();
+        return bodyForHooksNeeded
+                ? rawResponseContextBuilder.responseBody(mapper.encodeToString(bidResponse)).build()
+                : rawResponseContextBuilder.encodedResponseBody(mapper.encodeToBuffer(bidResponse)).build();
     }
 
     private Future<RawResponseContext> invokeExitpointHooks(RawResponseContext rawResponseContext) {
@@ -195,6 +204,7 @@ public class AuctionHandler implements ApplicationResource {
                                 .auctionContext(context)
                                 .responseHeaders(payload.responseHeaders())
                                 .responseBody(payload.responseBody())
+                                .encodedResponseBody(rawResponseContext.getEncodedResponseBody())
                                 .build()));
     }
 
@@ -217,7 +227,7 @@ public class AuctionHandler implements ApplicationResource {
         final MetricName metricRequestStatus;
         final List<String> errorMessages;
         final HttpResponseStatus status;
-        final String body;
+        final Buffer body;
 
         final HttpServerResponse response = routingContext.response();
         final MultiMap responseHeaders = response.headers();
@@ -230,7 +240,7 @@ public class AuctionHandler implements ApplicationResource {
             rawResponseContext.getResponseHeaders()
                     .forEach(header -> HttpUtil.addHeaderIfValueIsNotEmpty(
                             responseHeaders, header.getKey(), header.getValue()));
-            body = rawResponseContext.getResponseBody();
+            body = rawResponseContext.responseBodyAsBuffer();
         } else {
             getCommonResponseHeaders(routingContext)
                     .forEach(header -> HttpUtil.addHeaderIfValueIsNotEmpty(
@@ -248,7 +258,7 @@ public class AuctionHandler implements ApplicationResource {
                 conditionalLogger.info("%s, Referer: %s".formatted(message, referer), logSamplingRate);
 
                 status = HttpResponseStatus.BAD_REQUEST;
-                body = message;
+                body = Buffer.buffer(message);
             } else if (exception instanceof UnauthorizedAccountException) {
                 metricRequestStatus = MetricName.badinput;
                 final String message = exception.getMessage();
@@ -257,7 +267,7 @@ public class AuctionHandler implements ApplicationResource {
 
                 status = HttpResponseStatus.UNAUTHORIZED;
 
-                body = message;
+                body = Buffer.buffer(message);
             } else if (exception instanceof BlocklistedAppException
                     || exception instanceof BlocklistedAccountException) {
                 metricRequestStatus = exception instanceof BlocklistedAccountException
@@ -268,7 +278,7 @@ public class AuctionHandler implements ApplicationResource {
 
                 errorMessages = Collections.singletonList(message);
                 status = HttpResponseStatus.FORBIDDEN;
-                body = message;
+                body = Buffer.buffer(message);
             } else if (exception instanceof InvalidAccountConfigException) {
                 metricRequestStatus = MetricName.bad_requests;
                 final String message = exception.getMessage();
@@ -276,7 +286,7 @@ public class AuctionHandler implements ApplicationResource {
 
                 errorMessages = Collections.singletonList(message);
                 status = HttpResponseStatus.BAD_REQUEST;
-                body = message;
+                body = Buffer.buffer(message);
             } else {
                 metricRequestStatus = MetricName.err;
                 logger.error("Critical error while running the auction", exception);
@@ -285,7 +295,7 @@ public class AuctionHandler implements ApplicationResource {
                 errorMessages = Collections.singletonList(message);
 
                 status = HttpResponseStatus.INTERNAL_SERVER_ERROR;
-                body = "Critical error while running the auction: " + message;
+                body = Buffer.buffer("Critical error while running the auction: " + message);
             }
         }
 
@@ -310,7 +320,7 @@ public class AuctionHandler implements ApplicationResource {
 
     private boolean respondWith(RoutingContext routingContext,
                                 HttpResponseStatus status,
-                                String body,
+                                Buffer body,
                                 MetricName requestType) {
 
         return HttpUtil.executeSafely(
@@ -1,6 +1,7 @@
 package org.prebid.server.handler.openrtb2;
 
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import lombok.Builder;
 import lombok.Value;
 import org.prebid.server.auction.model.AuctionContext;
@@ -13,6 +14,15 @@ public class RawResponseContext {
 
     String responseBody;
 
+    /**
+     * Response body serialized straight into the buffer, set instead of {@link #responseBody}
+     * when there are no exitpoint hooks to be given the body as a string.
+     */
+    Buffer encodedResponseBody;
+
     MultiMap responseHeaders;
 
+    public Buffer responseBodyAsBuffer() {
+        return encodedResponseBody != null ? encodedResponseBody : Buffer.buffer(responseBody);
+    }
 }
@@ -338,6 +338,25 @@ public class HookStageExecutor {
                 .execute();
     }
 
+    /**
+     * Tells whether any entrypoint hook is configured for the given endpoint, so the request body
+     * should be passed to them as a string.
+     */
+    public boolean hasEntrypointHooks(HookExecutionContext context) {
+        return !planForEntrypointStage(context.getEndpoint()).isEmpty();
+    }
+
+    /**
+     * Tells whether any exitpoint hook is configured for the given auction, so the response body
+     * should be passed to them as a string.
+     */
+    public boolean hasExitpointHooks(AuctionContext auctionContext) {
+        final Account account = ObjectUtils.defaultIfNull(auctionContext.getAccount(), EMPTY_ACCOUNT);
+        final Endpoint endpoint = auctionContext.getHookExecutionContext().getEndpoint();
+
+        return !planForStage(account, endpoint, Stage.exitpoint).isEmpty();
+    }
+
     private <PAYLOAD, CONTEXT extends InvocationContext> StageExecutor<PAYLOAD, CONTEXT> stageExecutor(
             StageWithHookType<? extends Hook<PAYLOAD, CONTEXT>> stage,
             String entity,
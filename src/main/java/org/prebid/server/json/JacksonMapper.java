@@ -9,6 +9,7 @@ import org.prebid.server.proto.openrtb.ext.FlexibleExtension;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Objects;
 
 public class JacksonMapper {
@@ -40,6 +41,20 @@ public class JacksonMapper {
         }
     }
 
+    /**
+     * Serializes object straight into the {@link Buffer} without intermediate {@link String} or byte array,
+     * so it can be written to the socket as is.
+     */
+    public <T> Buffer encodeToBuffer(T obj) throws EncodeException {
+        final Buffer buffer = Buffer.buffer();
+        try {
+            mapper.writeValue(new BufferOutputStream(buffer), obj);
+        } catch (IOException e) {
+            throw new EncodeException("Failed to encode as buffer: " + e.getMessage());
+        }
+        return buffer;
+    }
+
     public <T> T decodeValue(String str, Class<T> clazz) throws DecodeException {
         try {
             return mapper.readValue(str, clazz);
@@ -84,4 +99,27 @@ public class JacksonMapper {
         target.addProperties(mapper.convertValue(source, FlexibleExtension.PROPERTIES_TYPE_REF));
         return target;
     }
+
+    /**
+     * Appends everything written to the {@link Buffer}, Jackson writes its output in chunks
+     * so each write is a single bulk append.
+     */
+    private static class BufferOutputStream extends OutputStream {
+
+        private final Buffer buffer;
+
+        BufferOutputStream(Buffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void write(int b) {
+            buffer.appendByte((byte) b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            buffer.appendBytes(bytes, offset, length);
+        }
+    }
 }
@@ -0,0 +1,53 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Applies JSON merge patch (RFC 7386) directly to Jackson trees.
+ * <p>
+ * Neither patch nor target is modified. New object nodes are created only along the paths present in the patch,
+ * all the other subtrees of the target (as well as non-object values of the patch) are shared with the result.
+ * So the cost of applying depends on the size of the patch, not the size of the target.
+ * <p>
+ * Because of sharing, the result must be copied before any modification.
+ */
+public class JsonMergePatcher {
+
+    private static final JsonNodeFactory NODE_FACTORY = JsonNodeFactory.instance;
+
+    private JsonMergePatcher() {
+    }
+
+    /**
+     * Returns 'target' with 'patch' applied, so 'patch' values have priority over the 'target' ones.
+     */
+    public static JsonNode apply(JsonNode patch, JsonNode target) {
+        if (!patch.isObject()) {
+            return patch;
+        }
+
+        final ObjectNode result = target != null && target.isObject()
+                ? NODE_FACTORY.objectNode().setAll((ObjectNode) target)
+                : NODE_FACTORY.objectNode();
+
+        final Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+        while (fields.hasNext()) {
+            final Map.Entry<String, JsonNode> field = fields.next();
+            final String name = field.getKey();
+            final JsonNode value = field.getValue();
+
+            if (value.isNull()) {
+                result.remove(name);
+            } else {
+                result.set(name, apply(value, result.get(name)));
+            }
+        }
+
+        return result;
+    }
+}
@@ -2,8 +2,6 @@ package org.prebid.server.json;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.github.fge.jsonpatch.JsonPatchException;
-import com.github.fge.jsonpatch.mergepatch.JsonMergePatch;
 import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.exception.InvalidRequestException;
 
@@ -13,9 +11,15 @@ import java.util.Objects;
 public class JsonMerger {
 
     private final JacksonMapper mapper;
+    private final ParsedJsonCache parsedJsonCache;
 
     public JsonMerger(JacksonMapper mapper) {
+        this(mapper, null);
+    }
+
+    public JsonMerger(JacksonMapper mapper, ParsedJsonCache parsedJsonCache) {
         this.mapper = Objects.requireNonNull(mapper);
+        this.parsedJsonCache = parsedJsonCache;
     }
 
     /**
@@ -27,18 +31,17 @@ public class JsonMerger {
         final JsonNode originJsonNode = mapper.mapper().valueToTree(originalObject);
         final JsonNode storedRequestJsonNode;
         try {
-            storedRequestJsonNode = mapper.mapper().readTree(storedData);
+            storedRequestJsonNode = parsedJsonCache != null
+                    ? parsedJsonCache.readTree(storedData)
+                    : mapper.mapper().readTree(storedData);
         } catch (IOException e) {
             throw new InvalidRequestException("Can't parse Json for stored request with id " + id);
         }
         try {
             // Http request fields have higher priority and will override fields from stored requests
             // in case they have different values
-            return mapper.mapper().treeToValue(JsonMergePatch.fromJson(originJsonNode).apply(storedRequestJsonNode),
+            return mapper.mapper().treeToValue(JsonMergePatcher.apply(originJsonNode, storedRequestJsonNode),
                     classToCast);
-        } catch (JsonPatchException e) {
-            throw new InvalidRequestException(
-                    "Couldn't create merge patch from origin object node for id %s: %s".formatted(id, e.getMessage()));
         } catch (JsonProcessingException e) {
             throw new InvalidRequestException(
                     "Can't convert merging result for id %s: %s".formatted(id, e.getMessage()));
@@ -50,17 +53,8 @@ public class JsonMerger {
             return ObjectUtils.defaultIfNull(originalObject, mergingObject);
         }
 
-        final JsonNode originJsonNode = mapper.mapper().valueToTree(originalObject);
         final JsonNode mergingObjectJsonNode = mapper.mapper().valueToTree(mergingObject);
-        try {
-            final JsonNode mergedNode = JsonMergePatch.fromJson(originJsonNode).apply(mergingObjectJsonNode);
-            return mapper.mapper().treeToValue(mergedNode, classToCast);
-        } catch (JsonPatchException e) {
-            throw new InvalidRequestException(
-                    "Couldn't create merge patch for objects with class " + classToCast.getName());
-        } catch (JsonProcessingException e) {
-            throw new InvalidRequestException("Can't convert merging result class " + classToCast.getName());
-        }
+        return mergeWithNode(originalObject, mergingObjectJsonNode, classToCast);
     }
 
     /**
@@ -69,10 +63,26 @@ public class JsonMerger {
      * fromNode object fields has priority over the toNode
      */
     public JsonNode merge(JsonNode fromNode, JsonNode toNode) {
+        // result is detached from both nodes, so callers are free to modify it
+        return JsonMergePatcher.apply(fromNode, toNode).deepCopy();
+    }
+
+    /**
+     * Merges passed object with already prepared json node and cast it to appropriate class.
+     * <p>
+     * Useful when the same merging object is used over and over again, so its tree can be built once.
+     * The node is not modified.
+     */
+    public <T> T mergeWithNode(T originalObject, JsonNode mergingNode, Class<T> classToCast) {
+        if (originalObject == null) {
+            return mapper.mapper().convertValue(mergingNode, classToCast);
+        }
+
+        final JsonNode originJsonNode = mapper.mapper().valueToTree(originalObject);
         try {
-            return JsonMergePatch.fromJson(fromNode).apply(toNode);
-        } catch (JsonPatchException e) {
-            throw new InvalidRequestException("Couldn't create merge patch for json nodes");
+            return mapper.mapper().treeToValue(JsonMergePatcher.apply(originJsonNode, mergingNode), classToCast);
+        } catch (JsonProcessingException e) {
+            throw new InvalidRequestException("Can't convert merging result class " + classToCast.getName());
         }
     }
 }
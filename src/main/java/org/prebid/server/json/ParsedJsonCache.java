@@ -0,0 +1,42 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.Objects;
+
+/**
+ * Keeps parsed {@link JsonNode}s of JSON strings which are parsed over and over again,
+ * like stored requests and imps held by in-memory settings cache.
+ * <p>
+ * Entries are looked up by identity of the source string: parsed tree is reused only while the very same
+ * string instance is passed (what {@link org.prebid.server.settings.CachingApplicationSettings} does),
+ * and is dropped as soon as the string itself is evicted from or invalidated in the settings cache.
+ * <p>
+ * Returned nodes are shared between requests and must never be modified.
+ */
+public class ParsedJsonCache {
+
+    private final JacksonMapper mapper;
+
+    private final Cache<String, JsonNode> cache;
+
+    public ParsedJsonCache(JacksonMapper mapper) {
+        this.mapper = Objects.requireNonNull(mapper);
+
+        cache = Caffeine.newBuilder().weakKeys().build();
+    }
+
+    public JsonNode readTree(String json) throws JsonProcessingException {
+        final JsonNode cachedNode = cache.getIfPresent(json);
+        if (cachedNode != null) {
+            return cachedNode;
+        }
+
+        final JsonNode node = mapper.mapper().readTree(json);
+        cache.put(json, node);
+        return node;
+    }
+}
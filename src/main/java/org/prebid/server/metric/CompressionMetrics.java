@@ -0,0 +1,25 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Request bodies compression metrics support.
+ */
+class CompressionMetrics extends UpdatableMetrics {
+
+    CompressionMetrics(MetricRegistry metricRegistry, CounterType counterType, MetricName type) {
+        super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                nameCreator(createPrefix(Objects.requireNonNull(type))));
+    }
+
+    private static String createPrefix(MetricName type) {
+        return "compression." + type;
+    }
+
+    private static Function<MetricName, String> nameCreator(String prefix) {
+        return metricName -> "%s.%s".formatted(prefix, metricName);
+    }
+}
@@ -0,0 +1,207 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.Reservoir;
+import com.codahale.metrics.Snapshot;
+
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Objects;
+
+/**
+ * Reservoir which counts values in log-linear buckets in the same manner as HdrHistogram does: every power of two
+ * range is split into the same number of linear sub-buckets, so the relative error of reported values
+ * doesn't exceed 1/64 regardless of the magnitude.
+ * <p>
+ * Unlike the default exponentially decaying reservoir, update is a lock-free increment, all values are taken
+ * into account (so tail percentiles are accurate) and memory footprint doesn't depend on the number of values.
+ * Values observed within the last one or two windows are reported, older ones are discarded.
+ */
+public class HdrReservoir implements Reservoir {
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT >> 1;
+    // enough to track durations up to 18 minutes in nanoseconds, bigger values fall into the last bucket
+    private static final long MAX_TRACKABLE_VALUE = (1L << 40) - 1;
+    private static final int BUCKETS_COUNT = bucketIndex(MAX_TRACKABLE_VALUE) + 1;
+    // the same as the size of the default uniform reservoir
+    private static final int MAX_SNAPSHOT_VALUES = 1028;
+
+    private final Clock clock;
+    private final WindowedBucketCounts counts;
+
+    public HdrReservoir(Clock clock, long windowMs) {
+        this.clock = Objects.requireNonNull(clock);
+        this.counts = new WindowedBucketCounts(BUCKETS_COUNT, windowMs, clock.millis());
+    }
+
+    @Override
+    public int size() {
+        return (int) Math.min(counts.count(clock.millis()), Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void update(long value) {
+        counts.increment(bucketIndex(Math.min(Math.max(value, 0), MAX_TRACKABLE_VALUE)), clock.millis());
+    }
+
+    @Override
+    public Snapshot getSnapshot() {
+        return new BucketSnapshot(counts.counts(clock.millis()));
+    }
+
+    private static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+
+        final int shift = 64 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKET_HALF_COUNT + (int) (value >>> shift);
+    }
+
+    private static long lowestValue(int bucket) {
+        if (bucket < SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+
+        final int shift = bucket / SUB_BUCKET_HALF_COUNT - 1;
+        return (long) (bucket % SUB_BUCKET_HALF_COUNT + SUB_BUCKET_HALF_COUNT) << shift;
+    }
+
+    private static long highestValue(int bucket) {
+        return bucket + 1 < BUCKETS_COUNT ? lowestValue(bucket + 1) - 1 : MAX_TRACKABLE_VALUE;
+    }
+
+    /**
+     * Snapshot reporting the highest value of the bucket as a quantile value, so percentiles are never
+     * underestimated.
+     */
+    private static class BucketSnapshot extends Snapshot {
+
+        private final long[] counts;
+        private final long count;
+        private final int minBucket;
+        private final int maxBucket;
+
+        BucketSnapshot(long[] counts) {
+            this.counts = counts;
+
+            long totalCount = 0;
+            int min = -1;
+            int max = -1;
+            for (int bucket = 0; bucket < counts.length; bucket++) {
+                if (counts[bucket] > 0) {
+                    totalCount += counts[bucket];
+                    min = min == -1 ? bucket : min;
+                    max = bucket;
+                }
+            }
+
+            count = totalCount;
+            minBucket = min;
+            maxBucket = max;
+        }
+
+        @Override
+        public double getValue(double quantile) {
+            if (quantile < 0.0 || quantile > 1.0 || Double.isNaN(quantile)) {
+                throw new IllegalArgumentException(quantile + " is not in [0..1]");
+            }
+            if (count == 0) {
+                return 0.0;
+            }
+
+            final long rank = Math.max((long) Math.ceil(count * quantile), 1);
+            long accumulated = 0;
+            for (int bucket = minBucket; bucket <= maxBucket; bucket++) {
+                accumulated += counts[bucket];
+                if (accumulated >= rank) {
+                    return highestValue(bucket);
+                }
+            }
+            return highestValue(maxBucket);
+        }
+
+        /**
+         * Returns sorted values of evenly spaced ranks, at most 1028 of them, so the size of the array doesn't
+         * depend on the number of values while their distribution is kept. Smaller number of values is returned
+         * as is.
+         */
+        @Override
+        public long[] getValues() {
+            final int valuesCount = (int) Math.min(count, MAX_SNAPSHOT_VALUES);
+            final long[] values = new long[valuesCount];
+
+            int bucket = minBucket;
+            long accumulated = bucket >= 0 ? counts[bucket] : 0;
+            for (int index = 0; index < valuesCount; index++) {
+                final long rank = Math.ceilDiv((index + 1) * count, valuesCount);
+                while (accumulated < rank) {
+                    accumulated += counts[++bucket];
+                }
+                values[index] = highestValue(bucket);
+            }
+            return values;
+        }
+
+        @Override
+        public int size() {
+            return (int) Math.min(count, Integer.MAX_VALUE);
+        }
+
+        @Override
+        public long getMax() {
+            return count == 0 ? 0 : highestValue(maxBucket);
+        }
+
+        @Override
+        public double getMean() {
+            if (count == 0) {
+                return 0.0;
+            }
+
+            double sum = 0;
+            for (int bucket = minBucket; bucket <= maxBucket; bucket++) {
+                sum += counts[bucket] * medianValue(bucket);
+            }
+            return sum / count;
+        }
+
+        @Override
+        public long getMin() {
+            return count == 0 ? 0 : lowestValue(minBucket);
+        }
+
+        @Override
+        public double getStdDev() {
+            if (count <= 1) {
+                return 0.0;
+            }
+
+            final double mean = getMean();
+            double variance = 0;
+            for (int bucket = minBucket; bucket <= maxBucket; bucket++) {
+                final double diff = medianValue(bucket) - mean;
+                variance += counts[bucket] * diff * diff;
+            }
+            return Math.sqrt(variance / (count - 1));
+        }
+
+        @Override
+        public void dump(OutputStream output) {
+            try (PrintWriter out = new PrintWriter(output, false, StandardCharsets.UTF_8)) {
+                for (int bucket = minBucket; bucket <= maxBucket && bucket >= 0; bucket++) {
+                    if (counts[bucket] > 0) {
+                        out.printf("%d %d%n", highestValue(bucket), counts[bucket]);
+                    }
+                }
+            }
+        }
+
+        private static double medianValue(int bucket) {
+            return (lowestValue(bucket) + highestValue(bucket)) / 2.0;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * HTTP client connection pools metrics support.
+ */
+class HttpClientPoolMetrics extends UpdatableMetrics {
+
+    HttpClientPoolMetrics(MetricRegistry metricRegistry, CounterType counterType, String pool) {
+        super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                nameCreator(createPrefix(Objects.requireNonNull(pool))));
+    }
+
+    private static String createPrefix(String pool) {
+        return "http_client.pool." + pool;
+    }
+
+    private static Function<MetricName, String> nameCreator(String prefix) {
+        return metricName -> "%s.%s".formatted(prefix, metricName);
+    }
+}
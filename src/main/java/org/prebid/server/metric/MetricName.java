@@ -22,6 +22,9 @@ public enum MetricName {
     geolocation_request_time,
     geolocation_successful,
     geolocation_fail,
+    geolocation_database_swap_time,
+    geolocation_database_swap_fail,
+    geolocation_database_version,
 
     // auction
     requests,
@@ -70,6 +73,8 @@ public enum MetricName {
     timeout,
     bid_validation,
     unknown_error,
+    response_size_exceeded,
+    latency_exceeded,
     err,
     networkerr,
     buyeruid_scrubbed,
@@ -136,6 +141,23 @@ public enum MetricName {
     hit,
     miss,
 
+    // compression
+    bidder_request("bidder-request"),
+    cache_request("cache-request"),
+    analytics_request("analytics-request"),
+    ratio,
+    time,
+
+    // http client pools
+    wait_time,
+    in_flight,
+    queue_overflow,
+
+    // analytics events buffer
+    events,
+    flushed,
+    dropped,
+
     // hooks
     call,
     success,
@@ -146,6 +168,9 @@ public enum MetricName {
     failure,
     execution_error("execution-error"),
     duration,
+    inference_time("inference.time"),
+    inference_wait_time("inference.wait_time"),
+    inference_batch_size("inference.batch_size"),
 
     // price-floors
     price_floors("price-floors"),
@@ -18,6 +18,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.function.LongSupplier;
@@ -39,6 +40,8 @@ public class Metrics extends UpdatableMetrics {
     private final Function<Integer, BidderCardinalityMetrics> bidderCardinalityMetricsCreator;
     private final Function<MetricName, CircuitBreakerMetrics> circuitBreakerMetricsCreator;
     private final Function<MetricName, SettingsCacheMetrics> settingsCacheMetricsCreator;
+    private final Function<MetricName, CompressionMetrics> compressionMetricsCreator;
+    private final Function<String, HttpClientPoolMetrics> httpClientPoolMetricsCreator;
     // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
     // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
     // thread-safe
@@ -58,6 +61,8 @@ public class Metrics extends UpdatableMetrics {
     private final TimeoutNotificationMetrics timeoutNotificationMetrics;
     private final CurrencyRatesMetrics currencyRatesMetrics;
     private final Map<MetricName, SettingsCacheMetrics> settingsCacheMetrics;
+    private final Map<MetricName, CompressionMetrics> compressionMetrics;
+    private final Map<String, HttpClientPoolMetrics> httpClientPoolMetrics;
     private final HooksMetrics hooksMetrics;
 
     public Metrics(MetricRegistry metricRegistry,
@@ -79,6 +84,8 @@ public class Metrics extends UpdatableMetrics {
                 metricRegistry, counterType, moduleType);
         circuitBreakerMetricsCreator = type -> new CircuitBreakerMetrics(metricRegistry, counterType, type);
         settingsCacheMetricsCreator = type -> new SettingsCacheMetrics(metricRegistry, counterType, type);
+        compressionMetricsCreator = type -> new CompressionMetrics(metricRegistry, counterType, type);
+        httpClientPoolMetricsCreator = pool -> new HttpClientPoolMetrics(metricRegistry, counterType, pool);
 
         requestsMetrics = new RequestsMetrics(metricRegistry, counterType);
         requestMetrics = new EnumMap<>(MetricName.class);
@@ -96,6 +103,8 @@ public class Metrics extends UpdatableMetrics {
         timeoutNotificationMetrics = new TimeoutNotificationMetrics(metricRegistry, counterType);
         currencyRatesMetrics = new CurrencyRatesMetrics(metricRegistry, counterType);
         settingsCacheMetrics = new HashMap<>();
+        compressionMetrics = new EnumMap<>(MetricName.class);
+        httpClientPoolMetrics = new HashMap<>();
         hooksMetrics = new HooksMetrics(metricRegistry, counterType);
     }
 
@@ -163,6 +172,14 @@ public class Metrics extends UpdatableMetrics {
         return settingsCacheMetrics.computeIfAbsent(type, settingsCacheMetricsCreator);
     }
 
+    CompressionMetrics forCompressionType(MetricName type) {
+        return compressionMetrics.computeIfAbsent(type, compressionMetricsCreator);
+    }
+
+    HttpClientPoolMetrics forHttpClientPool(String pool) {
+        return httpClientPoolMetrics.computeIfAbsent(pool, httpClientPoolMetricsCreator);
+    }
+
     HooksMetrics hooks() {
         return hooksMetrics;
     }
@@ -340,6 +357,10 @@ public class Metrics extends UpdatableMetrics {
         forAnalyticReporter(analyticCode).forEventType(eventType).incCounter(result);
     }
 
+    public void updateAnalyticEventsBufferMetric(String analyticCode, MetricName result, long count) {
+        forAnalyticReporter(analyticCode).forEventType(MetricName.events).incCounter(result, count);
+    }
+
     public void updatePriceFloorFetchMetric(MetricName result) {
         forPriceFloorFetch().incCounter(result);
     }
@@ -529,6 +550,10 @@ public class Metrics extends UpdatableMetrics {
         tcfMetrics.fromVersion(version).vendorList().incCounter(metricName);
     }
 
+    public void updatePrivacyTcfCacheMetric(MetricName result) {
+        privacy().tcf().cache().incCounter(result);
+    }
+
     public void updateConnectionAcceptErrors() {
         incCounter(MetricName.connection_accept_errors);
     }
@@ -565,6 +590,18 @@ public class Metrics extends UpdatableMetrics {
         }
     }
 
+    public void updateGeoLocationDatabaseSwapMetric(boolean successful, long millis) {
+        if (successful) {
+            updateTimer(MetricName.geolocation_database_swap_time, millis);
+        } else {
+            incCounter(MetricName.geolocation_database_swap_fail);
+        }
+    }
+
+    public void createGeoLocationDatabaseVersionGauge(LongSupplier versionSupplier) {
+        createGauge(MetricName.geolocation_database_version, versionSupplier);
+    }
+
     public void createGeoLocationCircuitBreakerGauge(BooleanSupplier stateSupplier) {
         forCircuitBreakerType(MetricName.geo)
                 .createGauge(MetricName.opened, () -> stateSupplier.getAsBoolean() ? 1 : 0);
@@ -625,6 +662,24 @@ public class Metrics extends UpdatableMetrics {
         forSettingsCacheType(cacheType).incCounter(event);
     }
 
+    public void updateCompressionMetrics(MetricName type, int originalSize, int compressedSize, long nanos) {
+        final CompressionMetrics metrics = forCompressionType(type);
+        if (originalSize > 0) {
+            metrics.updateHistogram(MetricName.ratio, compressedSize * 100L / originalSize);
+        }
+        metrics.updateTimer(MetricName.time, nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void updateHttpClientPoolMetrics(String pool, long waitNanos, int inFlight) {
+        final HttpClientPoolMetrics metrics = forHttpClientPool(pool);
+        metrics.updateTimer(MetricName.wait_time, waitNanos, TimeUnit.NANOSECONDS);
+        metrics.updateHistogram(MetricName.in_flight, inFlight);
+    }
+
+    public void updateHttpClientPoolQueueOverflowMetric(String pool) {
+        forHttpClientPool(pool).incCounter(MetricName.queue_overflow);
+    }
+
     public void updateHooksMetrics(
             String moduleCode,
             Stage stage,
@@ -651,6 +706,13 @@ public class Metrics extends UpdatableMetrics {
 
     }
 
+    public void updateModuleInferenceMetrics(String moduleCode, int batchSize, long waitNanos, long inferenceNanos) {
+        final ModuleMetrics moduleMetrics = hooks().module(moduleCode);
+        moduleMetrics.updateHistogram(MetricName.inference_batch_size, batchSize);
+        moduleMetrics.updateTimer(MetricName.inference_wait_time, waitNanos, TimeUnit.NANOSECONDS);
+        moduleMetrics.updateTimer(MetricName.inference_time, inferenceNanos, TimeUnit.NANOSECONDS);
+    }
+
     public void updateAccountHooksMetrics(
             Account account,
             String moduleCode,
@@ -0,0 +1,36 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Reservoir;
+import com.codahale.metrics.Timer;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * {@link MetricRegistry} which creates timers and histograms with the given reservoirs instead of
+ * the default exponentially decaying ones.
+ */
+public class ReservoirMetricRegistry extends MetricRegistry {
+
+    private final MetricSupplier<Timer> timerSupplier;
+    private final MetricSupplier<Histogram> histogramSupplier;
+
+    public ReservoirMetricRegistry(Supplier<Reservoir> reservoirSupplier) {
+        Objects.requireNonNull(reservoirSupplier);
+
+        timerSupplier = () -> new Timer(reservoirSupplier.get());
+        histogramSupplier = () -> new Histogram(reservoirSupplier.get());
+    }
+
+    @Override
+    public Timer timer(String name) {
+        return timer(name, timerSupplier);
+    }
+
+    @Override
+    public Histogram histogram(String name) {
+        return histogram(name, histogramSupplier);
+    }
+}
@@ -16,6 +16,7 @@ class TcfMetrics extends UpdatableMetrics {
 
     private final TcfVersionMetrics tcfVersion1Metrics;
     private final TcfVersionMetrics tcfVersion2Metrics;
+    private final CacheMetrics cacheMetrics;
 
     TcfMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix) {
         super(
@@ -25,6 +26,7 @@ class TcfMetrics extends UpdatableMetrics {
 
         tcfVersion1Metrics = new TcfVersionMetrics(metricRegistry, counterType, createTcfPrefix(prefix), "v1");
         tcfVersion2Metrics = new TcfVersionMetrics(metricRegistry, counterType, createTcfPrefix(prefix), "v2");
+        cacheMetrics = new CacheMetrics(metricRegistry, counterType, createTcfPrefix(prefix));
     }
 
     TcfVersionMetrics fromVersion(int version) {
@@ -35,6 +37,10 @@ class TcfMetrics extends UpdatableMetrics {
         };
     }
 
+    CacheMetrics cache() {
+        return cacheMetrics;
+    }
+
     private static String createTcfPrefix(String prefix) {
         return prefix + ".tcf";
     }
@@ -87,4 +93,22 @@ class TcfMetrics extends UpdatableMetrics {
             return metricName -> "%s.%s".formatted(prefix, metricName);
         }
     }
+
+    static class CacheMetrics extends UpdatableMetrics {
+
+        CacheMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix) {
+            super(
+                    metricRegistry,
+                    counterType,
+                    nameCreator(createCachePrefix(prefix)));
+        }
+
+        private static String createCachePrefix(String prefix) {
+            return prefix + ".cache";
+        }
+
+        private static Function<MetricName, String> nameCreator(String prefix) {
+            return metricName -> "%s.%s".formatted(prefix, metricName);
+        }
+    }
 }
@@ -1,35 +1,52 @@
 package org.prebid.server.metric;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Metric;
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 
-import java.util.EnumMap;
-import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.LongSupplier;
 
 class UpdatableMetrics {
 
+    private static final int METRIC_NAMES_COUNT = MetricName.values().length;
+
     private final MetricRegistry metricRegistry;
     private final Function<MetricName, String> nameCreator;
+    private final Function<String, Metric> counterResolver;
     private final MetricIncrementer incrementer;
     private final CounterType counterType;
-    // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
-    // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
-    // thread-safe
-    private final Map<MetricName, String> metricNames;
+    // metrics are resolved from the registry only once and then cached by metric name ordinal, so the update
+    // doesn't involve names building and registry lookups. Not thread-safe arrays are intentionally used here
+    // because it's harmless in this particular case - in the worst case the same metric is resolved twice from
+    // the registry, which is thread-safe, and metric objects are safely published since their fields are final
+    private final String[] names;
+    private final Metric[] counters;
+    private final Timer[] timers;
+    private final Histogram[] histograms;
 
     UpdatableMetrics(MetricRegistry metricRegistry, CounterType counterType, Function<MetricName, String> nameCreator) {
         this.metricRegistry = metricRegistry;
         this.counterType = counterType;
         this.nameCreator = nameCreator;
-        metricNames = new EnumMap<>(MetricName.class);
 
+        names = new String[METRIC_NAMES_COUNT];
+        counters = new Metric[METRIC_NAMES_COUNT];
+        timers = new Timer[METRIC_NAMES_COUNT];
+        histograms = new Histogram[METRIC_NAMES_COUNT];
+
+        counterResolver = switch (counterType) {
+            case flushingCounter -> name -> metricRegistry.counter(name, ResettingCounter::new);
+            case counter -> metricRegistry::counter;
+            case meter -> metricRegistry::meter;
+        };
         incrementer = switch (counterType) {
-            case flushingCounter -> (registry, metricName, value) ->
-                    registry.counter(metricName, ResettingCounter::new).inc(value);
-            case counter -> (registry, metricName, value) -> registry.counter(metricName).inc(value);
-            case meter -> (registry, metricName, value) -> registry.meter(metricName).mark(value);
+            case flushingCounter, counter -> (metric, value) -> ((Counter) metric).inc(value);
+            case meter -> (metric, value) -> ((Meter) metric).mark(value);
         };
     }
 
@@ -44,22 +61,28 @@ class UpdatableMetrics {
      * Increments metric's counter on a given value.
      */
     void incCounter(MetricName metricName, long value) {
-        incrementer.accept(metricRegistry, name(metricName), value);
+        incrementer.accept(counter(metricName), value);
     }
 
     /**
      * Updates metric's timer with a given value.
      */
     void updateTimer(MetricName metricName, long millis) {
-        metricRegistry.timer(name(metricName)).update(millis, TimeUnit.MILLISECONDS);
+        timer(metricName).update(millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Updates metric's timer with a given value, for operations which usually take less than a millisecond.
+     */
+    void updateTimer(MetricName metricName, long duration, TimeUnit unit) {
+        timer(metricName).update(duration, unit);
     }
 
     /**
      * Updates metric's histogram with a given value.
      */
     void updateHistogram(MetricName metricName, long value) {
-        // by default histograms with exponentially decaying reservoir (size=1028, alpha=0.015) are created
-        metricRegistry.histogram(name(metricName)).update(value);
+        histogram(metricName).update(value);
     }
 
     void createGauge(MetricName metricName, LongSupplier supplier) {
@@ -67,11 +90,59 @@ class UpdatableMetrics {
     }
 
     void removeMetric(MetricName metricName) {
+        final int index = metricName.ordinal();
+        counters[index] = null;
+        timers[index] = null;
+        histograms[index] = null;
+
         metricRegistry.remove(name(metricName));
     }
 
     private String name(MetricName metricName) {
-        return metricNames.computeIfAbsent(metricName, key -> nameCreator.apply(metricName));
+        final int index = metricName.ordinal();
+        final String name = names[index];
+        if (name != null) {
+            return name;
+        }
+
+        final String createdName = nameCreator.apply(metricName);
+        names[index] = createdName;
+        return createdName;
+    }
+
+    private Metric counter(MetricName metricName) {
+        final Metric counter = counters[metricName.ordinal()];
+        if (counter != null) {
+            return counter;
+        }
+
+        final Metric resolvedCounter = counterResolver.apply(name(metricName));
+        counters[metricName.ordinal()] = resolvedCounter;
+        return resolvedCounter;
+    }
+
+    private Timer timer(MetricName metricName) {
+        final Timer timer = timers[metricName.ordinal()];
+        if (timer != null) {
+            return timer;
+        }
+
+        final Timer resolvedTimer = metricRegistry.timer(name(metricName));
+        timers[metricName.ordinal()] = resolvedTimer;
+        return resolvedTimer;
+    }
+
+    private Histogram histogram(MetricName metricName) {
+        final Histogram histogram = histograms[metricName.ordinal()];
+        if (histogram != null) {
+            return histogram;
+        }
+
+        // by default histograms with exponentially decaying reservoir (size=1028, alpha=0.015) are created,
+        // see ReservoirMetricRegistry for the other reservoirs
+        final Histogram resolvedHistogram = metricRegistry.histogram(name(metricName));
+        histograms[metricName.ordinal()] = resolvedHistogram;
+        return resolvedHistogram;
     }
 
     public CounterType getCounterType() {
@@ -80,6 +151,6 @@ class UpdatableMetrics {
 
     @FunctionalInterface
     private interface MetricIncrementer {
-        void accept(MetricRegistry metricRegistry, String metricName, long value);
+        void accept(Metric metric, long value);
     }
 }
@@ -0,0 +1,122 @@
+package org.prebid.server.metric;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts of values falling into the fixed number of buckets, observed within the last one or two windows.
+ * <p>
+ * Counting is a lock-free increment and memory footprint doesn't depend on the number of values. When the current
+ * window ends, it becomes the previous one and the counts of the window before it are discarded, so the counts
+ * follow changes of the values. Mapping of values to buckets is up to the caller.
+ */
+public class WindowedBucketCounts {
+
+    private final int bucketsCount;
+    private final long windowMs;
+
+    private volatile Window previous;
+    private volatile Window current;
+
+    public WindowedBucketCounts(int bucketsCount, long windowMs, long now) {
+        if (windowMs <= 0) {
+            throw new IllegalArgumentException("Window should be greater than 0: " + windowMs);
+        }
+
+        this.bucketsCount = bucketsCount;
+        this.windowMs = windowMs;
+
+        previous = new Window(bucketsCount, now - windowMs);
+        current = new Window(bucketsCount, now);
+    }
+
+    public void increment(int bucket, long now) {
+        currentWindow(now).increment(bucket);
+    }
+
+    public long count(long now) {
+        final Window window = currentWindow(now);
+        return previous.count() + window.count();
+    }
+
+    public long[] counts(long now) {
+        final Window currentWindow = currentWindow(now);
+        final Window previousWindow = previous;
+
+        final long[] counts = new long[bucketsCount];
+        for (int bucket = 0; bucket < bucketsCount; bucket++) {
+            counts[bucket] = previousWindow.count(bucket) + currentWindow.count(bucket);
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the bucket the given quantile of counted values falls into, or -1 if there are no values.
+     * Doesn't allocate, so could be used on every request.
+     */
+    public int quantileBucket(double quantile, long now) {
+        final Window currentWindow = currentWindow(now);
+        final Window previousWindow = previous;
+
+        final long count = previousWindow.count() + currentWindow.count();
+        if (count == 0) {
+            return -1;
+        }
+
+        final long rank = Math.max((long) Math.ceil(count * quantile), 1);
+        long accumulated = 0;
+        for (int bucket = 0; bucket < bucketsCount; bucket++) {
+            accumulated += previousWindow.count(bucket) + currentWindow.count(bucket);
+            if (accumulated >= rank) {
+                return bucket;
+            }
+        }
+        // values counted concurrently could be missed by the loop
+        return bucketsCount - 1;
+    }
+
+    private Window currentWindow(long now) {
+        final Window window = current;
+        if (now - window.startTime < windowMs) {
+            return window;
+        }
+
+        synchronized (this) {
+            final Window actualWindow = current;
+            if (now - actualWindow.startTime < windowMs) {
+                return actualWindow;
+            }
+
+            previous = now - actualWindow.startTime < windowMs * 2
+                    ? actualWindow
+                    : new Window(bucketsCount, now - windowMs);
+            current = new Window(bucketsCount, now);
+            return current;
+        }
+    }
+
+    private static class Window {
+
+        private final long startTime;
+        private final AtomicLongArray buckets;
+        private final AtomicLong count = new AtomicLong();
+
+        Window(int bucketsCount, long startTime) {
+            this.startTime = startTime;
+            this.buckets = new AtomicLongArray(bucketsCount);
+        }
+
+        void increment(int bucket) {
+            buckets.incrementAndGet(bucket);
+            count.incrementAndGet();
+        }
+
+        long count(int bucket) {
+            return buckets.get(bucket);
+        }
+
+        long count() {
+            return count.get();
+        }
+    }
+}
@@ -5,12 +5,16 @@ import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.ext.web.RoutingContext;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import lombok.Value;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.util.HttpUtil;
 
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Builder
@@ -25,7 +29,9 @@ public class HttpRequestContext {
 
     CaseInsensitiveMultiMap headers;
 
-    String body;
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    Supplier<String> body;
 
     String scheme;
 
@@ -40,6 +46,21 @@ public class HttpRequestContext {
                 .build();
     }
 
+    @EqualsAndHashCode.Include
+    @ToString.Include(name = "body")
+    public String getBody() {
+        return body != null ? body.get() : null;
+    }
+
+    /**
+     * Returns a copy of this context which body is got from the given supplier on the first {@link #getBody()}
+     * call, so a body nobody reads is never decoded.
+     */
+    public HttpRequestContext withLazyBody(Supplier<String> body) {
+        return new HttpRequestContext(
+                httpMethod, absoluteUri, queryParams, headers, new LazyBody(body), scheme, remoteHost);
+    }
+
     private static CaseInsensitiveMultiMap headers(RoutingContext context) {
         final Map<String, String> headers = toMap(context.request().headers());
         final String cookieHeader = HttpUtil.createCookiesHeader(context);
@@ -54,4 +75,33 @@ public class HttpRequestContext {
         return multiMap.names().stream()
                 .collect(Collectors.toMap(Function.identity(), multiMap::get));
     }
+
+    public static class HttpRequestContextBuilder {
+
+        public HttpRequestContextBuilder body(String body) {
+            this.body = body != null ? () -> body : null;
+            return this;
+        }
+    }
+
+    private static class LazyBody implements Supplier<String> {
+
+        private final Supplier<String> supplier;
+
+        private volatile String value;
+
+        LazyBody(Supplier<String> supplier) {
+            this.supplier = Objects.requireNonNull(supplier);
+        }
+
+        @Override
+        public String get() {
+            // decoding the same body twice in a race is harmless, so no locking here
+            if (value == null) {
+                value = supplier.get();
+            }
+
+            return value;
+        }
+    }
 }
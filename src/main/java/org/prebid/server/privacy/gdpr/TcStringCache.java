@@ -0,0 +1,105 @@
+package org.prebid.server.privacy.gdpr;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.iabtcf.decoder.TCString;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+
+import java.util.Objects;
+
+/**
+ * Keeps decoded {@link TCString}s of consent strings, which repeat heavily across requests.
+ * <p>
+ * Cache is bounded by the estimated size of its entries in bytes and is disabled if the size is not positive.
+ * <p>
+ * {@link TCString} of version 2 decodes its fields lazily on the first access, so all of them are decoded before
+ * the value is cached. After that the value is only read and can be shared between requests and threads.
+ * Consent strings of other versions or with the fields failed to be decoded are not cached.
+ */
+public class TcStringCache {
+
+    // decoded bit sets take about the same space as the string itself, plus the fixed overhead of the objects
+    private static final int ENTRY_OVERHEAD_BYTES = 512;
+    private static final int BYTES_PER_CHAR = 3;
+    private static final int TCF_V2_VERSION = 2;
+
+    private final Metrics metrics;
+
+    private final Cache<String, TCString> cache;
+
+    public TcStringCache(long maxSizeBytes, Metrics metrics) {
+        this.metrics = Objects.requireNonNull(metrics);
+
+        cache = maxSizeBytes > 0
+                ? Caffeine.newBuilder()
+                .maximumWeight(maxSizeBytes)
+                .<String, TCString>weigher((consentString, tcString) -> weight(consentString))
+                .build()
+                : null;
+    }
+
+    /**
+     * Returns decoded {@link TCString}, throws the same exceptions as {@link TCString#decode} does
+     * in case of invalid consent string.
+     */
+    public TCString decode(String consentString) {
+        if (cache == null) {
+            return TCString.decode(consentString);
+        }
+
+        final TCString cachedTcString = cache.getIfPresent(consentString);
+        if (cachedTcString != null) {
+            metrics.updatePrivacyTcfCacheMetric(MetricName.hit);
+            return cachedTcString;
+        }
+
+        metrics.updatePrivacyTcfCacheMetric(MetricName.miss);
+        final TCString tcString = TCString.decode(consentString);
+        if (tcString.getVersion() == TCF_V2_VERSION && decodeAllFields(tcString)) {
+            cache.put(consentString, tcString);
+        }
+        return tcString;
+    }
+
+    private static boolean decodeAllFields(TCString tcString) {
+        try {
+            decodeFields(tcString);
+            return true;
+        } catch (RuntimeException e) {
+            // let the invalid field fail the same way for the caller as if the consent string wasn't cached
+            return false;
+        }
+    }
+
+    private static void decodeFields(TCString tcString) {
+        tcString.getCreated();
+        tcString.getLastUpdated();
+        tcString.getCmpId();
+        tcString.getCmpVersion();
+        tcString.getConsentScreen();
+        tcString.getConsentLanguage();
+        tcString.getVendorListVersion();
+        tcString.getTcfPolicyVersion();
+        tcString.isServiceSpecific();
+        tcString.getUseNonStandardStacks();
+        tcString.getSpecialFeatureOptIns();
+        tcString.getPurposesConsent();
+        tcString.getPurposesLITransparency();
+        tcString.getPurposeOneTreatment();
+        tcString.getPublisherCC();
+        tcString.getVendorConsent();
+        tcString.getVendorLegitimateInterest();
+        tcString.getPublisherRestrictions();
+        tcString.getDisclosedVendors();
+        tcString.getAllowedVendors();
+        tcString.getPubPurposesConsent();
+        tcString.getPubPurposesLITransparency();
+        tcString.getCustomPurposesConsent();
+        tcString.getCustomPurposesLITransparency();
+    }
+
+    private static int weight(String consentString) {
+        return ENTRY_OVERHEAD_BYTES + consentString.length() * BYTES_PER_CHAR;
+    }
+}
@@ -65,6 +65,7 @@ public class TcfDefinerService {
     private final GeoLocationServiceWrapper geoLocationServiceWrapper;
     private final BidderCatalog bidderCatalog;
     private final IpAddressHelper ipAddressHelper;
+    private final TcStringCache tcStringCache;
     private final Metrics metrics;
     private final double samplingRate;
 
@@ -74,6 +75,7 @@ public class TcfDefinerService {
                              GeoLocationServiceWrapper geoLocationServiceWrapper,
                              BidderCatalog bidderCatalog,
                              IpAddressHelper ipAddressHelper,
+                             TcStringCache tcStringCache,
                              Metrics metrics,
                              double samplingRate) {
 
@@ -86,6 +88,7 @@ public class TcfDefinerService {
         this.geoLocationServiceWrapper = Objects.requireNonNull(geoLocationServiceWrapper);
         this.bidderCatalog = Objects.requireNonNull(bidderCatalog);
         this.ipAddressHelper = Objects.requireNonNull(ipAddressHelper);
+        this.tcStringCache = Objects.requireNonNull(tcStringCache);
         this.metrics = Objects.requireNonNull(metrics);
         this.samplingRate = samplingRate;
     }
@@ -378,7 +381,7 @@ public class TcfDefinerService {
 
     private TCString decodeTcString(String consentString, RequestLogInfo requestLogInfo, List<String> warnings) {
         try {
-            return TCString.decode(consentString);
+            return tcStringCache.decode(consentString);
         } catch (Exception e) {
             logWarn(consentString, e.getMessage(), requestLogInfo);
             warnings.add("Parsing consent string:\"%s\" - failed. %s".formatted(consentString, e.getMessage()));
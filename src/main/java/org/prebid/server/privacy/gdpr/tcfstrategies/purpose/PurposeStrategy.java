@@ -62,7 +62,9 @@ public abstract class PurposeStrategy {
                                            boolean wasDowngraded) {
 
         final Collection<VendorPermissionWithGvl> excludedVendors = excludedVendors(vendorPermissions, purpose);
-        final Collection<VendorPermissionWithGvl> vendorForPurpose = vendorPermissions.stream()
+        final Collection<VendorPermissionWithGvl> vendorForPurpose = excludedVendors.isEmpty()
+                ? vendorPermissions
+                : vendorPermissions.stream()
                 .filter(vendorPermission -> !excludedVendors.contains(vendorPermission))
                 .toList();
 
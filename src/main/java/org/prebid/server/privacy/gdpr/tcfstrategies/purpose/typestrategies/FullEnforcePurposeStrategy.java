@@ -1,6 +1,8 @@
 package org.prebid.server.privacy.gdpr.tcfstrategies.purpose.typestrategies;
 
 import com.iabtcf.decoder.TCString;
+import com.iabtcf.utils.IntIterable;
+import com.iabtcf.v2.PublisherRestriction;
 import com.iabtcf.v2.RestrictionType;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.map.DefaultedMap;
@@ -13,8 +15,6 @@ import java.util.Collection;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class FullEnforcePurposeStrategy extends EnforcePurposeStrategy {
@@ -43,31 +43,43 @@ public class FullEnforcePurposeStrategy extends EnforcePurposeStrategy {
         return Stream.concat(allowedExcluded, allowedVendorPermissions);
     }
 
+    /**
+     * Checks participating vendors against the publisher restrictions of the purpose, instead of expanding
+     * vendor ranges of the restrictions, which may contain thousands of ids.
+     */
     private static Map<Integer, RestrictionType> vendorToRestriction(
             PurposeCode purpose,
             TCString vendorConsent,
             Collection<VendorPermissionWithGvl> vendorsForPurpose,
             Collection<VendorPermissionWithGvl> excludedVendors) {
 
-        final Set<Integer> participatingVendorsIds =
-                Stream.concat(vendorsForPurpose.stream(), excludedVendors.stream())
-                        .map(VendorPermissionWithGvl::getVendorPermission)
-                        .map(VendorPermission::getVendorId)
-                        .collect(Collectors.toSet());
-
         final Map<Integer, RestrictionType> publisherRestrictions = new HashMap<>();
-        vendorConsent.getPublisherRestrictions().stream()
-                .filter(publisherRestriction -> publisherRestriction.getPurposeId() == purpose.code())
-                .forEach(publisherRestriction -> publisherRestriction.getVendorIds().toStream()
-                        .filter(participatingVendorsIds::contains)
-                        .forEach(vendorId -> publisherRestrictions.merge(
-                                vendorId,
-                                publisherRestriction.getRestrictionType(),
-                                (first, second) -> second == RestrictionType.NOT_ALLOWED ? second : first)));
+        for (PublisherRestriction publisherRestriction : vendorConsent.getPublisherRestrictions()) {
+            if (publisherRestriction.getPurposeId() == purpose.code()) {
+                mergeRestriction(publisherRestriction, vendorsForPurpose, publisherRestrictions);
+                mergeRestriction(publisherRestriction, excludedVendors, publisherRestrictions);
+            }
+        }
 
         return DefaultedMap.defaultedMap(publisherRestrictions, RestrictionType.UNDEFINED);
     }
 
+    private static void mergeRestriction(PublisherRestriction publisherRestriction,
+                                         Collection<VendorPermissionWithGvl> vendors,
+                                         Map<Integer, RestrictionType> publisherRestrictions) {
+
+        final IntIterable restrictedVendorIds = publisherRestriction.getVendorIds();
+        for (VendorPermissionWithGvl vendor : vendors) {
+            final Integer vendorId = vendor.getVendorPermission().getVendorId();
+            if (vendorId != null && restrictedVendorIds.contains(vendorId)) {
+                publisherRestrictions.merge(
+                        vendorId,
+                        publisherRestriction.getRestrictionType(),
+                        (first, second) -> second == RestrictionType.NOT_ALLOWED ? second : first);
+            }
+        }
+    }
+
     private boolean isNotRestricted(VendorPermission vendorPermission,
                                     Map<Integer, RestrictionType> vendorToRestriction) {
 
@@ -7,6 +7,7 @@ import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.analytics.AnalyticsReporter;
+import org.prebid.server.analytics.pipeline.DropPolicy;
 import org.prebid.server.analytics.reporter.AnalyticsReporterDelegator;
 import org.prebid.server.analytics.reporter.agma.AgmaAnalyticsReporter;
 import org.prebid.server.analytics.reporter.agma.model.AgmaAnalyticsProperties;
@@ -17,6 +18,7 @@ import org.prebid.server.analytics.reporter.pubstack.PubstackAnalyticsReporter;
 import org.prebid.server.analytics.reporter.pubstack.model.PubstackAnalyticsProperties;
 import org.prebid.server.auction.privacy.enforcement.TcfEnforcement;
 import org.prebid.server.auction.privacy.enforcement.mask.UserFpdActivityMask;
+import org.prebid.server.compression.GzipCompressor;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.version.PrebidVersionProvider;
@@ -29,6 +31,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.validation.annotation.Validated;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import java.time.Clock;
@@ -49,6 +52,7 @@ public class AnalyticsConfiguration {
             Metrics metrics,
             @Value("${logging.sampling-rate:0.01}") double logSamplingRate,
             @Value("${analytics.global.adapters}") Set<String> globalEnabledAdapters,
+            @Value("${analytics.global.share-masked-views:false}") boolean shareMaskedViews,
             JacksonMapper mapper) {
 
         return new AnalyticsReporterDelegator(
@@ -59,6 +63,7 @@ public class AnalyticsConfiguration {
                 metrics,
                 logSamplingRate,
                 globalEnabledAdapters,
+                shareMaskedViews,
                 mapper);
     }
 
@@ -76,8 +81,10 @@ public class AnalyticsConfiguration {
         AgmaAnalyticsReporter agmaAnalyticsReporter(AgmaAnalyticsConfigurationProperties properties,
                                                     JacksonMapper jacksonMapper,
                                                     HttpClient httpClient,
+                                                    GzipCompressor gzipCompressor,
                                                     Clock clock,
                                                     PrebidVersionProvider prebidVersionProvider,
+                                                    Metrics metrics,
                                                     Vertx vertx) {
 
             return new AgmaAnalyticsReporter(
@@ -86,6 +93,8 @@ public class AnalyticsConfiguration {
                     jacksonMapper,
                     clock,
                     httpClient,
+                    gzipCompressor,
+                    metrics,
                     vertx);
         }
 
@@ -123,6 +132,10 @@ public class AnalyticsConfiguration {
                         .maxEventsCount(buffers.getCount())
                         .bufferTimeoutMs(buffers.getTimeoutMs())
                         .httpTimeoutMs(endpoint.getTimeoutMs())
+                        .queueCapacity(buffers.getQueueCapacity())
+                        .dropPolicy(buffers.getDropPolicy())
+                        .maxRetries(endpoint.getMaxRetries())
+                        .retryDelayMs(endpoint.getRetryDelayMs())
                         .accounts(accountsByPublisherId)
                         .build();
             }
@@ -147,6 +160,12 @@ public class AnalyticsConfiguration {
                 private Long timeoutMs;
 
                 private Boolean gzip;
+
+                @Min(0)
+                private int maxRetries = 0;
+
+                @Min(0)
+                private long retryDelayMs = 1000L;
             }
 
             @NoArgsConstructor
@@ -161,6 +180,12 @@ public class AnalyticsConfiguration {
 
                 @NotNull
                 private Long timeoutMs;
+
+                @Min(1)
+                private int queueCapacity = 100000;
+
+                @NotNull
+                private DropPolicy dropPolicy = DropPolicy.dropNewest;
             }
 
             @NoArgsConstructor
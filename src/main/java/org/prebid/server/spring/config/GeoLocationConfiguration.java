@@ -58,10 +58,17 @@ public class GeoLocationConfiguration {
         @Bean
         @ConditionalOnProperty(prefix = "geolocation.circuit-breaker", name = "enabled", havingValue = "false",
                 matchIfMissing = true)
-        GeoLocationService basicGeoLocationService(FileSyncerProperties fileSyncerProperties,
-                                                   Vertx vertx) {
+        GeoLocationService basicGeoLocationService(
+                FileSyncerProperties fileSyncerProperties,
+                @Value("${geolocation.maxmind.database-filepath:#{null}}") String databaseFilePath,
+                @Value("${geolocation.maxmind.node-cache-size:0}") int nodeCacheSize,
+                @Value("${geolocation.maxmind.warm-up-ips:}") List<String> warmUpIps,
+                Vertx vertx,
+                Clock clock,
+                Metrics metrics) {
 
-            return createGeoLocationService(fileSyncerProperties, vertx);
+            return createGeoLocationService(
+                    fileSyncerProperties, databaseFilePath, nodeCacheSize, warmUpIps, vertx, clock, metrics);
         }
 
         @Bean
@@ -70,17 +77,30 @@ public class GeoLocationConfiguration {
                 Vertx vertx,
                 Metrics metrics,
                 FileSyncerProperties fileSyncerProperties,
+                @Value("${geolocation.maxmind.database-filepath:#{null}}") String databaseFilePath,
+                @Value("${geolocation.maxmind.node-cache-size:0}") int nodeCacheSize,
+                @Value("${geolocation.maxmind.warm-up-ips:}") List<String> warmUpIps,
                 @Qualifier("maxMindCircuitBreakerProperties") CircuitBreakerProperties circuitBreakerProperties,
                 Clock clock) {
 
             return new CircuitBreakerSecuredGeoLocationService(vertx,
-                    createGeoLocationService(fileSyncerProperties, vertx), metrics,
+                    createGeoLocationService(
+                            fileSyncerProperties, databaseFilePath, nodeCacheSize, warmUpIps, vertx, clock, metrics),
+                    metrics,
                     circuitBreakerProperties.getOpeningThreshold(), circuitBreakerProperties.getOpeningIntervalMs(),
                     circuitBreakerProperties.getClosingIntervalMs(), clock);
         }
 
-        private GeoLocationService createGeoLocationService(FileSyncerProperties properties, Vertx vertx) {
-            final MaxMindGeoLocationService maxMindGeoLocationService = new MaxMindGeoLocationService();
+        private GeoLocationService createGeoLocationService(FileSyncerProperties properties,
+                                                            String databaseFilePath,
+                                                            int nodeCacheSize,
+                                                            List<String> warmUpIps,
+                                                            Vertx vertx,
+                                                            Clock clock,
+                                                            Metrics metrics) {
+
+            final MaxMindGeoLocationService maxMindGeoLocationService = new MaxMindGeoLocationService(
+                    databaseFilePath, nodeCacheSize, warmUpIps, clock, metrics);
             final FileSyncer fileSyncer = FileUtil.fileSyncerFor(maxMindGeoLocationService, properties, vertx);
             fileSyncer.sync();
             return maxMindGeoLocationService;
@@ -5,6 +5,9 @@ import org.prebid.server.json.JsonLogic;
 import org.prebid.server.json.JsonLogicProvider;
 import org.prebid.server.json.JsonMerger;
 import org.prebid.server.json.ObjectMapperProvider;
+import org.prebid.server.json.ParsedJsonCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -17,8 +20,17 @@ public class JsonConfiguration {
     }
 
     @Bean
-    JsonMerger jsonMerger(JacksonMapper mapper) {
-        return new JsonMerger(mapper);
+    @ConditionalOnProperty(
+            prefix = "settings.in-memory-cache",
+            name = "parsed-stored-data-enabled",
+            havingValue = "true")
+    ParsedJsonCache parsedJsonCache(JacksonMapper mapper) {
+        return new ParsedJsonCache(mapper);
+    }
+
+    @Bean
+    JsonMerger jsonMerger(JacksonMapper mapper, @Autowired(required = false) ParsedJsonCache parsedJsonCache) {
+        return new JsonMerger(mapper, parsedJsonCache);
     }
 
     @Bean
@@ -17,6 +17,7 @@ import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.privacy.HostVendorTcfDefinerService;
+import org.prebid.server.privacy.gdpr.TcStringCache;
 import org.prebid.server.privacy.gdpr.Tcf2Service;
 import org.prebid.server.privacy.gdpr.TcfDefinerService;
 import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose01Strategy;
@@ -164,6 +165,7 @@ public class PrivacyServiceConfiguration {
             GeoLocationServiceWrapper geoLocationServiceWrapper,
             BidderCatalog bidderCatalog,
             IpAddressHelper ipAddressHelper,
+            TcStringCache tcStringCache,
             Metrics metrics,
             @Value("${logging.sampling-rate:0.01}") double samplingRate) {
 
@@ -176,10 +178,16 @@ public class PrivacyServiceConfiguration {
                 geoLocationServiceWrapper,
                 bidderCatalog,
                 ipAddressHelper,
+                tcStringCache,
                 metrics,
                 samplingRate);
     }
 
+    @Bean
+    TcStringCache tcStringCache(@Value("${gdpr.consent-cache.max-size-bytes:0}") long maxSizeBytes, Metrics metrics) {
+        return new TcStringCache(maxSizeBytes, metrics);
+    }
+
     @Bean
     HostVendorTcfDefinerService hostVendorTcfDefinerService(
             TcfDefinerService tcfDefinerService,
@@ -5,7 +5,9 @@ import de.malkusch.whoisServerList.publicSuffixList.PublicSuffixListFactory;
 import io.vertx.core.Vertx;
 import io.vertx.core.file.FileSystem;
 import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpVersion;
 import io.vertx.core.net.JksOptions;
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.activity.ActivitiesConfigResolver;
@@ -46,6 +48,7 @@ import org.prebid.server.auction.gpp.SetuidGppService;
 import org.prebid.server.auction.gpp.processor.GppContextProcessor;
 import org.prebid.server.auction.gpp.processor.tcfeuv2.TcfEuV2ContextProcessor;
 import org.prebid.server.auction.gpp.processor.uspv1.UspV1ContextProcessor;
+import org.prebid.server.auction.latency.BidderLatencyTracker;
 import org.prebid.server.auction.mediatypeprocessor.BidderMediaTypeProcessor;
 import org.prebid.server.auction.mediatypeprocessor.CompositeMediaTypeProcessor;
 import org.prebid.server.auction.mediatypeprocessor.MediaTypeProcessor;
@@ -78,6 +81,7 @@ import org.prebid.server.cache.CoreCacheService;
 import org.prebid.server.cache.PbcStorageService;
 import org.prebid.server.cache.model.CacheTtl;
 import org.prebid.server.cache.utils.CacheServiceUtil;
+import org.prebid.server.compression.GzipCompressor;
 import org.prebid.server.cookie.CookieDeprecationService;
 import org.prebid.server.cookie.CookieSyncService;
 import org.prebid.server.cookie.CoopSyncProvider;
@@ -111,6 +115,7 @@ import org.prebid.server.settings.model.BidValidationEnforcement;
 import org.prebid.server.spring.config.model.CacheDefaultTtlProperties;
 import org.prebid.server.spring.config.model.ExternalConversionProperties;
 import org.prebid.server.spring.config.model.HttpClientCircuitBreakerProperties;
+import org.prebid.server.spring.config.model.HttpClientHostProperties;
 import org.prebid.server.spring.config.model.HttpClientProperties;
 import org.prebid.server.util.VersionInfo;
 import org.prebid.server.util.system.CpuLoadAverageStats;
@@ -142,6 +147,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -164,12 +170,15 @@ public class ServiceConfiguration {
             @Value("${auction.cache.expected-request-time-ms}") long expectedCacheTimeMs,
             @Value("${pbc.api.key:#{null}}") String apiKey,
             @Value("${cache.api-key-secured:false}") boolean apiKeySecured,
+            @Value("${cache.endpoint-compression-enabled:false}") boolean compressionEnabled,
+            @Value("${cache.endpoint-compression-level:-1}") int compressionLevel,
             VastModifier vastModifier,
             EventsService eventsService,
             HttpClient httpClient,
             Metrics metrics,
             Clock clock,
-            JacksonMapper mapper) {
+            JacksonMapper mapper,
+            GzipCompressor gzipCompressor) {
 
         return new CoreCacheService(
                 httpClient,
@@ -183,7 +192,10 @@ public class ServiceConfiguration {
                 metrics,
                 clock,
                 new UUIDIdGenerator(),
-                mapper);
+                mapper,
+                gzipCompressor,
+                compressionEnabled,
+                compressionLevel);
     }
 
     @Bean
@@ -272,6 +284,20 @@ public class ServiceConfiguration {
         return SupplyChainResolver.create(globalSchainNode, mapper);
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "auction.bidder-latency", name = "enabled", havingValue = "true")
+    BidderLatencyTracker bidderLatencyTracker(
+            @Value("${auction.biddertmax.max:#{0}}") long maxTimeout,
+            @Value("${auction.bidder-latency.window-ms:60000}") long windowMs,
+            @Value("${auction.bidder-latency.min-samples:100}") long minSamples,
+            @Value("${auction.bidder-latency.skip-percentile:95}") double skipPercentile,
+            @Value("${auction.bidder-latency.deadline-percentile:99}") double deadlinePercentile,
+            Clock clock) {
+
+        return new BidderLatencyTracker(
+                clock, maxTimeout, windowMs, minSamples, skipPercentile, deadlinePercentile);
+    }
+
     @Bean
     TimeoutResolver auctionTimeoutResolver(
             @Value("${auction.biddertmax.min}") long minTimeout,
@@ -581,8 +607,8 @@ public class ServiceConfiguration {
     @Scope(scopeName = VertxContextScope.NAME, proxyMode = ScopedProxyMode.INTERFACES)
     @ConditionalOnProperty(prefix = "http-client.circuit-breaker", name = "enabled", havingValue = "false",
             matchIfMissing = true)
-    BasicHttpClient basicHttpClient(Vertx vertx, HttpClientProperties httpClientProperties) {
-        return createBasicHttpClient(vertx, httpClientProperties);
+    BasicHttpClient basicHttpClient(Vertx vertx, HttpClientProperties httpClientProperties, Metrics metrics) {
+        return createBasicHttpClient(vertx, httpClientProperties, metrics);
     }
 
     @Bean
@@ -603,7 +629,7 @@ public class ServiceConfiguration {
             HttpClientCircuitBreakerProperties circuitBreakerProperties,
             Clock clock) {
 
-        final HttpClient httpClient = createBasicHttpClient(vertx, httpClientProperties);
+        final HttpClient httpClient = createBasicHttpClient(vertx, httpClientProperties, metrics);
 
         return new CircuitBreakerSecuredHttpClient(
                 vertx,
@@ -616,7 +642,10 @@ public class ServiceConfiguration {
                 clock);
     }
 
-    private static BasicHttpClient createBasicHttpClient(Vertx vertx, HttpClientProperties httpClientProperties) {
+    private static BasicHttpClient createBasicHttpClient(Vertx vertx,
+                                                         HttpClientProperties httpClientProperties,
+                                                         Metrics metrics) {
+
         final HttpClientOptions options = new HttpClientOptions()
                 .setMaxPoolSize(httpClientProperties.getMaxPoolSize())
                 .setIdleTimeoutUnit(TimeUnit.MILLISECONDS)
@@ -638,7 +667,52 @@ public class ServiceConfiguration {
                     .setKeyStoreOptions(jksOptions);
         }
 
-        return new BasicHttpClient(vertx, vertx.createHttpClient(options));
+        final Map<String, io.vertx.core.http.HttpClient> hostHttpClients = httpClientProperties.getHosts()
+                .entrySet().stream()
+                .collect(Collectors.toMap(
+                        Map.Entry::getKey,
+                        entry -> vertx.createHttpClient(hostHttpClientOptions(options, entry.getValue()))));
+
+        return new BasicHttpClient(vertx, vertx.createHttpClient(options), hostHttpClients, metrics);
+    }
+
+    private static HttpClientOptions hostHttpClientOptions(HttpClientOptions defaultOptions,
+                                                           HttpClientHostProperties hostProperties) {
+
+        final HttpClientOptions options = new HttpClientOptions(defaultOptions);
+        if (hostProperties.getMaxPoolSize() != null) {
+            options.setMaxPoolSize(hostProperties.getMaxPoolSize());
+        }
+        if (hostProperties.getMaxWaitQueueSize() != null) {
+            options.setMaxWaitQueueSize(hostProperties.getMaxWaitQueueSize());
+        }
+        if (hostProperties.getIdleTimeoutMs() != null) {
+            options.setIdleTimeout(hostProperties.getIdleTimeoutMs());
+        }
+        if (hostProperties.getKeepAlive() != null) {
+            options.setKeepAlive(hostProperties.getKeepAlive());
+        }
+        if (hostProperties.getPipelining() != null) {
+            options.setPipelining(hostProperties.getPipelining());
+        }
+        if (hostProperties.getPipeliningLimit() != null) {
+            options.setPipeliningLimit(hostProperties.getPipeliningLimit());
+        }
+        if (BooleanUtils.isTrue(hostProperties.getHttp2())) {
+            // HTTP/2 is negotiated with ALPN for TLS connections and with upgrade for plain ones,
+            // HTTP/1.1 is used if the host doesn't support it
+            options
+                    .setProtocolVersion(HttpVersion.HTTP_2)
+                    .setUseAlpn(true);
+        }
+        if (hostProperties.getHttp2MaxPoolSize() != null) {
+            options.setHttp2MaxPoolSize(hostProperties.getHttp2MaxPoolSize());
+        }
+        if (hostProperties.getHttp2MultiplexingLimit() != null) {
+            options.setHttp2MultiplexingLimit(hostProperties.getHttp2MultiplexingLimit());
+        }
+
+        return options;
     }
 
     @Bean
@@ -659,6 +733,8 @@ public class ServiceConfiguration {
             @Value("${host-cookie.ttl-days}") Integer ttlDays,
             @Value("${host-cookie.max-cookie-size-bytes}") Integer maxCookieSizeBytes,
             @Value("${setuid.number-of-uid-cookies:1}") int numberOfUidCookies,
+            @Value("${host-cookie.uids-cache.size:0}") int uidsCacheSize,
+            @Value("${host-cookie.uids-cache.ttl-seconds:60}") long uidsCacheTtlSeconds,
             PrioritizedCoopSyncProvider prioritizedCoopSyncProvider,
             Metrics metrics,
             JacksonMapper mapper) {
@@ -672,6 +748,8 @@ public class ServiceConfiguration {
                 ttlDays,
                 maxCookieSizeBytes,
                 numberOfUidCookies,
+                uidsCacheSize,
+                uidsCacheTtlSeconds,
                 prioritizedCoopSyncProvider,
                 metrics,
                 mapper);
@@ -750,20 +828,31 @@ public class ServiceConfiguration {
         return new CompositeMediaTypeProcessor(mediaTypeProcessors);
     }
 
+    @Bean
+    GzipCompressor gzipCompressor(Metrics metrics) {
+        return new GzipCompressor(metrics);
+    }
+
     @Bean
     HttpBidderRequester httpBidderRequester(
             HttpClient httpClient,
             @Autowired(required = false) BidderRequestCompletionTrackerFactory bidderRequestCompletionTrackerFactory,
             BidderErrorNotifier bidderErrorNotifier,
             HttpBidderRequestEnricher requestEnricher,
-            JacksonMapper mapper) {
+            GzipCompressor gzipCompressor,
+            JacksonMapper mapper,
+            Metrics metrics,
+            @Value("${auction.max-bidder-response-size:#{0}}") long maxBidderResponseSize) {
 
         return new HttpBidderRequester(
                 httpClient,
                 bidderRequestCompletionTrackerFactory,
                 bidderErrorNotifier,
                 requestEnricher,
+                gzipCompressor,
                 mapper,
+                metrics,
+                maxBidderResponseSize,
                 logSamplingRate);
     }
 
@@ -860,6 +949,7 @@ public class ServiceConfiguration {
             UidUpdater uidUpdater,
             TimeoutResolver timeoutResolver,
             TimeoutFactory timeoutFactory,
+            @Autowired(required = false) BidderLatencyTracker bidderLatencyTracker,
             BidRequestOrtbVersionConversionManager bidRequestOrtbVersionConversionManager,
             HttpBidderRequester httpBidderRequester,
             BidResponseCreator bidResponseCreator,
@@ -888,6 +978,7 @@ public class ServiceConfiguration {
                 uidUpdater,
                 timeoutResolver,
                 timeoutFactory,
+                bidderLatencyTracker,
                 bidRequestOrtbVersionConversionManager,
                 httpBidderRequester,
                 bidResponseCreator,
@@ -11,6 +11,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.validation.annotation.Validated;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import java.util.List;
@@ -49,6 +51,10 @@ public class BidderConfigurationProperties {
 
     private CompressionType endpointCompression;
 
+    @Min(-1)
+    @Max(9)
+    private Integer endpointCompressionLevel;
+
     private Ortb ortb;
 
     private long tmaxDeductionMs;
@@ -71,6 +77,8 @@ public class BidderConfigurationProperties {
         deprecatedNames = ObjectUtils.defaultIfNull(deprecatedNames, defaultProperties.getDeprecatedNames());
         endpointCompression = ObjectUtils.defaultIfNull(
                 endpointCompression, defaultProperties.getEndpointCompression());
+        endpointCompressionLevel = ObjectUtils.defaultIfNull(
+                endpointCompressionLevel, defaultProperties.getEndpointCompressionLevel());
         ortb = ortb != null && ortb.getMultiFormatSupported() != null
                 ? ortb
                 : defaultProperties.getOrtb();
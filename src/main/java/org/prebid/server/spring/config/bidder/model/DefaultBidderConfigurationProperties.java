@@ -4,6 +4,8 @@ import lombok.Data;
 import org.prebid.server.auction.versionconverter.OrtbVersion;
 import org.springframework.validation.annotation.Validated;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import java.util.Collections;
 import java.util.List;
@@ -38,4 +40,8 @@ public class DefaultBidderConfigurationProperties {
     private final Map<String, String> extraInfo = Collections.emptyMap();
 
     private CompressionType endpointCompression = CompressionType.NONE;
+
+    @Min(-1)
+    @Max(9)
+    private Integer endpointCompressionLevel;
 }
@@ -32,6 +32,7 @@ public class BidderInfoCreator {
                 configurationProperties.getPbsEnforcesCcpa(),
                 configurationProperties.getModifyingVastXmlAllowed(),
                 configurationProperties.getEndpointCompression(),
+                configurationProperties.getEndpointCompressionLevel(),
                 configurationProperties.getOrtb(),
                 configurationProperties.getTmaxDeductionMs());
     }
@@ -4,9 +4,12 @@ import org.prebid.server.auction.HooksMetricsService;
 import org.slf4j.LoggerFactory;
 import com.codahale.metrics.Slf4jReporter;
 import com.codahale.metrics.ConsoleReporter;
+import com.codahale.metrics.ExponentiallyDecayingReservoir;
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Reservoir;
 import com.codahale.metrics.ScheduledReporter;
 import com.codahale.metrics.SharedMetricRegistries;
+import com.codahale.metrics.SlidingTimeWindowArrayReservoir;
 import com.codahale.metrics.graphite.Graphite;
 import com.codahale.metrics.graphite.GraphiteReporter;
 import com.codahale.metrics.jvm.GarbageCollectorMetricSet;
@@ -19,7 +22,10 @@ import lombok.NoArgsConstructor;
 import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.metric.AccountMetricsVerbosityResolver;
 import org.prebid.server.metric.CounterType;
+import org.prebid.server.metric.HdrReservoir;
 import org.prebid.server.metric.Metrics;
+import org.prebid.server.metric.ReservoirMetricRegistry;
+import org.prebid.server.metric.ReservoirType;
 import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
 import org.prebid.server.spring.env.YamlPropertySourceFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -34,11 +40,13 @@ import org.springframework.validation.annotation.Validated;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 @Configuration
 @PropertySource(value = "classpath:/metrics-config/metrics.yaml", factory = YamlPropertySourceFactory.class)
@@ -115,8 +123,15 @@ public class MetricsConfiguration {
     }
 
     @Bean
-    MetricRegistry metricRegistry(@Value("${metrics.jmx.enabled}") boolean jmxEnabled) {
+    MetricRegistry metricRegistry(@Value("${metrics.jmx.enabled}") boolean jmxEnabled,
+                                  @Value("${metrics.reservoir.type}") ReservoirType reservoirType,
+                                  @Value("${metrics.reservoir.window-seconds}") long reservoirWindowSeconds) {
+
         final boolean alreadyExists = SharedMetricRegistries.names().contains(METRIC_REGISTRY_NAME);
+        if (!alreadyExists && reservoirType != ReservoirType.exponentiallyDecaying) {
+            SharedMetricRegistries.add(METRIC_REGISTRY_NAME, new ReservoirMetricRegistry(
+                    reservoirSupplier(reservoirType, reservoirWindowSeconds)));
+        }
         final MetricRegistry metricRegistry = SharedMetricRegistries.getOrCreate(METRIC_REGISTRY_NAME);
 
         if (!alreadyExists && jmxEnabled) {
@@ -127,6 +142,14 @@ public class MetricsConfiguration {
         return metricRegistry;
     }
 
+    private static Supplier<Reservoir> reservoirSupplier(ReservoirType reservoirType, long windowSeconds) {
+        return switch (reservoirType) {
+            case exponentiallyDecaying -> ExponentiallyDecayingReservoir::new;
+            case slidingTimeWindow -> () -> new SlidingTimeWindowArrayReservoir(windowSeconds, TimeUnit.SECONDS);
+            case hdr -> () -> new HdrReservoir(Clock.systemUTC(), TimeUnit.SECONDS.toMillis(windowSeconds));
+        };
+    }
+
     @Bean
     AccountMetricsVerbosityResolver accountMetricsVerbosity(AccountsProperties accountsProperties) {
         return new AccountMetricsVerbosityResolver(
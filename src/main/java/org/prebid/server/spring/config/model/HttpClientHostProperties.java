@@ -0,0 +1,40 @@
+package org.prebid.server.spring.config.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+
+/**
+ * Connection pool settings for a particular host, properties which are not set are taken
+ * from {@link HttpClientProperties}.
+ */
+@Validated
+@Data
+@NoArgsConstructor
+public class HttpClientHostProperties {
+
+    @Min(1)
+    private Integer maxPoolSize;
+
+    @Min(-1)
+    private Integer maxWaitQueueSize;
+
+    private Integer idleTimeoutMs;
+
+    private Boolean keepAlive;
+
+    private Boolean pipelining;
+
+    @Min(1)
+    private Integer pipeliningLimit;
+
+    private Boolean http2;
+
+    @Min(1)
+    private Integer http2MaxPoolSize;
+
+    @Min(1)
+    private Integer http2MultiplexingLimit;
+}
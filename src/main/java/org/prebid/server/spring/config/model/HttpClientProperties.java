@@ -4,8 +4,11 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.validation.annotation.Validated;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import java.util.Collections;
+import java.util.Map;
 
 @Validated
 @Data
@@ -33,4 +36,7 @@ public class HttpClientProperties {
     private String jksPath;
 
     private String jksPassword;
+
+    @Valid
+    private Map<String, HttpClientHostProperties> hosts = Collections.emptyMap();
 }
@@ -4,10 +4,12 @@ import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.response.Bid;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpMethod;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.bidder.model.HttpRequest;
+import org.prebid.server.bidder.model.HttpResponse;
 import org.prebid.server.bidder.model.Price;
 import org.prebid.server.bidder.model.PriceFloorInfo;
 import org.prebid.server.json.JacksonMapper;
@@ -47,6 +49,16 @@ public class BidderUtil {
                 .build();
     }
 
+    /**
+     * Decodes bidder response body, directly from received bytes if they are available.
+     */
+    public static <T> T decodeBody(HttpResponse response, Class<T> clazz, JacksonMapper mapper) {
+        final Buffer bodyBuffer = response.getBodyBuffer();
+        return bodyBuffer != null
+                ? mapper.decodeValue(bodyBuffer, clazz)
+                : mapper.decodeValue(response.getBody(), clazz);
+    }
+
     public static Set<String> impIds(BidRequest bidRequest) {
         return bidRequest.getImp().stream()
                 .map(Imp::getId)
@@ -0,0 +1,136 @@
+package org.prebid.server.util.dsl.config.impl;
+
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.util.dsl.config.PrebidConfigSource;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Immutable {@link PrebidConfigSource} with rules precompiled into a trie over rule segments.
+ * <p>
+ * Besides the trie, every wildcard mask present in rules is remembered, so lookup can skip
+ * combinations of wildcards which are not configured at all. Rule with N segments has mask where bit
+ * {@code N - 1 - i} is set if i-th segment is a wildcard.
+ * <p>
+ * Intended to be built once per rules set and shared between lookups.
+ */
+public class IndexedSource implements PrebidConfigSource {
+
+    public static final int MAX_INDEXED_SEGMENTS = 16;
+
+    private final String wildcard;
+    private final String separator;
+    private final Set<String> rules;
+
+    private final Node root;
+    private final BitSet masks;
+
+    private IndexedSource(String wildcard, String separator, Set<String> rules) {
+        this.wildcard = Objects.requireNonNull(wildcard);
+        this.separator = Objects.requireNonNull(separator);
+        this.rules = Collections.unmodifiableSet(rules);
+
+        root = new Node();
+        masks = new BitSet();
+        rules.forEach(this::index);
+    }
+
+    public static IndexedSource of(String wildcard, String separator, Iterable<String> rules) {
+        final Set<String> rulesSet = new HashSet<>();
+        rules.forEach(rulesSet::add);
+        return new IndexedSource(wildcard, separator, rulesSet);
+    }
+
+    private void index(String rule) {
+        final String[] segments = StringUtils.splitByWholeSeparatorPreserveAllTokens(rule, separator);
+        if (segments.length > MAX_INDEXED_SEGMENTS) {
+            return;
+        }
+
+        Node node = root;
+        int mask = 0;
+        for (String segment : segments) {
+            mask <<= 1;
+            if (wildcard.equals(segment)) {
+                mask |= 1;
+            }
+            node = node.children.computeIfAbsent(segment, key -> new Node());
+        }
+
+        node.rule = rule;
+        masks.set(maskKey(segments.length, mask));
+    }
+
+    @Override
+    public String wildcard() {
+        return wildcard;
+    }
+
+    @Override
+    public String separator() {
+        return separator;
+    }
+
+    @Override
+    public Iterable<String> rules() {
+        return rules;
+    }
+
+    /**
+     * Tells if any rule with given number of segments has wildcards exactly at positions of the mask.
+     */
+    boolean hasMask(int segmentsNumber, int mask) {
+        return segmentsNumber <= MAX_INDEXED_SEGMENTS && masks.get(maskKey(segmentsNumber, mask));
+    }
+
+    /**
+     * Returns first rule (in order of values cartesian product) which has wildcards exactly at positions
+     * of the mask and one of the given values at every other position, or null if there is no such rule.
+     */
+    String find(List<Iterable<String>> values, int mask) {
+        return find(root, values, 0, mask);
+    }
+
+    private String find(Node node, List<Iterable<String>> values, int index, int mask) {
+        final int size = values.size();
+        if (index == size) {
+            return node.rule;
+        }
+
+        if ((mask & (1 << (size - 1 - index))) != 0) {
+            final Node child = node.children.get(wildcard);
+            return child != null ? find(child, values, index + 1, mask) : null;
+        }
+
+        for (String value : values.get(index)) {
+            final Node child = node.children.get(value);
+            final String rule = child != null ? find(child, values, index + 1, mask) : null;
+            if (rule != null) {
+                return rule;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Leading one bit distinguishes masks of rules with different number of segments.
+     */
+    private static int maskKey(int segmentsNumber, int mask) {
+        return (1 << segmentsNumber) | mask;
+    }
+
+    private static class Node {
+
+        private final Map<String, Node> children = new HashMap<>();
+
+        private String rule;
+    }
+}
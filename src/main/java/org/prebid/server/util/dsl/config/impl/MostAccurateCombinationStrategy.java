@@ -44,9 +44,15 @@ public class MostAccurateCombinationStrategy implements PrebidConfigMatchingStra
 
     @Override
     public String match(PrebidConfigSource source, PrebidConfigParameters parameters) {
+        return source instanceof IndexedSource indexedSource
+                ? matchIndexed(indexedSource, parameters.get())
+                : matchIterating(source, parameters.get());
+    }
+
+    private static String matchIterating(PrebidConfigSource source, Iterable<PrebidConfigParameter> parameters) {
         final Set<String> configuredRules = toSet(source.rules());
 
-        final Iterator<String> iterator = new RuleIterator(source, parameters.get());
+        final Iterator<String> iterator = new RuleIterator(source, parameters);
         while (iterator.hasNext()) {
             final String generatedRule = iterator.next();
             if (configuredRules.contains(generatedRule)) {
@@ -56,6 +62,65 @@ public class MostAccurateCombinationStrategy implements PrebidConfigMatchingStra
         return null;
     }
 
+    /**
+     * Walks wildcard masks in the same priority order as {@link RuleIterator} does: by number of wildcards
+     * and then by mask value, where the first parameter is the most significant bit. Masks absent in the source
+     * are skipped without generating any rule.
+     */
+    private static String matchIndexed(IndexedSource source, Iterable<PrebidConfigParameter> parameters) {
+        final List<Iterable<String>> parametersValues =
+                extractParametersValues(parameters, Collections.singletonList(source.wildcard()));
+        final int size = parametersValues.size();
+        if (size == 0) {
+            return null;
+        }
+        if (size > IndexedSource.MAX_INDEXED_SEGMENTS) {
+            return matchIterating(source, parameters);
+        }
+
+        final int initialWildcardsMask = initialWildcardsMask(parameters, size);
+        final int masksLimit = 1 << size;
+        for (int wildcards = Integer.bitCount(initialWildcardsMask); wildcards <= size; wildcards++) {
+            for (int mask = (1 << wildcards) - 1; mask < masksLimit; mask = nextMaskWithSameBitCount(mask)) {
+                if ((mask & initialWildcardsMask) != initialWildcardsMask || !source.hasMask(size, mask)) {
+                    continue;
+                }
+
+                final String rule = source.find(parametersValues, mask);
+                if (rule != null) {
+                    return rule;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private static int initialWildcardsMask(Iterable<PrebidConfigParameter> parameters, int size) {
+        int mask = 0;
+        int i = size - 1;
+        for (Iterator<PrebidConfigParameter> it = parameters.iterator(); it.hasNext(); i--) {
+            if (!(it.next() instanceof PrebidConfigParameter.Direct)) {
+                mask |= 1 << i;
+            }
+        }
+
+        return mask;
+    }
+
+    /**
+     * Gosper's hack: the next greater number with the same number of set bits.
+     */
+    private static int nextMaskWithSameBitCount(int mask) {
+        if (mask == 0) {
+            return Integer.MAX_VALUE;
+        }
+
+        final int lowestBit = mask & -mask;
+        final int ripple = mask + lowestBit;
+        return (((ripple ^ mask) >>> 2) / lowestBit) | ripple;
+    }
+
     static class RuleIterator implements Iterator<String> {
 
         private final PrebidConfigSchema schema;
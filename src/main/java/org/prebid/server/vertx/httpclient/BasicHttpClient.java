@@ -5,30 +5,51 @@ import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.ConnectionPoolTooBusyException;
 import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.RequestOptions;
-import org.prebid.server.exception.PreBidException;
+import org.prebid.server.exception.ResponseSizeExceededException;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.nio.charset.StandardCharsets;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 /**
  * Simple wrapper around {@link HttpClient} with general functionality.
+ * <p>
+ * Requests to hosts with dedicated clients (i.e. with own connection pool settings) are sent with them,
+ * all the others are sent with the default client. Usage of every pool is reported to {@link Metrics}.
  */
 public class BasicHttpClient implements HttpClient {
 
+    private static final String DEFAULT_POOL = "default";
+    private static final int MAX_INITIAL_BODY_CAPACITY = 64 * 1024;
+
     private final Vertx vertx;
-    private final io.vertx.core.http.HttpClient httpClient;
+    private final Metrics metrics;
+
+    private final Pool defaultPool;
+    private final Map<String, Pool> hostPools;
+
+    public BasicHttpClient(Vertx vertx,
+                           io.vertx.core.http.HttpClient httpClient,
+                           Map<String, io.vertx.core.http.HttpClient> hostHttpClients,
+                           Metrics metrics) {
 
-    public BasicHttpClient(Vertx vertx, io.vertx.core.http.HttpClient httpClient) {
         this.vertx = Objects.requireNonNull(vertx);
-        this.httpClient = Objects.requireNonNull(httpClient);
+        this.metrics = Objects.requireNonNull(metrics);
+
+        defaultPool = new Pool(DEFAULT_POOL, Objects.requireNonNull(httpClient));
+        hostPools = Objects.requireNonNull(hostHttpClients).entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> new Pool(entry.getKey(), entry.getValue())));
     }
 
     @Override
@@ -71,7 +92,8 @@ public class BasicHttpClient implements HttpClient {
                 .setAbsoluteURI(absoluteUrl)
                 .setHeaders(headers);
 
-        final Future<HttpClientRequest> requestFuture = makeRequest(options);
+        final Pool pool = hostPools.getOrDefault(absoluteUrl.getHost(), defaultPool);
+        final Future<HttpClientRequest> requestFuture = makeRequest(pool, options);
 
         requestFuture
                 .compose(request -> body != null ? request.send(Buffer.buffer(body)) : request.send())
@@ -80,33 +102,99 @@ public class BasicHttpClient implements HttpClient {
                 .onFailure(responsePromise::tryFail);
 
         return responsePromise.future()
-                .onComplete(ignored -> vertx.cancelTimer(timerId))
+                .onComplete(ignored -> {
+                    vertx.cancelTimer(timerId);
+                    pool.inFlight.decrementAndGet();
+                })
                 .onFailure(ignored -> requestFuture.onSuccess(HttpClientRequest::reset));
     }
 
-    private Future<HttpClientRequest> makeRequest(RequestOptions options) {
+    /**
+     * Obtains request from the pool, which means waiting for a free connection (or stream in case of HTTP/2)
+     * if all of them are in use, so the waiting time is reported as pool metrics.
+     */
+    private Future<HttpClientRequest> makeRequest(Pool pool, RequestOptions options) {
+        final int inFlight = pool.inFlight.incrementAndGet();
+        final long startTime = System.nanoTime();
+
+        final Future<HttpClientRequest> requestFuture;
         try {
-            return httpClient.request(options);
+            requestFuture = pool.httpClient.request(options);
         } catch (Throwable e) {
             return Future.failedFuture(e);
         }
+
+        return requestFuture
+                .onSuccess(ignored ->
+                        metrics.updateHttpClientPoolMetrics(pool.name, System.nanoTime() - startTime, inFlight))
+                .onFailure(exception -> {
+                    if (exception instanceof ConnectionPoolTooBusyException) {
+                        metrics.updateHttpClientPoolQueueOverflowMetric(pool.name);
+                    }
+                });
     }
 
-    private Future<HttpClientResponse> toInternalResponse(io.vertx.core.http.HttpClientResponse response,
-                                                          long maxResponseSize) {
+    private static Future<HttpClientResponse> toInternalResponse(io.vertx.core.http.HttpClientResponse response,
+                                                                 long maxResponseSize) {
 
         final String contentLength = response.getHeader(HttpHeaders.CONTENT_LENGTH);
         final long responseBodySize = contentLength != null ? Long.parseLong(contentLength) : 0;
         if (responseBodySize > maxResponseSize) {
-            return Future.failedFuture(new PreBidException(
+            return Future.failedFuture(new ResponseSizeExceededException(
                     "Response size %d exceeded %d bytes limit".formatted(responseBodySize, maxResponseSize)));
         }
 
-        return response.body()
-                .map(body -> HttpClientResponse.of(
-                        response.statusCode(),
-                        response.headers(),
-                        body.toString(StandardCharsets.UTF_8)));
+        return readBody(response, initialBodyCapacity(responseBodySize, maxResponseSize), maxResponseSize)
+                .map(body -> HttpClientResponse.ofBuffer(response.statusCode(), response.headers(), body));
+    }
+
+    /**
+     * Content-Length sent by the remote side can't be trusted, so it only hints initial capacity of the body,
+     * which grows further while the body is received.
+     */
+    private static int initialBodyCapacity(long contentLength, long maxResponseSize) {
+        return (int) Math.min(Math.max(contentLength, 0), Math.min(maxResponseSize, MAX_INITIAL_BODY_CAPACITY));
+    }
+
+    /**
+     * Collects response body chunk by chunk, so body of unknown size (e.g. chunked response) is rejected
+     * as soon as it crosses the limit instead of being buffered entirely. Failed response leads to request reset.
+     */
+    private static Future<Buffer> readBody(io.vertx.core.http.HttpClientResponse response,
+                                           int initialCapacity,
+                                           long maxResponseSize) {
+
+        final Promise<Buffer> bodyPromise = Promise.promise();
+        final Buffer body = Buffer.buffer(initialCapacity);
+
+        response.exceptionHandler(bodyPromise::tryFail);
+        response.endHandler(ignored -> bodyPromise.tryComplete(body));
+        response.handler(chunk -> {
+            if (bodyPromise.future().isComplete()) {
+                return;
+            }
+
+            if ((long) body.length() + chunk.length() > maxResponseSize) {
+                bodyPromise.tryFail(new ResponseSizeExceededException(
+                        "Response size exceeded %d bytes limit".formatted(maxResponseSize)));
+                return;
+            }
+
+            body.appendBuffer(chunk);
+        });
+
+        return bodyPromise.future();
+    }
 
+    private static class Pool {
+
+        private final String name;
+        private final io.vertx.core.http.HttpClient httpClient;
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        Pool(String name, io.vertx.core.http.HttpClient httpClient) {
+            this.name = name;
+            this.httpClient = httpClient;
+        }
     }
 }
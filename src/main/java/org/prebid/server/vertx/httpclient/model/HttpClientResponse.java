@@ -1,21 +1,86 @@
 package org.prebid.server.vertx.httpclient.model;
 
 import io.vertx.core.MultiMap;
-import lombok.AllArgsConstructor;
-import lombok.Value;
+import io.vertx.core.buffer.Buffer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
 
 /**
  * Holds Http client response data.
  * <p>
  * Should be created in "bodyHandler(...) after response has been read."
+ * <p>
+ * Body can be held as raw {@link Buffer}: in this case it is decoded to {@link String} only on first
+ * {@link #getBody()} call, so consumers able to work with bytes (see {@link #getBodyBuffer()}) avoid the copy.
  */
-@AllArgsConstructor(staticName = "of")
-@Value
 public class HttpClientResponse {
 
-    int statusCode;
+    private final int statusCode;
+
+    private final MultiMap headers;
+
+    private final Buffer bodyBuffer;
+
+    private String body;
+
+    private HttpClientResponse(int statusCode, MultiMap headers, Buffer bodyBuffer, String body) {
+        this.statusCode = statusCode;
+        this.headers = headers;
+        this.bodyBuffer = bodyBuffer;
+        this.body = body;
+    }
+
+    public static HttpClientResponse of(int statusCode, MultiMap headers, String body) {
+        return new HttpClientResponse(statusCode, headers, null, body);
+    }
+
+    public static HttpClientResponse ofBuffer(int statusCode, MultiMap headers, Buffer bodyBuffer) {
+        return new HttpClientResponse(statusCode, headers, bodyBuffer, null);
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public MultiMap getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Returns raw response body or null if response was created from {@link String}.
+     */
+    public Buffer getBodyBuffer() {
+        return bodyBuffer;
+    }
+
+    public String getBody() {
+        if (body == null && bodyBuffer != null) {
+            body = bodyBuffer.toString(StandardCharsets.UTF_8);
+        }
+        return body;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof HttpClientResponse that)) {
+            return false;
+        }
+        return statusCode == that.statusCode
+                && Objects.equals(headers, that.headers)
+                && Objects.equals(getBody(), that.getBody());
+    }
 
-    MultiMap headers;
+    @Override
+    public int hashCode() {
+        return Objects.hash(statusCode, headers, getBody());
+    }
 
-    String body;
+    @Override
+    public String toString() {
+        return "HttpClientResponse(statusCode=%d, headers=%s, body=%s)".formatted(statusCode, headers, getBody());
+    }
 }
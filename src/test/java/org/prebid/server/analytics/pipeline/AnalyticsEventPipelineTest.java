@@ -0,0 +1,252 @@
+package org.prebid.server.analytics.pipeline;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.compression.GzipCompressor;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Callable;
+
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class AnalyticsEventPipelineTest {
+
+    @Mock
+    private AnalyticsBatchSender sender;
+
+    @Mock
+    private GzipCompressor gzipCompressor;
+
+    @Mock(strictness = Mock.Strictness.LENIENT)
+    private Vertx vertx;
+
+    @Mock
+    private Metrics metrics;
+
+    @BeforeEach
+    public void setUp() {
+        given(vertx.executeBlocking(any(Callable.class), anyBoolean())).willAnswer(invocation ->
+                Future.succeededFuture(invocation.<Callable<?>>getArgument(0).call()));
+        given(vertx.setTimer(anyLong(), any())).willAnswer(invocation -> {
+            invocation.<Handler<Long>>getArgument(1).handle(1L);
+            return 1L;
+        });
+    }
+
+    @Test
+    public void offerShouldSendBatchWhenMaxBatchEventsReached() {
+        // given
+        given(sender.send(any())).willReturn(Future.succeededFuture());
+        final AnalyticsEventPipeline<String> target = givenPipeline(givenProperties(10, DropPolicy.dropNewest));
+
+        // when
+        target.offer("event1");
+        target.offer("event2");
+        target.offer("event3");
+
+        // then
+        verify(sender).send(aryEq(bytes("[event1,event2]")));
+        verify(metrics).updateAnalyticEventsBufferMetric("name", MetricName.flushed, 2);
+    }
+
+    @Test
+    public void flushShouldSendAllEventsSplitByMaxBatchBytes() {
+        // given
+        given(sender.send(any())).willReturn(Future.succeededFuture());
+        final AnalyticsEventPipeline<String> target = givenPipeline(givenPropertiesBuilder(10, DropPolicy.dropNewest)
+                .maxBatchEvents(10)
+                .maxBatchBytes(7)
+                .build());
+
+        target.offer("event1");
+        target.offer("event2");
+
+        // when
+        target.flush();
+
+        // then
+        verify(sender).send(aryEq(bytes("[event1]")));
+        verify(sender).send(aryEq(bytes("[event2]")));
+    }
+
+    @Test
+    public void flushShouldCompressBatchWhenGzipEnabled() {
+        // given
+        given(gzipCompressor.compress(any(), eq(GzipCompressor.DEFAULT_LEVEL), eq(MetricName.analytics_request)))
+                .willReturn(bytes("compressed"));
+        given(sender.send(any())).willReturn(Future.succeededFuture());
+        final AnalyticsEventPipeline<String> target = givenPipeline(givenPropertiesBuilder(10, DropPolicy.dropNewest)
+                .gzip(true)
+                .build());
+
+        target.offer("event1");
+
+        // when
+        target.flush();
+
+        // then
+        verify(gzipCompressor).compress(aryEq(bytes("[event1]")), eq(GzipCompressor.DEFAULT_LEVEL),
+                eq(MetricName.analytics_request));
+        verify(sender).send(aryEq(bytes("compressed")));
+    }
+
+    @Test
+    public void offerShouldDropNewestEventWhenQueueIsFull() {
+        // given
+        given(sender.send(any())).willReturn(Future.succeededFuture());
+        final AnalyticsEventPipeline<String> target = givenPipeline(givenProperties(1, DropPolicy.dropNewest));
+
+        target.offer("event1");
+        target.offer("event2");
+
+        // when
+        target.flush();
+
+        // then
+        verify(metrics).updateAnalyticEventsBufferMetric("name", MetricName.dropped, 1);
+        verify(sender).send(aryEq(bytes("[event1]")));
+    }
+
+    @Test
+    public void offerShouldDropOldestEventWhenQueueIsFull() {
+        // given
+        given(sender.send(any())).willReturn(Future.succeededFuture());
+        final AnalyticsEventPipeline<String> target = givenPipeline(givenProperties(1, DropPolicy.dropOldest));
+
+        target.offer("event1");
+        target.offer("event2");
+
+        // when
+        target.flush();
+
+        // then
+        verify(metrics).updateAnalyticEventsBufferMetric("name", MetricName.dropped, 1);
+        verify(sender).send(aryEq(bytes("[event2]")));
+    }
+
+    @Test
+    public void flushShouldSkipEventsFailedToSerialize() {
+        // given
+        given(sender.send(any())).willReturn(Future.succeededFuture());
+        final AnalyticsEventPipeline<String> target = new AnalyticsEventPipeline<>(
+                "name",
+                givenProperties(10, DropPolicy.dropNewest),
+                (event, output) -> {
+                    if (event.equals("invalid")) {
+                        throw new IOException("Invalid event");
+                    }
+                    output.write(bytes(event));
+                },
+                sender,
+                gzipCompressor,
+                vertx,
+                metrics);
+
+        target.offer("invalid");
+        target.offer("event1");
+
+        // when
+        target.flush();
+
+        // then
+        verify(metrics).updateAnalyticEventsBufferMetric("name", MetricName.dropped, 1);
+        verify(sender).send(aryEq(bytes("[event1]")));
+    }
+
+    @Test
+    public void flushShouldRetrySendingFailedBatch() {
+        // given
+        given(sender.send(any())).willReturn(Future.failedFuture("Failed"), Future.succeededFuture());
+        final AnalyticsEventPipeline<String> target = givenPipeline(givenProperties(10, DropPolicy.dropNewest));
+
+        target.offer("event1");
+
+        // when
+        target.flush();
+
+        // then
+        verify(sender, times(2)).send(aryEq(bytes("[event1]")));
+        verify(metrics).updateAnalyticEventsBufferMetric("name", MetricName.flushed, 1);
+    }
+
+    @Test
+    public void flushShouldDropBatchWhenRetriesAreExhausted() {
+        // given
+        given(sender.send(any())).willReturn(Future.failedFuture("Failed"));
+        final AnalyticsEventPipeline<String> target = givenPipeline(givenProperties(10, DropPolicy.dropNewest));
+
+        target.offer("event1");
+
+        // when
+        target.flush();
+
+        // then
+        verify(sender, times(2)).send(aryEq(bytes("[event1]")));
+        verify(metrics).updateAnalyticEventsBufferMetric("name", MetricName.dropped, 1);
+    }
+
+    @Test
+    public void flushShouldNotSendAnythingWhenThereAreNoEvents() {
+        // given
+        final AnalyticsEventPipeline<String> target = givenPipeline(givenProperties(10, DropPolicy.dropNewest));
+
+        // when
+        target.flush();
+
+        // then
+        verifyNoInteractions(sender);
+    }
+
+    private AnalyticsEventPipeline<String> givenPipeline(AnalyticsPipelineProperties properties) {
+        return new AnalyticsEventPipeline<>(
+                "name",
+                properties,
+                (event, output) -> output.write(bytes(event)),
+                sender,
+                gzipCompressor,
+                vertx,
+                metrics);
+    }
+
+    private static AnalyticsPipelineProperties givenProperties(int queueCapacity, DropPolicy dropPolicy) {
+        return givenPropertiesBuilder(queueCapacity, dropPolicy).build();
+    }
+
+    private static AnalyticsPipelineProperties.AnalyticsPipelinePropertiesBuilder givenPropertiesBuilder(
+            int queueCapacity, DropPolicy dropPolicy) {
+
+        return AnalyticsPipelineProperties.builder()
+                .queueCapacity(queueCapacity)
+                .dropPolicy(dropPolicy)
+                .maxBatchEvents(2)
+                .maxBatchBytes(1000)
+                .maxBatchDelayMs(1000L)
+                .maxRetries(1)
+                .retryDelayMs(100L)
+                .batchPrefix("[")
+                .batchDelimiter(",")
+                .batchSuffix("]");
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,83 @@
+package org.prebid.server.analytics.pipeline;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EventBufferTest {
+
+    @Test
+    public void pollShouldReturnEventsInOrderTheyWerePut() {
+        // given
+        final EventBuffer<String> target = new EventBuffer<>(999, DropPolicy.dropNewest);
+        target.put("test1");
+        target.put("test2");
+
+        // when and then
+        assertThat(target.poll()).isEqualTo("test1");
+        assertThat(target.poll()).isEqualTo("test2");
+        assertThat(target.poll()).isNull();
+        assertThat(target.size()).isZero();
+    }
+
+    @Test
+    public void putShouldDropGivenEventWhenBufferIsFullAndDropNewestPolicyIsUsed() {
+        // given
+        final EventBuffer<String> target = new EventBuffer<>(1, DropPolicy.dropNewest);
+        target.put("test1");
+
+        // when
+        final boolean result = target.put("test2");
+
+        // then
+        assertThat(result).isFalse();
+        assertThat(target.size()).isEqualTo(1);
+        assertThat(target.poll()).isEqualTo("test1");
+    }
+
+    @Test
+    public void putShouldReplaceOldestEventWhenBufferIsFullAndDropOldestPolicyIsUsed() {
+        // given
+        final EventBuffer<String> target = new EventBuffer<>(1, DropPolicy.dropOldest);
+        target.put("test1");
+
+        // when
+        final boolean result = target.put("test2");
+
+        // then
+        assertThat(result).isFalse();
+        assertThat(target.size()).isEqualTo(1);
+        assertThat(target.poll()).isEqualTo("test2");
+    }
+
+    @Test
+    public void pollShouldReturnEventsPutConcurrently() throws InterruptedException {
+        // given
+        final EventBuffer<Integer> target = new EventBuffer<>(999, DropPolicy.dropNewest);
+        final ExecutorService executorService = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 1000; i++) {
+            final int event = i;
+            executorService.execute(() -> target.put(event));
+        }
+
+        // when
+        executorService.shutdown();
+        executorService.awaitTermination(5, TimeUnit.SECONDS);
+
+        // then
+        final List<Integer> polled = new ArrayList<>();
+        Integer event;
+        while ((event = target.poll()) != null) {
+            polled.add(event);
+        }
+
+        assertThat(polled).hasSize(999).doesNotHaveDuplicates();
+        assertThat(target.size()).isZero();
+    }
+}
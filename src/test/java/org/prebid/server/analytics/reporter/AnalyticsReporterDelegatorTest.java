@@ -68,6 +68,7 @@ public class AnalyticsReporterDelegatorTest extends VertxTest {
     private static final String EVENT = StringUtils.EMPTY;
     private static final Integer FIRST_REPORTER_ID = 1;
     private static final Integer SECOND_REPORTER_ID = 2;
+    private static final Integer THIRD_REPORTER_ID = 3;
 
     @Mock(strictness = LENIENT)
     private Vertx vertx;
@@ -81,6 +82,8 @@ public class AnalyticsReporterDelegatorTest extends VertxTest {
     private AnalyticsReporter firstReporter;
     @Mock(strictness = LENIENT)
     private AnalyticsReporter secondReporter;
+    @Mock(strictness = LENIENT)
+    private AnalyticsReporter thirdReporter;
 
     private AnalyticsReporterDelegator target;
 
@@ -112,6 +115,7 @@ public class AnalyticsReporterDelegatorTest extends VertxTest {
                 metrics,
                 0.01,
                 Set.of("logAnalytics", "adapter"),
+                false,
                 jacksonMapper);
     }
 
@@ -399,6 +403,53 @@ public class AnalyticsReporterDelegatorTest extends VertxTest {
                 });
     }
 
+    @Test
+    public void shouldShareMaskedAuctionContextBetweenAdaptersWithSameRestrictionsWhenEnabled() {
+        // given
+        target = givenTargetWithThirdReporter(true);
+        givenAllFpdActivitiesDisallowed();
+
+        // when
+        target.processEvent(givenAuctionEventWithFpd(), TcfContext.empty());
+
+        // then
+        verify(userFpdActivityMask).maskUser(any(), eq(true), eq(true));
+        verify(userFpdActivityMask).maskDevice(any(), eq(true), eq(true));
+
+        final ArgumentCaptor<AuctionEvent> secondEventCaptor = ArgumentCaptor.forClass(AuctionEvent.class);
+        verify(secondReporter).processEvent(secondEventCaptor.capture());
+        final ArgumentCaptor<AuctionEvent> thirdEventCaptor = ArgumentCaptor.forClass(AuctionEvent.class);
+        verify(thirdReporter).processEvent(thirdEventCaptor.capture());
+
+        final AuctionContext secondAuctionContext = secondEventCaptor.getValue().getAuctionContext();
+        assertThat(secondAuctionContext.getBidRequest().getUser().getId()).isEqualTo("masked");
+        assertThat(secondAuctionContext.getBidRequest().getDevice().getModel()).isEqualTo("masked");
+        assertThat(thirdEventCaptor.getValue().getAuctionContext()).isSameAs(secondAuctionContext);
+    }
+
+    @Test
+    public void shouldMaskAuctionContextForEachAdapterWhenSharingIsDisabled() {
+        // given
+        target = givenTargetWithThirdReporter(false);
+        givenAllFpdActivitiesDisallowed();
+
+        // when
+        target.processEvent(givenAuctionEventWithFpd(), TcfContext.empty());
+
+        // then
+        verify(userFpdActivityMask, times(2)).maskUser(any(), eq(true), eq(true));
+        verify(userFpdActivityMask, times(2)).maskDevice(any(), eq(true), eq(true));
+
+        final ArgumentCaptor<AuctionEvent> secondEventCaptor = ArgumentCaptor.forClass(AuctionEvent.class);
+        verify(secondReporter).processEvent(secondEventCaptor.capture());
+        final ArgumentCaptor<AuctionEvent> thirdEventCaptor = ArgumentCaptor.forClass(AuctionEvent.class);
+        verify(thirdReporter).processEvent(thirdEventCaptor.capture());
+
+        assertThat(thirdEventCaptor.getValue().getAuctionContext())
+                .isNotSameAs(secondEventCaptor.getValue().getAuctionContext())
+                .isEqualTo(secondEventCaptor.getValue().getAuctionContext());
+    }
+
     @Test
     public void shouldNotCallAnalyticsAdapterIfDisabledByAccount() {
         // given
@@ -547,6 +598,51 @@ public class AnalyticsReporterDelegatorTest extends VertxTest {
                 .isEqualTo(expectedExtRequestPrebid);
     }
 
+    private AnalyticsReporterDelegator givenTargetWithThirdReporter(boolean shareMaskedViews) {
+        given(thirdReporter.vendorId()).willReturn(THIRD_REPORTER_ID);
+        given(thirdReporter.name()).willReturn("otherAdapter");
+        given(thirdReporter.processEvent(any())).willReturn(Future.succeededFuture());
+        given(tcfEnforcement.enforce(any(), any())).willReturn(Future.succeededFuture(Map.of(
+                FIRST_REPORTER_ID, PrivacyEnforcementAction.allowAll(),
+                SECOND_REPORTER_ID, PrivacyEnforcementAction.allowAll(),
+                THIRD_REPORTER_ID, PrivacyEnforcementAction.allowAll())));
+
+        return new AnalyticsReporterDelegator(
+                vertx,
+                List.of(firstReporter, secondReporter, thirdReporter),
+                tcfEnforcement,
+                userFpdActivityMask,
+                metrics,
+                0.01,
+                Set.of("logAnalytics", "adapter", "otherAdapter"),
+                shareMaskedViews,
+                jacksonMapper);
+    }
+
+    private void givenAllFpdActivitiesDisallowed() {
+        given(activityInfrastructure.isAllowed(eq(Activity.REPORT_ANALYTICS), any())).willReturn(true);
+        given(activityInfrastructure.isAllowed(eq(Activity.TRANSMIT_UFPD), any())).willReturn(false);
+        given(activityInfrastructure.isAllowed(eq(Activity.TRANSMIT_EIDS), any())).willReturn(false);
+        given(activityInfrastructure.isAllowed(eq(Activity.TRANSMIT_GEO), any())).willReturn(false);
+
+        given(userFpdActivityMask.maskUser(any(), eq(true), eq(true)))
+                .willReturn(User.builder().id("masked").build());
+        given(userFpdActivityMask.maskDevice(any(), eq(true), eq(true)))
+                .willReturn(Device.builder().model("masked").build());
+    }
+
+    private AuctionEvent givenAuctionEventWithFpd() {
+        return AuctionEvent.builder()
+                .auctionContext(AuctionContext.builder()
+                        .bidRequest(BidRequest.builder()
+                                .user(User.builder().id("original").build())
+                                .device(Device.builder().model("original").build())
+                                .build())
+                        .activityInfrastructure(activityInfrastructure)
+                        .build())
+                .build();
+    }
+
     @SuppressWarnings("unchecked")
     private static Answer<Object> withNullAndInvokeHandler() {
         return invocation -> {
@@ -22,10 +22,14 @@ import org.prebid.server.analytics.model.AmpEvent;
 import org.prebid.server.analytics.model.AuctionEvent;
 import org.prebid.server.analytics.model.NotificationEvent;
 import org.prebid.server.analytics.model.VideoEvent;
+import org.prebid.server.analytics.pipeline.DropPolicy;
 import org.prebid.server.analytics.reporter.agma.model.AgmaAnalyticsProperties;
 import org.prebid.server.analytics.reporter.agma.model.AgmaEvent;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.TimeoutContext;
+import org.prebid.server.compression.GzipCompressor;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.privacy.gdpr.model.TcfContext;
 import org.prebid.server.privacy.model.PrivacyContext;
 import org.prebid.server.proto.openrtb.ext.request.ExtUser;
@@ -33,7 +37,7 @@ import org.prebid.server.version.PrebidVersionProvider;
 import org.prebid.server.vertx.httpclient.HttpClient;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 
-import java.io.ByteArrayOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.time.Clock;
@@ -41,13 +45,15 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Map;
-import java.util.zip.GZIPOutputStream;
+import java.util.concurrent.Callable;
+import java.util.zip.GZIPInputStream;
 
 import static io.vertx.core.http.HttpMethod.POST;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -76,11 +82,16 @@ public class AgmaAnalyticsReporterTest extends VertxTest {
     @Mock
     private PrebidVersionProvider versionProvider;
 
+    @Mock
+    private Metrics metrics;
+
     @Captor
     private ArgumentCaptor<MultiMap> headersCaptor;
 
     private Clock clock;
 
+    private GzipCompressor gzipCompressor;
+
     private AgmaAnalyticsReporter target;
 
     @BeforeEach
@@ -92,21 +103,27 @@ public class AgmaAnalyticsReporterTest extends VertxTest {
                 .bufferTimeoutMs(10000L)
                 .maxEventsCount(0)
                 .httpTimeoutMs(1000L)
+                .queueCapacity(100)
+                .dropPolicy(DropPolicy.dropNewest)
+                .maxRetries(0)
+                .retryDelayMs(0L)
                 .accounts(Map.of(
                         "publisherId", "accountCode",
                         "unknown_publisherId", "anotherCode"))
                 .build();
 
+        gzipCompressor = new GzipCompressor(metrics);
         clock = Clock.fixed(Instant.parse("2024-09-03T10:00:00Z"), ZoneId.of("UTC+05:00"));
 
         given(versionProvider.getNameVersionRecord()).willReturn("pbs_version");
         given(vertx.setTimer(anyLong(), any())).willReturn(1L, 2L);
-        given(httpClient.request(eq(POST), anyString(), any(), anyString(), anyLong())).willReturn(
-                Future.succeededFuture(HttpClientResponse.of(200, MultiMap.caseInsensitiveMultiMap(), "")));
+        given(vertx.executeBlocking(any(Callable.class), anyBoolean())).willAnswer(invocation ->
+                Future.succeededFuture(invocation.<Callable<?>>getArgument(0).call()));
         given(httpClient.request(eq(POST), anyString(), any(), any(byte[].class), anyLong())).willReturn(
                 Future.succeededFuture(HttpClientResponse.of(200, MultiMap.caseInsensitiveMultiMap(), "")));
 
-        target = new AgmaAnalyticsReporter(properties, versionProvider, jacksonMapper, clock, httpClient, vertx);
+        target = new AgmaAnalyticsReporter(
+                properties, versionProvider, jacksonMapper, clock, httpClient, gzipCompressor, metrics, vertx);
     }
 
     @Test
@@ -168,7 +185,7 @@ public class AgmaAnalyticsReporterTest extends VertxTest {
                 eq(POST),
                 eq("http://endpoint.com"),
                 headersCaptor.capture(),
-                eq(expectedEventPayload),
+                aryEq(expectedEventPayload.getBytes(StandardCharsets.UTF_8)),
                 eq(1000L));
 
         assertThat(headersCaptor.getValue())
@@ -177,6 +194,33 @@ public class AgmaAnalyticsReporterTest extends VertxTest {
                         tuple("content-type", "application/json"),
                         tuple("x-prebid", "pbs_version"));
 
+        verify(metrics).updateAnalyticEventsBufferMetric("agmaAnalytics", MetricName.flushed, 1);
+        assertThat(result.succeeded()).isTrue();
+    }
+
+    @Test
+    public void processEventShouldUpdateDroppedEventsMetricWhenSendingFailed() {
+        // given
+        given(httpClient.request(eq(POST), anyString(), any(), any(byte[].class), anyLong()))
+                .willReturn(Future.failedFuture("Failed"));
+
+        final AuctionEvent auctionEvent = AuctionEvent.builder()
+                .auctionContext(AuctionContext.builder()
+                        .privacyContext(PrivacyContext.of(
+                                null, TcfContext.builder().consent(PARSED_VALID_CONSENT).build()))
+                        .timeoutContext(TimeoutContext.of(clock.millis(), null, 1))
+                        .bidRequest(BidRequest.builder()
+                                .id("requestId")
+                                .site(Site.builder().publisher(Publisher.builder().id("publisherId").build()).build())
+                                .build())
+                        .build())
+                .build();
+
+        // when
+        final Future<Void> result = target.processEvent(auctionEvent);
+
+        // then
+        verify(metrics).updateAnalyticEventsBufferMetric("agmaAnalytics", MetricName.dropped, 1);
         assertThat(result.succeeded()).isTrue();
     }
 
@@ -224,7 +268,7 @@ public class AgmaAnalyticsReporterTest extends VertxTest {
                 eq(POST),
                 eq("http://endpoint.com"),
                 headersCaptor.capture(),
-                eq(expectedEventPayload),
+                aryEq(expectedEventPayload.getBytes(StandardCharsets.UTF_8)),
                 eq(1000L));
 
         assertThat(headersCaptor.getValue())
@@ -280,7 +324,7 @@ public class AgmaAnalyticsReporterTest extends VertxTest {
                 eq(POST),
                 eq("http://endpoint.com"),
                 headersCaptor.capture(),
-                eq(expectedEventPayload),
+                aryEq(expectedEventPayload.getBytes(StandardCharsets.UTF_8)),
                 eq(1000L));
 
         assertThat(headersCaptor.getValue())
@@ -347,7 +391,7 @@ public class AgmaAnalyticsReporterTest extends VertxTest {
                 eq(POST),
                 eq("http://endpoint.com"),
                 any(),
-                eq(expectedEventPayload),
+                aryEq(expectedEventPayload.getBytes(StandardCharsets.UTF_8)),
                 eq(1000L));
 
         assertThat(result.succeeded()).isTrue();
@@ -399,10 +443,15 @@ public class AgmaAnalyticsReporterTest extends VertxTest {
                 .bufferTimeoutMs(10000L)
                 .maxEventsCount(0)
                 .httpTimeoutMs(1000L)
+                .queueCapacity(100)
+                .dropPolicy(DropPolicy.dropNewest)
+                .maxRetries(0)
+                .retryDelayMs(0L)
                 .accounts(Map.of("unknown_publisherId", "anotherCode"))
                 .build();
 
-        target = new AgmaAnalyticsReporter(properties, versionProvider, jacksonMapper, clock, httpClient, vertx);
+        target = new AgmaAnalyticsReporter(
+                properties, versionProvider, jacksonMapper, clock, httpClient, gzipCompressor, metrics, vertx);
 
         // given
         final Site givenSite = Site.builder().publisher(Publisher.builder().id("publisherId").build()).build();
@@ -433,10 +482,15 @@ public class AgmaAnalyticsReporterTest extends VertxTest {
                 .bufferTimeoutMs(10000L)
                 .maxEventsCount(0)
                 .httpTimeoutMs(1000L)
+                .queueCapacity(100)
+                .dropPolicy(DropPolicy.dropNewest)
+                .maxRetries(0)
+                .retryDelayMs(0L)
                 .accounts(Map.of("publisherId_bundleId", "accountCode"))
                 .build();
 
-        target = new AgmaAnalyticsReporter(properties, versionProvider, jacksonMapper, clock, httpClient, vertx);
+        target = new AgmaAnalyticsReporter(
+                properties, versionProvider, jacksonMapper, clock, httpClient, gzipCompressor, metrics, vertx);
 
         // given
         final App givenApp = App.builder().bundle("bundleId")
@@ -479,7 +533,7 @@ public class AgmaAnalyticsReporterTest extends VertxTest {
                 eq(POST),
                 eq("http://endpoint.com"),
                 any(),
-                eq(expectedEventPayload),
+                aryEq(expectedEventPayload.getBytes(StandardCharsets.UTF_8)),
                 eq(1000L));
     }
 
@@ -493,10 +547,15 @@ public class AgmaAnalyticsReporterTest extends VertxTest {
                 .bufferTimeoutMs(10000L)
                 .maxEventsCount(0)
                 .httpTimeoutMs(1000L)
+                .queueCapacity(100)
+                .dropPolicy(DropPolicy.dropNewest)
+                .maxRetries(0)
+                .retryDelayMs(0L)
                 .accounts(Map.of("_mySite", "accountCode"))
                 .build();
 
-        target = new AgmaAnalyticsReporter(properties, versionProvider, jacksonMapper, clock, httpClient, vertx);
+        target = new AgmaAnalyticsReporter(
+                properties, versionProvider, jacksonMapper, clock, httpClient, gzipCompressor, metrics, vertx);
 
         // given
         final Site givenSite = Site.builder().id("mySite").build();
@@ -537,12 +596,12 @@ public class AgmaAnalyticsReporterTest extends VertxTest {
                 eq(POST),
                 eq("http://endpoint.com"),
                 any(),
-                eq(expectedEventPayload),
+                aryEq(expectedEventPayload.getBytes(StandardCharsets.UTF_8)),
                 eq(1000L));
     }
 
     @Test
-    public void processEventShouldSendEncodingGzipHeaderAndCompressedPayload() {
+    public void processEventShouldSendEncodingGzipHeaderAndCompressedPayload() throws IOException {
         // given
         final AgmaAnalyticsProperties properties = AgmaAnalyticsProperties.builder()
                 .url("http://endpoint.com")
@@ -551,10 +610,15 @@ public class AgmaAnalyticsReporterTest extends VertxTest {
                 .bufferTimeoutMs(10000L)
                 .maxEventsCount(0)
                 .httpTimeoutMs(1000L)
+                .queueCapacity(100)
+                .dropPolicy(DropPolicy.dropNewest)
+                .maxRetries(0)
+                .retryDelayMs(0L)
                 .accounts(Map.of("publisherId", "accountCode"))
                 .build();
 
-        target = new AgmaAnalyticsReporter(properties, versionProvider, jacksonMapper, clock, httpClient, vertx);
+        target = new AgmaAnalyticsReporter(
+                properties, versionProvider, jacksonMapper, clock, httpClient, gzipCompressor, metrics, vertx);
 
         final Site givenSite = Site.builder().publisher(Publisher.builder().id("publisherId").build()).build();
 
@@ -580,13 +644,16 @@ public class AgmaAnalyticsReporterTest extends VertxTest {
 
         final String expectedEventPayload = "[" + jacksonMapper.encodeToString(expectedEvent) + "]";
 
+        final ArgumentCaptor<byte[]> payloadCaptor = ArgumentCaptor.forClass(byte[].class);
         verify(httpClient).request(
                 eq(POST),
                 eq("http://endpoint.com"),
                 headersCaptor.capture(),
-                aryEq(gzip(expectedEventPayload)),
+                payloadCaptor.capture(),
                 eq(1000L));
 
+        assertThat(gunzip(payloadCaptor.getValue())).isEqualTo(expectedEventPayload);
+
         assertThat(headersCaptor.getValue())
                 .extracting(Map.Entry::getKey, Map.Entry::getValue)
                 .containsOnly(
@@ -597,16 +664,9 @@ public class AgmaAnalyticsReporterTest extends VertxTest {
         assertThat(result.succeeded()).isTrue();
     }
 
-    private static byte[] gzip(String value) {
-        try (ByteArrayOutputStream obj = new ByteArrayOutputStream();
-                GZIPOutputStream gzip = new GZIPOutputStream(obj)) {
-
-            gzip.write(value.getBytes(StandardCharsets.UTF_8));
-            gzip.finish();
-
-            return obj.toByteArray();
-        } catch (IOException e) {
-            return new byte[]{};
+    private static String gunzip(byte[] value) throws IOException {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(value))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
         }
     }
 }
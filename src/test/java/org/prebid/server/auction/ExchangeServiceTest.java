@@ -42,6 +42,7 @@ import org.prebid.server.VertxTest;
 import org.prebid.server.activity.Activity;
 import org.prebid.server.activity.ComponentType;
 import org.prebid.server.activity.infrastructure.ActivityInfrastructure;
+import org.prebid.server.auction.latency.BidderLatencyTracker;
 import org.prebid.server.auction.mediatypeprocessor.MediaTypeProcessingResult;
 import org.prebid.server.auction.mediatypeprocessor.MediaTypeProcessor;
 import org.prebid.server.auction.model.AuctionContext;
@@ -196,6 +197,7 @@ import static org.mockito.Mockito.anyList;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -274,6 +276,9 @@ public class ExchangeServiceTest extends VertxTest {
     @Mock
     private Timeout timeout;
 
+    @Mock
+    private BidderLatencyTracker bidderLatencyTracker;
+
     @Mock(strictness = LENIENT)
     private CriteriaLogManager criteriaLogManager;
 
@@ -310,6 +315,7 @@ public class ExchangeServiceTest extends VertxTest {
                 false,
                 false,
                 CompressionType.NONE,
+                null,
                 Ortb.of(false),
                 0L));
 
@@ -3822,6 +3828,7 @@ public class ExchangeServiceTest extends VertxTest {
                 false,
                 false,
                 CompressionType.NONE,
+                null,
                 Ortb.of(false),
                 0L));
 
@@ -3904,6 +3911,7 @@ public class ExchangeServiceTest extends VertxTest {
                 false,
                 false,
                 CompressionType.NONE,
+                null,
                 Ortb.of(false),
                 100L));
 
@@ -3934,6 +3942,88 @@ public class ExchangeServiceTest extends VertxTest {
         assertThat(timeoutCaptor.getAllValues()).containsExactly(450L);
     }
 
+    @Test
+    public void shouldSkipBidderWhichLatencyExceedsRemainingTime() {
+        // given
+        givenTarget(false, bidderLatencyTracker);
+        given(timeout.remaining()).willReturn(300L);
+        given(bidderLatencyTracker.exceedingLatency("someBidder", 300L)).willReturn(500L);
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp("impId", singletonMap("someBidder", 1)));
+
+        // when
+        final AuctionContext result = target.holdAuction(givenRequestContext(bidRequest)).result();
+
+        // then
+        verifyNoInteractions(httpBidderRequester);
+        verify(metrics).updateAdapterRequestErrorMetric("someBidder", MetricName.latency_exceeded);
+        assertThat(captureAuctionParticipations())
+                .extracting(AuctionParticipation::getBidderResponse)
+                .extracting(BidderResponse::getSeatBid)
+                .flatExtracting(BidderSeatBid::getErrors)
+                .containsExactly(BidderError.timeout(
+                        "Bidder is skipped: its latency 500ms exceeds remaining time 300ms"));
+        assertThat(result.getBidRejectionTrackers().get("someBidder").getRejectedImps())
+                .containsOnly(entry("impId", BidRejectionReason.ERROR_TIMED_OUT));
+    }
+
+    @Test
+    public void shouldNotUpdateResponseMetricsOfSkippedBidder() {
+        // given
+        givenTarget(false, bidderLatencyTracker);
+        given(timeout.remaining()).willReturn(300L);
+        given(bidderLatencyTracker.exceedingLatency("someBidder", 300L)).willReturn(500L);
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("someBidder", 1)));
+
+        // when
+        target.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        verify(metrics, never()).updateAdapterResponseTime(eq("someBidder"), any(), anyInt());
+        verify(metrics, never()).updateAdapterRequestNobidMetrics(eq("someBidder"), any());
+        verify(metrics, never()).updateAdapterRequestErrorMetric("someBidder", MetricName.timeout);
+        verify(metrics).updateAdapterRequestErrorMetric("someBidder", MetricName.latency_exceeded);
+    }
+
+    @Test
+    public void shouldLimitBidderTimeoutAndRecordResponseTimeWhenLatencyTrackerIsPresent() {
+        // given
+        givenTarget(false, bidderLatencyTracker);
+        givenBidder(givenEmptySeatBid());
+        given(timeout.remaining()).willReturn(300L);
+        given(bidderLatencyTracker.exceedingLatency("someBidder", 300L)).willReturn(-1L);
+        given(bidderLatencyTracker.limitTimeout("someBidder", 300L)).willReturn(200L);
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("someBidder", 1)));
+
+        // when
+        target.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        verify(timeoutFactory).create(anyLong(), eq(200L));
+        verify(bidderLatencyTracker).record("someBidder", 0L);
+    }
+
+    @Test
+    public void shouldRecordExceededRequestInsteadOfResponseTimeWhenBidderTimedOut() {
+        // given
+        givenTarget(false, bidderLatencyTracker);
+        givenBidder(BidderSeatBid.builder().errors(List.of(BidderError.timeout("Timeout has been exceeded"))).build());
+        given(timeout.remaining()).willReturn(300L);
+        given(bidderLatencyTracker.exceedingLatency("someBidder", 300L)).willReturn(-1L);
+        given(bidderLatencyTracker.limitTimeout("someBidder", 300L)).willReturn(200L);
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("someBidder", 1)));
+
+        // when
+        target.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        verify(bidderLatencyTracker).recordExceeded("someBidder");
+        verify(bidderLatencyTracker, never()).record(any(), anyLong());
+    }
+
     @Test
     public void shouldDropBidsWithInvalidPrice() {
         // given
@@ -3995,6 +4085,10 @@ public class ExchangeServiceTest extends VertxTest {
     }
 
     private void givenTarget(boolean enabledStrictAppSiteDoohValidation) {
+        givenTarget(enabledStrictAppSiteDoohValidation, null);
+    }
+
+    private void givenTarget(boolean enabledStrictAppSiteDoohValidation, BidderLatencyTracker bidderLatencyTracker) {
         target = new ExchangeService(
                 0,
                 bidderCatalog,
@@ -4007,6 +4101,7 @@ public class ExchangeServiceTest extends VertxTest {
                 uidUpdater,
                 timeoutResolver,
                 timeoutFactory,
+                bidderLatencyTracker,
                 ortbVersionConversionManager,
                 httpBidderRequester,
                 bidResponseCreator,
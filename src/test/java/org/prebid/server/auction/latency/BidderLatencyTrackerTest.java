@@ -0,0 +1,107 @@
+package org.prebid.server.auction.latency;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class BidderLatencyTrackerTest {
+
+    private final Clock clock = Clock.fixed(Instant.EPOCH, ZoneOffset.UTC);
+
+    private final BidderLatencyTracker target = new BidderLatencyTracker(clock, 1000L, 60000L, 10L, 50, 90);
+
+    @Test
+    public void creationShouldFailOnInvalidPercentile() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new BidderLatencyTracker(clock, 1000L, 60000L, 10L, 0, 90))
+                .withMessage("Percentile should be in range (0, 100]: 0.0");
+    }
+
+    @Test
+    public void creationShouldFailOnInvalidWindow() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new BidderLatencyTracker(clock, 1000L, 0L, 10L, 50, 90))
+                .withMessage("Both max latency and window should be greater than 0: max latency=1000, window=0");
+    }
+
+    @Test
+    public void exceedingLatencyShouldReturnMinusOneWhenBidderIsUnknown() {
+        // when and then
+        assertThat(target.exceedingLatency("bidder", 10L)).isEqualTo(-1L);
+    }
+
+    @Test
+    public void exceedingLatencyShouldReturnMinusOneWhenThereAreNotEnoughSamples() {
+        // given
+        givenLatencies("bidder", 9, 500L);
+
+        // when and then
+        assertThat(target.exceedingLatency("bidder", 10L)).isEqualTo(-1L);
+    }
+
+    @Test
+    public void exceedingLatencyShouldReturnLatencyWhenItDoesNotFitRemainingTime() {
+        // given
+        givenLatencies("bidder", 10, 500L);
+        givenLatencies("otherBidder", 10, 100L);
+
+        // when and then
+        assertThat(target.exceedingLatency("bidder", 300L)).isEqualTo(510L);
+        assertThat(target.exceedingLatency("otherBidder", 300L)).isEqualTo(-1L);
+    }
+
+    @Test
+    public void limitTimeoutShouldReturnRemainingTimeWhenThereAreNotEnoughSamples() {
+        // given
+        givenLatencies("bidder", 9, 100L);
+
+        // when and then
+        assertThat(target.limitTimeout("bidder", 300L)).isEqualTo(300L);
+    }
+
+    @Test
+    public void limitTimeoutShouldLimitRemainingTimeToDeadlinePercentileLatency() {
+        // given
+        givenLatencies("bidder", 9, 100L);
+        givenLatencies("bidder", 1, 900L);
+
+        // when and then
+        assertThat(target.limitTimeout("bidder", 300L)).isEqualTo(110L);
+        assertThat(target.limitTimeout("bidder", 50L)).isEqualTo(50L);
+    }
+
+    @Test
+    public void limitTimeoutShouldNotBeLoweredByExceedingRequests() {
+        // given
+        givenLatencies("bidder", 5, 100L);
+        for (int i = 0; i < 5; i++) {
+            target.recordExceeded("bidder");
+        }
+
+        // when and then
+        assertThat(target.limitTimeout("bidder", 300L)).isEqualTo(300L);
+    }
+
+    @Test
+    public void exceedingLatencyShouldReturnLatencyWhenBidderTimesOutTooOften() {
+        // given
+        givenLatencies("bidder", 4, 100L);
+        for (int i = 0; i < 6; i++) {
+            target.recordExceeded("bidder");
+        }
+
+        // when and then
+        assertThat(target.exceedingLatency("bidder", 300L)).isEqualTo(1010L);
+    }
+
+    private void givenLatencies(String bidder, int count, long latency) {
+        for (int i = 0; i < count; i++) {
+            target.record(bidder, latency);
+        }
+    }
+}
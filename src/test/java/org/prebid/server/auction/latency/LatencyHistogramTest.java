@@ -0,0 +1,74 @@
+package org.prebid.server.auction.latency;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LatencyHistogramTest {
+
+    private final LatencyHistogram target = new LatencyHistogram(10L, 1000L, 1000L, 0L);
+
+    @Test
+    public void percentileShouldReturnMinusOneWhenThereAreNoSamples() {
+        // when and then
+        assertThat(target.percentile(95, 0L)).isEqualTo(-1L);
+    }
+
+    @Test
+    public void percentileShouldReturnUpperBoundOfBucket() {
+        // given
+        for (int latency = 1; latency <= 100; latency++) {
+            target.record(latency * 5L, 0L);
+        }
+
+        // when and then
+        assertThat(target.count(0L)).isEqualTo(100L);
+        assertThat(target.percentile(50, 0L)).isEqualTo(260L);
+        assertThat(target.percentile(95, 0L)).isEqualTo(480L);
+        assertThat(target.percentile(100, 0L)).isEqualTo(510L);
+    }
+
+    @Test
+    public void recordShouldCountLatenciesAboveMaxInLastBucket() {
+        // given
+        target.record(5000L, 0L);
+
+        // when and then
+        assertThat(target.percentile(50, 0L)).isEqualTo(1010L);
+    }
+
+    @Test
+    public void recordExceededShouldCountRequestAboveAnyLatency() {
+        // given
+        target.record(100L, 0L);
+        target.recordExceeded(0L);
+
+        // when and then
+        assertThat(target.count(0L)).isEqualTo(2L);
+        assertThat(target.percentile(50, 0L)).isEqualTo(110L);
+        assertThat(target.percentile(100, 0L)).isEqualTo(1010L);
+    }
+
+    @Test
+    public void percentileShouldTakeIntoAccountPreviousWindow() {
+        // given
+        target.record(100L, 0L);
+        target.record(300L, 1500L);
+
+        // when and then
+        assertThat(target.count(1500L)).isEqualTo(2L);
+        assertThat(target.percentile(100, 1500L)).isEqualTo(310L);
+    }
+
+    @Test
+    public void percentileShouldDiscardSamplesOfExpiredWindows() {
+        // given
+        target.record(100L, 0L);
+        target.record(300L, 1500L);
+
+        // when and then
+        assertThat(target.count(2500L)).isEqualTo(1L);
+        assertThat(target.percentile(100, 2500L)).isEqualTo(310L);
+        assertThat(target.count(5000L)).isZero();
+    }
+}
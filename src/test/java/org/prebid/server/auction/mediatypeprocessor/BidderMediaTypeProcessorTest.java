@@ -175,6 +175,7 @@ public class BidderMediaTypeProcessorTest extends VertxTest {
                 false,
                 false,
                 CompressionType.NONE,
+                null,
                 Ortb.of(false),
                 0L);
     }
@@ -279,6 +279,7 @@ public class MultiFormatMediaTypeProcessorTest extends VertxTest {
                 false,
                 false,
                 CompressionType.NONE,
+                null,
                 Ortb.of(multiFormatSupported),
                 0L);
     }
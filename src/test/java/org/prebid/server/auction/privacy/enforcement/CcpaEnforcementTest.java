@@ -79,6 +79,7 @@ public class CcpaEnforcementTest {
                         true,
                         false,
                         null,
+                        null,
                         Ortb.of(false),
                         0L));
 
@@ -223,6 +224,7 @@ public class CcpaEnforcementTest {
                         false,
                         false,
                         null,
+                        null,
                         Ortb.of(false),
                         0L));
 
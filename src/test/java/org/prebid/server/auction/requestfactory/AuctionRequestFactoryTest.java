@@ -14,8 +14,10 @@ import com.iab.openrtb.request.Site;
 import com.iab.openrtb.request.Source;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.net.impl.SocketAddressImpl;
+import io.vertx.ext.web.RequestBody;
 import io.vertx.ext.web.RoutingContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -58,6 +60,7 @@ import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebidData;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebidDataEidPermissions;
 import org.prebid.server.settings.model.Account;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -73,10 +76,12 @@ import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.prebid.server.assertion.FutureAssertion.assertThat;
 
@@ -117,6 +122,8 @@ public class AuctionRequestFactoryTest extends VertxTest {
     @Mock(strictness = LENIENT)
     private RoutingContext routingContext;
     @Mock(strictness = LENIENT)
+    private RequestBody requestBody;
+    @Mock(strictness = LENIENT)
     private HttpServerRequest httpRequest;
 
     private Account defaultAccount;
@@ -199,22 +206,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 .willReturn(Future.succeededFuture(GeoInfo.builder().vendor("vendor").build()));
         given(bidAdjustmentsRetriever.retrieve(any())).willReturn(BidAdjustments.of(emptyMap()));
 
-        target = new AuctionRequestFactory(
-                Integer.MAX_VALUE,
-                ortb2RequestFactory,
-                storedRequestProcessor,
-                ortbVersionConversionManager,
-                auctionGppService,
-                cookieDeprecationService,
-                paramsExtractor,
-                paramsResolver,
-                interstitialProcessor,
-                ortbTypesResolver,
-                auctionPrivacyContextFactory,
-                debugResolver,
-                jacksonMapper,
-                geoLocationServiceWrapper,
-                bidAdjustmentsRetriever);
+        target = createTarget(Integer.MAX_VALUE);
     }
 
     @Test
@@ -235,24 +227,9 @@ public class AuctionRequestFactoryTest extends VertxTest {
     @Test
     public void shouldReturnFailedFutureIfRequestBodyExceedsMaxRequestSize() {
         // given
-        target = new AuctionRequestFactory(
-                1,
-                ortb2RequestFactory,
-                storedRequestProcessor,
-                ortbVersionConversionManager,
-                auctionGppService,
-                cookieDeprecationService,
-                paramsExtractor,
-                paramsResolver,
-                interstitialProcessor,
-                ortbTypesResolver,
-                auctionPrivacyContextFactory,
-                debugResolver,
-                jacksonMapper,
-                geoLocationServiceWrapper,
-                bidAdjustmentsRetriever);
+        target = createTarget(1);
 
-        given(routingContext.getBodyAsString()).willReturn("body");
+        givenBody("body");
 
         // when
         final Future<?> future = target.parseRequest(routingContext, 0L);
@@ -264,10 +241,56 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 .hasMessage("Request size exceeded max size of 1 bytes.");
     }
 
+    @Test
+    public void shouldCountRequestSizeInBytesRatherThanChars() {
+        // given
+        final String body = bidRequestToString(BidRequest.builder()
+                .site(Site.builder().page("http://example.com/\u00fc\u00fc\u00fc\u00fc").build())
+                .build());
+        final int bodyBytesLength = body.getBytes(StandardCharsets.UTF_8).length;
+
+        target = createTarget(bodyBytesLength - 1);
+
+        givenBody(body);
+
+        // when
+        final Future<?> future = target.parseRequest(routingContext, 0L);
+
+        // then
+        assertThat(body.length()).isLessThan(bodyBytesLength - 1);
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause())
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("Request size exceeded max size of %d bytes.".formatted(bodyBytesLength - 1));
+    }
+
+    @Test
+    public void shouldAcceptMultiByteRequestBodyOfExactlyMaxRequestSizeBytes() {
+        // given
+        final BidRequest bidRequest = BidRequest.builder()
+                .site(Site.builder().page("http://example.com/\u00fc\u00fc\u00fc\u00fc").build())
+                .build();
+        final String body = bidRequestToString(bidRequest);
+
+        target = createTarget(body.getBytes(StandardCharsets.UTF_8).length);
+
+        givenBody(body);
+        givenAuctionContext(bidRequest, defaultAccount);
+        givenProcessStoredRequest(bidRequest);
+
+        // when
+        target.parseRequest(routingContext, 0L);
+
+        // then
+        final ArgumentCaptor<BidRequest> captor = ArgumentCaptor.forClass(BidRequest.class);
+        verify(ortb2RequestFactory).enrichAuctionContext(any(), any(), captor.capture(), anyLong());
+        assertThat(captor.getValue().getSite().getPage()).isEqualTo("http://example.com/\u00fc\u00fc\u00fc\u00fc");
+    }
+
     @Test
     public void shouldReturnFailedFutureIfRequestBodyCouldNotBeParsed() {
         // given
-        given(routingContext.getBodyAsString()).willReturn("body");
+        givenBody("body");
 
         // when
         final Future<?> future = target.parseRequest(routingContext, 0L);
@@ -319,6 +342,8 @@ public class AuctionRequestFactoryTest extends VertxTest {
         final String rawModifiedBidRequest = bidRequestToString(BidRequest.builder()
                 .app(App.builder().bundle("org.company.application").build())
                 .build());
+        given(ortb2RequestFactory.hasEntrypointHooks(any())).willReturn(true);
+        given(ortb2RequestFactory.isEntrypointPayloadUpdated(any())).willReturn(true);
         doAnswer(invocation -> Future.succeededFuture(HttpRequestContext.builder().body(rawModifiedBidRequest).build()))
                 .when(ortb2RequestFactory)
                 .executeEntrypointHooks(any(), any(), any());
@@ -335,6 +360,63 @@ public class AuctionRequestFactoryTest extends VertxTest {
         assertThat(capturedRequest.getApp()).isEqualTo(App.builder().bundle("org.company.application").build());
     }
 
+    @Test
+    public void shouldNotDecodeBodyToStringWhenNoEntrypointHooksConfigured() {
+        // given
+        givenValidBidRequest(defaultBidRequest);
+
+        // when
+        target.parseRequest(routingContext, 0L);
+
+        // then
+        verify(requestBody, never()).asString();
+        verify(ortb2RequestFactory).executeEntrypointHooks(any(), isNull(), any());
+
+        final ArgumentCaptor<BidRequest> captor = ArgumentCaptor.forClass(BidRequest.class);
+        verify(ortb2RequestFactory).enrichAuctionContext(any(), any(), captor.capture(), anyLong());
+        assertThat(captor.getValue()).isEqualTo(defaultBidRequest);
+    }
+
+    @Test
+    public void shouldDecodeBodyToStringOnFirstReadWhenNoEntrypointHooksConfigured() {
+        // given
+        givenValidBidRequest(defaultBidRequest);
+
+        // when
+        target.parseRequest(routingContext, 0L);
+
+        // then
+        final ArgumentCaptor<HttpRequestContext> captor = ArgumentCaptor.forClass(HttpRequestContext.class);
+        verify(ortb2RequestFactory).enrichAuctionContext(any(), captor.capture(), any(), anyLong());
+        verify(requestBody, never()).asString();
+
+        final HttpRequestContext httpRequest = captor.getValue();
+        assertThat(httpRequest.getBody()).isEqualTo(bidRequestToString(defaultBidRequest));
+        assertThat(httpRequest.getBody()).isEqualTo(bidRequestToString(defaultBidRequest));
+        verify(requestBody).asString();
+    }
+
+    @Test
+    public void shouldParseRawBodyWhenEntrypointHooksDidNotUpdateRequest() {
+        // given
+        givenValidBidRequest(defaultBidRequest);
+
+        given(ortb2RequestFactory.hasEntrypointHooks(any())).willReturn(true);
+        doAnswer(invocation -> Future.succeededFuture(HttpRequestContext.builder().body("ignored").build()))
+                .when(ortb2RequestFactory)
+                .executeEntrypointHooks(any(), any(), any());
+
+        // when
+        target.parseRequest(routingContext, 0L);
+
+        // then
+        verify(ortb2RequestFactory).executeEntrypointHooks(any(), eq(bidRequestToString(defaultBidRequest)), any());
+
+        final ArgumentCaptor<BidRequest> captor = ArgumentCaptor.forClass(BidRequest.class);
+        verify(ortb2RequestFactory).enrichAuctionContext(any(), any(), captor.capture(), anyLong());
+        assertThat(captor.getValue()).isEqualTo(defaultBidRequest);
+    }
+
     @Test
     public void shouldReturnFailedFutureIfEntrypointHookRejectedRequest() {
         // given
@@ -483,7 +565,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 .putObject("data")
                 .set("eidpermissions", eidPermissionNode);
 
-        given(routingContext.getBodyAsString()).willReturn(requestNode.toString());
+        givenBody(requestNode.toString());
 
         // when
         final Future<?> result = target.parseRequest(routingContext, 0L);
@@ -519,7 +601,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 .putArray("eidpermissions");
         arrayNode.add(eidPermissionNode);
 
-        given(routingContext.getBodyAsString()).willReturn(requestNode.toString());
+        givenBody(requestNode.toString());
 
         // when
         final Future<?> result = target.parseRequest(routingContext, 0L);
@@ -791,9 +873,34 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 .isEqualTo(10000L);
     }
 
+    private AuctionRequestFactory createTarget(int maxRequestSize) {
+        return new AuctionRequestFactory(
+                maxRequestSize,
+                ortb2RequestFactory,
+                storedRequestProcessor,
+                ortbVersionConversionManager,
+                auctionGppService,
+                cookieDeprecationService,
+                paramsExtractor,
+                paramsResolver,
+                interstitialProcessor,
+                ortbTypesResolver,
+                auctionPrivacyContextFactory,
+                debugResolver,
+                jacksonMapper,
+                geoLocationServiceWrapper,
+                bidAdjustmentsRetriever);
+    }
+
+    private void givenBody(String body) {
+        given(routingContext.body()).willReturn(requestBody);
+        given(requestBody.buffer()).willReturn(Buffer.buffer(body));
+        given(requestBody.asString()).willReturn(body);
+    }
+
     private void givenBidRequest(BidRequest bidRequest) {
         try {
-            given(routingContext.getBodyAsString()).willReturn(mapper.writeValueAsString(bidRequest));
+            givenBody(mapper.writeValueAsString(bidRequest));
         } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
         }
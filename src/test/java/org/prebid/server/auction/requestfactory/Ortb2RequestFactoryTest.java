@@ -45,8 +45,13 @@ import org.prebid.server.execution.timeout.TimeoutFactory;
 import org.prebid.server.geolocation.CountryCodeMapper;
 import org.prebid.server.geolocation.model.GeoInfo;
 import org.prebid.server.hooks.execution.HookStageExecutor;
+import org.prebid.server.hooks.execution.model.ExecutionAction;
+import org.prebid.server.hooks.execution.model.GroupExecutionOutcome;
 import org.prebid.server.hooks.execution.model.HookExecutionContext;
+import org.prebid.server.hooks.execution.model.HookExecutionOutcome;
 import org.prebid.server.hooks.execution.model.HookStageExecutionResult;
+import org.prebid.server.hooks.execution.model.Stage;
+import org.prebid.server.hooks.execution.model.StageExecutionOutcome;
 import org.prebid.server.hooks.execution.v1.auction.AuctionRequestPayloadImpl;
 import org.prebid.server.hooks.execution.v1.entrypoint.EntrypointPayloadImpl;
 import org.prebid.server.metric.MetricName;
@@ -1145,6 +1150,54 @@ public class Ortb2RequestFactoryTest extends VertxTest {
                 .isEqualTo(auctionContext);
     }
 
+    @Test
+    public void isEntrypointPayloadUpdatedShouldReturnTrueWhenEntrypointHookAppliedUpdate() {
+        // given
+        final HookExecutionContext hookExecutionContext = HookExecutionContext.of(Endpoint.openrtb2_auction);
+        hookExecutionContext.getStageOutcomes().put(Stage.entrypoint, singletonList(StageExecutionOutcome.of(
+                "http-request",
+                List.of(
+                        GroupExecutionOutcome.of(singletonList(givenHookOutcome(ExecutionAction.no_action))),
+                        GroupExecutionOutcome.of(singletonList(givenHookOutcome(ExecutionAction.update)))))));
+
+        final AuctionContext auctionContext =
+                AuctionContext.builder().hookExecutionContext(hookExecutionContext).build();
+
+        // when and then
+        assertThat(target.isEntrypointPayloadUpdated(auctionContext)).isTrue();
+    }
+
+    @Test
+    public void isEntrypointPayloadUpdatedShouldReturnFalseWhenEntrypointHooksDidNotApplyUpdate() {
+        // given
+        final HookExecutionContext hookExecutionContext = HookExecutionContext.of(Endpoint.openrtb2_auction);
+        hookExecutionContext.getStageOutcomes().put(Stage.entrypoint, singletonList(StageExecutionOutcome.of(
+                "http-request",
+                singletonList(GroupExecutionOutcome.of(singletonList(givenHookOutcome(null)))))));
+        hookExecutionContext.getStageOutcomes().put(Stage.raw_auction_request, singletonList(
+                StageExecutionOutcome.of(
+                        "auction-request",
+                        singletonList(GroupExecutionOutcome.of(
+                                singletonList(givenHookOutcome(ExecutionAction.update)))))));
+
+        final AuctionContext auctionContext =
+                AuctionContext.builder().hookExecutionContext(hookExecutionContext).build();
+
+        // when and then
+        assertThat(target.isEntrypointPayloadUpdated(auctionContext)).isFalse();
+    }
+
+    @Test
+    public void isEntrypointPayloadUpdatedShouldReturnFalseWhenEntrypointStageWasNotExecuted() {
+        // given
+        final AuctionContext auctionContext = AuctionContext.builder()
+                .hookExecutionContext(HookExecutionContext.of(Endpoint.openrtb2_auction))
+                .build();
+
+        // when and then
+        assertThat(target.isEntrypointPayloadUpdated(auctionContext)).isFalse();
+    }
+
     @Test
     public void shouldUseBidRequestModifiedByRawAuctionRequestHooks() {
         // given
@@ -1734,4 +1787,8 @@ public class Ortb2RequestFactoryTest extends VertxTest {
     private static BidRequest givenBidRequest(UnaryOperator<BidRequest.BidRequestBuilder> requestCustomizer) {
         return requestCustomizer.apply(BidRequest.builder()).build();
     }
+
+    private static HookExecutionOutcome givenHookOutcome(ExecutionAction action) {
+        return HookExecutionOutcome.builder().action(action).build();
+    }
 }
@@ -99,6 +99,7 @@ public class BidderCatalogTest {
                 true,
                 false,
                 CompressionType.NONE,
+                null,
                 Ortb.of(false),
                 0L);
 
@@ -133,6 +134,7 @@ public class BidderCatalogTest {
                 true,
                 false,
                 CompressionType.NONE,
+                null,
                 Ortb.of(false),
                 0L);
 
@@ -158,6 +160,7 @@ public class BidderCatalogTest {
                 true,
                 false,
                 CompressionType.NONE,
+                null,
                 Ortb.of(false),
                 0L);
 
@@ -196,6 +199,7 @@ public class BidderCatalogTest {
                         true,
                         false,
                         CompressionType.NONE,
+                        null,
                         Ortb.of(false),
                         0L))
                 .deprecatedNames(emptyList())
@@ -264,6 +268,7 @@ public class BidderCatalogTest {
                 true,
                 false,
                 CompressionType.NONE,
+                null,
                 Ortb.of(false),
                 0L);
 
@@ -283,6 +288,7 @@ public class BidderCatalogTest {
                 true,
                 false,
                 CompressionType.NONE,
+                null,
                 Ortb.of(false),
                 0L);
 
@@ -302,6 +308,7 @@ public class BidderCatalogTest {
                 true,
                 false,
                 CompressionType.NONE,
+                null,
                 Ortb.of(false),
                 0L);
 
@@ -372,6 +379,7 @@ public class BidderCatalogTest {
                 true,
                 false,
                 CompressionType.NONE,
+                null,
                 Ortb.of(false),
                 0L);
 
@@ -33,7 +33,7 @@ public class HttpBidderRequestEnricherTest {
 
     private static final String BIDDER_ALIAS_NAME = "bidderAliasName";
 
-    @Mock
+    @Mock(strictness = LENIENT)
     private PrebidVersionProvider prebidVersionProvider;
 
     @Mock
@@ -174,6 +174,7 @@ public class HttpBidderRequestEnricherTest {
                 false,
                 false,
                 CompressionType.GZIP,
+                null,
                 Ortb.of(false),
                 0L));
 
@@ -213,6 +214,7 @@ public class HttpBidderRequestEnricherTest {
                 false,
                 false,
                 CompressionType.GZIP,
+                null,
                 Ortb.of(false),
                 0L));
 
@@ -232,6 +234,43 @@ public class HttpBidderRequestEnricherTest {
         assertThat(resultHeaders.get("Content-Encoding")).isEqualTo("gzip");
     }
 
+    @Test
+    public void resolveCompressionLevelShouldReturnLevelOfResolvedBidder() {
+        // given
+        when(bidderAliases.resolveBidder(BIDDER_ALIAS_NAME)).thenReturn(BIDDER_NAME);
+        when(bidderCatalog.bidderInfoByName(eq(BIDDER_NAME))).thenReturn(BidderInfo.create(
+                true,
+                null,
+                false,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                0,
+                null,
+                false,
+                false,
+                CompressionType.GZIP,
+                9,
+                Ortb.of(false),
+                0L));
+
+        // when and then
+        assertThat(target.resolveCompressionLevel(BIDDER_ALIAS_NAME, bidderAliases)).isEqualTo(9);
+    }
+
+    @Test
+    public void resolveCompressionLevelShouldReturnNullWhenBidderIsUnknown() {
+        // given
+        when(bidderAliases.resolveBidder(BIDDER_NAME)).thenReturn(BIDDER_NAME);
+
+        // when and then
+        assertThat(target.resolveCompressionLevel(BIDDER_NAME, bidderAliases)).isNull();
+    }
+
     private static boolean isEqualsMultiMaps(MultiMap left, MultiMap right) {
         return left.size() == right.size() && left.entries().stream()
                 .allMatch(entry -> right.contains(entry.getKey(), entry.getValue(), true));
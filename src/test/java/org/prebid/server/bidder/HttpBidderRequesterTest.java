@@ -33,8 +33,12 @@ import org.prebid.server.bidder.model.CompositeBidderResponse;
 import org.prebid.server.bidder.model.HttpRequest;
 import org.prebid.server.bidder.model.HttpResponse;
 import org.prebid.server.bidder.model.Result;
+import org.prebid.server.compression.GzipCompressor;
+import org.prebid.server.exception.ResponseSizeExceededException;
 import org.prebid.server.execution.timeout.Timeout;
 import org.prebid.server.execution.timeout.TimeoutFactory;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.proto.openrtb.ext.response.ExtHttpCall;
 import org.prebid.server.proto.openrtb.ext.response.ExtIgi;
@@ -63,6 +67,7 @@ import static java.util.function.UnaryOperator.identity;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
@@ -95,6 +100,10 @@ public class HttpBidderRequesterTest extends VertxTest {
     private BidderErrorNotifier bidderErrorNotifier;
     @Mock(strictness = LENIENT)
     private HttpBidderRequestEnricher requestEnricher;
+    @Mock
+    private GzipCompressor gzipCompressor;
+    @Mock
+    private Metrics metrics;
     @Mock(strictness = LENIENT)
     private RoutingContext routingContext;
     @Mock(strictness = LENIENT)
@@ -112,6 +121,7 @@ public class HttpBidderRequesterTest extends VertxTest {
         given(httpServerRequest.headers()).willReturn(MultiMap.caseInsensitiveMultiMap());
         given(requestEnricher.enrichHeaders(anyString(), any(), any(), any(), any()))
                 .willReturn(MultiMap.caseInsensitiveMultiMap());
+        given(requestEnricher.resolveCompressionLevel(anyString(), any())).willReturn(null);
 
         final Clock clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
         final TimeoutFactory timeoutFactory = new TimeoutFactory(clock);
@@ -119,7 +129,15 @@ public class HttpBidderRequesterTest extends VertxTest {
         expiredTimeout = timeoutFactory.create(clock.instant().minusMillis(1500L).toEpochMilli(), 1000L);
 
         target = new HttpBidderRequester(
-                httpClient, null, bidderErrorNotifier, requestEnricher, jacksonMapper, 0.0);
+                httpClient,
+                null,
+                bidderErrorNotifier,
+                requestEnricher,
+                gzipCompressor,
+                jacksonMapper,
+                metrics,
+                0L,
+                0.0);
         given(bidder.makeBidderResponse(any(BidderCall.class), any(BidRequest.class))).willCallRealMethod();
     }
 
@@ -265,7 +283,7 @@ public class HttpBidderRequesterTest extends VertxTest {
                 false);
 
         // then
-        verify(httpClient, times(2)).request(any(), anyString(), any(), any(byte[].class), anyLong());
+        verify(httpClient, times(2)).request(any(), anyString(), any(), any(byte[].class), anyLong(), anyLong());
 
         verify(bidRejectionTracker, never()).rejectImp(anyString(), any());
         verify(bidRejectionTracker, never()).rejectImps(anyList(), any());
@@ -300,7 +318,7 @@ public class HttpBidderRequesterTest extends VertxTest {
                         false);
 
         // then
-        verify(httpClient).request(any(), anyString(), any(), (byte[]) isNull(), anyLong());
+        verify(httpClient).request(any(), anyString(), any(), (byte[]) isNull(), anyLong(), anyLong());
 
         verify(bidRejectionTracker, never()).rejectImp(anyString(), any());
         verify(bidRejectionTracker, never()).rejectImps(anyList(), any());
@@ -336,7 +354,7 @@ public class HttpBidderRequesterTest extends VertxTest {
                 false);
 
         // then
-        verify(httpClient, times(2)).request(any(), anyString(), any(), any(byte[].class), anyLong());
+        verify(httpClient, times(2)).request(any(), anyString(), any(), any(byte[].class), anyLong(), anyLong());
 
         verify(bidRejectionTracker, never()).rejectImp(anyString(), any());
         verify(bidRejectionTracker, never()).rejectImps(anyList(), any());
@@ -507,6 +525,8 @@ public class HttpBidderRequesterTest extends VertxTest {
                 emptyList()));
 
         given(requestEnricher.enrichHeaders(anyString(), any(), any(), any(), any())).willReturn(headers);
+        final byte[] compressedBody = "compressed".getBytes();
+        given(gzipCompressor.compress(any(), anyInt(), any())).willReturn(compressedBody);
         givenHttpClientResponse(200, "responseBody");
         final BidderRequest bidderRequest = BidderRequest.builder()
                 .bidder("bidder")
@@ -526,13 +546,48 @@ public class HttpBidderRequesterTest extends VertxTest {
 
         // then
         final ArgumentCaptor<byte[]> actualRequestBody = ArgumentCaptor.forClass(byte[].class);
-        verify(httpClient).request(any(), anyString(), any(), actualRequestBody.capture(), anyLong());
-        assertThat(actualRequestBody.getValue()).isNotSameAs(EMPTY_BYTE_BODY);
+        verify(httpClient).request(any(), anyString(), any(), actualRequestBody.capture(), anyLong(), anyLong());
+        assertThat(actualRequestBody.getValue()).isSameAs(compressedBody);
+        verify(gzipCompressor).compress(
+                EMPTY_BYTE_BODY, GzipCompressor.DEFAULT_LEVEL, MetricName.bidder_request);
 
         verify(bidRejectionTracker, never()).rejectImp(anyString(), any());
         verify(bidRejectionTracker, never()).rejectImps(anyList(), any());
     }
 
+    @Test
+    public void shouldCompressRequestBodyWithCompressionLevelOfBidder() {
+        // given
+        final MultiMap headers = MultiMap.caseInsensitiveMultiMap()
+                .add(HttpUtil.CONTENT_ENCODING_HEADER, HttpHeaderValues.GZIP);
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(
+                singletonList(givenSimpleHttpRequest(identity())),
+                emptyList()));
+
+        given(requestEnricher.enrichHeaders(anyString(), any(), any(), any(), any())).willReturn(headers);
+        given(requestEnricher.resolveCompressionLevel(anyString(), any())).willReturn(9);
+        given(gzipCompressor.compress(any(), anyInt(), any())).willReturn("compressed".getBytes());
+        givenHttpClientResponse(200, "responseBody");
+        final BidderRequest bidderRequest = BidderRequest.builder()
+                .bidder("bidder")
+                .bidRequest(BidRequest.builder().build())
+                .build();
+
+        // when
+        target.requestBids(
+                        bidder,
+                        bidderRequest,
+                        bidRejectionTracker,
+                        timeout,
+                        CaseInsensitiveMultiMap.empty(),
+                        bidderAliases,
+                        false)
+                .result();
+
+        // then
+        verify(gzipCompressor).compress(EMPTY_BYTE_BODY, 9, MetricName.bidder_request);
+    }
+
     @Test
     public void shouldNotWaitForResponsesWhenAllDealsIsGathered() throws JsonProcessingException {
         // given
@@ -557,7 +612,10 @@ public class HttpBidderRequesterTest extends VertxTest {
                 },
                 bidderErrorNotifier,
                 requestEnricher,
+                gzipCompressor,
                 jacksonMapper,
+                metrics,
+                0L,
                 0.0);
 
         final BidRequest bidRequest = bidRequestWithDeals("deal1", "deal2");
@@ -594,13 +652,13 @@ public class HttpBidderRequesterTest extends VertxTest {
         final HttpClientResponse respWithDeal2 = HttpClientResponse.of(200, null,
                 "{\"seatbid\":[{\"bid\":[{\"dealid\":\"deal2\"}]}]}");
 
-        given(httpClient.request(any(), anyString(), any(), eq(firstRequestBody), anyLong()))
+        given(httpClient.request(any(), anyString(), any(), eq(firstRequestBody), anyLong(), anyLong()))
                 .willReturn(Future.succeededFuture(respWithDeal1));
-        given(httpClient.request(any(), anyString(), any(), eq(secondRequestBody), anyLong()))
+        given(httpClient.request(any(), anyString(), any(), eq(secondRequestBody), anyLong(), anyLong()))
                 .willReturn(Promise.<HttpClientResponse>promise().future());
-        given(httpClient.request(any(), anyString(), any(), eq(thirdRequestBody), anyLong()))
+        given(httpClient.request(any(), anyString(), any(), eq(thirdRequestBody), anyLong(), anyLong()))
                 .willReturn(Future.succeededFuture(respWithDeal2));
-        given(httpClient.request(any(), anyString(), any(), eq(forthRequestBody), anyLong()))
+        given(httpClient.request(any(), anyString(), any(), eq(forthRequestBody), anyLong(), anyLong()))
                 .willReturn(Promise.<HttpClientResponse>promise().future());
 
         final BidderBid bidderBidDeal1 = BidderBid.of(Bid.builder().impid("deal1").dealid("deal1").build(), null, null);
@@ -622,7 +680,7 @@ public class HttpBidderRequesterTest extends VertxTest {
 
         // then
         verify(bidder).makeHttpRequests(any());
-        verify(httpClient, times(4)).request(any(), any(), any(), any(byte[].class), anyLong());
+        verify(httpClient, times(4)).request(any(), any(), any(), any(byte[].class), anyLong(), anyLong());
         verify(bidder, times(2)).makeBidderResponse(any(), any());
 
         assertThat(bidderSeatBid.getBids()).containsOnly(bidderBidDeal1, bidderBidDeal2);
@@ -671,7 +729,7 @@ public class HttpBidderRequesterTest extends VertxTest {
 
         // then
         verify(bidder).makeHttpRequests(any());
-        verify(httpClient, times(4)).request(any(), any(), any(), any(byte[].class), anyLong());
+        verify(httpClient, times(4)).request(any(), any(), any(), any(byte[].class), anyLong(), anyLong());
         verify(bidder, times(4)).makeBidderResponse(any(), any());
 
         assertThat(bidderSeatBid.getBids()).contains(bidderBid, bidderBid, bidderBid, bidderBid);
@@ -904,6 +962,39 @@ public class HttpBidderRequesterTest extends VertxTest {
         verify(bidRejectionTracker).rejectImps(singleton("impId"), BidRejectionReason.ERROR_TIMED_OUT);
     }
 
+    @Test
+    public void shouldUpdateResponseSizeExceededMetricIfBidderResponseIsTooLarge() {
+        // given
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(singletonList(
+                        givenSimpleHttpRequest(identity())),
+                emptyList()));
+
+        givenHttpClientProducesException(new ResponseSizeExceededException("Response size exceeded 1 bytes limit"));
+
+        final BidderRequest bidderRequest = BidderRequest.builder()
+                .bidder("bidder")
+                .bidRequest(BidRequest.builder().build())
+                .build();
+
+        // when
+        final BidderSeatBid bidderSeatBid =
+                target
+                        .requestBids(
+                                bidder,
+                                bidderRequest,
+                                bidRejectionTracker,
+                                timeout,
+                                CaseInsensitiveMultiMap.empty(),
+                                bidderAliases,
+                                false)
+                        .result();
+
+        // then
+        assertThat(bidderSeatBid.getErrors())
+                .containsExactly(BidderError.generic("Response size exceeded 1 bytes limit"));
+        verify(metrics).updateAdapterRequestErrorMetric("bidder", MetricName.response_size_exceeded);
+    }
+
     @Test
     public void shouldReturnPartialDebugInfoIfDebugEnabledAndHttpErrorOccurs() throws JsonProcessingException {
         // given
@@ -1102,7 +1193,7 @@ public class HttpBidderRequesterTest extends VertxTest {
 
         given(bidder.makeHttpRequests(any())).willReturn(Result.of(singletonList(httpRequest), emptyList()));
 
-        given(httpClient.request(any(), anyString(), any(), any(byte[].class), anyLong()))
+        given(httpClient.request(any(), anyString(), any(), any(byte[].class), anyLong(), anyLong()))
                 // bidder request
                 .willReturn(Future.failedFuture(new TimeoutException("Timeout exception")));
 
@@ -1147,7 +1238,7 @@ public class HttpBidderRequesterTest extends VertxTest {
                 singletonList(BidderError.badInput("makeHttpRequestsError"))));
         when(requestEnricher.enrichHeaders(anyString(), any(), any(), any(), any()))
                 .thenAnswer(invocation -> MultiMap.caseInsensitiveMultiMap());
-        given(httpClient.request(any(), anyString(), any(), any(byte[].class), anyLong()))
+        given(httpClient.request(any(), anyString(), any(), any(byte[].class), anyLong(), anyLong()))
                 // simulate response error for the first request
                 .willReturn(Future.failedFuture(new RuntimeException("Response exception")))
                 // simulate timeout for the second request
@@ -1293,18 +1384,18 @@ public class HttpBidderRequesterTest extends VertxTest {
     }
 
     private void givenHttpClientResponse(int statusCode, String response) {
-        given(httpClient.request(any(), anyString(), any(), (byte[]) any(), anyLong()))
+        given(httpClient.request(any(), anyString(), any(), (byte[]) any(), anyLong(), anyLong()))
                 .willReturn(Future.succeededFuture(HttpClientResponse.of(statusCode, null, response)));
     }
 
     private void givenHttpClientProducesException(Throwable throwable) {
-        given(httpClient.request(any(), anyString(), any(), any(byte[].class), anyLong()))
+        given(httpClient.request(any(), anyString(), any(), any(byte[].class), anyLong(), anyLong()))
                 .willReturn(Future.failedFuture(throwable));
     }
 
     private void givenHttpClientReturnsResponses(HttpClientResponse... httpClientResponses) {
         BDDMockito.BDDMyOngoingStubbing<Future<HttpClientResponse>> stubbing =
-                given(httpClient.request(any(), anyString(), any(), any(byte[].class), anyLong()));
+                given(httpClient.request(any(), anyString(), any(), any(byte[].class), anyLong(), anyLong()));
 
         // setup multiple answers
         for (HttpClientResponse httpClientResponse : httpClientResponses) {
@@ -9,6 +9,7 @@ import com.iab.openrtb.request.Video;
 import com.iab.openrtb.response.Bid;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpMethod;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -29,6 +30,7 @@ import org.prebid.server.cache.proto.request.bid.BidCacheRequest;
 import org.prebid.server.cache.proto.request.bid.BidPutObject;
 import org.prebid.server.cache.proto.response.bid.BidCacheResponse;
 import org.prebid.server.cache.proto.response.bid.CacheObject;
+import org.prebid.server.compression.GzipCompressor;
 import org.prebid.server.events.EventsContext;
 import org.prebid.server.events.EventsService;
 import org.prebid.server.exception.PreBidException;
@@ -68,11 +70,14 @@ import static java.util.function.UnaryOperator.identity;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -89,6 +94,8 @@ public class CoreCacheServiceTest extends VertxTest {
     private Metrics metrics;
     @Mock
     private UUIDIdGenerator idGenerator;
+    @Mock
+    private GzipCompressor gzipCompressor;
 
     private Clock clock;
 
@@ -116,7 +123,10 @@ public class CoreCacheServiceTest extends VertxTest {
                 metrics,
                 clock,
                 idGenerator,
-                jacksonMapper);
+                jacksonMapper,
+                gzipCompressor,
+                false,
+                -1);
 
         eventsContext = EventsContext.builder().auctionId("auctionId").build();
 
@@ -390,7 +400,10 @@ public class CoreCacheServiceTest extends VertxTest {
                 metrics,
                 clock,
                 idGenerator,
-                jacksonMapper);
+                jacksonMapper,
+                gzipCompressor,
+                false,
+                -1);
         final BidInfo bidinfo = givenBidInfo(builder -> builder.id("bidId1"));
 
         // when
@@ -409,6 +422,56 @@ public class CoreCacheServiceTest extends VertxTest {
                 .isEqualTo("ApiKey");
     }
 
+    @Test
+    public void cacheBidsOpenrtbShouldSendCompressedBodyWhenCompressionEnabled() throws MalformedURLException {
+        // given
+        target = new CoreCacheService(
+                httpClient,
+                new URL("http://cache-service/cache"),
+                "http://cache-service-host/cache?uuid=",
+                100L,
+                null,
+                false,
+                vastModifier,
+                eventsService,
+                metrics,
+                clock,
+                idGenerator,
+                jacksonMapper,
+                gzipCompressor,
+                true,
+                9);
+        final byte[] compressedBody = "compressed".getBytes();
+        given(gzipCompressor.compress(any(), anyInt(), any())).willReturn(compressedBody);
+        given(httpClient.request(any(), anyString(), any(), any(byte[].class), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(200, null, "{\"responses\":[]}")));
+        final BidInfo bidinfo = givenBidInfo(builder -> builder.id("bidId1"));
+
+        // when
+        final Future<CacheServiceResult> future = target.cacheBidsOpenrtb(
+                singletonList(bidinfo),
+                givenAuctionContext(),
+                CacheContext.builder()
+                        .shouldCacheBids(true)
+                        .build(),
+                eventsContext);
+
+        // then
+        verify(gzipCompressor).compress(any(), eq(9), eq(MetricName.cache_request));
+        final ArgumentCaptor<MultiMap> headersCaptor = ArgumentCaptor.forClass(MultiMap.class);
+        verify(httpClient).request(
+                eq(HttpMethod.POST),
+                eq("http://cache-service/cache"),
+                headersCaptor.capture(),
+                same(compressedBody),
+                anyLong());
+        assertThat(headersCaptor.getValue().get(HttpUtil.CONTENT_ENCODING_HEADER)).isEqualTo("gzip");
+        assertThat(headersCaptor.getValue().getAll(HttpUtil.CONTENT_TYPE_HEADER)).hasSize(1);
+        verify(httpClient, never()).post(anyString(), any(), anyString(), anyLong());
+        assertThat(future.result().getHttpCall().getRequestHeaders().get(HttpUtil.CONTENT_ENCODING_HEADER.toString()))
+                .containsExactly("gzip");
+    }
+
     @Test
     public void cacheBidsOpenrtbShouldReturnExpectedCacheBids() {
         // given
@@ -815,7 +878,10 @@ public class CoreCacheServiceTest extends VertxTest {
                 metrics,
                 clock,
                 idGenerator,
-                jacksonMapper);
+                jacksonMapper,
+                gzipCompressor,
+                false,
+                -1);
 
         final BidPutObject firstBidPutObject = BidPutObject.builder()
                 .type("json")
@@ -0,0 +1,115 @@
+package org.prebid.server.compression;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class GzipCompressorTest {
+
+    @Mock
+    private Metrics metrics;
+
+    private GzipCompressor target;
+
+    @BeforeEach
+    public void setUp() {
+        target = new GzipCompressor(metrics);
+    }
+
+    @Test
+    public void compressShouldReturnNullWhenBodyIsNull() {
+        // when and then
+        assertThat(target.compress(null, GzipCompressor.DEFAULT_LEVEL, MetricName.bidder_request)).isNull();
+        verifyNoInteractions(metrics);
+    }
+
+    @Test
+    public void compressShouldFailWhenLevelIsInvalid() {
+        // when and then
+        assertThatExceptionOfType(PreBidException.class)
+                .isThrownBy(() -> target.compress(new byte[0], 10, MetricName.bidder_request))
+                .withMessage("Invalid compression level: 10");
+        verifyNoInteractions(metrics);
+    }
+
+    @Test
+    public void compressShouldReturnGzipOfBodyForEveryLevel() throws IOException {
+        // given
+        final byte[] body = "{\"id\":\"request-id\",\"imp\":[{\"id\":\"imp-id\"}]}".repeat(100)
+                .getBytes(StandardCharsets.UTF_8);
+
+        for (int level = GzipCompressor.DEFAULT_LEVEL; level <= 9; level++) {
+            // when
+            final byte[] result = target.compress(body, level, MetricName.bidder_request);
+
+            // then
+            assertThat(gunzip(result)).isEqualTo(body);
+        }
+    }
+
+    @Test
+    public void compressShouldReturnGzipOfIncompressibleBody() throws IOException {
+        // given
+        final byte[] body = new byte[100_000];
+        new Random(42).nextBytes(body);
+
+        // when
+        final byte[] result = target.compress(body, GzipCompressor.DEFAULT_LEVEL, MetricName.bidder_request);
+
+        // then
+        assertThat(gunzip(result)).isEqualTo(body);
+    }
+
+    @Test
+    public void compressShouldReuseDeflaterForConsecutiveCalls() throws IOException {
+        // given
+        final byte[] firstBody = "first".getBytes(StandardCharsets.UTF_8);
+        final byte[] secondBody = "second".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        final byte[] firstResult = target.compress(firstBody, 1, MetricName.bidder_request);
+        final byte[] secondResult = target.compress(secondBody, 9, MetricName.bidder_request);
+
+        // then
+        assertThat(gunzip(firstResult)).isEqualTo(firstBody);
+        assertThat(gunzip(secondResult)).isEqualTo(secondBody);
+    }
+
+    @Test
+    public void compressShouldUpdateCompressionMetrics() {
+        // given
+        final byte[] body = "body".repeat(100).getBytes(StandardCharsets.UTF_8);
+
+        // when
+        final byte[] result = target.compress(body, GzipCompressor.DEFAULT_LEVEL, MetricName.cache_request);
+
+        // then
+        verify(metrics).updateCompressionMetrics(
+                eq(MetricName.cache_request), eq(400), eq(result.length), anyLong());
+    }
+
+    private static byte[] gunzip(byte[] value) throws IOException {
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(value))) {
+            return inputStream.readAllBytes();
+        }
+    }
+}
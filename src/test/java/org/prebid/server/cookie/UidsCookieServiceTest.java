@@ -13,6 +13,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.VertxTest;
 import org.prebid.server.cookie.model.UidWithExpiry;
 import org.prebid.server.cookie.proto.Uids;
+import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.UpdateResult;
 
@@ -33,7 +34,9 @@ import static java.util.function.Function.identity;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.within;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -69,6 +72,8 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 MAX_COOKIE_SIZE_BYTES,
                 1,
+                0,
+                0L,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -320,6 +325,8 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 MAX_COOKIE_SIZE_BYTES,
                 1,
+                0,
+                0L,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -345,6 +352,8 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 MAX_COOKIE_SIZE_BYTES,
                 1,
+                0,
+                0L,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -370,6 +379,8 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 MAX_COOKIE_SIZE_BYTES,
                 1,
+                0,
+                0L,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -394,6 +405,8 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 MAX_COOKIE_SIZE_BYTES,
                 1,
+                0,
+                0L,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -520,6 +533,8 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 MAX_COOKIE_SIZE_BYTES,
                 1,
+                0,
+                0L,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -562,6 +577,8 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 MAX_COOKIE_SIZE_BYTES,
                 1,
+                0,
+                0L,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -585,6 +602,8 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 MAX_COOKIE_SIZE_BYTES,
                 1,
+                0,
+                0L,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -619,6 +638,8 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 MAX_COOKIE_SIZE_BYTES,
                 1,
+                0,
+                0L,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -644,6 +665,8 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 MAX_COOKIE_SIZE_BYTES,
                 1,
+                0,
+                0L,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -736,6 +759,8 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 MAX_COOKIE_SIZE_BYTES,
                 2,
+                0,
+                0L,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -763,6 +788,8 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 500,
                 1,
+                0,
+                0L,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -799,6 +826,8 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 500,
                 1,
+                0,
+                0L,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -833,6 +862,8 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 500,
                 2,
+                0,
+                0L,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -869,6 +900,8 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 500,
                 5,
+                0,
+                0L,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -920,6 +953,8 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 500,
                 2,
+                0,
+                0L,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -945,6 +980,60 @@ public class UidsCookieServiceTest extends VertxTest {
         assertThat(decodeUids(result.getLast().getValue()).getOptout()).isTrue();
     }
 
+    @Test
+    public void parseFromCookiesShouldDecodeTheSameUidsCookieOnceWhenCacheEnabled() throws JsonProcessingException {
+        // given
+        final JacksonMapper jacksonMapperSpy = spy(jacksonMapper);
+        target = givenUidsCookieServiceWithCache(jacksonMapperSpy);
+
+        final Map<String, String> cookies = Map.of("uids", encodeUids(Uids.builder()
+                .uids(Map.of(RUBICON, UidWithExpiry.live("J5VLCWQP-26-CWFT"))).build()));
+
+        // when
+        final UidsCookie first = target.parseFromCookies(cookies);
+        final UidsCookie second = target.parseFromCookies(cookies);
+
+        // then
+        assertThat(first.uidFrom(RUBICON)).isEqualTo("J5VLCWQP-26-CWFT");
+        assertThat(second.uidFrom(RUBICON)).isEqualTo("J5VLCWQP-26-CWFT");
+        verify(jacksonMapperSpy).decodeValue(any(byte[].class), eq(Uids.class));
+    }
+
+    @Test
+    public void splitUidsIntoCookiesShouldEncodeTheSameUidsOnceWhenCacheEnabled() {
+        // given
+        final JacksonMapper jacksonMapperSpy = spy(jacksonMapper);
+        target = givenUidsCookieServiceWithCache(jacksonMapperSpy);
+
+        final UidsCookie uidsCookie = givenUidsCookie(Map.of(RUBICON, UidWithExpiry.live("J5VLCWQP-26-CWFT")));
+
+        // when
+        final List<Cookie> first = target.splitUidsIntoCookies(uidsCookie);
+        final List<Cookie> second = target.splitUidsIntoCookies(uidsCookie);
+
+        // then
+        assertThat(second).extracting(Cookie::getValue).isEqualTo(first.stream().map(Cookie::getValue).toList());
+        assertThat(decodeUids(second.getFirst().getValue()).getUids().keySet()).containsOnly(RUBICON);
+        verify(jacksonMapperSpy).encodeToBytes(any());
+    }
+
+    private UidsCookieService givenUidsCookieServiceWithCache(JacksonMapper jacksonMapper) {
+        return new UidsCookieService(
+                "trp_optout",
+                "true",
+                null,
+                null,
+                "cookie-domain",
+                90,
+                MAX_COOKIE_SIZE_BYTES,
+                1,
+                100,
+                60L,
+                prioritizedCoopSyncProvider,
+                metrics,
+                jacksonMapper);
+    }
+
     private UidsCookie givenUidsCookie(Map<String, UidWithExpiry> uids) {
         return new UidsCookie(Uids.builder().uids(uids).build(), jacksonMapper);
     }
@@ -1,6 +1,8 @@
 package org.prebid.server.geolocation;
 
+import com.maxmind.db.Metadata;
 import com.maxmind.geoip2.DatabaseReader;
+import com.maxmind.geoip2.exception.AddressNotFoundException;
 import com.maxmind.geoip2.exception.GeoIp2Exception;
 import com.maxmind.geoip2.model.CityResponse;
 import com.maxmind.geoip2.record.City;
@@ -9,31 +11,53 @@ import com.maxmind.geoip2.record.Country;
 import com.maxmind.geoip2.record.Location;
 import com.maxmind.geoip2.record.Subdivision;
 import io.vertx.core.Future;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
-import org.mockito.internal.util.reflection.ReflectionMemberAccessor;
 import org.prebid.server.geolocation.model.GeoInfo;
+import org.prebid.server.metric.Metrics;
 
 import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 public class MaxMindGeoLocationServiceTest {
 
     private static final String TEST_IP = "80.215.195.122";
 
+    private Metrics metrics;
+
     private MaxMindGeoLocationService maxMindGeoLocationService;
 
     @BeforeEach
     public void setUp() {
-        maxMindGeoLocationService = new MaxMindGeoLocationService();
+        metrics = Mockito.mock(Metrics.class);
+
+        maxMindGeoLocationService = givenMaxMindGeoLocationService(null, List.of());
     }
 
     @Test
@@ -59,8 +83,105 @@ public class MaxMindGeoLocationServiceTest {
     }
 
     @Test
-    public void lookupShouldReturnCountryIsoWhenDatabaseReaderWasSet() throws NoSuchFieldException, IOException,
-            GeoIp2Exception, IllegalAccessException {
+    public void setDataPathShouldExtractDatabaseFileWhenDatabaseFilePathIsConfigured(@TempDir Path tempDir)
+            throws IOException {
+
+        // given
+        final Path databasePath = tempDir.resolve("db").resolve("GeoLite2-City.mmdb");
+        maxMindGeoLocationService = givenMaxMindGeoLocationService(databasePath.toString(), List.of());
+
+        final Path archivePath = givenArchive(tempDir, "GeoLite2-City.mmdb", "database");
+
+        // when
+        maxMindGeoLocationService.setDataPath(archivePath.toString());
+
+        // then
+        assertThat(databasePath).hasContent("database");
+        assertThat(tempDir.resolve("db").resolve("GeoLite2-City.mmdb.tmp")).doesNotExist();
+    }
+
+    @Test
+    public void swapShouldWarmUpDatabaseWithSampleIps() throws IOException, GeoIp2Exception {
+        // given
+        maxMindGeoLocationService = givenMaxMindGeoLocationService(null, List.of("1.1.1.1", "8.8.8.8"));
+
+        final DatabaseReader databaseReader = givenDatabaseReader("GeoLite2-City");
+        given(databaseReader.city(eq(InetAddress.getByName("1.1.1.1"))))
+                .willThrow(new AddressNotFoundException("not found"));
+
+        // when
+        final Future<?> result = maxMindGeoLocationService.swap(databaseReader);
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+        verify(databaseReader).city(eq(InetAddress.getByName("1.1.1.1")));
+        verify(databaseReader).city(eq(InetAddress.getByName("8.8.8.8")));
+        verify(metrics).updateGeoLocationDatabaseSwapMetric(eq(true), anyLong());
+    }
+
+    @Test
+    public void swapShouldKeepCurrentDatabaseWhenUpdatedDatabaseIsInvalid() throws IOException, GeoIp2Exception {
+        // given
+        final DatabaseReader currentDatabaseReader = givenDatabaseReader("GeoLite2-City");
+        maxMindGeoLocationService.swap(currentDatabaseReader);
+
+        final DatabaseReader updatedDatabaseReader = givenDatabaseReader("GeoLite2-Country");
+
+        // when
+        final Future<?> result = maxMindGeoLocationService.swap(updatedDatabaseReader);
+
+        // then
+        assertThat(result.failed()).isTrue();
+        assertThat(result.cause()).hasMessage(
+                "Geo location database validation failed: unexpected database type GeoLite2-Country");
+        verify(updatedDatabaseReader).close();
+        verify(currentDatabaseReader, never()).close();
+        verify(metrics).updateGeoLocationDatabaseSwapMetric(eq(false), anyLong());
+
+        maxMindGeoLocationService.lookup(TEST_IP, null);
+        verify(currentDatabaseReader).city(any());
+    }
+
+    @Test
+    public void swapShouldReplaceAndCloseCurrentDatabase() throws IOException, GeoIp2Exception {
+        // given
+        final DatabaseReader currentDatabaseReader = givenDatabaseReader("GeoLite2-City");
+        maxMindGeoLocationService.swap(currentDatabaseReader);
+
+        final DatabaseReader updatedDatabaseReader = givenDatabaseReader("GeoLite2-City");
+
+        // when
+        final Future<?> result = maxMindGeoLocationService.swap(updatedDatabaseReader);
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+        verify(currentDatabaseReader).close();
+
+        maxMindGeoLocationService.lookup(TEST_IP, null);
+        verify(updatedDatabaseReader).city(any());
+        verify(currentDatabaseReader, never()).city(any());
+    }
+
+    @Test
+    public void lookupShouldReturnFailedFutureWhenIpIsNotLiteral() {
+        // given
+        final DatabaseReader databaseReader = givenDatabaseReader("GeoLite2-City");
+        maxMindGeoLocationService.swap(databaseReader);
+
+        // when
+        final Future<GeoInfo> future = maxMindGeoLocationService.lookup("localhost", null);
+
+        // then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause())
+                .isInstanceOf(UnknownHostException.class)
+                .hasMessage("Invalid IP address: localhost");
+        verify(databaseReader).getMetadata();
+        verifyNoMoreInteractions(databaseReader);
+    }
+
+    @Test
+    public void lookupShouldReturnCountryIsoWhenDatabaseReaderWasSet() throws IOException, GeoIp2Exception {
         // given
         final Country country = new Country(null, null, null, "fr", null);
         final Continent continent = new Continent(null, "eu", null, null);
@@ -72,11 +193,10 @@ public class MaxMindGeoLocationServiceTest {
         final CityResponse cityResponse = new CityResponse(city, continent, country, location, null,
                 null, null, null, subdivisions, null);
 
-        final DatabaseReader databaseReader = Mockito.mock(DatabaseReader.class);
+        final DatabaseReader databaseReader = givenDatabaseReader("GeoLite2-City");
         given(databaseReader.city(any())).willReturn(cityResponse);
 
-        new ReflectionMemberAccessor().set(maxMindGeoLocationService.getClass().getDeclaredField("databaseReader"),
-                maxMindGeoLocationService, databaseReader);
+        maxMindGeoLocationService.swap(databaseReader);
 
         // when
         final Future<GeoInfo> future = maxMindGeoLocationService.lookup(TEST_IP, null);
@@ -96,14 +216,12 @@ public class MaxMindGeoLocationServiceTest {
     }
 
     @Test
-    public void lookupShouldTolerateMissingGeoInfo() throws IOException, GeoIp2Exception, NoSuchFieldException,
-            IllegalAccessException {
+    public void lookupShouldTolerateMissingGeoInfo() throws IOException, GeoIp2Exception {
         // given
-        final DatabaseReader databaseReader = Mockito.mock(DatabaseReader.class);
+        final DatabaseReader databaseReader = givenDatabaseReader("GeoLite2-City");
         given(databaseReader.city(any())).willReturn(null);
 
-        new ReflectionMemberAccessor().set(maxMindGeoLocationService.getClass().getDeclaredField("databaseReader"),
-                maxMindGeoLocationService, databaseReader);
+        maxMindGeoLocationService.swap(databaseReader);
 
         // when
         final Future<GeoInfo> future = maxMindGeoLocationService.lookup(TEST_IP, null);
@@ -112,4 +230,41 @@ public class MaxMindGeoLocationServiceTest {
         assertThat(future.succeeded()).isTrue();
         assertThat(future.result()).isEqualTo(GeoInfo.builder().vendor("maxmind").build());
     }
+
+    private MaxMindGeoLocationService givenMaxMindGeoLocationService(String databaseFilePath,
+                                                                     List<String> warmUpIps) {
+
+        return new MaxMindGeoLocationService(
+                databaseFilePath,
+                0,
+                warmUpIps,
+                Clock.fixed(Instant.now(), ZoneOffset.UTC),
+                metrics);
+    }
+
+    private static DatabaseReader givenDatabaseReader(String databaseType) {
+        final Metadata metadata = Mockito.mock(Metadata.class);
+        given(metadata.getDatabaseType()).willReturn(databaseType);
+
+        final DatabaseReader databaseReader = Mockito.mock(DatabaseReader.class);
+        given(databaseReader.getMetadata()).willReturn(metadata);
+        return databaseReader;
+    }
+
+    private static Path givenArchive(Path directory, String fileName, String content) throws IOException {
+        final Path archivePath = directory.resolve("archive.tar.gz");
+        final byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+
+        try (TarArchiveOutputStream tarOutput = new TarArchiveOutputStream(new GZIPOutputStream(
+                Files.newOutputStream(archivePath)))) {
+
+            final TarArchiveEntry entry = new TarArchiveEntry("GeoLite2-City_20240101/" + fileName);
+            entry.setSize(bytes.length);
+            tarOutput.putArchiveEntry(entry);
+            tarOutput.write(bytes);
+            tarOutput.closeArchiveEntry();
+        }
+
+        return archivePath;
+    }
 }
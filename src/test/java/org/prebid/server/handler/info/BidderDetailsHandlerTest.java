@@ -199,6 +199,7 @@ public class BidderDetailsHandlerTest extends VertxTest {
                 true,
                 false,
                 CompressionType.NONE,
+                null,
                 Ortb.of(false),
                 0L);
     }
@@ -12,6 +12,7 @@ import com.iab.openrtb.response.SeatBid;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
@@ -109,9 +110,10 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.ArgumentMatchers.same;
-import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willReturn;
 import static org.mockito.Mock.Strictness.LENIENT;
@@ -178,6 +180,7 @@ public class AmpHandlerTest extends VertxTest {
 
         given(prebidVersionProvider.getNameVersionRecord()).willReturn("pbs-java/1.00");
 
+        given(hookStageExecutor.hasExitpointHooks(any())).willReturn(true);
         given(hookStageExecutor.executeExitpointStage(any(), any(), any()))
                 .willAnswer(invocation -> Future.succeededFuture(HookStageExecutionResult.of(
                         false,
@@ -323,7 +326,7 @@ public class AmpHandlerTest extends VertxTest {
                         tuple("AMP-Access-Control-Allow-Source-Origin", "http://example.com"),
                         tuple("Access-Control-Expose-Headers", "AMP-Access-Control-Allow-Source-Origin"),
                         tuple("x-prebid", "pbs-java/1.00"));
-        verify(httpResponse).end(eq("Invalid request format: Request is invalid"));
+        verify(httpResponse).end(eq(Buffer.buffer("Invalid request format: Request is invalid")));
         verifyNoInteractions(hookStageExecutor, hooksMetricsService);
     }
 
@@ -345,7 +348,7 @@ public class AmpHandlerTest extends VertxTest {
                         tuple("AMP-Access-Control-Allow-Source-Origin", "http://example.com"),
                         tuple("Access-Control-Expose-Headers", "AMP-Access-Control-Allow-Source-Origin"),
                         tuple("x-prebid", "pbs-java/1.00"));
-        verify(httpResponse).end(eq("Blocklisted: Blocklisted account"));
+        verify(httpResponse).end(eq(Buffer.buffer("Blocklisted: Blocklisted account")));
         verifyNoInteractions(hookStageExecutor, hooksMetricsService);
     }
 
@@ -367,7 +370,7 @@ public class AmpHandlerTest extends VertxTest {
                         tuple("AMP-Access-Control-Allow-Source-Origin", "http://example.com"),
                         tuple("Access-Control-Expose-Headers", "AMP-Access-Control-Allow-Source-Origin"),
                         tuple("x-prebid", "pbs-java/1.00"));
-        verify(httpResponse).end(eq("Blocklisted: Blocklisted app"));
+        verify(httpResponse).end(eq(Buffer.buffer("Blocklisted: Blocklisted app")));
         verifyNoInteractions(hookStageExecutor, hooksMetricsService);
     }
 
@@ -389,7 +392,7 @@ public class AmpHandlerTest extends VertxTest {
                         tuple("AMP-Access-Control-Allow-Source-Origin", "http://example.com"),
                         tuple("Access-Control-Expose-Headers", "AMP-Access-Control-Allow-Source-Origin"),
                         tuple("x-prebid", "pbs-java/1.00"));
-        verify(httpResponse).end(eq("Account id is not provided"));
+        verify(httpResponse).end(eq(Buffer.buffer("Account id is not provided")));
         verifyNoInteractions(hookStageExecutor, hooksMetricsService);
     }
 
@@ -412,7 +415,7 @@ public class AmpHandlerTest extends VertxTest {
                         tuple("AMP-Access-Control-Allow-Source-Origin", "http://example.com"),
                         tuple("Access-Control-Expose-Headers", "AMP-Access-Control-Allow-Source-Origin"),
                         tuple("x-prebid", "pbs-java/1.00"));
-        verify(httpResponse).end(eq("Invalid account configuration: Account is invalid"));
+        verify(httpResponse).end(eq(Buffer.buffer("Invalid account configuration: Account is invalid")));
         verifyNoInteractions(hookStageExecutor, hooksMetricsService);
     }
 
@@ -436,7 +439,7 @@ public class AmpHandlerTest extends VertxTest {
                         tuple("AMP-Access-Control-Allow-Source-Origin", "http://example.com"),
                         tuple("Access-Control-Expose-Headers", "AMP-Access-Control-Allow-Source-Origin"),
                         tuple("x-prebid", "pbs-java/1.00"));
-        verify(httpResponse).end(eq("Critical error while running the auction: Unexpected exception"));
+        verify(httpResponse).end(eq(Buffer.buffer("Critical error while running the auction: Unexpected exception")));
         verifyNoInteractions(hookStageExecutor, hooksMetricsService);
     }
 
@@ -462,8 +465,8 @@ public class AmpHandlerTest extends VertxTest {
                         tuple("AMP-Access-Control-Allow-Source-Origin", "http://example.com"),
                         tuple("Access-Control-Expose-Headers", "AMP-Access-Control-Allow-Source-Origin"),
                         tuple("x-prebid", "pbs-java/1.00"));
-        verify(httpResponse).end(
-                startsWith("Critical error while running the auction: Critical error while unpacking AMP targets:"));
+        verify(httpResponse).end(argThat((Buffer body) -> body.toString()
+                .startsWith("Critical error while running the auction: Critical error while unpacking AMP targets:")));
         verifyNoInteractions(hookStageExecutor, hooksMetricsService);
     }
 
@@ -479,7 +482,7 @@ public class AmpHandlerTest extends VertxTest {
         target.handle(routingContext);
 
         // then
-        verify(httpResponse, never()).end(anyString());
+        verify(httpResponse, never()).end(any(Buffer.class));
         verifyNoInteractions(hookStageExecutor, hooksMetricsService);
     }
 
@@ -508,7 +511,8 @@ public class AmpHandlerTest extends VertxTest {
                         tuple("Access-Control-Expose-Headers", "AMP-Access-Control-Allow-Source-Origin"),
                         tuple("Content-Type", "application/json"),
                         tuple("x-prebid", "pbs-java/1.00"));
-        verify(httpResponse).end(eq("{\"targeting\":{\"key1\":\"value1\",\"hb_cache_id_bidder1\":\"value2\"}}"));
+        verify(httpResponse).end(
+                eq(Buffer.buffer("{\"targeting\":{\"key1\":\"value1\",\"hb_cache_id_bidder1\":\"value2\"}}")));
 
         final ArgumentCaptor<MultiMap> responseHeadersCaptor = ArgumentCaptor.forClass(MultiMap.class);
         verify(hookStageExecutor).executeExitpointStage(
@@ -527,6 +531,27 @@ public class AmpHandlerTest extends VertxTest {
         verify(hooksMetricsService).updateHooksMetrics(any());
     }
 
+    @Test
+    public void shouldRespondWithEncodedResponseAndNotPassItToExitpointWhenThereAreNoExitpointHooks() {
+        // given
+        given(hookStageExecutor.hasExitpointHooks(any())).willReturn(false);
+        given(ampRequestFactory.fromRequest(any(), anyLong()))
+                .willReturn(Future.succeededFuture(givenAuctionContext(identity())));
+
+        final ExtPrebid<ExtBidPrebid, Object> extPrebid = ExtPrebid.of(
+                ExtBidPrebid.builder().targeting(singletonMap("hb_cache_id_bidder1", "value")).build(),
+                null);
+        givenHoldAuction(givenBidResponse(mapper.valueToTree(extPrebid)));
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        verify(httpResponse).end(eq(Buffer.buffer("{\"targeting\":{\"hb_cache_id_bidder1\":\"value\"}}")));
+        verify(hookStageExecutor).executeExitpointStage(any(), isNull(), any());
+        verify(hooksMetricsService).updateHooksMetrics(any());
+    }
+
     @Test
     public void shouldRespondWithExpectedResponseWhenExitpointHookChangesResponseAndHeaders() {
         // given
@@ -554,7 +579,7 @@ public class AmpHandlerTest extends VertxTest {
         assertThat(httpResponse.headers()).hasSize(1)
                 .extracting(Map.Entry::getKey, Map.Entry::getValue)
                 .containsOnly(tuple("New-Header", "New-Header-Value"));
-        verify(httpResponse).end(eq("{\"targeting\":{\"new-key\":\"new-value\"}}"));
+        verify(httpResponse).end(eq(Buffer.buffer("{\"targeting\":{\"new-key\":\"new-value\"}}")));
 
         final ArgumentCaptor<MultiMap> responseHeadersCaptor = ArgumentCaptor.forClass(MultiMap.class);
         verify(hookStageExecutor).executeExitpointStage(
@@ -606,8 +631,8 @@ public class AmpHandlerTest extends VertxTest {
         target.handle(routingContext);
 
         // then
-        verify(httpResponse).end(eq("{\"targeting\":{\"key1\":\"value1\",\"rpfl_11078\":\"15_tier0030\","
-                + "\"hb_cache_id_bidder1\":\"value2\"}}"));
+        verify(httpResponse).end(eq(Buffer.buffer("{\"targeting\":{\"key1\":\"value1\",\"rpfl_11078\":\"15_tier0030\","
+                + "\"hb_cache_id_bidder1\":\"value2\"}}")));
         verify(hookStageExecutor).executeExitpointStage(
                 any(),
                 eq("{\"targeting\":{\"key1\":\"value1\",\"rpfl_11078\":\"15_tier0030\","
@@ -652,7 +677,7 @@ public class AmpHandlerTest extends VertxTest {
         target.handle(routingContext);
 
         // then
-        verify(httpResponse).end(eq("{\"targeting\":{\"key\":\"value\",\"test-key\":\"test-value\"}}"));
+        verify(httpResponse).end(eq(Buffer.buffer("{\"targeting\":{\"key\":\"value\",\"test-key\":\"test-value\"}}")));
         verify(hookStageExecutor).executeExitpointStage(
                 any(),
                 eq("{\"targeting\":{\"key\":\"value\",\"test-key\":\"test-value\"}}"),
@@ -680,7 +705,7 @@ public class AmpHandlerTest extends VertxTest {
         target.handle(routingContext);
 
         // then
-        verify(httpResponse).end(eq("{\"targeting\":{\"key\":\"value\",\"test-key\":\"test-value\"}}"));
+        verify(httpResponse).end(eq(Buffer.buffer("{\"targeting\":{\"key\":\"value\",\"test-key\":\"test-value\"}}")));
         verify(hookStageExecutor).executeExitpointStage(
                 any(),
                 eq("{\"targeting\":{\"key\":\"value\",\"test-key\":\"test-value\"}}"),
@@ -707,9 +732,9 @@ public class AmpHandlerTest extends VertxTest {
         target.handle(routingContext);
 
         // then
-        verify(httpResponse).end(eq(
+        verify(httpResponse).end(eq(Buffer.buffer(
                 "{\"targeting\":{},"
-                        + "\"ext\":{\"debug\":{\"resolvedrequest\":{\"id\":\"reqId1\",\"imp\":[],\"tmax\":5000}}}}"));
+                        + "\"ext\":{\"debug\":{\"resolvedrequest\":{\"id\":\"reqId1\",\"imp\":[],\"tmax\":5000}}}}")));
         verify(hookStageExecutor).executeExitpointStage(
                 any(),
                 eq("{\"targeting\":{},"
@@ -742,12 +767,12 @@ public class AmpHandlerTest extends VertxTest {
         target.handle(routingContext);
 
         // then
-        verify(httpResponse).end(eq(
+        verify(httpResponse).end(eq(Buffer.buffer(
                 "{\"targeting\":{},"
                         + "\"ext\":{\"prebid\":{\"modules\":{"
                         + "\"errors\":{\"module1\":{\"hook1\":[\"error1\"]}},"
                         + "\"warnings\":{\"module1\":{\"hook1\":[\"warning1\"]}},"
-                        + "\"trace\":{\"executiontimemillis\":2,\"stages\":[]}}}}}"));
+                        + "\"trace\":{\"executiontimemillis\":2,\"stages\":[]}}}}}")));
         verify(hookStageExecutor).executeExitpointStage(
                 any(),
                 eq("{\"targeting\":{},"
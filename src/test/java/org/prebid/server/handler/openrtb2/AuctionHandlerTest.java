@@ -8,6 +8,7 @@ import com.iab.openrtb.response.BidResponse;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
@@ -102,8 +103,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
@@ -166,6 +167,7 @@ public class AuctionHandlerTest extends VertxTest {
 
         given(prebidVersionProvider.getNameVersionRecord()).willReturn("pbs-java/1.00");
 
+        given(hookStageExecutor.hasExitpointHooks(any())).willReturn(true);
         given(hookStageExecutor.executeExitpointStage(any(), any(), any()))
                 .willAnswer(invocation -> Future.succeededFuture(HookStageExecutionResult.of(
                         false,
@@ -315,7 +317,7 @@ public class AuctionHandlerTest extends VertxTest {
 
         // then
         verify(httpResponse).setStatusCode(eq(403));
-        verify(httpResponse).end(eq("Blocklisted: Blocklisted account"));
+        verify(httpResponse).end(eq(Buffer.buffer("Blocklisted: Blocklisted account")));
 
         verify(metrics).updateRequestTypeMetric(eq(MetricName.openrtb2web), eq(MetricName.blocklisted_account));
         verifyNoInteractions(hooksMetricsService, hookStageExecutor);
@@ -334,7 +336,7 @@ public class AuctionHandlerTest extends VertxTest {
 
         // then
         verify(httpResponse).setStatusCode(eq(400));
-        verify(httpResponse).end(eq("Invalid config"));
+        verify(httpResponse).end(eq(Buffer.buffer("Invalid config")));
 
         verify(metrics).updateRequestTypeMetric(eq(MetricName.openrtb2web), eq(MetricName.bad_requests));
         verifyNoInteractions(hooksMetricsService, hookStageExecutor);
@@ -353,7 +355,7 @@ public class AuctionHandlerTest extends VertxTest {
 
         // then
         verify(httpResponse).setStatusCode(eq(403));
-        verify(httpResponse).end(eq("Blocklisted: Blocklisted app"));
+        verify(httpResponse).end(eq(Buffer.buffer("Blocklisted: Blocklisted app")));
 
         verify(metrics).updateRequestTypeMetric(eq(MetricName.openrtb2web), eq(MetricName.blocklisted_app));
         verifyNoInteractions(hooksMetricsService, hookStageExecutor);
@@ -372,7 +374,7 @@ public class AuctionHandlerTest extends VertxTest {
 
         // then
         verify(httpResponse).setStatusCode(eq(400));
-        verify(httpResponse).end(eq("Invalid request format: Request is invalid"));
+        verify(httpResponse).end(eq(Buffer.buffer("Invalid request format: Request is invalid")));
 
         verify(metrics).updateRequestTypeMetric(eq(MetricName.openrtb2web), eq(MetricName.badinput));
         verifyNoInteractions(hooksMetricsService, hookStageExecutor);
@@ -392,7 +394,7 @@ public class AuctionHandlerTest extends VertxTest {
         // then
         verifyNoInteractions(exchangeService);
         verify(httpResponse).setStatusCode(eq(401));
-        verify(httpResponse).end(eq("Account id is not provided"));
+        verify(httpResponse).end(eq(Buffer.buffer("Account id is not provided")));
         verifyNoInteractions(hooksMetricsService, hookStageExecutor);
     }
 
@@ -412,7 +414,7 @@ public class AuctionHandlerTest extends VertxTest {
 
         // then
         verify(httpResponse).setStatusCode(eq(500));
-        verify(httpResponse).end(eq("Critical error while running the auction: Unexpected exception"));
+        verify(httpResponse).end(eq(Buffer.buffer("Critical error while running the auction: Unexpected exception")));
 
         verify(metrics).updateRequestTypeMetric(eq(MetricName.openrtb2web), eq(MetricName.err));
         verifyNoInteractions(hooksMetricsService, hookStageExecutor);
@@ -432,7 +434,7 @@ public class AuctionHandlerTest extends VertxTest {
         target.handle(routingContext);
 
         // then
-        verify(httpResponse, never()).end(anyString());
+        verify(httpResponse, never()).end(any(Buffer.class));
         verifyNoInteractions(hooksMetricsService, hookStageExecutor);
     }
 
@@ -458,7 +460,7 @@ public class AuctionHandlerTest extends VertxTest {
                         tuple("Content-Type", "application/json"),
                         tuple("x-prebid", "pbs-java/1.00"));
 
-        verify(httpResponse).end(eq("{}"));
+        verify(httpResponse).end(eq(Buffer.buffer("{}")));
 
         final ArgumentCaptor<MultiMap> responseHeadersCaptor = ArgumentCaptor.forClass(MultiMap.class);
         verify(hookStageExecutor).executeExitpointStage(
@@ -475,6 +477,28 @@ public class AuctionHandlerTest extends VertxTest {
         verify(hooksMetricsService).updateHooksMetrics(any());
     }
 
+    @Test
+    public void shouldRespondWithEncodedBidResponseAndNotPassItToExitpointWhenThereAreNoExitpointHooks() {
+        // given
+        given(hookStageExecutor.hasExitpointHooks(any())).willReturn(false);
+
+        final AuctionContext auctionContext = givenAuctionContext(identity());
+        given(auctionRequestFactory.parseRequest(any(), anyLong()))
+                .willReturn(Future.succeededFuture(auctionContext));
+        given(auctionRequestFactory.enrichAuctionContext(any()))
+                .willAnswer(invocation -> Future.succeededFuture(invocation.getArgument(0)));
+        given(exchangeService.holdAuction(any()))
+                .willReturn(Future.succeededFuture(auctionContext.with(BidResponse.builder().id("id").build())));
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        verify(httpResponse).end(eq(Buffer.buffer("{\"id\":\"id\"}")));
+        verify(hookStageExecutor).executeExitpointStage(any(), isNull(), any());
+        verify(hooksMetricsService).updateHooksMetrics(any());
+    }
+
     @Test
     public void shouldRespondWithBidResponseWhenExitpointChangesHeadersAndResponse() {
         // given
@@ -500,7 +524,7 @@ public class AuctionHandlerTest extends VertxTest {
                 .extracting(Map.Entry::getKey, Map.Entry::getValue)
                 .containsExactlyInAnyOrder(tuple("New-Header", "New-Header-Value"));
 
-        verify(httpResponse).end(eq("{\"response\":{}}"));
+        verify(httpResponse).end(eq(Buffer.buffer("{\"response\":{}}")));
 
         final ArgumentCaptor<MultiMap> responseHeadersCaptor = ArgumentCaptor.forClass(MultiMap.class);
         verify(hookStageExecutor).executeExitpointStage(
@@ -550,9 +574,9 @@ public class AuctionHandlerTest extends VertxTest {
 
         // then
         verify(exchangeService).holdAuction(any());
-        verify(httpResponse).end(eq("{\"ext\":{\"debug\":{\"resolvedrequest\":{\"ext\":{\"prebid\":"
+        verify(httpResponse).end(eq(Buffer.buffer("{\"ext\":{\"debug\":{\"resolvedrequest\":{\"ext\":{\"prebid\":"
                 + "{\"targeting\":{\"mediatypepricegranularity\":{\"banner\":{\"precision\":1,\"ranges\":"
-                + "[{\"max\":10,\"increment\":1}]},\"native\":{}}},\"auctiontimestamp\":0}}}}}}"));
+                + "[{\"max\":10,\"increment\":1}]},\"native\":{}}},\"auctiontimestamp\":0}}}}}}")));
 
         verify(hookStageExecutor).executeExitpointStage(
                 any(),
@@ -998,7 +1022,7 @@ public class AuctionHandlerTest extends VertxTest {
         verifyNoInteractions(exchangeService, analyticsReporterDelegator, hookStageExecutor);
         verify(hooksMetricsService).updateHooksMetrics(any());
         verify(httpResponse).setStatusCode(eq(200));
-        verify(httpResponse).end("{}");
+        verify(httpResponse).end(Buffer.buffer("{}"));
     }
 
     @Test
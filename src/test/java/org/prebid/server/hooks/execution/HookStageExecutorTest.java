@@ -3073,6 +3073,47 @@ public class HookStageExecutorTest extends VertxTest {
         }));
     }
 
+    @Test
+    public void hasEntrypointHooksShouldReturnTrueOnlyWhenEntrypointStageIsPlannedForEndpoint() {
+        // given
+        final HookStageExecutor executor = createExecutor(
+                executionPlan(singletonMap(
+                        Endpoint.openrtb2_auction,
+                        EndpointExecutionPlan.of(singletonMap(
+                                Stage.entrypoint, execPlanOneGroupOneHook("module-alpha", "hook-a"))))));
+
+        // when and then
+        assertThat(executor.hasEntrypointHooks(HookExecutionContext.of(Endpoint.openrtb2_auction))).isTrue();
+        assertThat(executor.hasEntrypointHooks(HookExecutionContext.of(Endpoint.openrtb2_amp))).isFalse();
+    }
+
+    @Test
+    public void hasExitpointHooksShouldReturnTrueWhenExitpointStageIsPlannedForEndpoint() {
+        // given
+        final HookStageExecutor executor = createExecutor(
+                executionPlan(singletonMap(
+                        Endpoint.openrtb2_auction,
+                        EndpointExecutionPlan.of(singletonMap(
+                                Stage.exitpoint, execPlanOneGroupOneHook("module-alpha", "hook-a"))))));
+
+        // when and then
+        assertThat(executor.hasExitpointHooks(givenExitpointAuctionContext(Endpoint.openrtb2_auction))).isTrue();
+        assertThat(executor.hasExitpointHooks(givenExitpointAuctionContext(Endpoint.openrtb2_amp))).isFalse();
+    }
+
+    @Test
+    public void hasExitpointHooksShouldReturnFalseWhenOnlyOtherStagesArePlanned() {
+        // given
+        final HookStageExecutor executor = createExecutor(
+                executionPlan(singletonMap(
+                        Endpoint.openrtb2_auction,
+                        EndpointExecutionPlan.of(singletonMap(
+                                Stage.auction_response, execPlanOneGroupOneHook("module-alpha", "hook-a"))))));
+
+        // when and then
+        assertThat(executor.hasExitpointHooks(givenExitpointAuctionContext(Endpoint.openrtb2_auction))).isFalse();
+    }
+
     @Test
     public void shouldExecuteExitpointHooksAndPassAuctionInvocationContext(VertxTestContext context) {
         // given
@@ -3424,6 +3465,13 @@ public class HookStageExecutorTest extends VertxTest {
                 false);
     }
 
+    private static AuctionContext givenExitpointAuctionContext(Endpoint endpoint) {
+        return AuctionContext.builder()
+                .account(Account.empty("accountId"))
+                .hookExecutionContext(HookExecutionContext.of(endpoint))
+                .build();
+    }
+
     @Value(staticConstructor = "of")
     @NonFinal
     private static class EntrypointHookImpl implements EntrypointHook {
@@ -0,0 +1,87 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+import org.prebid.server.VertxTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JsonMergePatcherTest extends VertxTest {
+
+    @Test
+    public void applyShouldReplaceAndAddFields() throws JsonProcessingException {
+        // when and then
+        assertThat(apply("{'a':'b'}", "{'a':'c'}")).isEqualTo(json("{'a':'c'}"));
+        assertThat(apply("{'a':'b'}", "{'b':'c'}")).isEqualTo(json("{'a':'b','b':'c'}"));
+        assertThat(apply("{'e':null}", "{'a':1}")).isEqualTo(json("{'e':null,'a':1}"));
+    }
+
+    @Test
+    public void applyShouldRemoveFieldsWithNullValueInPatch() throws JsonProcessingException {
+        // when and then
+        assertThat(apply("{'a':'b'}", "{'a':null}")).isEqualTo(json("{}"));
+        assertThat(apply("{'a':'b','b':'c'}", "{'a':null}")).isEqualTo(json("{'b':'c'}"));
+        assertThat(apply("{'a':{'b':'c'}}", "{'a':{'b':'d','c':null}}")).isEqualTo(json("{'a':{'b':'d'}}"));
+    }
+
+    @Test
+    public void applyShouldReplaceArraysAsWhole() throws JsonProcessingException {
+        // when and then
+        assertThat(apply("{'a':['b']}", "{'a':'c'}")).isEqualTo(json("{'a':'c'}"));
+        assertThat(apply("{'a':'c'}", "{'a':['b']}")).isEqualTo(json("{'a':['b']}"));
+        assertThat(apply("{'a':[{'b':'c'}]}", "{'a':[1]}")).isEqualTo(json("{'a':[1]}"));
+        assertThat(apply("['a','b']", "['c','d']")).isEqualTo(json("['c','d']"));
+    }
+
+    @Test
+    public void applyShouldReturnPatchWhenItIsNotObject() throws JsonProcessingException {
+        // when and then
+        assertThat(apply("{'a':'b'}", "['c']")).isEqualTo(json("['c']"));
+        assertThat(apply("{'a':'foo'}", "null")).isEqualTo(json("null"));
+        assertThat(apply("{'a':'foo'}", "'bar'")).isEqualTo(json("'bar'"));
+    }
+
+    @Test
+    public void applyShouldDropNullsFromPatchWhenTargetIsNotObject() throws JsonProcessingException {
+        // when and then
+        assertThat(apply("[1,2]", "{'a':'b','c':null}")).isEqualTo(json("{'a':'b'}"));
+        assertThat(apply("{}", "{'a':{'bb':{'ccc':null}}}")).isEqualTo(json("{'a':{'bb':{}}}"));
+    }
+
+    @Test
+    public void applyShouldNotModifyPatchAndTarget() throws JsonProcessingException {
+        // given
+        final JsonNode target = json("{'a':{'b':'c','d':{'e':'f'}},'g':'h'}");
+        final JsonNode patch = json("{'a':{'b':null,'i':'j'},'g':null}");
+
+        // when
+        final JsonNode result = JsonMergePatcher.apply(patch, target);
+
+        // then
+        assertThat(result).isEqualTo(json("{'a':{'d':{'e':'f'},'i':'j'}}"));
+        assertThat(target).isEqualTo(json("{'a':{'b':'c','d':{'e':'f'}},'g':'h'}"));
+        assertThat(patch).isEqualTo(json("{'a':{'b':null,'i':'j'},'g':null}"));
+    }
+
+    @Test
+    public void applyShouldShareUntouchedSubtreesOfTarget() throws JsonProcessingException {
+        // given
+        final JsonNode target = json("{'a':{'b':'c'},'d':{'e':'f'}}");
+
+        // when
+        final JsonNode result = JsonMergePatcher.apply(json("{'a':{'g':'h'}}"), target);
+
+        // then
+        assertThat(result.get("d")).isSameAs(target.get("d"));
+        assertThat(result.get("a")).isNotSameAs(target.get("a"));
+    }
+
+    private static JsonNode apply(String target, String patch) throws JsonProcessingException {
+        return JsonMergePatcher.apply(json(patch), json(target));
+    }
+
+    private static JsonNode json(String value) throws JsonProcessingException {
+        return mapper.readTree(value.replace('\'', '"'));
+    }
+}
@@ -1,5 +1,7 @@
 package org.prebid.server.json;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.iab.openrtb.request.App;
 import com.iab.openrtb.request.Dooh;
@@ -85,4 +87,48 @@ public class JsonMergerTest extends VertxTest {
         assertThat(result).isEqualTo(site);
     }
 
+    @Test
+    public void mergeShouldNotModifyStoredDataTakenFromParsedJsonCache() throws JsonProcessingException {
+        // given
+        final ParsedJsonCache parsedJsonCache = new ParsedJsonCache(jacksonMapper);
+        target = new JsonMerger(jacksonMapper, parsedJsonCache);
+
+        final String storedData = "{\"page\":\"storedPage\",\"domain\":\"storedDomain\"}";
+        final JsonNode cachedNode = parsedJsonCache.readTree(storedData);
+
+        // when
+        final Site result = target.merge(Site.builder().page("page").build(), storedData, "id", Site.class);
+
+        // then
+        assertThat(result).isEqualTo(Site.builder().page("page").domain("storedDomain").build());
+        assertThat(parsedJsonCache.readTree(storedData))
+                .isSameAs(cachedNode)
+                .isEqualTo(mapper.createObjectNode().put("page", "storedPage").put("domain", "storedDomain"));
+    }
+
+    @Test
+    public void mergeWithNodeShouldKeepOriginalObjectFieldsAndNotModifyNode() {
+        // given
+        final ObjectNode mergingNode = mapper.createObjectNode().put("page", "nodePage").put("domain", "nodeDomain");
+
+        // when
+        final Site result = target.mergeWithNode(Site.builder().page("page").build(), mergingNode, Site.class);
+
+        // then
+        assertThat(result).isEqualTo(Site.builder().page("page").domain("nodeDomain").build());
+        assertThat(mergingNode)
+                .isEqualTo(mapper.createObjectNode().put("page", "nodePage").put("domain", "nodeDomain"));
+    }
+
+    @Test
+    public void mergeWithNodeShouldConvertNodeWhenOriginalObjectIsNull() {
+        // given
+        final ObjectNode mergingNode = mapper.createObjectNode().put("page", "nodePage");
+
+        // when
+        final Site result = target.mergeWithNode(null, mergingNode, Site.class);
+
+        // then
+        assertThat(result).isEqualTo(Site.builder().page("nodePage").build());
+    }
 }
@@ -0,0 +1,61 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.prebid.server.VertxTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class ParsedJsonCacheTest extends VertxTest {
+
+    private ParsedJsonCache target;
+
+    @BeforeEach
+    public void setUp() {
+        target = new ParsedJsonCache(jacksonMapper);
+    }
+
+    @Test
+    public void readTreeShouldReturnParsedNode() throws JsonProcessingException {
+        // when
+        final JsonNode result = target.readTree("{\"id\":\"value\"}");
+
+        // then
+        assertThat(result).isEqualTo(mapper.createObjectNode().put("id", "value"));
+    }
+
+    @Test
+    public void readTreeShouldReturnSameNodeForSameStringInstance() throws JsonProcessingException {
+        // given
+        final String json = "{\"id\":\"value\"}";
+
+        // when
+        final JsonNode first = target.readTree(json);
+        final JsonNode second = target.readTree(json);
+
+        // then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void readTreeShouldParseAgainForEqualStringOfAnotherInstance() throws JsonProcessingException {
+        // given
+        final String json = "{\"id\":\"value\"}";
+
+        // when
+        final JsonNode first = target.readTree(json);
+        final JsonNode second = target.readTree(new String(json));
+
+        // then
+        assertThat(second).isEqualTo(first).isNotSameAs(first);
+    }
+
+    @Test
+    public void readTreeShouldFailOnInvalidJson() {
+        // when and then
+        assertThatExceptionOfType(JsonProcessingException.class).isThrownBy(() -> target.readTree("{"));
+    }
+}
@@ -3,6 +3,7 @@ package org.prebid.server.log;
 import com.fasterxml.jackson.databind.node.TextNode;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.ext.web.RoutingContext;
 import org.junit.jupiter.api.BeforeEach;
@@ -61,7 +62,7 @@ public class HttpInteractionLoggerTest extends VertxTest {
 
         // when
         target.setSpec(givenSpec);
-        target.maybeLogOpenrtb2Auction(givenAuctionContext, routingContext, 200, "responseBody");
+        target.maybeLogOpenrtb2Auction(givenAuctionContext, routingContext, 200, Buffer.buffer("responseBody"));
 
         // then
         verify(logger)
@@ -69,7 +70,7 @@ public class HttpInteractionLoggerTest extends VertxTest {
                         "example.com",
                         "{}",
                         200,
-                        "responseBody");
+                        Buffer.buffer("responseBody"));
     }
 
     @Test
@@ -191,14 +192,14 @@ public class HttpInteractionLoggerTest extends VertxTest {
 
         // when
         target.setSpec(givenSpec);
-        target.maybeLogOpenrtb2Amp(givenAuctionContext, routingContext, 200, "responseBody");
+        target.maybeLogOpenrtb2Amp(givenAuctionContext, routingContext, 200, Buffer.buffer("responseBody"));
 
         // then
         verify(logger)
                 .info("Requested URL: \"{}\", response status: \"{}\", response body: \"{}\"",
                         "example.com",
                         200,
-                        "responseBody");
+                        Buffer.buffer("responseBody"));
     }
 
     @Test
@@ -0,0 +1,130 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.Snapshot;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+public class HdrReservoirTest {
+
+    @Test
+    public void creationShouldFailOnInvalidWindow() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new HdrReservoir(Clock.systemUTC(), 0L))
+                .withMessage("Window should be greater than 0: 0");
+    }
+
+    @Test
+    public void getSnapshotShouldReturnEmptySnapshotWhenThereAreNoValues() {
+        // given
+        final HdrReservoir target = new HdrReservoir(Clock.systemUTC(), 1000L);
+
+        // when
+        final Snapshot snapshot = target.getSnapshot();
+
+        // then
+        assertThat(snapshot.size()).isZero();
+        assertThat(snapshot.get99thPercentile()).isZero();
+        assertThat(snapshot.getMax()).isZero();
+        assertThat(snapshot.getMean()).isZero();
+    }
+
+    @Test
+    public void getSnapshotShouldReturnExactValuesForSmallValues() {
+        // given
+        final HdrReservoir target = new HdrReservoir(Clock.systemUTC(), 60000L);
+        for (int value = 1; value <= 100; value++) {
+            target.update(value);
+        }
+
+        // when
+        final Snapshot snapshot = target.getSnapshot();
+
+        // then
+        assertThat(snapshot.size()).isEqualTo(100);
+        assertThat(snapshot.getMin()).isEqualTo(1L);
+        assertThat(snapshot.getMax()).isEqualTo(100L);
+        assertThat(snapshot.getMedian()).isEqualTo(50.0);
+        assertThat(snapshot.get99thPercentile()).isEqualTo(99.0);
+        assertThat(snapshot.getMean()).isEqualTo(50.5);
+    }
+
+    @Test
+    public void getSnapshotShouldReturnTailPercentilesWithinRelativeError() {
+        // given
+        final HdrReservoir target = new HdrReservoir(Clock.systemUTC(), 60000L);
+        for (long value = 1; value <= 100_000; value++) {
+            target.update(value * 1_000_000L);
+        }
+
+        // when
+        final Snapshot snapshot = target.getSnapshot();
+
+        // then
+        assertThat(snapshot.size()).isEqualTo(100_000);
+        assertThat(snapshot.get99thPercentile()).isCloseTo(99_000_000_000.0, within(99_000_000_000.0 / 64));
+        assertThat(snapshot.get999thPercentile()).isCloseTo(99_900_000_000.0, within(99_900_000_000.0 / 64));
+        assertThat(snapshot.get999thPercentile()).isGreaterThanOrEqualTo(99_900_000_000.0);
+        assertThat(snapshot.getMean()).isCloseTo(50_000_500_000.0, within(50_000_500_000.0 / 64));
+    }
+
+    @Test
+    public void getValuesShouldReturnLimitedNumberOfValuesKeepingDistribution() {
+        // given
+        final HdrReservoir target = new HdrReservoir(Clock.systemUTC(), 60000L);
+        for (int i = 0; i < 100_000; i++) {
+            target.update(i % 4 == 0 ? 1000L : 10L);
+        }
+
+        // when
+        final long[] values = target.getSnapshot().getValues();
+
+        // then
+        assertThat(values).hasSize(1028).isSorted();
+        assertThat(Arrays.stream(values).filter(value -> value == 10L).count()).isEqualTo(771L);
+        assertThat(values[771]).isGreaterThanOrEqualTo(1000L);
+    }
+
+    @Test
+    public void updateShouldCountNegativeValuesAsZero() {
+        // given
+        final HdrReservoir target = new HdrReservoir(Clock.systemUTC(), 60000L);
+
+        // when
+        target.update(-5L);
+
+        // then
+        assertThat(target.getSnapshot().getValues()).containsExactly(0L);
+    }
+
+    @Test
+    public void getSnapshotShouldDiscardValuesOfExpiredWindows() {
+        // given
+        final Clock clock = mock(Clock.class);
+        given(clock.millis()).willReturn(0L);
+        final HdrReservoir target = new HdrReservoir(clock, 1000L);
+        target.update(100L);
+
+        given(clock.millis()).willReturn(1500L);
+        target.update(10L);
+
+        // when
+        final Snapshot previousAndCurrentSnapshot = target.getSnapshot();
+        given(clock.millis()).willReturn(2500L);
+        final Snapshot currentSnapshot = target.getSnapshot();
+        given(clock.millis()).willReturn(5000L);
+        final Snapshot expiredSnapshot = target.getSnapshot();
+
+        // then
+        assertThat(previousAndCurrentSnapshot.getValues()).containsExactly(10L, 100L);
+        assertThat(currentSnapshot.getValues()).containsExactly(10L);
+        assertThat(expiredSnapshot.size()).isZero();
+    }
+}
@@ -480,6 +480,17 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("analytics.analyticCode.setuid.badinput").getCount()).isOne();
     }
 
+    @Test
+    public void updateAnalyticEventsBufferMetricShouldIncrementMetric() {
+        // when
+        metrics.updateAnalyticEventsBufferMetric(ANALYTIC_CODE, MetricName.flushed, 5);
+        metrics.updateAnalyticEventsBufferMetric(ANALYTIC_CODE, MetricName.dropped, 2);
+
+        // then
+        assertThat(metricRegistry.counter("analytics.analyticCode.events.flushed").getCount()).isEqualTo(5);
+        assertThat(metricRegistry.counter("analytics.analyticCode.events.dropped").getCount()).isEqualTo(2);
+    }
+
     @Test
     public void updateFetchWithFetchResultShouldCreateMetricsAsExpected() {
         // when
@@ -903,6 +914,17 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("privacy.tcf.v1.requests").getCount()).isOne();
     }
 
+    @Test
+    public void updatePrivacyTcfCacheMetricShouldIncrementMetrics() {
+        // when
+        metrics.updatePrivacyTcfCacheMetric(MetricName.hit);
+        metrics.updatePrivacyTcfCacheMetric(MetricName.miss);
+
+        // then
+        assertThat(metricRegistry.counter("privacy.tcf.cache.hit").getCount()).isOne();
+        assertThat(metricRegistry.counter("privacy.tcf.cache.miss").getCount()).isOne();
+    }
+
     @Test
     public void updatePrivacyTcfGeoMetricShouldIncrementMetrics() {
         // when
@@ -1057,6 +1079,27 @@ public class MetricsTest {
         assertThat(metricRegistry.gauge("circuit-breaker.geo.opened.count", () -> null).getValue()).isEqualTo(1L);
     }
 
+    @Test
+    public void updateGeoLocationDatabaseSwapMetricShouldUpdateTimerOrFailCounter() {
+        // when
+        metrics.updateGeoLocationDatabaseSwapMetric(true, 123L);
+        metrics.updateGeoLocationDatabaseSwapMetric(false, 456L);
+
+        // then
+        assertThat(metricRegistry.timer("geolocation_database_swap_time").getCount()).isOne();
+        assertThat(metricRegistry.counter("geolocation_database_swap_fail").getCount()).isOne();
+    }
+
+    @Test
+    public void createGeoLocationDatabaseVersionGaugeShouldCreateGauge() {
+        // when
+        metrics.createGeoLocationDatabaseVersionGauge(() -> 1700000000L);
+
+        // then
+        assertThat(metricRegistry.gauge("geolocation_database_version", () -> null).getValue())
+                .isEqualTo(1700000000L);
+    }
+
     @Test
     public void shouldIncrementBothGeoLocationRequestsAndSuccessfulMetrics() {
         // when
@@ -1165,6 +1208,52 @@ public class MetricsTest {
                 .isEqualTo(1);
     }
 
+    @Test
+    public void updateCompressionMetricsShouldUpdateRatioAndTime() {
+        // when
+        metrics.updateCompressionMetrics(MetricName.bidder_request, 200, 50, 1000L);
+        metrics.updateCompressionMetrics(MetricName.cache_request, 0, 20, 1000L);
+
+        // then
+        assertThat(metricRegistry.histogram("compression.bidder-request.ratio").getSnapshot().getValues())
+                .containsExactly(25L);
+        assertThat(metricRegistry.timer("compression.bidder-request.time").getCount()).isEqualTo(1);
+        assertThat(metricRegistry.histogram("compression.cache-request.ratio").getCount()).isZero();
+        assertThat(metricRegistry.timer("compression.cache-request.time").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void updateHttpClientPoolMetricsShouldUpdateWaitTimeAndInFlight() {
+        // when
+        metrics.updateHttpClientPoolMetrics("host", 1000L, 5);
+
+        // then
+        assertThat(metricRegistry.timer("http_client.pool.host.wait_time").getCount()).isEqualTo(1);
+        assertThat(metricRegistry.histogram("http_client.pool.host.in_flight").getSnapshot().getValues())
+                .containsExactly(5L);
+    }
+
+    @Test
+    public void updateModuleInferenceMetricsShouldUpdateBatchSizeAndTimers() {
+        // when
+        metrics.updateModuleInferenceMetrics("module", 5, 1000L, 2000L);
+
+        // then
+        assertThat(metricRegistry.histogram("modules.module.module.inference.batch_size").getSnapshot().getValues())
+                .containsExactly(5L);
+        assertThat(metricRegistry.timer("modules.module.module.inference.wait_time").getCount()).isEqualTo(1);
+        assertThat(metricRegistry.timer("modules.module.module.inference.time").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void updateHttpClientPoolQueueOverflowMetricShouldIncrementMetric() {
+        // when
+        metrics.updateHttpClientPoolQueueOverflowMetric("host");
+
+        // then
+        assertThat(metricRegistry.counter("http_client.pool.host.queue_overflow").getCount()).isOne();
+    }
+
     @Test
     public void shouldCreateCurrencyRatesGaugeMetric() {
         // when
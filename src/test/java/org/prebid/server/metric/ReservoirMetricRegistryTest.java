@@ -0,0 +1,36 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.Reservoir;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReservoirMetricRegistryTest {
+
+    private final Reservoir reservoir = new HdrReservoir(Clock.systemUTC(), 60000L);
+
+    private final ReservoirMetricRegistry target = new ReservoirMetricRegistry(() -> reservoir);
+
+    @Test
+    public void timerShouldCreateTimerWithGivenReservoir() {
+        // when
+        target.timer("timer").update(5L, TimeUnit.MILLISECONDS);
+
+        // then
+        assertThat(reservoir.size()).isEqualTo(1);
+        assertThat(target.getTimers()).containsKey("timer");
+    }
+
+    @Test
+    public void histogramShouldCreateHistogramWithGivenReservoir() {
+        // when
+        target.histogram("histogram").update(5L);
+
+        // then
+        assertThat(reservoir.getSnapshot().getValues()).containsExactly(5L);
+        assertThat(target.getHistograms()).containsKey("histogram");
+    }
+}
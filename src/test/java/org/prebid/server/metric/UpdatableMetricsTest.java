@@ -1,5 +1,6 @@
 package org.prebid.server.metric;
 
+import com.codahale.metrics.Counter;
 import com.codahale.metrics.MetricRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,6 +14,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -69,6 +71,49 @@ public class UpdatableMetricsTest {
         assertThat(metricRegistry.counter("requests").getCount()).isEqualTo(1);
     }
 
+    @Test
+    public void incCounterShouldResolveCounterFromRegistryOnlyOnceOnSuccessiveCalls() {
+        // given
+        final MetricRegistry registry = spy(metricRegistry);
+        updatableMetrics = new UpdatableMetrics(registry, CounterType.counter, MetricName::toString);
+
+        // when
+        updatableMetrics.incCounter(MetricName.requests);
+        updatableMetrics.incCounter(MetricName.requests);
+
+        // then
+        verify(registry).counter(eq("requests"));
+        assertThat(registry.counter("requests").getCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void incCounterShouldUpdateFlushingCounterRegisteredInRegistry() {
+        // given
+        updatableMetrics = givenUpdatableMetricsWith(CounterType.flushingCounter);
+
+        // when
+        updatableMetrics.incCounter(MetricName.requests, 5);
+
+        // then
+        assertThat(metricRegistry.getCounters().get("requests"))
+                .isInstanceOf(ResettingCounter.class)
+                .extracting(Counter::getCount)
+                .isEqualTo(5L);
+    }
+
+    @Test
+    public void incCounterShouldUpdateMeterRegisteredInRegistry() {
+        // given
+        updatableMetrics = givenUpdatableMetricsWith(CounterType.meter);
+
+        // when
+        updatableMetrics.incCounter(MetricName.requests, 5);
+        updatableMetrics.incCounter(MetricName.requests);
+
+        // then
+        assertThat(metricRegistry.meter("requests").getCount()).isEqualTo(6);
+    }
+
     @Test
     public void updateTimerShouldCreateMetricNameUsingProvidedCreator() {
         // given
@@ -184,6 +229,19 @@ public class UpdatableMetricsTest {
         assertThat(metricRegistry.getGauges()).doesNotContainKey("opened");
     }
 
+    @Test
+    public void incCounterShouldRegisterCounterAgainAfterRemoval() {
+        // given
+        updatableMetrics.incCounter(MetricName.requests);
+        updatableMetrics.removeMetric(MetricName.requests);
+
+        // when
+        updatableMetrics.incCounter(MetricName.requests);
+
+        // then
+        assertThat(metricRegistry.counter("requests").getCount()).isEqualTo(1);
+    }
+
     private UpdatableMetrics givenUpdatableMetricsWith(CounterType counterType) {
         return new UpdatableMetrics(metricRegistry, counterType, MetricName::toString);
     }
@@ -0,0 +1,66 @@
+package org.prebid.server.metric;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class WindowedBucketCountsTest {
+
+    private final WindowedBucketCounts target = new WindowedBucketCounts(3, 1000L, 0L);
+
+    @Test
+    public void creationShouldFailOnInvalidWindow() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new WindowedBucketCounts(3, 0L, 0L))
+                .withMessage("Window should be greater than 0: 0");
+    }
+
+    @Test
+    public void countsShouldReturnCountsOfEachBucket() {
+        // given
+        target.increment(0, 0L);
+        target.increment(2, 0L);
+        target.increment(2, 0L);
+
+        // when and then
+        assertThat(target.count(0L)).isEqualTo(3L);
+        assertThat(target.counts(0L)).containsExactly(1L, 0L, 2L);
+    }
+
+    @Test
+    public void quantileBucketShouldReturnMinusOneWhenThereAreNoValues() {
+        // when and then
+        assertThat(target.quantileBucket(0.5, 0L)).isEqualTo(-1);
+    }
+
+    @Test
+    public void quantileBucketShouldReturnBucketOfQuantile() {
+        // given
+        for (int i = 0; i < 10; i++) {
+            target.increment(i < 9 ? 0 : 2, 0L);
+        }
+
+        // when and then
+        assertThat(target.quantileBucket(0.0, 0L)).isZero();
+        assertThat(target.quantileBucket(0.9, 0L)).isZero();
+        assertThat(target.quantileBucket(0.95, 0L)).isEqualTo(2);
+    }
+
+    @Test
+    public void countsShouldDiscardCountsOfExpiredWindows() {
+        // given
+        target.increment(0, 0L);
+        target.increment(1, 1500L);
+
+        // when
+        final long[] previousAndCurrentCounts = target.counts(1500L);
+        final long[] currentCounts = target.counts(2500L);
+        final long[] expiredCounts = target.counts(5000L);
+
+        // then
+        assertThat(previousAndCurrentCounts).containsExactly(1L, 1L, 0L);
+        assertThat(currentCounts).containsExactly(0L, 1L, 0L);
+        assertThat(expiredCounts).containsExactly(0L, 0L, 0L);
+    }
+}
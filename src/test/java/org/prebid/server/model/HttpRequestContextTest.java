@@ -0,0 +1,39 @@
+package org.prebid.server.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HttpRequestContextTest {
+
+    @Test
+    public void withLazyBodyShouldDecodeBodyOnlyOnFirstRead() {
+        // given
+        final AtomicInteger decodes = new AtomicInteger();
+        final HttpRequestContext target = HttpRequestContext.builder().build()
+                .withLazyBody(() -> {
+                    decodes.incrementAndGet();
+                    return "body";
+                });
+
+        // when and then
+        assertThat(decodes).hasValue(0);
+        assertThat(target.getBody()).isEqualTo("body");
+        assertThat(target.getBody()).isEqualTo("body");
+        assertThat(decodes).hasValue(1);
+    }
+
+    @Test
+    public void withLazyBodyShouldBeEqualToContextWithTheSameBody() {
+        // given
+        final HttpRequestContext target = HttpRequestContext.builder().scheme("https").build()
+                .withLazyBody(() -> "body");
+
+        // when and then
+        assertThat(target)
+                .isEqualTo(HttpRequestContext.builder().scheme("https").body("body").build())
+                .hasSameHashCodeAs(HttpRequestContext.builder().scheme("https").body("body").build());
+    }
+}
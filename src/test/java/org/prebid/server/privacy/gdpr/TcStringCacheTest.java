@@ -0,0 +1,72 @@
+package org.prebid.server.privacy.gdpr;
+
+import com.iabtcf.decoder.TCString;
+import com.iabtcf.encoder.TCStringEncoder;
+import com.iabtcf.utils.BitSetIntIterable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class TcStringCacheTest {
+
+    @Mock
+    private Metrics metrics;
+
+    @Test
+    public void decodeShouldReturnCachedTcStringForTheSameConsentString() {
+        // given
+        final TcStringCache target = new TcStringCache(10000L, metrics);
+        final String consentString = givenConsentString();
+
+        // when
+        final TCString first = target.decode(consentString);
+        final TCString second = target.decode(consentString);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(second.getVendorConsent().contains(1)).isTrue();
+        verify(metrics).updatePrivacyTcfCacheMetric(MetricName.miss);
+        verify(metrics).updatePrivacyTcfCacheMetric(MetricName.hit);
+    }
+
+    @Test
+    public void decodeShouldNotCacheTcStringWhenCacheIsDisabled() {
+        // given
+        final TcStringCache target = new TcStringCache(0L, metrics);
+        final String consentString = givenConsentString();
+
+        // when
+        final TCString first = target.decode(consentString);
+        final TCString second = target.decode(consentString);
+
+        // then
+        assertThat(second).isNotSameAs(first).isEqualTo(first);
+        verifyNoInteractions(metrics);
+    }
+
+    @Test
+    public void decodeShouldFailOnInvalidConsentString() {
+        // given
+        final TcStringCache target = new TcStringCache(10000L, metrics);
+
+        // when and then
+        assertThatThrownBy(() -> target.decode("invalid")).isInstanceOf(RuntimeException.class);
+        verify(metrics).updatePrivacyTcfCacheMetric(MetricName.miss);
+    }
+
+    private static String givenConsentString() {
+        return TCStringEncoder.newBuilder()
+                .version(2)
+                .addVendorConsent(BitSetIntIterable.from(1, 2))
+                .encode();
+    }
+}
@@ -85,6 +85,7 @@ public class TcfDefinerServiceTest {
                 geoLocationServiceWrapper,
                 bidderCatalog,
                 ipAddressHelper,
+                new TcStringCache(0L, metrics),
                 metrics,
                 0.01);
     }
@@ -100,6 +101,7 @@ public class TcfDefinerServiceTest {
                 geoLocationServiceWrapper,
                 bidderCatalog,
                 ipAddressHelper,
+                new TcStringCache(0L, metrics),
                 metrics,
                 0.01);
 
@@ -179,6 +181,7 @@ public class TcfDefinerServiceTest {
                 geoLocationServiceWrapper,
                 bidderCatalog,
                 ipAddressHelper,
+                new TcStringCache(0L, metrics),
                 metrics,
                 0.01);
 
@@ -212,6 +215,7 @@ public class TcfDefinerServiceTest {
                 geoLocationServiceWrapper,
                 bidderCatalog,
                 ipAddressHelper,
+                new TcStringCache(0L, metrics),
                 metrics,
                 0.01);
 
@@ -245,6 +249,7 @@ public class TcfDefinerServiceTest {
                 geoLocationServiceWrapper,
                 bidderCatalog,
                 ipAddressHelper,
+                new TcStringCache(0L, metrics),
                 metrics,
                 0.01);
 
@@ -289,6 +294,7 @@ public class TcfDefinerServiceTest {
                 geoLocationServiceWrapper,
                 bidderCatalog,
                 ipAddressHelper,
+                new TcStringCache(0L, metrics),
                 metrics,
                 0.01);
 
@@ -331,6 +337,7 @@ public class TcfDefinerServiceTest {
                 geoLocationServiceWrapper,
                 bidderCatalog,
                 ipAddressHelper,
+                new TcStringCache(0L, metrics),
                 metrics,
                 0.01);
 
@@ -451,6 +458,7 @@ public class TcfDefinerServiceTest {
                 geoLocationServiceWrapper,
                 bidderCatalog,
                 ipAddressHelper,
+                new TcStringCache(0L, metrics),
                 metrics,
                 0.01);
 
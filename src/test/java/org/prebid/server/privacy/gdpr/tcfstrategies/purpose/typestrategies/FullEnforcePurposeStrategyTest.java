@@ -1,8 +1,8 @@
 package org.prebid.server.privacy.gdpr.tcfstrategies.purpose.typestrategies;
 
 import com.iabtcf.decoder.TCString;
+import com.iabtcf.utils.BitSetIntIterable;
 import com.iabtcf.utils.IntIterable;
-import com.iabtcf.utils.IntIterator;
 import com.iabtcf.v2.PublisherRestriction;
 import com.iabtcf.v2.RestrictionType;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,7 +18,6 @@ import org.prebid.server.privacy.gdpr.vendorlist.proto.PurposeCode;
 import org.prebid.server.privacy.gdpr.vendorlist.proto.Vendor;
 
 import java.util.EnumSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -30,7 +29,6 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
-import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -81,15 +79,13 @@ public class FullEnforcePurposeStrategyTest {
     @Test
     public void shouldReturnOnlyExcludedAllowedWhenMultiplePublisherRestrictionsProvided() {
         // given
-        final IntIterable requireConsentIterable = spy(IntIterable.class);
+        final IntIterable requireConsentIterable = BitSetIntIterable.from(1);
         final PublisherRestriction publisherRestriction1 = new PublisherRestriction(
                 PURPOSE_CODE.code(), RestrictionType.REQUIRE_CONSENT, requireConsentIterable);
-        given(requireConsentIterable.intIterator()).willReturn(intIterator(1));
 
-        final IntIterable notAllowedIterable = spy(IntIterable.class);
+        final IntIterable notAllowedIterable = BitSetIntIterable.from(4, 2);
         final PublisherRestriction publisherRestriction2 = new PublisherRestriction(
                 PURPOSE_CODE.code(), RestrictionType.NOT_ALLOWED, notAllowedIterable);
-        given(notAllowedIterable.intIterator()).willReturn(intIterator(4, 2));
 
         given(tcString.getPublisherRestrictions()).willReturn(asList(publisherRestriction1, publisherRestriction2));
 
@@ -119,15 +115,13 @@ public class FullEnforcePurposeStrategyTest {
     @Test
     public void shouldReturnExpectedWhenMultiplePublisherRestrictionsProvided() {
         // given
-        final IntIterable requireConsentIterable = spy(IntIterable.class);
+        final IntIterable requireConsentIterable = BitSetIntIterable.from(1);
         final PublisherRestriction publisherRestriction1 = new PublisherRestriction(
                 PURPOSE_CODE.code(), RestrictionType.REQUIRE_CONSENT, requireConsentIterable);
-        given(requireConsentIterable.intIterator()).willReturn(intIterator(1));
 
-        final IntIterable notAllowedIterable = spy(IntIterable.class);
+        final IntIterable notAllowedIterable = BitSetIntIterable.from(4, 2);
         final PublisherRestriction publisherRestriction2 = new PublisherRestriction(
                 PURPOSE_CODE.code(), RestrictionType.NOT_ALLOWED, notAllowedIterable);
-        given(notAllowedIterable.intIterator()).willReturn(intIterator(4, 2));
 
         given(tcString.getPublisherRestrictions()).willReturn(asList(publisherRestriction1, publisherRestriction2));
 
@@ -178,7 +172,7 @@ public class FullEnforcePurposeStrategyTest {
         final List<VendorPermissionWithGvl> vendorPermissionWithGvls = singletonList(vendorPermissionWitGvl);
 
         given(purposesConsent.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.contains(1)).willReturn(true);
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -205,7 +199,7 @@ public class FullEnforcePurposeStrategyTest {
         setRestriction(RestrictionType.REQUIRE_CONSENT);
 
         given(purposesConsent.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.contains(1)).willReturn(true);
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -232,7 +226,7 @@ public class FullEnforcePurposeStrategyTest {
         setRestriction(RestrictionType.REQUIRE_LEGITIMATE_INTEREST);
 
         given(purposesConsent.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.contains(1)).willReturn(true);
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -257,7 +251,7 @@ public class FullEnforcePurposeStrategyTest {
         final List<VendorPermissionWithGvl> vendorPermissionWithGvls = singletonList(vendorPermissionWitGvl);
 
         given(purposesLI.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.contains(1)).willReturn(true);
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -284,7 +278,7 @@ public class FullEnforcePurposeStrategyTest {
 
         given(purposesConsent.contains(anyInt())).willReturn(true);
         given(allowedVendors.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.contains(1)).willReturn(true);
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -311,7 +305,7 @@ public class FullEnforcePurposeStrategyTest {
 
         given(purposesConsent.contains(anyInt())).willReturn(true);
         given(allowedVendorsLI.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.contains(1)).willReturn(true);
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -339,7 +333,7 @@ public class FullEnforcePurposeStrategyTest {
         final List<VendorPermissionWithGvl> vendorPermissionWithGvls = singletonList(vendorPermissionWitGvl);
 
         given(purposesLI.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.contains(1)).willReturn(true);
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -366,7 +360,7 @@ public class FullEnforcePurposeStrategyTest {
         setRestriction(RestrictionType.REQUIRE_LEGITIMATE_INTEREST);
 
         given(purposesLI.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.contains(1)).willReturn(true);
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -394,7 +388,7 @@ public class FullEnforcePurposeStrategyTest {
         setRestriction(requireConsent);
 
         given(purposesLI.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.contains(1)).willReturn(true);
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -420,7 +414,7 @@ public class FullEnforcePurposeStrategyTest {
 
         given(purposesLI.contains(anyInt())).willReturn(true);
         given(allowedVendorsLI.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.contains(1)).willReturn(true);
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -448,7 +442,7 @@ public class FullEnforcePurposeStrategyTest {
         given(purposesLI.contains(anyInt())).willReturn(true);
         given(purposesConsent.contains(anyInt())).willReturn(true);
         given(allowedVendors.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.contains(1)).willReturn(true);
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -480,7 +474,7 @@ public class FullEnforcePurposeStrategyTest {
         setRestriction(RestrictionType.REQUIRE_CONSENT);
 
         given(purposesConsent.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.contains(1)).willReturn(true);
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -508,7 +502,7 @@ public class FullEnforcePurposeStrategyTest {
 
         given(purposesConsent.contains(anyInt())).willReturn(true);
         given(allowedVendors.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.contains(1)).willReturn(true);
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -536,7 +530,7 @@ public class FullEnforcePurposeStrategyTest {
         setRestriction(RestrictionType.REQUIRE_CONSENT);
 
         given(purposesLI.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.contains(1)).willReturn(true);
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -564,7 +558,7 @@ public class FullEnforcePurposeStrategyTest {
 
         given(purposesLI.contains(anyInt())).willReturn(true);
         given(allowedVendorsLI.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.contains(1)).willReturn(true);
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -593,7 +587,7 @@ public class FullEnforcePurposeStrategyTest {
 
         given(purposesConsent.contains(anyInt())).willReturn(true);
         given(allowedVendorsLI.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.contains(1)).willReturn(true);
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -621,7 +615,7 @@ public class FullEnforcePurposeStrategyTest {
 
         given(purposesLI.contains(anyInt())).willReturn(true);
         given(allowedVendors.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.contains(1)).willReturn(true);
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -648,7 +642,7 @@ public class FullEnforcePurposeStrategyTest {
         setRestriction(RestrictionType.REQUIRE_LEGITIMATE_INTEREST);
 
         given(purposesConsent.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.contains(1)).willReturn(true);
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -676,7 +670,7 @@ public class FullEnforcePurposeStrategyTest {
 
         given(purposesConsent.contains(anyInt())).willReturn(true);
         given(allowedVendors.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.contains(1)).willReturn(true);
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -704,7 +698,7 @@ public class FullEnforcePurposeStrategyTest {
         setRestriction(RestrictionType.REQUIRE_LEGITIMATE_INTEREST);
 
         given(purposesLI.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.contains(1)).willReturn(true);
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -732,7 +726,7 @@ public class FullEnforcePurposeStrategyTest {
 
         given(purposesLI.contains(anyInt())).willReturn(true);
         given(allowedVendorsLI.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.contains(1)).willReturn(true);
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -761,7 +755,7 @@ public class FullEnforcePurposeStrategyTest {
 
         given(purposesConsent.contains(anyInt())).willReturn(true);
         given(allowedVendorsLI.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.contains(1)).willReturn(true);
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -790,7 +784,7 @@ public class FullEnforcePurposeStrategyTest {
 
         given(purposesLI.contains(anyInt())).willReturn(true);
         given(allowedVendors.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.contains(1)).willReturn(true);
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -822,7 +816,7 @@ public class FullEnforcePurposeStrategyTest {
         setRestriction(RestrictionType.REQUIRE_CONSENT);
 
         given(purposesConsent.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.contains(1)).willReturn(true);
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -850,7 +844,7 @@ public class FullEnforcePurposeStrategyTest {
 
         given(purposesConsent.contains(anyInt())).willReturn(true);
         given(allowedVendors.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.contains(1)).willReturn(true);
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -878,7 +872,7 @@ public class FullEnforcePurposeStrategyTest {
         setRestriction(RestrictionType.REQUIRE_CONSENT);
 
         given(purposesLI.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.contains(1)).willReturn(true);
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -906,7 +900,7 @@ public class FullEnforcePurposeStrategyTest {
 
         given(purposesLI.contains(anyInt())).willReturn(true);
         given(allowedVendorsLI.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.contains(1)).willReturn(true);
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -935,7 +929,7 @@ public class FullEnforcePurposeStrategyTest {
 
         given(purposesConsent.contains(anyInt())).willReturn(true);
         given(allowedVendorsLI.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.contains(1)).willReturn(true);
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -964,7 +958,7 @@ public class FullEnforcePurposeStrategyTest {
 
         given(purposesLI.contains(anyInt())).willReturn(true);
         given(allowedVendors.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.contains(1)).willReturn(true);
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -994,7 +988,7 @@ public class FullEnforcePurposeStrategyTest {
         setRestriction(RestrictionType.REQUIRE_LEGITIMATE_INTEREST);
 
         given(purposesConsent.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.contains(1)).willReturn(true);
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -1022,7 +1016,7 @@ public class FullEnforcePurposeStrategyTest {
 
         given(purposesConsent.contains(anyInt())).willReturn(true);
         given(allowedVendors.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.contains(1)).willReturn(true);
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -1050,7 +1044,7 @@ public class FullEnforcePurposeStrategyTest {
         setRestriction(RestrictionType.REQUIRE_LEGITIMATE_INTEREST);
 
         given(purposesLI.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.contains(1)).willReturn(true);
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -1078,7 +1072,7 @@ public class FullEnforcePurposeStrategyTest {
 
         given(purposesLI.contains(anyInt())).willReturn(true);
         given(allowedVendorsLI.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.contains(1)).willReturn(true);
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -1107,7 +1101,7 @@ public class FullEnforcePurposeStrategyTest {
 
         given(purposesConsent.contains(anyInt())).willReturn(true);
         given(allowedVendorsLI.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.contains(1)).willReturn(true);
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -1136,7 +1130,7 @@ public class FullEnforcePurposeStrategyTest {
 
         given(purposesLI.contains(anyInt())).willReturn(true);
         given(allowedVendors.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.contains(1)).willReturn(true);
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -1157,7 +1151,7 @@ public class FullEnforcePurposeStrategyTest {
         final VendorPermissionWithGvl vendorPermissionWitGvl1 = withGvl(vendorPermission1, Vendor.empty(1));
         final VendorPermissionWithGvl vendorPermissionWitGvl2 = withGvl(vendorPermission2, Vendor.empty(2));
 
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.contains(1)).willReturn(true);
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -1175,23 +1169,6 @@ public class FullEnforcePurposeStrategyTest {
         given(publisherRestriction.getRestrictionType()).willReturn(requireConsent);
     }
 
-    private static IntIterator intIterator(Integer... ints) {
-        return new IntIterator() {
-
-            private final Iterator<Integer> iterator = asList(ints).iterator();
-
-            @Override
-            public int nextInt() {
-                return iterator.next();
-            }
-
-            @Override
-            public boolean hasNext() {
-                return iterator.hasNext();
-            }
-        };
-    }
-
     private static VendorPermissionWithGvl withGvl(VendorPermission vendorPermission, Vendor vendor) {
         return VendorPermissionWithGvl.of(vendorPermission, vendor);
     }
@@ -7,7 +7,11 @@ import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.request.Native;
 import com.iab.openrtb.request.Video;
 import com.iab.openrtb.response.Bid;
+import com.iab.openrtb.response.BidResponse;
+import io.vertx.core.buffer.Buffer;
 import org.junit.jupiter.api.Test;
+import org.prebid.server.VertxTest;
+import org.prebid.server.bidder.model.HttpResponse;
 import org.prebid.server.bidder.model.PriceFloorInfo;
 import org.prebid.server.proto.openrtb.ext.response.BidType;
 
@@ -21,7 +25,7 @@ import static java.util.Collections.singletonList;
 import static java.util.function.UnaryOperator.identity;
 import static org.assertj.core.api.Assertions.assertThat;
 
-public class BidderUtilTest {
+public class BidderUtilTest extends VertxTest {
 
     @SuppressWarnings("ConstantConditions")
     @Test
@@ -234,6 +238,32 @@ public class BidderUtilTest {
         assertThat(actual).isEqualTo(BidType.banner);
     }
 
+    @Test
+    public void decodeBodyShouldDecodeBodyBufferIfPresent() {
+        // given
+        final HttpResponse response = HttpResponse.ofBuffer(200, null, Buffer.buffer("{\"id\":\"responseId\"}"));
+
+        // when
+        final BidResponse result = BidderUtil.decodeBody(response, BidResponse.class, jacksonMapper);
+
+        // then
+        assertThat(result).isEqualTo(BidResponse.builder().id("responseId").build());
+        assertThat(response.getBody()).isEqualTo("{\"id\":\"responseId\"}");
+    }
+
+    @Test
+    public void decodeBodyShouldDecodeStringBodyIfBufferIsAbsent() {
+        // given
+        final HttpResponse response = HttpResponse.of(200, null, "{\"id\":\"responseId\"}");
+
+        // when
+        final BidResponse result = BidderUtil.decodeBody(response, BidResponse.class, jacksonMapper);
+
+        // then
+        assertThat(result).isEqualTo(BidResponse.builder().id("responseId").build());
+        assertThat(response.getBodyBuffer()).isNull();
+    }
+
     private static BidRequest givenBidRequest(UnaryOperator<BidRequest.BidRequestBuilder> bidRequestCustomizer) {
         return bidRequestCustomizer.apply(BidRequest.builder()
                         .imp(givenImps(identity())))
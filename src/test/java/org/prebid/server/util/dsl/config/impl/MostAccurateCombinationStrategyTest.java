@@ -50,6 +50,95 @@ public class MostAccurateCombinationStrategyTest {
         assertThat(rulesByPriority).containsExactlyElementsOf(rulesByPriority());
     }
 
+    @Test
+    public void matchShouldPickRulesInExactPriorityWhenSourceIsIndexed() {
+        // given
+        final Set<String> rules = new HashSet<>(rules());
+        final PrebidConfigParameters parameters = SimpleParameters.of(asList(
+                SimpleDirectParameter.of(singleton("_")),
+                SimpleDirectParameter.of(singleton("_")),
+                SimpleDirectParameter.of(singleton("_")),
+                SimpleDirectParameter.of(singleton("_")),
+                SimpleDirectParameter.of(singleton("_"))));
+
+        final MostAccurateCombinationStrategy target = new MostAccurateCombinationStrategy();
+
+        // when and then
+        final List<String> rulesByPriority = new ArrayList<>();
+
+        int i = 1 << 5; // just in case of infinite loop
+        while (!rules.isEmpty() && i-- > 0) {
+            final String rule = target.match(IndexedSource.of("*", "|", rules), parameters);
+            assertThat(rule).isNotNull();
+
+            rulesByPriority.add(rule);
+            rules.remove(rule);
+        }
+
+        assertThat(rulesByPriority).containsExactlyElementsOf(rulesByPriority());
+    }
+
+    @Test
+    public void matchShouldReturnSameRuleForIndexedAndNotIndexedSources() {
+        // given
+        final List<String> rules = asList(
+                "***|  1|***|  2|***|***|333|***",
+                "***| 11|***|  2|***|***|  3|***",
+                "***| 11|***|  2|***|***|***|***",
+                "***|***|***|***|***|***|  3|***",
+                "***|***|***|***|***|***|***|***");
+        final PrebidConfigParameters parameters = SimpleParameters.of(asList(
+                PrebidConfigParameter.wildcard(),
+                SimpleDirectParameter.of(asList("  1", " 11")),
+                PrebidConfigParameter.wildcard(),
+                SimpleDirectParameter.of(singleton("  2")),
+                PrebidConfigParameter.wildcard(),
+                PrebidConfigParameter.wildcard(),
+                SimpleDirectParameter.of(asList("  3", " 33", "333")),
+                PrebidConfigParameter.wildcard()));
+
+        final MostAccurateCombinationStrategy target = new MostAccurateCombinationStrategy();
+
+        // when
+        final String indexedResult = target.match(IndexedSource.of("***", "|", rules), parameters);
+        final String notIndexedResult = target.match(SimpleSource.of("***", "|", rules), parameters);
+
+        // then
+        assertThat(indexedResult)
+                .isEqualTo(notIndexedResult)
+                .isEqualTo("***|  1|***|  2|***|***|333|***");
+    }
+
+    @Test
+    public void matchShouldReturnNullWhenSourceIsIndexedAndAnyParameterEmpty() {
+        // given
+        final PrebidConfigParameters parameters = SimpleParameters.of(asList(
+                SimpleDirectParameter.of(singleton("1")),
+                SimpleDirectParameter.of(emptyList())));
+
+        // when
+        final String result = new MostAccurateCombinationStrategy()
+                .match(IndexedSource.of("*", "|", asList("1|*", "*|*")), parameters);
+
+        // then
+        assertThat(result).isNull();
+    }
+
+    @Test
+    public void matchShouldNotMatchIndexedRulesWithDifferentNumberOfSegments() {
+        // given
+        final PrebidConfigParameters parameters = SimpleParameters.of(asList(
+                SimpleDirectParameter.of(singleton("1")),
+                SimpleDirectParameter.of(singleton("2"))));
+
+        // when
+        final String result = new MostAccurateCombinationStrategy()
+                .match(IndexedSource.of("*", "|", asList("1", "1|2|*", "*|*|*", "*|2")), parameters);
+
+        // then
+        assertThat(result).isEqualTo("*|2");
+    }
+
     @Test
     public void iteratorShouldBeEmptyIfParametersEmpty() {
         // given
@@ -398,6 +398,7 @@ public class BidderParamValidatorTest extends VertxTest {
                 true,
                 false,
                 CompressionType.NONE,
+                null,
                 Ortb.of(false),
                 0L);
     }
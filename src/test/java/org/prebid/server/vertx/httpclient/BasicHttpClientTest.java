@@ -1,11 +1,15 @@
 package org.prebid.server.vertx.httpclient;
 
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.ConnectionPoolTooBusyException;
 import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.RequestOptions;
 import io.vertx.junit5.VertxExtension;
@@ -16,6 +20,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.exception.ResponseSizeExceededException;
+import org.prebid.server.metric.Metrics;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
@@ -23,16 +29,22 @@ import java.io.OutputStreamWriter;
 import java.net.MalformedURLException;
 import java.net.ServerSocket;
 import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,6 +55,10 @@ public class BasicHttpClientTest {
     private Vertx vertx;
     @Mock(strictness = LENIENT)
     private io.vertx.core.http.HttpClient wrappedHttpClient;
+    @Mock(strictness = LENIENT)
+    private io.vertx.core.http.HttpClient hostHttpClient;
+    @Mock
+    private Metrics metrics;
 
     private BasicHttpClient httpClient;
     @Mock(strictness = LENIENT)
@@ -56,7 +72,10 @@ public class BasicHttpClientTest {
         given(httpClientRequest.send()).willReturn(Future.succeededFuture(httpClientResponse));
         given(httpClientRequest.send(any(Buffer.class))).willReturn(Future.succeededFuture(httpClientResponse));
 
-        httpClient = new BasicHttpClient(vertx, wrappedHttpClient);
+        given(hostHttpClient.request(any())).willReturn(Future.succeededFuture(httpClientRequest));
+
+        httpClient = new BasicHttpClient(
+                vertx, wrappedHttpClient, singletonMap("host.example.com", hostHttpClient), metrics);
     }
 
     @Test
@@ -83,13 +102,81 @@ public class BasicHttpClientTest {
     @Test
     public void requestShouldSucceedIfHttpRequestSucceeds() {
         // given
-        given(httpClientResponse.body()).willReturn(Future.succeededFuture(Buffer.buffer("response")));
+        givenHttpClientResponseChunks("resp", "onse");
 
         // when
-        final Future<?> future = httpClient.request(HttpMethod.GET, "http://www.example.com", null, (String) null, 1L);
+        final Future<org.prebid.server.vertx.httpclient.model.HttpClientResponse> future =
+                httpClient.request(HttpMethod.GET, "http://www.example.com", null, (String) null, 1L);
+
+        // then
+        assertThat(future.succeeded()).isTrue();
+        assertThat(future.result().getBody()).isEqualTo("response");
+    }
+
+    @Test
+    public void requestShouldFailIfContentLengthExceedsMaxResponseSize() {
+        // given
+        given(httpClientResponse.getHeader(HttpHeaders.CONTENT_LENGTH)).willReturn("8");
+
+        // when
+        final Future<?> future = httpClient.request(
+                HttpMethod.GET, "http://www.example.com", null, (String) null, 1L, 7L);
+
+        // then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause())
+                .isInstanceOf(ResponseSizeExceededException.class)
+                .hasMessage("Response size 8 exceeded 7 bytes limit");
+        verify(httpClientRequest).reset();
+    }
+
+    @Test
+    public void requestShouldReadBodyWhenContentLengthIsHugeAndResponseSizeIsNotLimited() {
+        // given
+        given(httpClientResponse.getHeader(HttpHeaders.CONTENT_LENGTH)).willReturn("2000000000");
+        givenHttpClientResponseChunks("resp", "onse");
+
+        // when
+        final Future<org.prebid.server.vertx.httpclient.model.HttpClientResponse> future =
+                httpClient.request(HttpMethod.GET, "http://www.example.com", null, (String) null, 1L);
 
         // then
         assertThat(future.succeeded()).isTrue();
+        assertThat(future.result().getBody()).isEqualTo("response");
+    }
+
+    @Test
+    public void requestShouldStillLimitReceivedBodyWhenContentLengthIsNegative() {
+        // given
+        given(httpClientResponse.getHeader(HttpHeaders.CONTENT_LENGTH)).willReturn("-1");
+        givenHttpClientResponseChunks("resp", "onse");
+
+        // when
+        final Future<org.prebid.server.vertx.httpclient.model.HttpClientResponse> future =
+                httpClient.request(HttpMethod.GET, "http://www.example.com", null, (String) null, 1L, 7L);
+
+        // then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause())
+                .isInstanceOf(ResponseSizeExceededException.class)
+                .hasMessage("Response size exceeded 7 bytes limit");
+    }
+
+    @Test
+    public void requestShouldFailAsSoonAsReceivedBodyExceedsMaxResponseSize() {
+        // given
+        givenHttpClientResponseChunks("resp", "onse");
+
+        // when
+        final Future<?> future = httpClient.request(
+                HttpMethod.GET, "http://www.example.com", null, (String) null, 1L, 7L);
+
+        // then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause())
+                .isInstanceOf(ResponseSizeExceededException.class)
+                .hasMessage("Response size exceeded 7 bytes limit");
+        verify(httpClientRequest).reset();
     }
 
     @Test
@@ -142,10 +229,59 @@ public class BasicHttpClientTest {
         assertThat(future.cause()).hasMessage("Response exception");
     }
 
+    @Test
+    public void requestShouldUseHttpClientOfHostWhenConfigured() {
+        // when
+        httpClient.request(HttpMethod.GET, "http://host.example.com/path", null, (String) null, 1L);
+
+        // then
+        verify(hostHttpClient).request(any());
+        verify(wrappedHttpClient, never()).request(any());
+        verify(metrics).updateHttpClientPoolMetrics(eq("host.example.com"), anyLong(), eq(1));
+    }
+
+    @Test
+    public void requestShouldUpdatePoolMetricsOfDefaultHttpClient() {
+        // when
+        httpClient.request(HttpMethod.GET, "http://www.example.com", null, (String) null, 1L);
+
+        // then
+        verify(hostHttpClient, never()).request(any());
+        verify(metrics).updateHttpClientPoolMetrics(eq("default"), anyLong(), eq(1));
+    }
+
+    @Test
+    public void requestShouldReportInFlightRequestsOfPool() {
+        // given
+        given(httpClientRequest.send()).willReturn(Promise.<HttpClientResponse>promise().future());
+
+        // when
+        httpClient.request(HttpMethod.GET, "http://www.example.com", null, (String) null, 1L);
+        httpClient.request(HttpMethod.GET, "http://www.example.com", null, (String) null, 1L);
+
+        // then
+        verify(metrics).updateHttpClientPoolMetrics(eq("default"), anyLong(), eq(1));
+        verify(metrics).updateHttpClientPoolMetrics(eq("default"), anyLong(), eq(2));
+    }
+
+    @Test
+    public void requestShouldUpdateQueueOverflowMetricWhenPoolIsTooBusy() {
+        // given
+        given(wrappedHttpClient.request(any()))
+                .willReturn(Future.failedFuture(new ConnectionPoolTooBusyException("Too busy")));
+
+        // when
+        final Future<?> future = httpClient.request(HttpMethod.GET, "http://www.example.com", null, (String) null, 1L);
+
+        // then
+        assertThat(future.failed()).isTrue();
+        verify(metrics).updateHttpClientPoolQueueOverflowMetric("default");
+    }
+
     @Test
     public void requestShouldFailIfHttpRequestTimedOut(Vertx vertx, VertxTestContext context) {
         // given
-        final BasicHttpClient httpClient = new BasicHttpClient(vertx, vertx.createHttpClient());
+        final BasicHttpClient httpClient = new BasicHttpClient(vertx, vertx.createHttpClient(), emptyMap(), metrics);
         final int serverPort = 7777;
 
         startServer(serverPort, 2000L, 0L);
@@ -165,7 +301,7 @@ public class BasicHttpClientTest {
     @Test
     public void requestShouldFailIfHttpResponseTimedOut(Vertx vertx, VertxTestContext context) {
         // given
-        final BasicHttpClient httpClient = new BasicHttpClient(vertx, vertx.createHttpClient());
+        final BasicHttpClient httpClient = new BasicHttpClient(vertx, vertx.createHttpClient(), emptyMap(), metrics);
         final int serverPort = 8888;
 
         startServer(serverPort, 0L, 2000L);
@@ -232,6 +368,25 @@ public class BasicHttpClientTest {
         }
     }
 
+    /**
+     * Delivers given chunks and then the end of the response as soon as the body handler is set.
+     */
+    private void givenHttpClientResponseChunks(String... chunks) {
+        final List<Handler<Void>> endHandlers = new ArrayList<>();
+        given(httpClientResponse.endHandler(any())).willAnswer(invocation -> {
+            endHandlers.add(invocation.getArgument(0));
+            return httpClientResponse;
+        });
+        given(httpClientResponse.handler(any())).willAnswer(invocation -> {
+            final Handler<Buffer> dataHandler = invocation.getArgument(0);
+            for (String chunk : chunks) {
+                dataHandler.handle(Buffer.buffer(chunk));
+            }
+            endHandlers.forEach(endHandler -> endHandler.handle(null));
+            return httpClientResponse;
+        });
+    }
+
     private static void sleep(long millis) {
         try {
             Thread.sleep(millis);